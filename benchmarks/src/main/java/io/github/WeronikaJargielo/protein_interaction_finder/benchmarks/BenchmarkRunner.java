@@ -0,0 +1,32 @@
+package io.github.WeronikaJargielo.protein_interaction_finder.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs benchmarks with GC profiler always enabled, so besides throughput (ops/s) every benchmark
+ * reports bytes allocated per operation (gc.alloc.rate.norm).
+ * Accepts the same command line options as org.openjdk.jmh.Main, e.g. benchmark name regexp or -p structure=...
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        if (commandLineOptions.shouldHelp() || commandLineOptions.shouldList() || commandLineOptions.shouldListProfilers()
+            || commandLineOptions.shouldListResultFormats() || commandLineOptions.shouldListWithParams()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        final Options options = new OptionsBuilder().parent(commandLineOptions)
+                                                    .addProfiler(GCProfiler.class)
+                                                    .build();
+        new Runner(options).run();
+    }
+}
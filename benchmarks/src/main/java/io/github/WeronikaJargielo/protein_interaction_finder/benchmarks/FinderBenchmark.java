@@ -0,0 +1,74 @@
+package io.github.WeronikaJargielo.protein_interaction_finder.benchmarks;
+
+import io.github.WeronikaJargielo.protein_interaction_finder.*;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of every find method of ProteinInteractionFinder with default criteria, on an already parsed structure.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+public class FinderBenchmark {
+
+    @Benchmark
+    public List<HydrogenBond> findMainMainHydrogenBonds(StructureState state) {
+        return state.getFinder().findMainMainHydrogenBonds();
+    }
+
+    @Benchmark
+    public List<HydrogenBond> findMainSideHydrogenBonds(StructureState state) {
+        return state.getFinder().findMainSideHydrogenBonds();
+    }
+
+    @Benchmark
+    public List<HydrogenBond> findSideSideHydrogenBonds(StructureState state) {
+        return state.getFinder().findSideSideHydrogenBonds();
+    }
+
+    @Benchmark
+    public List<DisulphideBridge> findDisulphideBridges(StructureState state) {
+        return state.getFinder().findDisulphideBridges();
+    }
+
+    @Benchmark
+    public List<SulphurAromaticInteraction> findSulphurAromaticInteractions(StructureState state) {
+        return state.getFinder().findSulphurAromaticInteractions();
+    }
+
+    @Benchmark
+    public List<AminoAromaticInteraction> findAminoAromaticInteractions(StructureState state) {
+        return state.getFinder().findAminoAromaticInteractions();
+    }
+
+    @Benchmark
+    public List<AromaticAromaticInteraction> findAromaticAromaticInteractions(StructureState state) {
+        return state.getFinder().findAromaticAromaticInteractions();
+    }
+
+    @Benchmark
+    public List<IonicInteraction> findIonicInteractions(StructureState state) {
+        return state.getFinder().findIonicInteractions();
+    }
+
+    @Benchmark
+    public List<HydrophobicInteraction> findHydrophobicInteractions(StructureState state) {
+        return state.getFinder().findHydrophobicInteractions();
+    }
+
+    @Benchmark
+    public AllInteractions findAllInteractions(StructureState state) {
+        return state.getFinder().findAllInteractions();
+    }
+}
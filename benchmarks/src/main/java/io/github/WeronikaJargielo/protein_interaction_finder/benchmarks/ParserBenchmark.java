@@ -0,0 +1,60 @@
+package io.github.WeronikaJargielo.protein_interaction_finder.benchmarks;
+
+import io.github.WeronikaJargielo.protein_interaction_finder.AminoAcidAbbreviations;
+import io.github.WeronikaJargielo.protein_interaction_finder.AromaticRing;
+import io.github.WeronikaJargielo.protein_interaction_finder.ProteinInteractionFinder;
+import org.biojava.nbio.structure.Atom;
+import org.biojava.nbio.structure.StructureException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of structure parsing and of PdbStructureParser queries.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+public class ParserBenchmark {
+
+    private static final String[] mainChainAtoms = new String[] {"N", "CA", "C", "O"};
+    private static final String[] phenylalanineRingAtoms = new String[] {"CG", "CD1", "CD2", "CE1", "CE2", "CZ"};
+    private static final List<AminoAcidAbbreviations> phenylalanine = Arrays.asList(AminoAcidAbbreviations.PHE);
+
+    @Benchmark
+    public ProteinInteractionFinder parse(StructureState state) throws IOException, StructureException {
+        return new ProteinInteractionFinder(state.getStructure());
+    }
+
+    @Benchmark
+    public List<Atom> getAtoms(StructureState state) {
+        return state.getFinder().getPdbStructureParser().getAtoms(mainChainAtoms);
+    }
+
+    @Benchmark
+    public List<Atom> getAtomsOfAllowedAminoAcids(StructureState state) {
+        return state.getFinder().getPdbStructureParser().getAtoms(phenylalanineRingAtoms, phenylalanine);
+    }
+
+    @Benchmark
+    public List<AromaticRing> getAromaticRings(StructureState state) {
+        return state.getFinder().getPdbStructureParser().getAromaticRings();
+    }
+
+    // Aromatic rings are detected once per parsed structure, so detection itself is measured together with parsing.
+    @Benchmark
+    public List<AromaticRing> parseAndGetAromaticRings(StructureState state) throws IOException, StructureException {
+        return new ProteinInteractionFinder(state.getStructure()).getPdbStructureParser().getAromaticRings();
+    }
+}
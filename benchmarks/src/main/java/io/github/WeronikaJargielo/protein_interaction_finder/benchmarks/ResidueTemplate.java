@@ -0,0 +1,359 @@
+package io.github.WeronikaJargielo.protein_interaction_finder.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Atoms of one amino acid (with explicit hydrogens) in local coordinates of its residue frame:
+// t runs along the strand, u points to the side chain and w points to the main chain H and O atoms, CA lies at the origin.
+// Geometry is idealised (bond lengths roughly right, rings planar and regular), which is all the generator needs.
+final class ResidueTemplate {
+
+    private final String residueName;
+    private final String[] atomNames;
+    private final double[][] coordinates;
+
+    private ResidueTemplate(String residueName, List<String> atomNames, List<double[]> coordinates) {
+        this.residueName = residueName;
+        this.atomNames = atomNames.toArray(new String[0]);
+        this.coordinates = coordinates.toArray(new double[0][]);
+    }
+
+    String getResidueName() {
+        return residueName;
+    }
+
+    int size() {
+        return atomNames.length;
+    }
+
+    String getAtomName(int atomInd) {
+        return atomNames[atomInd];
+    }
+
+    // All atoms of standard amino acids have one-letter elements equal to the first letter of their names.
+    String getElement(int atomInd) {
+        return atomNames[atomInd].substring(0, 1);
+    }
+
+    double[] getCoordinates(int atomInd) {
+        return coordinates[atomInd];
+    }
+
+    int indexOf(String atomName) {
+        return Arrays.asList(atomNames).indexOf(atomName);
+    }
+
+    // Main chain atoms shared by all templates.
+    static final double[] N = {-1.19, -0.80, 0.0};
+    static final double[] CA = {0.0, 0.0, 0.0};
+    static final double[] C = {1.25, -0.80, 0.0};
+
+    // Atoms added to the first and to the last residue of chain.
+    static final String[] nTerminalHydrogens = {"H1", "H2", "H3"};
+    static final double[][] nTerminalHydrogensCoordinates = {{-1.19, -0.80, 1.0}, {-1.69, -1.25, -0.75}, {-2.09, -0.50, -0.35}};
+    static final double[] OXT = {1.90, -1.15, -1.0};
+
+    static ResidueTemplate create(String name) {
+        final Builder builder = new Builder();
+        builder.atom("N", N);
+        builder.atom("CA", CA);
+        builder.atom("C", C);
+        builder.atom("O", new double[] {1.25, -0.80, 1.23});
+        if ( ! name.equals("PRO")) {
+            builder.atom("H", new double[] {-1.19, -0.80, 1.0});
+        }
+        if (name.equals("GLY")) {
+            builder.atom("HA2", new double[] {0.0, -0.30, -0.95});
+            builder.atom("HA3", new double[] {0.0, 0.95, -0.30});
+            return builder.build(name);
+        }
+        builder.atom("HA", new double[] {0.0, -0.30, -0.95});
+
+        switch (name) {
+            case "ALA":
+                builder.atom("CB", spine(0));
+                builder.methyl("CB", 0, "HB1", "HB2", "HB3");
+                break;
+            case "SER":
+                builder.atom("CB", spine(0));
+                builder.methylene("CB", 0, "HB2", "HB3");
+                builder.atom("OG", spine(1));
+                builder.hydrogen("OG", outward(1), "HG");
+                break;
+            case "CYS":
+            case "CYX":
+                builder.atom("CB", spine(0));
+                builder.methylene("CB", 0, "HB2", "HB3");
+                builder.atom("SG", add(spine(0), new double[] {-0.70, 1.65, 0.0}));
+                if (name.equals("CYS")) {
+                    builder.hydrogen("SG", outward(1), "HG");
+                }
+                break;
+            case "THR":
+                builder.atom("CB", spine(0));
+                builder.hydrogen("CB", new double[] {0.30, 0.0, -0.95}, "HB");
+                builder.atom("OG1", firstBranch(spine(0)));
+                builder.hydrogen("OG1", new double[] {-0.30, 0.90, 0.0}, "HG1");
+                builder.atom("CG2", secondBranch(spine(0)));
+                builder.methyl("CG2", 0, "HG21", "HG22", "HG23");
+                break;
+            case "VAL":
+                builder.atom("CB", spine(0));
+                builder.hydrogen("CB", new double[] {0.30, 0.0, -0.95}, "HB");
+                builder.atom("CG1", firstBranch(spine(0)));
+                builder.methyl("CG1", 1, "HG11", "HG12", "HG13");
+                builder.atom("CG2", secondBranch(spine(0)));
+                builder.methyl("CG2", 0, "HG21", "HG22", "HG23");
+                break;
+            case "LEU":
+                builder.atom("CB", spine(0));
+                builder.methylene("CB", 0, "HB2", "HB3");
+                builder.atom("CG", spine(1));
+                builder.hydrogen("CG", new double[] {-0.30, 0.0, -0.95}, "HG");
+                builder.atom("CD1", firstBranch(spine(1)));
+                builder.methyl("CD1", 1, "HD11", "HD12", "HD13");
+                builder.atom("CD2", secondBranch(spine(1)));
+                builder.methyl("CD2", 0, "HD21", "HD22", "HD23");
+                break;
+            case "ILE":
+                builder.atom("CB", spine(0));
+                builder.hydrogen("CB", new double[] {0.30, 0.0, -0.95}, "HB");
+                builder.atom("CG1", spine(1));
+                builder.methylene("CG1", 1, "HG12", "HG13");
+                builder.atom("CG2", secondBranch(spine(0)));
+                builder.methyl("CG2", 0, "HG21", "HG22", "HG23");
+                builder.atom("CD1", spine(2));
+                builder.methyl("CD1", 2, "HD11", "HD12", "HD13");
+                break;
+            case "MET":
+                builder.atom("CB", spine(0));
+                builder.methylene("CB", 0, "HB2", "HB3");
+                builder.atom("CG", spine(1));
+                builder.methylene("CG", 1, "HG2", "HG3");
+                builder.atom("SD", add(spine(1), new double[] {0.70, 1.65, 0.0}));
+                builder.atom("CE", add(spine(1), new double[] {0.0, 3.30, 0.0}));
+                builder.methyl("CE", 1, "HE1", "HE2", "HE3");
+                break;
+            case "PRO":
+                builder.atom("CB", spine(0));
+                builder.methylene("CB", 0, "HB2", "HB3");
+                builder.atom("CG", new double[] {-0.85, 1.75, 0.50});
+                builder.hydrogen("CG", new double[] {0.0, 0.30, 0.95}, "HG2");
+                builder.hydrogen("CG", new double[] {0.0, 0.30, -0.95}, "HG3");
+                builder.atom("CD", new double[] {-1.75, 0.60, 0.30});
+                builder.hydrogen("CD", new double[] {-0.30, 0.20, 0.95}, "HD2");
+                builder.hydrogen("CD", new double[] {-0.30, 0.20, -0.95}, "HD3");
+                break;
+            case "PHE":
+            case "TYR":
+                builder.atom("CB", spine(0));
+                builder.methylene("CB", 0, "HB2", "HB3");
+                builder.ring(spine(1), 6, new String[] {"CG", "CD1", "CE1", "CZ", "CE2", "CD2"},
+                             new String[] {null, "HD1", "HE1", name.equals("PHE") ? "HZ" : null, "HE2", "HD2"});
+                if (name.equals("TYR")) {
+                    builder.atom("OH", add(builder.get("CZ"), new double[] {0.0, 1.36, 0.0}));
+                    builder.hydrogen("OH", new double[] {0.90, 0.35, 0.0}, "HH");
+                }
+                break;
+            case "HID":
+            case "HIE":
+            case "HIP":
+                builder.atom("CB", spine(0));
+                builder.methylene("CB", 0, "HB2", "HB3");
+                builder.ring(spine(1), 5, new String[] {"CG", "ND1", "CE1", "NE2", "CD2"},
+                             new String[] {null, name.equals("HIE") ? null : "HD1", "HE1", name.equals("HID") ? null : "HE2", "HD2"});
+                break;
+            case "TRP":
+                builder.atom("CB", spine(0));
+                builder.methylene("CB", 0, "HB2", "HB3");
+                builder.ring(spine(1), 5, new String[] {"CG", "CD1", "NE1", "CE2", "CD2"},
+                             new String[] {null, "HD1", "HE1", null, null});
+                builder.fusedRing("CD2", "CE2", new String[] {"CZ2", "CH2", "CZ3", "CE3"},
+                                  new String[] {"HZ2", "HH2", "HZ3", "HE3"});
+                break;
+            case "ASP":
+            case "ASN":
+                builder.atom("CB", spine(0));
+                builder.methylene("CB", 0, "HB2", "HB3");
+                builder.atom("CG", spine(1));
+                builder.atom("OD1", add(spine(1), firstTerminal(1)));
+                builder.atom(name.equals("ASP") ? "OD2" : "ND2", add(spine(1), secondTerminal(1)));
+                if (name.equals("ASN")) {
+                    builder.hydrogen("ND2", new double[] {0.85, 0.50, 0.0}, "HD21");
+                    builder.hydrogen("ND2", new double[] {0.35, 0.0, 0.94}, "HD22");
+                }
+                break;
+            case "GLU":
+            case "GLN":
+                builder.atom("CB", spine(0));
+                builder.methylene("CB", 0, "HB2", "HB3");
+                builder.atom("CG", spine(1));
+                builder.methylene("CG", 1, "HG2", "HG3");
+                builder.atom("CD", spine(2));
+                builder.atom("OE1", add(spine(2), firstTerminal(2)));
+                builder.atom(name.equals("GLU") ? "OE2" : "NE2", add(spine(2), secondTerminal(2)));
+                if (name.equals("GLN")) {
+                    builder.hydrogen("NE2", new double[] {-0.85, 0.50, 0.0}, "HE21");
+                    builder.hydrogen("NE2", new double[] {-0.35, 0.0, 0.94}, "HE22");
+                }
+                break;
+            case "LYS":
+                builder.atom("CB", spine(0));
+                builder.methylene("CB", 0, "HB2", "HB3");
+                builder.atom("CG", spine(1));
+                builder.methylene("CG", 1, "HG2", "HG3");
+                builder.atom("CD", spine(2));
+                builder.methylene("CD", 2, "HD2", "HD3");
+                builder.atom("CE", spine(3));
+                builder.methylene("CE", 3, "HE2", "HE3");
+                builder.atom("NZ", spine(4));
+                builder.methyl("NZ", 4, "HZ1", "HZ2", "HZ3");
+                break;
+            case "ARG":
+                builder.atom("CB", spine(0));
+                builder.methylene("CB", 0, "HB2", "HB3");
+                builder.atom("CG", spine(1));
+                builder.methylene("CG", 1, "HG2", "HG3");
+                builder.atom("CD", spine(2));
+                builder.methylene("CD", 2, "HD2", "HD3");
+                builder.atom("NE", spine(3));
+                builder.hydrogen("NE", new double[] {0.30, 0.0, 0.95}, "HE");
+                builder.atom("CZ", spine(4));
+                builder.atom("NH1", add(spine(4), firstTerminal(4)));
+                builder.hydrogen("NH1", new double[] {0.0, 0.95, 0.30}, "HH11");
+                builder.hydrogen("NH1", new double[] {0.30, 0.20, -0.93}, "HH12");
+                builder.atom("NH2", add(spine(4), secondTerminal(4)));
+                builder.hydrogen("NH2", new double[] {-0.95, 0.0, 0.30}, "HH21");
+                builder.hydrogen("NH2", new double[] {-0.30, -0.20, -0.93}, "HH22");
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown residue template: " + name);
+        }
+        return builder.build(name);
+    }
+
+    // Position of k-th atom of unbranched side chain (CB is 0-th), zigzagging away from the main chain.
+    private static double[] spine(int k) {
+        return new double[] {(k % 2 == 0) ? 0.50 : -0.20, 1.45 + 1.40 * k, 0.0};
+    }
+
+    private static double[] outward(int k) {
+        return new double[] {(k % 2 == 0) ? 0.45 : -0.45, 0.85, 0.0};
+    }
+
+    private static double[] firstBranch(double[] atom) {
+        return add(atom, new double[] {-0.70, 1.30, 0.45});
+    }
+
+    private static double[] secondBranch(double[] atom) {
+        return add(atom, new double[] {0.75, 0.90, -0.95});
+    }
+
+    // Terminal atoms of carboxyl, amide and guanidine groups bonded to k-th atom of side chain.
+    private static double[] firstTerminal(int k) {
+        return new double[] {(k % 2 == 0) ? 0.65 : -0.65, 1.07, 0.0};
+    }
+
+    private static double[] secondTerminal(int k) {
+        return new double[] {(k % 2 == 0) ? -1.15 : 1.15, 0.50, 0.0};
+    }
+
+    static double[] add(double[] first, double[] second) {
+        return new double[] {first[0] + second[0], first[1] + second[1], first[2] + second[2]};
+    }
+
+    static double[] subtract(double[] first, double[] second) {
+        return new double[] {first[0] - second[0], first[1] - second[1], first[2] - second[2]};
+    }
+
+    static double[] scale(double[] vector, double factor) {
+        return new double[] {vector[0] * factor, vector[1] * factor, vector[2] * factor};
+    }
+
+    static double dot(double[] first, double[] second) {
+        return first[0]*second[0] + first[1]*second[1] + first[2]*second[2];
+    }
+
+    static double[] normalize(double[] vector) {
+        return scale(vector, 1.0 / Math.sqrt(dot(vector, vector)));
+    }
+
+    // Point lying at given distance from origin in given direction.
+    static double[] along(double[] origin, double[] direction, double distance) {
+        return add(origin, scale(normalize(direction), distance));
+    }
+
+    private static final class Builder {
+        private final List<String> atomNames = new ArrayList<>();
+        private final List<double[]> coordinates = new ArrayList<>();
+
+        void atom(String atomName, double[] position) {
+            atomNames.add(atomName);
+            coordinates.add(position);
+        }
+
+        double[] get(String atomName) {
+            return coordinates.get(atomNames.indexOf(atomName));
+        }
+
+        void hydrogen(String parent, double[] direction, String name) {
+            final double bondLength = parent.startsWith("C") ? 1.09 : 1.0;
+            atom(name, along(get(parent), direction, bondLength));
+        }
+
+        void methylene(String parent, int k, String firstName, String secondName) {
+            final double shift = (k % 2 == 0) ? 0.30 : -0.30;
+            hydrogen(parent, new double[] {shift, 0.0, 0.95}, firstName);
+            hydrogen(parent, new double[] {shift, 0.0, -0.95}, secondName);
+        }
+
+        void methyl(String parent, int k, String firstName, String secondName, String thirdName) {
+            methylene(parent, k + 1, firstName, secondName);
+            hydrogen(parent, outward(k), thirdName);
+        }
+
+        // Regular planar ring lying in t-u plane; its first atom is placed at given position, closest to the main chain.
+        void ring(double[] first, int size, String[] names, String[] hydrogenNames) {
+            final double bondLength = 1.39;
+            final double radius = bondLength / (2 * Math.sin(Math.PI / size));
+            final double[] center = add(first, new double[] {0.0, radius, 0.0});
+
+            for (int i = 0; i < size; ++i) {
+                final double angle = 2 * Math.PI * i / size;
+                atom(names[i], add(center, new double[] {radius * Math.sin(angle), -radius * Math.cos(angle), 0.0}));
+            }
+            for (int i = 0; i < size; ++i) {
+                if (hydrogenNames[i] != null) {
+                    hydrogen(names[i], subtract(get(names[i]), center), hydrogenNames[i]);
+                }
+            }
+        }
+
+        // Regular hexagon sharing edge (first, second) with already built ring; the remaining four atoms follow second.
+        void fusedRing(String first, String second, String[] names, String[] hydrogenNames) {
+            final double[] firstAtom = get(first), secondAtom = get(second);
+            final double[] edgeMiddle = scale(add(firstAtom, secondAtom), 0.5);
+            final double[] ringCenter = add(get("CG"), new double[] {0.0, 1.39 / (2 * Math.sin(Math.PI / 5)), 0.0});
+            final double edgeLength = Math.sqrt(dot(subtract(secondAtom, firstAtom), subtract(secondAtom, firstAtom)));
+            final double[] center = along(edgeMiddle, subtract(edgeMiddle, ringCenter), edgeLength * Math.sqrt(3) / 2);
+
+            // Rotating the first atom around the center by 60 degrees in the direction which hits the second atom.
+            final double[] radius = subtract(firstAtom, center);
+            final double direction = Math.signum(radius[0] * (secondAtom[1] - center[1]) - radius[1] * (secondAtom[0] - center[0]));
+            for (int i = 0; i < names.length; ++i) {
+                final double angle = direction * Math.PI / 3 * (i + 2);
+                atom(names[i], add(center, new double[] {radius[0] * Math.cos(angle) - radius[1] * Math.sin(angle),
+                                                        radius[0] * Math.sin(angle) + radius[1] * Math.cos(angle),
+                                                        0.0}));
+                hydrogen(names[i], subtract(get(names[i]), center), hydrogenNames[i]);
+            }
+        }
+
+        // Protonation variants of histidine and bridged cysteine are written under their standard names.
+        ResidueTemplate build(String name) {
+            final String residueName = name.startsWith("HI") ? "HIS" : name.equals("CYX") ? "CYS" : name;
+            return new ResidueTemplate(residueName, atomNames, coordinates);
+        }
+    }
+}
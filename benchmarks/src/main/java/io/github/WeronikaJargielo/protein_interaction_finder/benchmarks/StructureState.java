@@ -0,0 +1,78 @@
+package io.github.WeronikaJargielo.protein_interaction_finder.benchmarks;
+
+import io.github.WeronikaJargielo.protein_interaction_finder.ProteinInteractionFinder;
+import org.biojava.nbio.structure.StructureException;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Structure benchmarks are run on.
+ * The structure parameter is either "synthetic:N", a path to a structure file or a PDB ID, which BioJava downloads once
+ * and then reads from its local cache. For "synthetic:N" a structure of N atoms is generated by SyntheticStructureGenerator
+ * (with default seed and density, so runs are reproducible) to a temporary PDB file, which is deleted after the trial.
+ * Default values range from a small domain to a large assembly size; real structures can be given with
+ * e.g. -p structure=/path/to/file.pdb or -p structure=1AON.
+ */
+@State(Scope.Benchmark)
+public class StructureState {
+
+    private static final String syntheticPrefix = "synthetic:";
+
+    @Param({"synthetic:1000", "synthetic:10000", "synthetic:100000", "synthetic:1000000"})
+    public String structure;
+
+    private String structurePath;
+    private Path syntheticFile;
+    private ProteinInteractionFinder finder;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, StructureException {
+        if (structure.startsWith(syntheticPrefix)) {
+            final int atomsCount = Integer.parseInt(structure.substring(syntheticPrefix.length()));
+            // BioJava takes PDB ID from file name, so the file gets an ID-like name in its own temporary directory.
+            syntheticFile = Files.createTempDirectory("synthetic").resolve("9syn.pdb");
+            new SyntheticStructureGenerator().writePdb(atomsCount, syntheticFile);
+            structurePath = syntheticFile.toString();
+        } else {
+            structurePath = structure;
+        }
+
+        // Parsing once here also makes sure a downloaded structure is cached before any measurement.
+        finder = new ProteinInteractionFinder(structurePath);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (syntheticFile != null) {
+            Files.deleteIfExists(syntheticFile);
+            Files.deleteIfExists(syntheticFile.getParent());
+            syntheticFile = null;
+        }
+    }
+
+    /**
+     * Returns path or PDB ID of the structure (path of generated file for synthetic structures).
+     *
+     * @return Path or PDB ID of the structure.
+     */
+    public String getStructure() {
+        return structurePath;
+    }
+
+    /**
+     * Returns finder created for the structure once per trial.
+     *
+     * @return Finder created for the structure once per trial.
+     */
+    public ProteinInteractionFinder getFinder() {
+        return finder;
+    }
+}
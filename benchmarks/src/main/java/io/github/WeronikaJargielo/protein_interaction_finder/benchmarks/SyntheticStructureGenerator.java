@@ -0,0 +1,660 @@
+package io.github.WeronikaJargielo.protein_interaction_finder.benchmarks;
+
+import org.biojava.nbio.structure.AminoAcidImpl;
+import org.biojava.nbio.structure.Atom;
+import org.biojava.nbio.structure.AtomImpl;
+import org.biojava.nbio.structure.Chain;
+import org.biojava.nbio.structure.ChainImpl;
+import org.biojava.nbio.structure.Element;
+import org.biojava.nbio.structure.Group;
+import org.biojava.nbio.structure.PdbId;
+import org.biojava.nbio.structure.ResidueNumber;
+import org.biojava.nbio.structure.Structure;
+import org.biojava.nbio.structure.StructureImpl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Deterministic generator of synthetic protein structures of arbitrary size, for benchmarking.
+ *
+ * Residues (with explicit hydrogen atoms) are laid out on stacked antiparallel beta sheets filling a roughly cubic box
+ * at requested atom density, so that every interaction type occurs: main chain hydrogen bonds link neighbouring strands,
+ * side chains of neighbouring sheets interdigitate, amino acids are drawn with their natural frequencies
+ * (histidines in all three protonation states) and cysteines are placed only in pairs forming disulphide bridges.
+ * The same seed, density and atom count always give the same structure.
+ *
+ * Structure can be written to PDB or mmCIF file (atoms are streamed, so files of millions of atoms can be generated
+ * in little memory) or built in memory as BioJava Structure object.
+ */
+public final class SyntheticStructureGenerator {
+
+    /**
+     * Default seed of random generator.
+     */
+    public static final long defaultSeed = 20210601L;
+
+    /**
+     * Default atom density (atoms per cubic Angstrom), close to density of folded proteins with hydrogen atoms.
+     */
+    public static final double defaultDensity = 0.1;
+
+    private static final String idCode = "9SYN";
+
+    // Spacing of CA atoms along a strand, between strands of a sheet and the minimal spacing between sheets (Angstrom).
+    private static final double residueSpacing = 3.8;
+    private static final double strandSpacing = 4.4;
+    private static final double minSheetSpacing = 4.0;
+
+    private static final int maxResiduesInChain = 9999;
+    private static final String chainIdsAlphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+
+    // Amino acids and their frequencies (percent, UniProtKB/Swiss-Prot). Cysteine is drawn with half of its frequency
+    // since each drawn cysteine also makes its partner a cysteine.
+    private static final String[] aminoAcids = {"ALA", "ARG", "ASN", "ASP", "CYX", "GLN", "GLU", "GLY", "HIS", "ILE",
+                                                "LEU", "LYS", "MET", "PHE", "PRO", "SER", "THR", "TRP", "TYR", "VAL"};
+    private static final double[] frequencies = {8.25, 5.53, 4.06, 5.45, 1.37 / 2, 3.93, 6.75, 7.07, 2.27, 5.96,
+                                                 9.66, 5.84, 2.42, 3.86, 4.70, 6.56, 5.34, 1.08, 2.92, 6.87};
+    private static final String[] histidineVariants = {"HID", "HIE", "HIP"};
+
+    // Geometry of disulphide bridges (Angstrom and degrees).
+    private static final double bondLengthCBSG = 1.81;
+    private static final double bondLengthSS = 2.04;
+    private static final int bridgeOpening = 60;
+
+    private final long seed;
+    private final double density;
+
+    private final Map<String, ResidueTemplate> templates = new HashMap<>();
+    private final double[] cumulativeFrequencies = new double[frequencies.length];
+    private final double averageAtomsPerResidue;
+    private final double sheetSpacing;
+
+    /**
+     * Instantiates new SyntheticStructureGenerator with default seed and density.
+     */
+    public SyntheticStructureGenerator() {
+        this(defaultSeed, defaultDensity);
+    }
+
+    /**
+     * Instantiates new SyntheticStructureGenerator.
+     *
+     * @param seed Seed of random generator; equal seeds give equal structures.
+     * @param density Atom density (atoms per cubic Angstrom); sheets are spread or packed to reach it.
+     */
+    public SyntheticStructureGenerator(long seed, double density) {
+        if ( ! (density > 0)) {
+            throw new IllegalArgumentException("Density must be positive: " + density);
+        }
+        this.seed = seed;
+        this.density = density;
+
+        double frequenciesSum = 0.0, atomsPerResidue = 0.0;
+        for (int i = 0; i < aminoAcids.length; ++i) {
+            frequenciesSum += frequencies[i];
+            cumulativeFrequencies[i] = frequenciesSum;
+        }
+        for (String name : new String[] {"ALA", "ARG", "ASN", "ASP", "CYS", "CYX", "GLN", "GLU", "GLY", "HID", "HIE", "HIP",
+                                         "ILE", "LEU", "LYS", "MET", "PHE", "PRO", "SER", "THR", "TRP", "TYR", "VAL"}) {
+            templates.put(name, ResidueTemplate.create(name));
+        }
+        for (int i = 0; i < aminoAcids.length; ++i) {
+            final ResidueTemplate template = templates.get(aminoAcids[i].equals("HIS") ? "HIP" : aminoAcids[i]);
+            atomsPerResidue += template.size() * frequencies[i] / frequenciesSum * (aminoAcids[i].equals("CYX") ? 2 : 1);
+        }
+        averageAtomsPerResidue = atomsPerResidue;
+        sheetSpacing = Math.max(minSheetSpacing, atomsPerResidue / (residueSpacing * strandSpacing * density));
+    }
+
+    /**
+     * Returns seed of random generator.
+     *
+     * @return Seed of random generator.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns atom density (atoms per cubic Angstrom).
+     *
+     * @return Atom density (atoms per cubic Angstrom).
+     */
+    public double getDensity() {
+        return density;
+    }
+
+    /**
+     * Returns structure of requested size built in memory.
+     *
+     * Note: residues are never cut, so the structure may have slightly more atoms than requested (less than one residue).
+     *
+     * @param atomsCount Requested number of atoms.
+     * @return Synthetic structure.
+     */
+    public Structure generateStructure(int atomsCount) {
+        final StructureBuilder builder = new StructureBuilder();
+        generate(atomsCount, builder);
+        return builder.structure;
+    }
+
+    /**
+     * Writes structure of requested size to PDB file.
+     *
+     * Note: PDB format allows at most 62 chains of 9999 residues (about 10M atoms); atom serial numbers wrap after 99999.
+     *
+     * @param atomsCount Requested number of atoms.
+     * @param pdbFile Path of written file.
+     * @throws IOException Writing file failed.
+     */
+    public void writePdb(int atomsCount, Path pdbFile) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(pdbFile, StandardCharsets.US_ASCII)) {
+            final PdbWriter pdbWriter = new PdbWriter(writer);
+            writer.write(String.format("HEADER    %-40s%9s   %4s\n", "DE NOVO PROTEIN", "01-JUN-21", idCode));
+            generate(atomsCount, pdbWriter);
+            writer.write("END\n");
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Writes structure of requested size to mmCIF file.
+     *
+     * @param atomsCount Requested number of atoms.
+     * @param cifFile Path of written file.
+     * @throws IOException Writing file failed.
+     */
+    public void writeMmCif(int atomsCount, Path cifFile) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(cifFile, StandardCharsets.US_ASCII)) {
+            writer.write("data_" + idCode + "\n#\n_entry.id " + idCode + "\n#\nloop_\n");
+            for (String item : new String[] {"group_PDB", "id", "type_symbol", "label_atom_id", "label_alt_id", "label_comp_id",
+                                             "label_asym_id", "label_entity_id", "label_seq_id", "pdbx_PDB_ins_code",
+                                             "Cartn_x", "Cartn_y", "Cartn_z", "occupancy", "B_iso_or_equiv",
+                                             "auth_seq_id", "auth_comp_id", "auth_asym_id", "auth_atom_id", "pdbx_PDB_model_num"}) {
+                writer.write("_atom_site." + item + "\n");
+            }
+            generate(atomsCount, new MmCifWriter(writer));
+            writer.write("#\n");
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // Receives generated atoms in order; residues and chains are delimited by changes of residue number and chain ID.
+    private interface AtomSink {
+        void atom(String chainId, int residueNumber, String residueName, String atomName, String element, double[] position);
+
+        void chainEnd(String chainId, int residueNumber, String residueName);
+    }
+
+    // Frame of residue: position of CA and unit vectors t (along the strand), u (towards side chain) and w (towards H and O).
+    private static final class Frame {
+        final double[] origin, t, u, w;
+
+        Frame(double[] origin, double[] t, double[] u, double[] w) {
+            this.origin = origin;
+            this.t = t;
+            this.u = u;
+            this.w = w;
+        }
+
+        double[] toGlobal(double[] local) {
+            return new double[] {origin[0] + local[0]*t[0] + local[1]*u[0] + local[2]*w[0],
+                                 origin[1] + local[0]*t[1] + local[1]*u[1] + local[2]*w[1],
+                                 origin[2] + local[0]*t[2] + local[1]*u[2] + local[2]*w[2]};
+        }
+    }
+
+    // Residue slots ordered by sheet, strand in sheet and position in strand. Strands of a sheet run alternately
+    // in both directions along x, sheets are stacked along y and strands of a sheet along z.
+    // Main chain N-H and C=O of residues alternately point to the previous and the next strand and side chains alternately
+    // point to the previous and the next sheet, so neighbouring strands are hydrogen bonded and neighbouring sheets interdigitate.
+    private final class Layout {
+        private final int columns, strands;
+
+        Layout(int atomsCount) {
+            final double residuesCount = Math.max(1.0, atomsCount / averageAtomsPerResidue);
+            final double side = Math.cbrt(residuesCount * residueSpacing * strandSpacing * sheetSpacing);
+            columns = (int) Math.max(1, Math.round(side / residueSpacing));
+            strands = (int) Math.max(1, Math.round(side / strandSpacing));
+        }
+
+        // Side chain of residue can be flipped to the other sheet, which is done for the second cysteine of disulphide bridge.
+        Frame frame(long slot, boolean flipSideChain) {
+            final long sheet = slot / ((long) columns * strands);
+            final int strand = (int) (slot / columns % strands);
+            final int step = (int) (slot % columns);
+            final int column = (strand % 2 == 0) ? step : columns - 1 - step;
+
+            final int parity = ((column + strand) % 2 == 0) ? 1 : -1;
+            return new Frame(new double[] {column * residueSpacing, sheet * sheetSpacing, strand * strandSpacing},
+                             new double[] {(strand % 2 == 0) ? 1 : -1, 0, 0},
+                             new double[] {0, flipSideChain ? -parity : parity, 0},
+                             new double[] {0, 0, parity});
+        }
+
+        // Slot of the residue in the same column of the next strand of the same sheet, -1 for residues of the last strand.
+        long nextStrandSlot(long slot) {
+            final int strand = (int) (slot / columns % strands);
+            if (strand + 1 == strands) {
+                return -1;
+            }
+            final int step = (int) (slot % columns);
+            return slot + (columns - step) + (columns - 1 - step);
+        }
+    }
+
+    private void generate(int atomsCount, AtomSink sink) {
+        if (atomsCount <= 0) {
+            throw new IllegalArgumentException("Atoms count must be positive: " + atomsCount);
+        }
+        final Random random = new Random(seed);
+        final Layout layout = new Layout(atomsCount);
+
+        // Positions of CB, HB2, HB3 and SG of second cysteines of bridges, by their slots.
+        final Map<Long, double[][]> bridgedCysteines = new HashMap<>();
+
+        int generatedAtoms = 0;
+        int chainInd = 0, residueNumber = 0;
+        String residueName = null;
+        boolean isLast = false;
+
+        for (long slot = 0; ! isLast; ++slot) {
+            double[][] cysteineAtoms = bridgedCysteines.remove(slot);
+            final boolean isSecondCysteine = cysteineAtoms != null;
+            final Frame frame = layout.frame(slot, isSecondCysteine);
+
+            String name = isSecondCysteine ? "CYX" : drawAminoAcid(random);
+            if (name.equals("HIS")) {
+                name = histidineVariants[random.nextInt(histidineVariants.length)];
+            } else if (name.equals("CYX") && ! isSecondCysteine) {
+                final long partnerSlot = layout.nextStrandSlot(slot);
+                final double[][][] bridge = (partnerSlot < 0) ? null : placeDisulphideBridge(frame, layout.frame(partnerSlot, true));
+                if (bridge == null) {
+                    name = "CYS";
+                } else {
+                    cysteineAtoms = bridge[0];
+                    bridgedCysteines.put(partnerSlot, bridge[1]);
+                }
+            }
+            final ResidueTemplate template = templates.get(name);
+
+            if (residueNumber == maxResiduesInChain) {
+                sink.chainEnd(chainId(chainInd), residueNumber, residueName);
+                ++chainInd;
+                residueNumber = 0;
+            }
+            ++residueNumber;
+            residueName = template.getResidueName();
+
+            // N-terminal residue has two more hydrogen atoms, C-terminal one has OXT.
+            final boolean isFirst = residueNumber == 1;
+            final int residueAtomsCount = template.size() + (isFirst ? 2 : 0);
+            isLast = generatedAtoms + residueAtomsCount + 1 >= atomsCount;
+
+            generatedAtoms += emitResidue(sink, chainId(chainInd), residueNumber, template, frame, cysteineAtoms,
+                                          isFirst, isLast || residueNumber == maxResiduesInChain);
+        }
+        sink.chainEnd(chainId(chainInd), residueNumber, residueName);
+    }
+
+    private String drawAminoAcid(Random random) {
+        final double drawn = random.nextDouble() * cumulativeFrequencies[cumulativeFrequencies.length - 1];
+        for (int i = 0; i < cumulativeFrequencies.length; ++i) {
+            if (drawn < cumulativeFrequencies[i]) {
+                return aminoAcids[i];
+            }
+        }
+        return aminoAcids[aminoAcids.length - 1];
+    }
+
+    // Chain IDs are single characters for the first 62 chains and base-62 numbers afterwards.
+    private static String chainId(int chainInd) {
+        final int base = chainIdsAlphabet.length();
+        if (chainInd < base) {
+            return chainIdsAlphabet.substring(chainInd, chainInd + 1);
+        }
+        final StringBuilder chainId = new StringBuilder();
+        for (int rest = chainInd; rest > 0; rest /= base) {
+            chainId.insert(0, chainIdsAlphabet.charAt(rest % base));
+        }
+        return chainId.toString();
+    }
+
+    private static int emitResidue(AtomSink sink, String chainId, int residueNumber, ResidueTemplate template, Frame frame,
+                                   double[][] cysteineAtoms, boolean isFirst, boolean isLast) {
+        final String residueName = template.getResidueName();
+        int emitted = 0;
+
+        for (int i = 0; i < template.size(); ++i) {
+            final String atomName = template.getAtomName(i);
+            if (isFirst && atomName.equals("H")) {
+                for (int h = 0; h < ResidueTemplate.nTerminalHydrogens.length; ++h) {
+                    sink.atom(chainId, residueNumber, residueName, ResidueTemplate.nTerminalHydrogens[h], "H",
+                              frame.toGlobal(ResidueTemplate.nTerminalHydrogensCoordinates[h]));
+                }
+                emitted += ResidueTemplate.nTerminalHydrogens.length;
+                continue;
+            }
+
+            final int bridgeAtomInd = (cysteineAtoms == null) ? -1 : bridgeAtomsNames.indexOf(atomName);
+            sink.atom(chainId, residueNumber, residueName, atomName, template.getElement(i),
+                      (bridgeAtomInd >= 0) ? cysteineAtoms[bridgeAtomInd] : frame.toGlobal(template.getCoordinates(i)));
+            ++emitted;
+        }
+
+        // Proline has no amide hydrogen to replace, so its N-terminal H2 and H3 are added at the end.
+        if (isFirst && template.indexOf("H") < 0) {
+            for (int h = 1; h < ResidueTemplate.nTerminalHydrogens.length; ++h) {
+                sink.atom(chainId, residueNumber, residueName, ResidueTemplate.nTerminalHydrogens[h], "H",
+                          frame.toGlobal(ResidueTemplate.nTerminalHydrogensCoordinates[h]));
+            }
+            emitted += ResidueTemplate.nTerminalHydrogens.length - 1;
+        }
+        if (isLast) {
+            sink.atom(chainId, residueNumber, residueName, "OXT", "O", frame.toGlobal(ResidueTemplate.OXT));
+            ++emitted;
+        }
+        return emitted;
+    }
+
+    private static final List<String> bridgeAtomsNames = Arrays.asList("CB", "HB2", "HB3", "SG");
+
+    // Places side chains of two cysteines lying in neighbouring strands so that they form disulphide bridge meeting
+    // default DisulphideBridgeCriteria. CBs are turned towards each other and SGs are placed symmetrically at bond lengths,
+    // shifted along CB-CB axis and perpendicularly to it in directions differing by bridgeOpening (which sets SS dihedral
+    // angle close to 90 degrees). Rotation of SG-SG bond around CB-CB axis giving side chain torsion angles farthest
+    // from the bounds of allowed ranges is chosen.
+    // Returns positions of CB, HB2, HB3 and SG of both cysteines or null if no rotation is allowed.
+    private static double[][][] placeDisulphideBridge(Frame first, Frame second) {
+        final double[] axis = ResidueTemplate.normalize(ResidueTemplate.subtract(second.origin, first.origin));
+        final double[] firstCB = ResidueTemplate.add(ResidueTemplate.add(first.origin, ResidueTemplate.scale(first.u, 1.5)),
+                                                     ResidueTemplate.scale(axis, 0.3));
+        final double[] secondCB = ResidueTemplate.add(ResidueTemplate.add(second.origin, ResidueTemplate.scale(second.u, 1.5)),
+                                                      ResidueTemplate.scale(axis, -0.3));
+
+        // |SS|^2 = (d - 2a)^2 + k * h^2 and h^2 = |CB-SG|^2 - a^2, where k is squared distance between unit vectors
+        // at angle bridgeOpening; the smaller root keeps SGs between CBs.
+        final double[] e = ResidueTemplate.subtract(secondCB, firstCB);
+        final double d = Math.sqrt(ResidueTemplate.dot(e, e));
+        final double k = 2 * (1 - Math.cos(Math.toRadians(bridgeOpening)));
+        final double c = d*d + k*bondLengthCBSG*bondLengthCBSG - bondLengthSS*bondLengthSS;
+        final double a = (4*d - Math.sqrt(16*d*d - 4*(4 - k)*c)) / (2*(4 - k));
+        final double h = Math.sqrt(bondLengthCBSG*bondLengthCBSG - a*a);
+        final double[] unitE = ResidueTemplate.normalize(e);
+        final double[] v = cross(unitE, first.u);
+
+        final double[] firstN = first.toGlobal(ResidueTemplate.N), secondN = second.toGlobal(ResidueTemplate.N);
+        double[][][] bestBridge = null;
+        double bestMargin = 0.0;
+        for (int angle = 0; angle < 360; angle += 15) {
+            for (int turn = -bridgeOpening; turn <= bridgeOpening; turn += 2 * bridgeOpening) {
+                final double[] firstSG = ResidueTemplate.add(ResidueTemplate.add(firstCB, ResidueTemplate.scale(unitE, a)),
+                                                             ResidueTemplate.scale(rotate(first.u, v, angle), h));
+                final double[] secondSG = ResidueTemplate.add(ResidueTemplate.add(secondCB, ResidueTemplate.scale(unitE, -a)),
+                                                              ResidueTemplate.scale(rotate(first.u, v, angle + turn), h));
+
+                final double margin = Math.min(sideChainAngleMargin(Math.abs(torsionAngle(firstN, first.origin, firstCB, firstSG))),
+                                               sideChainAngleMargin(Math.abs(torsionAngle(secondSG, secondCB, second.origin, secondN))));
+                if (margin > bestMargin) {
+                    bestMargin = margin;
+                    bestBridge = new double[][][] {cysteineSideChain(first, firstCB, firstSG), cysteineSideChain(second, secondCB, secondSG)};
+                }
+            }
+        }
+        return bestBridge;
+    }
+
+    // Distance of absolute side chain torsion angle from the bounds of allowed ranges (30-90 and 150-180 degrees),
+    // non-positive if it is outside of them.
+    private static double sideChainAngleMargin(double absDihAngle) {
+        return Math.max(Math.min(absDihAngle - 30, 90 - absDihAngle), absDihAngle - 150);
+    }
+
+    // Hydrogen atoms of CB point away from CA and SG, to both sides of the plane containing them.
+    private static double[][] cysteineSideChain(Frame frame, double[] CB, double[] SG) {
+        final double[] awayFromCA = ResidueTemplate.normalize(ResidueTemplate.subtract(CB, frame.origin));
+        final double[] awayFromSG = ResidueTemplate.normalize(ResidueTemplate.subtract(CB, SG));
+        final double[] bisector = ResidueTemplate.normalize(ResidueTemplate.add(awayFromCA, awayFromSG));
+        final double[] normal = ResidueTemplate.normalize(cross(awayFromCA, awayFromSG));
+
+        return new double[][] {CB,
+                               ResidueTemplate.along(CB, ResidueTemplate.add(ResidueTemplate.scale(bisector, 0.6), ResidueTemplate.scale(normal, 0.8)), 1.09),
+                               ResidueTemplate.along(CB, ResidueTemplate.add(ResidueTemplate.scale(bisector, 0.6), ResidueTemplate.scale(normal, -0.8)), 1.09),
+                               SG};
+    }
+
+    private static double[] cross(double[] first, double[] second) {
+        return new double[] {first[1]*second[2] - first[2]*second[1],
+                             first[2]*second[0] - first[0]*second[2],
+                             first[0]*second[1] - first[1]*second[0]};
+    }
+
+    // Vector first rotated by given angle (degrees) towards second, both unit and perpendicular.
+    private static double[] rotate(double[] first, double[] second, int angle) {
+        final double radians = Math.toRadians(angle);
+        return ResidueTemplate.add(ResidueTemplate.scale(first, Math.cos(radians)), ResidueTemplate.scale(second, Math.sin(radians)));
+    }
+
+    // Same convention as Calc.torsionAngle (degrees).
+    private static double torsionAngle(double[] a, double[] b, double[] c, double[] d) {
+        final double[] ab = ResidueTemplate.subtract(a, b);
+        final double[] cb = ResidueTemplate.subtract(c, b);
+        final double[] bc = ResidueTemplate.subtract(b, c);
+        final double[] dc = ResidueTemplate.subtract(d, c);
+
+        final double[] abc = cross(ab, cb);
+        final double[] bcd = cross(bc, dc);
+        final double angle = Math.toDegrees(Math.acos(ResidueTemplate.dot(abc, bcd)
+                                                      / Math.sqrt(ResidueTemplate.dot(abc, abc) * ResidueTemplate.dot(bcd, bcd))));
+        return (ResidueTemplate.dot(cross(abc, bcd), cb) > 0) ? -angle : angle;
+    }
+
+    // Builds BioJava objects of generated atoms.
+    private static final class StructureBuilder implements AtomSink {
+        private final Structure structure = new StructureImpl();
+        private Chain chain;
+        private Group residue;
+        private int serial;
+
+        StructureBuilder() {
+            structure.setPdbId(new PdbId(idCode));
+        }
+
+        @Override
+        public void atom(String chainId, int residueNumber, String residueName, String atomName, String element, double[] position) {
+            if (chain == null) {
+                chain = new ChainImpl();
+                chain.setId(chainId);
+                chain.setName(chainId);
+                structure.addChain(chain);
+            }
+            if (residue == null || residue.getResidueNumber().getSeqNum() != residueNumber) {
+                residue = new AminoAcidImpl();
+                residue.setPDBName(residueName);
+                residue.setResidueNumber(new ResidueNumber(chainId, residueNumber, null));
+                chain.addGroup(residue);
+            }
+
+            final Atom atom = new AtomImpl();
+            atom.setName(atomName);
+            atom.setElement(Element.valueOfIgnoreCase(element));
+            atom.setPDBserial(++serial);
+            atom.setCoords(position);
+            atom.setOccupancy(1.0f);
+            atom.setTempFactor(0.0f);
+            residue.addAtom(atom);
+        }
+
+        @Override
+        public void chainEnd(String chainId, int residueNumber, String residueName) {
+            chain = null;
+            residue = null;
+        }
+    }
+
+    // Writes ATOM and TER records of PDB format.
+    private static final class PdbWriter implements AtomSink {
+        private final BufferedWriter writer;
+        private final StringBuilder line = new StringBuilder(81);
+        private int serial;
+
+        PdbWriter(BufferedWriter writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void atom(String chainId, int residueNumber, String residueName, String atomName, String element, double[] position) {
+            line.setLength(0);
+            line.append("ATOM  ");
+            appendRight(line, Integer.toString(nextSerial()), 5);
+            line.append(' ');
+            // Atom names shorter than four characters start in the second column of the name field.
+            line.append((atomName.length() < 4) ? " " + atomName : atomName);
+            appendSpaces(line, 17 - line.length());
+            line.append(residueName).append(' ').append(pdbChainId(chainId));
+            appendRight(line, Integer.toString(residueNumber), 4);
+            line.append("    ");
+            for (double coordinate : position) {
+                appendRight(line, formatCoordinate(coordinate), 8);
+            }
+            line.append("  1.00  0.00          ");
+            appendRight(line, element, 2);
+            line.append('\n');
+            write(line);
+        }
+
+        @Override
+        public void chainEnd(String chainId, int residueNumber, String residueName) {
+            line.setLength(0);
+            line.append("TER   ");
+            appendRight(line, Integer.toString(nextSerial()), 5);
+            line.append("      ").append(residueName).append(' ').append(pdbChainId(chainId));
+            appendRight(line, Integer.toString(residueNumber), 4);
+            line.append('\n');
+            write(line);
+        }
+
+        private int nextSerial() {
+            serial = serial % 99999 + 1;
+            return serial;
+        }
+
+        private static char pdbChainId(String chainId) {
+            if (chainId.length() > 1) {
+                throw new IllegalArgumentException("PDB format allows at most " + chainIdsAlphabet.length() + " chains, use mmCIF for larger structures.");
+            }
+            return chainId.charAt(0);
+        }
+
+        private void write(CharSequence text) {
+            try {
+                writer.append(text);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    // Writes rows of _atom_site loop of mmCIF format.
+    private static final class MmCifWriter implements AtomSink {
+        private final BufferedWriter writer;
+        private final StringBuilder line = new StringBuilder(128);
+        private long serial;
+
+        MmCifWriter(BufferedWriter writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void atom(String chainId, int residueNumber, String residueName, String atomName, String element, double[] position) {
+            line.setLength(0);
+            line.append("ATOM ").append(++serial).append(' ').append(element).append(' ').append(atomName).append(" . ")
+                .append(residueName).append(' ').append(chainId).append(" 1 ").append(residueNumber).append(" ? ");
+            for (double coordinate : position) {
+                line.append(formatCoordinate(coordinate)).append(' ');
+            }
+            line.append("1.00 0.00 ").append(residueNumber).append(' ').append(residueName).append(' ')
+                .append(chainId).append(' ').append(atomName).append(" 1\n");
+            try {
+                writer.append(line);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void chainEnd(String chainId, int residueNumber, String residueName) {
+        }
+    }
+
+    // Coordinate with three decimal places; formatted by hand, since String.format dominates writing of large files.
+    private static String formatCoordinate(double coordinate) {
+        final long thousandths = Math.round(coordinate * 1000);
+        final long abs = Math.abs(thousandths);
+        final long fraction = abs % 1000;
+        return ((thousandths < 0) ? "-" : "") + (abs / 1000) + ((fraction < 10) ? ".00" : (fraction < 100) ? ".0" : ".") + fraction;
+    }
+
+    private static void appendRight(StringBuilder line, String text, int width) {
+        appendSpaces(line, width - text.length());
+        line.append(text);
+    }
+
+    private static void appendSpaces(StringBuilder line, int count) {
+        for (int i = 0; i < count; ++i) {
+            line.append(' ');
+        }
+    }
+
+    /**
+     * Writes synthetic structure to file, format is chosen by file extension (.pdb or .cif).
+     *
+     * Usage: SyntheticStructureGenerator atomsCount outputFile [--seed seed] [--density density]
+     *
+     * @param args Command line arguments.
+     * @throws IOException Writing file failed.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: SyntheticStructureGenerator atomsCount outputFile(.pdb|.cif) [--seed seed] [--density density]");
+            System.exit(1);
+        }
+        long seed = defaultSeed;
+        double density = defaultDensity;
+        for (int i = 2; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--seed":
+                    seed = Long.parseLong(args[i + 1]);
+                    break;
+                case "--density":
+                    density = Double.parseDouble(args[i + 1]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        final SyntheticStructureGenerator generator = new SyntheticStructureGenerator(seed, density);
+        final int atomsCount = Integer.parseInt(args[0]);
+        final Path outputFile = Paths.get(args[1]);
+        if (outputFile.toString().toLowerCase(Locale.ROOT).endsWith(".cif")) {
+            generator.writeMmCif(atomsCount, outputFile);
+        } else {
+            generator.writePdb(atomsCount, outputFile);
+        }
+    }
+}
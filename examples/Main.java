@@ -1,5 +1,6 @@
 package examples;
 
+import java.nio.file.Paths;
 import java.util.List;
 
 import io.github.WeronikaJargielo.protein_interaction_finder.*;
@@ -40,6 +41,40 @@ public class Main {
                     "Position Residue Chain Position Residue Chain DistanceBtwCAs");
 
 
+            // To examine how results depend on boundary values, pass many criteria at once to a sweep method.
+            // Candidate interactions are measured only once and assigned to every criteria they satisfy.
+            // E.g. for maximum distance between hydrogen and acceptor from 2.0 to 3.0 Angstrom:
+            List<HydrogenBondCriteria> sweptCriteria = new java.util.ArrayList<>();
+            for (int step = 0; step <= 10; ++step) {
+                sweptCriteria.add(new HydrogenBondCriteria(0, Double.MAX_VALUE, 0, 2.0 + 0.1 * step, 90, 180, 0, Double.MAX_VALUE, 0, Double.MAX_VALUE));
+            }
+            java.util.Map<HydrogenBondCriteria, List<HydrogenBond>> sweptHydrogenBonds = finder.sweepMainMainHydrogenBonds(sweptCriteria);
+            sweptHydrogenBonds.forEach((criteria, hydrogenBonds) -> System.out.println("\nmaxDistanceHA = " + criteria.getMaxDistanceHA() + ": " + hydrogenBonds.size() + " main chain-main chain hydrogen bonds"));
+
+
+            // Large results can be kept compactly in columnar tables, which store participants and measured quantities
+            // in primitive columns. Rows are read by index without creating objects; asList() gives objects on demand.
+            HydrophobicInteractionTable hydrophobicInteractionTable = finder.tabulateHydrophobicInteractions();
+            double meanDistanceBtwCAs = 0.0;
+            for (int row = 0; row < hydrophobicInteractionTable.size(); ++row) {
+                meanDistanceBtwCAs += hydrophobicInteractionTable.getDistanceBtwCAs(row) / hydrophobicInteractionTable.size();
+            }
+            System.out.println("\nMean distance between CA atoms of hydrophobic interactions: " + meanDistanceBtwCAs);
+
+
+            // When the same files are examined repeatedly (e.g. by a service), parsed structures can be kept in StructureCache.
+            // Finders created with the cache parse the file only once (until it changes), together with all derived indexes.
+            // E.g. for cache holding structures of estimated size up to 512 MB:
+            StructureCache structureCache = new StructureCache(512L * 1024 * 1024);
+            ProteinInteractionFinder cachedFinder = new ProteinInteractionFinder(filename, structureCache);
+            System.out.println("\nIonic interactions found using cached structure: " + cachedFinder.findIonicInteractions().size());
+
+            // Results can be memoized as well, so repeated identification with equal criteria is not run again.
+            // E.g. for at most 64 results, which the garbage collector may drop when memory runs low:
+            cachedFinder.memoizeResults(new ResultMemoPolicy(64, true));
+            System.out.println("Ionic interactions found again: " + cachedFinder.findIonicInteractions().size());
+
+
             // Default criteria examples for every supported interaction type.
             // Each find method can also take one argument with custom criteria of appropriate type.
 
@@ -83,6 +118,72 @@ public class Main {
                     "cation-PI Interactions",
                     "Position Residue Chain Position Residue Chain DistanceBtwCationRing PolarAngle AzimuthalAngle");
 
+
+            // All interaction types can also be identified with a single call, which runs them concurrently.
+            // It takes criteria of every type bundled in AllInteractionsCriteria and optionally a ForkJoinPool to run in.
+            AllInteractions allInteractions = finder.findAllInteractions(new AllInteractionsCriteria());
+            System.out.println("\n" + allInteractions);
+
+
+            // Structures with many models (e.g. NMR ensembles) can be examined model by model. Models are processed
+            // concurrently and, besides interactions of every model, occupancy of every interaction across models is returned.
+            EnsembleInteractions ensembleInteractions = finder.findAllInteractionsInAllModels();
+            printResults(ensembleInteractions.getOccupancies(),
+                    "interactions occupancies in " + ensembleInteractions.getModelsCount() + " models",
+                    "InteractionType FirstAminoAcid SecondAminoAcid OccurrencesCount StructuresCount Occupancy");
+
+
+            // Frames of molecular dynamics trajectory are examined by TrajectoryInteractionFinder bound to their topology,
+            // so each frame brings only coordinates (x, y, z of every atom of topology). Here, the only frame is the topology itself.
+            TrajectoryInteractionFinder trajectoryFinder = new TrajectoryInteractionFinder(finder.getPdbStructureParser().getProteinStructure());
+            double[] frame = new double[3 * trajectoryFinder.getAtomsCount()];
+            org.biojava.nbio.structure.Atom[] topologyAtoms = org.biojava.nbio.structure.StructureTools.getAllAtomArray(finder.getPdbStructureParser().getProteinStructure());
+            for (int i = 0; i < topologyAtoms.length; ++i) {
+                frame[3 * i] = topologyAtoms[i].getX();
+                frame[3 * i + 1] = topologyAtoms[i].getY();
+                frame[3 * i + 2] = topologyAtoms[i].getZ();
+            }
+            List<InteractionOccupancy> trajectoryOccupancies = trajectoryFinder.findOccupancies(List.of(frame));
+            System.out.println("\nInteractions found in trajectory: " + trajectoryOccupancies.size());
+
+
+            // To identify interactions in many files (e.g. in local copy of PDB), use BatchProcessor. It processes files
+            // in parallel and passes result of every file to given sink as soon as it is ready. Failure of one file
+            // (e.g. incorrectly formatted one) is reported in its result and does not stop the others.
+            BatchReport batchReport = new BatchProcessor().processDirectory(Paths.get("."), result -> System.out.println(result));
+            System.out.println("\n" + batchReport);
+
+            // BatchProcessor reads files with PdbCoordinateReader, which maps the file into memory and reads only coordinate
+            // records. It can be used on its own as well, e.g. to create finder of a structure read faster than by BioJava.
+            ProteinInteractionFinder quicklyReadFinder = new ProteinInteractionFinder(PdbCoordinateReader.read(Paths.get(filename)));
+            System.out.println("\nIonic interactions found in quickly read structure: " + quicklyReadFinder.findIonicInteractions().size());
+
+            // Large assemblies distributed only as mmCIF or BinaryCIF are read the same way by MmcifCoordinateReader
+            // and BinaryCifCoordinateReader, which read only atom_site category (BatchProcessor uses them for *.cif and *.bcif files).
+            // You can download e.g. https://files.rcsb.org/download/2BI6.cif.
+            ProteinInteractionFinder mmcifFinder = new ProteinInteractionFinder(MmcifCoordinateReader.read(Paths.get("2BI6.cif")));
+            System.out.println("Ionic interactions found in structure read from mmCIF file: " + mmcifFinder.findIonicInteractions().size());
+
+            // Files compressed with gzip or bgzip (e.g. *.gz files of PDB archive) are read by all three readers directly,
+            // decompressed into memory without temporary files. BatchProcessor processes such files as well.
+            // You can download e.g. https://files.rcsb.org/download/2BI6.pdb.gz.
+            ProteinInteractionFinder compressedFileFinder = new ProteinInteractionFinder(PdbCoordinateReader.read(Paths.get("2BI6.pdb.gz")));
+            System.out.println("Ionic interactions found in structure read from compressed file: " + compressedFileFinder.findIonicInteractions().size());
+
+
+            // Interactions of many files can be stored in one compact binary file by passing InteractionFileWriter as a sink.
+            // InteractionFileReader maps such file into memory, so stored interactions are read without parsing or copying.
+            try (InteractionFileWriter writer = new InteractionFileWriter(Paths.get("interactions.pif"))) {
+                new BatchProcessor().processDirectory(Paths.get("."), writer);
+            }
+            try (InteractionFileReader reader = new InteractionFileReader(Paths.get("interactions.pif"))) {
+                for (int structure = 0; structure < reader.getStructuresCount(); ++structure) {
+                    StoredInteractions storedInteractions = reader.getStructure(structure);
+                    System.out.println("\n" + storedInteractions.getName() + ": "
+                            + storedInteractions.getRowsCount(InteractionType.HYDROPHOBIC_INTERACTIONS) + " hydrophobic interactions");
+                }
+            }
+
         } catch (Exception e) {
             e.printStackTrace();
         }
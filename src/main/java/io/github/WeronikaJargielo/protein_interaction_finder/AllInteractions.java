@@ -0,0 +1,172 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Class representing all implemented interactions identified in protein.
+ */
+public final class AllInteractions {
+
+    private final List<HydrogenBond> mainMainHydrogenBonds;
+    private final List<HydrogenBond> mainSideHydrogenBonds;
+    private final List<HydrogenBond> sideSideHydrogenBonds;
+    private final List<DisulphideBridge> disulphideBridges;
+    private final List<SulphurAromaticInteraction> sulphurAromaticInteractions;
+    private final List<AminoAromaticInteraction> aminoAromaticInteractions;
+    private final List<AromaticAromaticInteraction> aromaticAromaticInteractions;
+    private final List<IonicInteraction> ionicInteractions;
+    private final List<HydrophobicInteraction> hydrophobicInteractions;
+
+    /**
+     * Instantiates new set of all interactions.
+     *
+     * @param mainMainHydrogenBonds        Main chain - main chain hydrogen bonds.
+     * @param mainSideHydrogenBonds        Main chain - side chain hydrogen bonds.
+     * @param sideSideHydrogenBonds        Side chain - side chain hydrogen bonds.
+     * @param disulphideBridges            Disulphide bridges.
+     * @param sulphurAromaticInteractions  Sulphur-aromatic interactions.
+     * @param aminoAromaticInteractions    Amino-aromatic interactions.
+     * @param aromaticAromaticInteractions Aromatic-aromatic interactions.
+     * @param ionicInteractions            Ionic interactions.
+     * @param hydrophobicInteractions      Hydrophobic interactions.
+     */
+    public AllInteractions(List<HydrogenBond> mainMainHydrogenBonds,
+                           List<HydrogenBond> mainSideHydrogenBonds,
+                           List<HydrogenBond> sideSideHydrogenBonds,
+                           List<DisulphideBridge> disulphideBridges,
+                           List<SulphurAromaticInteraction> sulphurAromaticInteractions,
+                           List<AminoAromaticInteraction> aminoAromaticInteractions,
+                           List<AromaticAromaticInteraction> aromaticAromaticInteractions,
+                           List<IonicInteraction> ionicInteractions,
+                           List<HydrophobicInteraction> hydrophobicInteractions) {
+        this.mainMainHydrogenBonds = Collections.unmodifiableList(mainMainHydrogenBonds);
+        this.mainSideHydrogenBonds = Collections.unmodifiableList(mainSideHydrogenBonds);
+        this.sideSideHydrogenBonds = Collections.unmodifiableList(sideSideHydrogenBonds);
+        this.disulphideBridges = Collections.unmodifiableList(disulphideBridges);
+        this.sulphurAromaticInteractions = Collections.unmodifiableList(sulphurAromaticInteractions);
+        this.aminoAromaticInteractions = Collections.unmodifiableList(aminoAromaticInteractions);
+        this.aromaticAromaticInteractions = Collections.unmodifiableList(aromaticAromaticInteractions);
+        this.ionicInteractions = Collections.unmodifiableList(ionicInteractions);
+        this.hydrophobicInteractions = Collections.unmodifiableList(hydrophobicInteractions);
+    }
+
+    /**
+     * Returns main chain - main chain hydrogen bonds.
+     *
+     * @return Unmodifiable list of main chain - main chain hydrogen bonds.
+     */
+    public List<HydrogenBond> getMainMainHydrogenBonds() {
+        return mainMainHydrogenBonds;
+    }
+
+    /**
+     * Returns main chain - side chain hydrogen bonds.
+     *
+     * @return Unmodifiable list of main chain - side chain hydrogen bonds.
+     */
+    public List<HydrogenBond> getMainSideHydrogenBonds() {
+        return mainSideHydrogenBonds;
+    }
+
+    /**
+     * Returns side chain - side chain hydrogen bonds.
+     *
+     * @return Unmodifiable list of side chain - side chain hydrogen bonds.
+     */
+    public List<HydrogenBond> getSideSideHydrogenBonds() {
+        return sideSideHydrogenBonds;
+    }
+
+    /**
+     * Returns disulphide bridges.
+     *
+     * @return Unmodifiable list of disulphide bridges.
+     */
+    public List<DisulphideBridge> getDisulphideBridges() {
+        return disulphideBridges;
+    }
+
+    /**
+     * Returns sulphur-aromatic interactions.
+     *
+     * @return Unmodifiable list of sulphur-aromatic interactions.
+     */
+    public List<SulphurAromaticInteraction> getSulphurAromaticInteractions() {
+        return sulphurAromaticInteractions;
+    }
+
+    /**
+     * Returns amino-aromatic interactions.
+     *
+     * @return Unmodifiable list of amino-aromatic interactions.
+     */
+    public List<AminoAromaticInteraction> getAminoAromaticInteractions() {
+        return aminoAromaticInteractions;
+    }
+
+    /**
+     * Returns aromatic-aromatic interactions.
+     *
+     * @return Unmodifiable list of aromatic-aromatic interactions.
+     */
+    public List<AromaticAromaticInteraction> getAromaticAromaticInteractions() {
+        return aromaticAromaticInteractions;
+    }
+
+    /**
+     * Returns ionic interactions.
+     *
+     * @return Unmodifiable list of ionic interactions.
+     */
+    public List<IonicInteraction> getIonicInteractions() {
+        return ionicInteractions;
+    }
+
+    /**
+     * Returns hydrophobic interactions.
+     *
+     * @return Unmodifiable list of hydrophobic interactions.
+     */
+    public List<HydrophobicInteraction> getHydrophobicInteractions() {
+        return hydrophobicInteractions;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AllInteractions that = (AllInteractions) o;
+        return mainMainHydrogenBonds.equals(that.mainMainHydrogenBonds)
+               && mainSideHydrogenBonds.equals(that.mainSideHydrogenBonds)
+               && sideSideHydrogenBonds.equals(that.sideSideHydrogenBonds)
+               && disulphideBridges.equals(that.disulphideBridges)
+               && sulphurAromaticInteractions.equals(that.sulphurAromaticInteractions)
+               && aminoAromaticInteractions.equals(that.aminoAromaticInteractions)
+               && aromaticAromaticInteractions.equals(that.aromaticAromaticInteractions)
+               && ionicInteractions.equals(that.ionicInteractions)
+               && hydrophobicInteractions.equals(that.hydrophobicInteractions);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(mainMainHydrogenBonds, mainSideHydrogenBonds, sideSideHydrogenBonds, disulphideBridges,
+                            sulphurAromaticInteractions, aminoAromaticInteractions, aromaticAromaticInteractions,
+                            ionicInteractions, hydrophobicInteractions);
+    }
+
+    @Override
+    public String toString() {
+        return "AllInteractions: " +
+                "mainMainHydrogenBonds = " + mainMainHydrogenBonds.size() +
+                ",\tmainSideHydrogenBonds = " + mainSideHydrogenBonds.size() +
+                ",\tsideSideHydrogenBonds = " + sideSideHydrogenBonds.size() +
+                ",\tdisulphideBridges = " + disulphideBridges.size() +
+                ",\tsulphurAromaticInteractions = " + sulphurAromaticInteractions.size() +
+                ",\taminoAromaticInteractions = " + aminoAromaticInteractions.size() +
+                ",\taromaticAromaticInteractions = " + aromaticAromaticInteractions.size() +
+                ",\tionicInteractions = " + ionicInteractions.size() +
+                ",\thydrophobicInteractions = " + hydrophobicInteractions.size();
+    }
+}
@@ -0,0 +1,155 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import java.util.Objects;
+
+/**
+ * Class representing criteria for identifying all implemented interactions at once.
+ * The same hydrogen bond criteria are used for main chain - main chain, main chain - side chain
+ * and side chain - side chain hydrogen bonds.
+ */
+public final class AllInteractionsCriteria {
+
+    private final HydrogenBondCriteria hydrogenBondCriteria;
+    private final DisulphideBridgeCriteria disulphideBridgeCriteria;
+    private final SulphurAromaticInteractionCriteria sulphurAromaticInteractionCriteria;
+    private final AminoAromaticInteractionCriteria aminoAromaticInteractionCriteria;
+    private final AromaticAromaticInteractionCriteria aromaticAromaticInteractionCriteria;
+    private final IonicInteractionCriteria ionicInteractionCriteria;
+    private final HydrophobicInteractionCriteria hydrophobicInteractionCriteria;
+
+    /**
+     * Instantiates new criteria for all interactions using default criteria of every interaction.
+     */
+    public AllInteractionsCriteria() {
+        this.hydrogenBondCriteria = new HydrogenBondCriteria();
+        this.disulphideBridgeCriteria = new DisulphideBridgeCriteria();
+        this.sulphurAromaticInteractionCriteria = new SulphurAromaticInteractionCriteria();
+        this.aminoAromaticInteractionCriteria = new AminoAromaticInteractionCriteria();
+        this.aromaticAromaticInteractionCriteria = new AromaticAromaticInteractionCriteria();
+        this.ionicInteractionCriteria = new IonicInteractionCriteria();
+        this.hydrophobicInteractionCriteria = new HydrophobicInteractionCriteria();
+    }
+
+    /**
+     * Instantiates new criteria for all interactions using custom criteria of every interaction.
+     *
+     * @param hydrogenBondCriteria                Criteria for identifying hydrogen bonds of all kinds.
+     * @param disulphideBridgeCriteria            Criteria for identifying disulphide bridges.
+     * @param sulphurAromaticInteractionCriteria  Criteria for identifying sulphur-aromatic interactions.
+     * @param aminoAromaticInteractionCriteria    Criteria for identifying amino-aromatic interactions.
+     * @param aromaticAromaticInteractionCriteria Criteria for identifying aromatic-aromatic interactions.
+     * @param ionicInteractionCriteria            Criteria for identifying ionic interactions.
+     * @param hydrophobicInteractionCriteria      Criteria for identifying hydrophobic interactions.
+     */
+    public AllInteractionsCriteria(HydrogenBondCriteria hydrogenBondCriteria,
+                                   DisulphideBridgeCriteria disulphideBridgeCriteria,
+                                   SulphurAromaticInteractionCriteria sulphurAromaticInteractionCriteria,
+                                   AminoAromaticInteractionCriteria aminoAromaticInteractionCriteria,
+                                   AromaticAromaticInteractionCriteria aromaticAromaticInteractionCriteria,
+                                   IonicInteractionCriteria ionicInteractionCriteria,
+                                   HydrophobicInteractionCriteria hydrophobicInteractionCriteria) {
+        this.hydrogenBondCriteria = Objects.requireNonNull(hydrogenBondCriteria);
+        this.disulphideBridgeCriteria = Objects.requireNonNull(disulphideBridgeCriteria);
+        this.sulphurAromaticInteractionCriteria = Objects.requireNonNull(sulphurAromaticInteractionCriteria);
+        this.aminoAromaticInteractionCriteria = Objects.requireNonNull(aminoAromaticInteractionCriteria);
+        this.aromaticAromaticInteractionCriteria = Objects.requireNonNull(aromaticAromaticInteractionCriteria);
+        this.ionicInteractionCriteria = Objects.requireNonNull(ionicInteractionCriteria);
+        this.hydrophobicInteractionCriteria = Objects.requireNonNull(hydrophobicInteractionCriteria);
+    }
+
+    /**
+     * Returns criteria for identifying hydrogen bonds of all kinds.
+     *
+     * @return Criteria for identifying hydrogen bonds of all kinds.
+     */
+    public HydrogenBondCriteria getHydrogenBondCriteria() {
+        return hydrogenBondCriteria;
+    }
+
+    /**
+     * Returns criteria for identifying disulphide bridges.
+     *
+     * @return Criteria for identifying disulphide bridges.
+     */
+    public DisulphideBridgeCriteria getDisulphideBridgeCriteria() {
+        return disulphideBridgeCriteria;
+    }
+
+    /**
+     * Returns criteria for identifying sulphur-aromatic interactions.
+     *
+     * @return Criteria for identifying sulphur-aromatic interactions.
+     */
+    public SulphurAromaticInteractionCriteria getSulphurAromaticInteractionCriteria() {
+        return sulphurAromaticInteractionCriteria;
+    }
+
+    /**
+     * Returns criteria for identifying amino-aromatic interactions.
+     *
+     * @return Criteria for identifying amino-aromatic interactions.
+     */
+    public AminoAromaticInteractionCriteria getAminoAromaticInteractionCriteria() {
+        return aminoAromaticInteractionCriteria;
+    }
+
+    /**
+     * Returns criteria for identifying aromatic-aromatic interactions.
+     *
+     * @return Criteria for identifying aromatic-aromatic interactions.
+     */
+    public AromaticAromaticInteractionCriteria getAromaticAromaticInteractionCriteria() {
+        return aromaticAromaticInteractionCriteria;
+    }
+
+    /**
+     * Returns criteria for identifying ionic interactions.
+     *
+     * @return Criteria for identifying ionic interactions.
+     */
+    public IonicInteractionCriteria getIonicInteractionCriteria() {
+        return ionicInteractionCriteria;
+    }
+
+    /**
+     * Returns criteria for identifying hydrophobic interactions.
+     *
+     * @return Criteria for identifying hydrophobic interactions.
+     */
+    public HydrophobicInteractionCriteria getHydrophobicInteractionCriteria() {
+        return hydrophobicInteractionCriteria;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AllInteractionsCriteria criteria = (AllInteractionsCriteria) o;
+        return hydrogenBondCriteria.equals(criteria.hydrogenBondCriteria)
+               && disulphideBridgeCriteria.equals(criteria.disulphideBridgeCriteria)
+               && sulphurAromaticInteractionCriteria.equals(criteria.sulphurAromaticInteractionCriteria)
+               && aminoAromaticInteractionCriteria.equals(criteria.aminoAromaticInteractionCriteria)
+               && aromaticAromaticInteractionCriteria.equals(criteria.aromaticAromaticInteractionCriteria)
+               && ionicInteractionCriteria.equals(criteria.ionicInteractionCriteria)
+               && hydrophobicInteractionCriteria.equals(criteria.hydrophobicInteractionCriteria);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(hydrogenBondCriteria, disulphideBridgeCriteria, sulphurAromaticInteractionCriteria,
+                            aminoAromaticInteractionCriteria, aromaticAromaticInteractionCriteria,
+                            ionicInteractionCriteria, hydrophobicInteractionCriteria);
+    }
+
+    @Override
+    public String toString() {
+        return "AllInteractionsCriteria:" +
+                "\n" + hydrogenBondCriteria +
+                "\n" + disulphideBridgeCriteria +
+                "\n" + sulphurAromaticInteractionCriteria +
+                "\n" + aminoAromaticInteractionCriteria +
+                "\n" + aromaticAromaticInteractionCriteria +
+                "\n" + ionicInteractionCriteria +
+                "\n" + hydrophobicInteractionCriteria;
+    }
+}
@@ -0,0 +1,129 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+final class AllInteractionsFinder {
+
+    private final PdbStructureParser pdbStructureParser;
+
+    public AllInteractionsFinder(PdbStructureParser pdbStructureParser) {
+        this.pdbStructureParser = pdbStructureParser;
+    }
+
+    public AllInteractions findAllInteractions(AllInteractionsCriteria criteria, Set<InteractionType> interactionTypes, ForkJoinPool pool) {
+        // All kinds of hydrogen bonds are identified by one task in a single pass, so their participants and cell list
+        // are computed only once.
+        // Aromatic rings and residue index are shared by all finders through the parser.
+        final HydrogenBondFinder hydrogenBondFinder = new HydrogenBondFinder(pdbStructureParser);
+
+        final Map<InteractionType, ForkJoinTask<List<?>>> tasks = new EnumMap<>(InteractionType.class);
+        for (InteractionType interactionType : interactionTypes) {
+            if ( ! isHydrogenBondType(interactionType)) {
+                tasks.put(interactionType, ForkJoinTask.adapt(() -> this.findInteractions(interactionType, criteria, hydrogenBondFinder)));
+            }
+        }
+        final ForkJoinTask<Map<InteractionType, List<HydrogenBond>>> hydrogenBondsTask
+                = ForkJoinTask.adapt(() -> this.findHydrogenBonds(criteria, interactionTypes, hydrogenBondFinder));
+
+        final List<ForkJoinTask<?>> allTasks = new ArrayList<>(tasks.values());
+        allTasks.add(hydrogenBondsTask);
+
+        // Tasks are forked from inside the pool, so they run on its workers; the first failure (if any) is rethrown here.
+        pool.invoke(ForkJoinTask.adapt(() -> { ForkJoinTask.invokeAll(allTasks); }));
+
+        final Map<InteractionType, List<?>> foundInteractions = new EnumMap<>(hydrogenBondsTask.join());
+        tasks.forEach((interactionType, task) -> foundInteractions.put(interactionType, task.join()));
+        return toAllInteractions(foundInteractions);
+    }
+
+    // Identifies interactions of given types one after another in the calling thread.
+    public AllInteractions findAllInteractions(AllInteractionsCriteria criteria, Set<InteractionType> interactionTypes) {
+        final HydrogenBondFinder hydrogenBondFinder = new HydrogenBondFinder(pdbStructureParser);
+
+        final Map<InteractionType, List<?>> foundInteractions = new EnumMap<>(this.findHydrogenBonds(criteria, interactionTypes, hydrogenBondFinder));
+        for (InteractionType interactionType : interactionTypes) {
+            if ( ! isHydrogenBondType(interactionType)) {
+                foundInteractions.put(interactionType, this.findInteractions(interactionType, criteria, hydrogenBondFinder));
+            }
+        }
+        return toAllInteractions(foundInteractions);
+    }
+
+    // Hydrogen bonds of requested kinds. Two or more kinds are identified together in a single pass over all donors
+    // and acceptors; single kind is searched for on its own, as it checks fewer pairs.
+    private Map<InteractionType, List<HydrogenBond>> findHydrogenBonds(AllInteractionsCriteria criteria, Set<InteractionType> interactionTypes,
+                                                                       HydrogenBondFinder hydrogenBondFinder) {
+        final Map<InteractionType, List<HydrogenBond>> hydrogenBonds = new EnumMap<>(InteractionType.class);
+        final long hydrogenBondTypesCount = interactionTypes.stream().filter(AllInteractionsFinder::isHydrogenBondType).count();
+
+        if (hydrogenBondTypesCount > 1) {
+            hydrogenBondFinder.findAllHydrogenBonds(criteria.getHydrogenBondCriteria()).forEach((interactionType, foundHydrogenBonds) -> {
+                if (interactionTypes.contains(interactionType)) {
+                    hydrogenBonds.put(interactionType, foundHydrogenBonds);
+                }
+            });
+        } else {
+            for (InteractionType interactionType : interactionTypes) {
+                if (isHydrogenBondType(interactionType)) {
+                    @SuppressWarnings("unchecked")
+                    final List<HydrogenBond> foundHydrogenBonds = (List<HydrogenBond>) this.findInteractions(interactionType, criteria, hydrogenBondFinder);
+                    hydrogenBonds.put(interactionType, foundHydrogenBonds);
+                }
+            }
+        }
+        return hydrogenBonds;
+    }
+
+    private static boolean isHydrogenBondType(InteractionType interactionType) {
+        return interactionType == InteractionType.MAIN_MAIN_HYDROGEN_BONDS
+                || interactionType == InteractionType.MAIN_SIDE_HYDROGEN_BONDS
+                || interactionType == InteractionType.SIDE_SIDE_HYDROGEN_BONDS;
+    }
+
+    private List<?> findInteractions(InteractionType interactionType, AllInteractionsCriteria criteria, HydrogenBondFinder hydrogenBondFinder) {
+        switch (interactionType) {
+            case MAIN_MAIN_HYDROGEN_BONDS:
+                return hydrogenBondFinder.findMainMainHydrogenBonds(criteria.getHydrogenBondCriteria());
+            case MAIN_SIDE_HYDROGEN_BONDS:
+                return hydrogenBondFinder.findMainSideHydrogenBonds(criteria.getHydrogenBondCriteria());
+            case SIDE_SIDE_HYDROGEN_BONDS:
+                return hydrogenBondFinder.findSideSideHydrogenBonds(criteria.getHydrogenBondCriteria());
+            case DISULPHIDE_BRIDGES:
+                return new DisulphideBridgesFinder(pdbStructureParser).findDisulphideBridges(criteria.getDisulphideBridgeCriteria());
+            case SULPHUR_AROMATIC_INTERACTIONS:
+                return new SulphurAromaticInteractionsFinder(pdbStructureParser).findSulphurAromaticInteractions(criteria.getSulphurAromaticInteractionCriteria());
+            case AMINO_AROMATIC_INTERACTIONS:
+                return new AminoAromaticInteractionFinder(pdbStructureParser).findAminoAromaticInteractions(criteria.getAminoAromaticInteractionCriteria());
+            case AROMATIC_AROMATIC_INTERACTIONS:
+                return new AromaticAromaticInteractionFinder(pdbStructureParser).findAromaticAromaticInteraction(criteria.getAromaticAromaticInteractionCriteria());
+            case IONIC_INTERACTIONS:
+                return new IonicInteractionsFinder(pdbStructureParser).findIonicInteractions(criteria.getIonicInteractionCriteria());
+            case HYDROPHOBIC_INTERACTIONS:
+                return new HydrophobicInteractionsFinder(pdbStructureParser).findHydrophobicInteractions(criteria.getHydrophobicInteractionCriteria());
+            default:
+                throw new IllegalArgumentException("Unknown interaction type: " + interactionType);
+        }
+    }
+
+    // Lists of interactions are stored by their types, so the casts match lists returned by findInteractions.
+    // Types which were not requested get empty lists.
+    @SuppressWarnings("unchecked")
+    private static AllInteractions toAllInteractions(Map<InteractionType, List<?>> foundInteractions) {
+        return new AllInteractions((List<HydrogenBond>) foundInteractions.getOrDefault(InteractionType.MAIN_MAIN_HYDROGEN_BONDS, Collections.emptyList()),
+                                   (List<HydrogenBond>) foundInteractions.getOrDefault(InteractionType.MAIN_SIDE_HYDROGEN_BONDS, Collections.emptyList()),
+                                   (List<HydrogenBond>) foundInteractions.getOrDefault(InteractionType.SIDE_SIDE_HYDROGEN_BONDS, Collections.emptyList()),
+                                   (List<DisulphideBridge>) foundInteractions.getOrDefault(InteractionType.DISULPHIDE_BRIDGES, Collections.emptyList()),
+                                   (List<SulphurAromaticInteraction>) foundInteractions.getOrDefault(InteractionType.SULPHUR_AROMATIC_INTERACTIONS, Collections.emptyList()),
+                                   (List<AminoAromaticInteraction>) foundInteractions.getOrDefault(InteractionType.AMINO_AROMATIC_INTERACTIONS, Collections.emptyList()),
+                                   (List<AromaticAromaticInteraction>) foundInteractions.getOrDefault(InteractionType.AROMATIC_AROMATIC_INTERACTIONS, Collections.emptyList()),
+                                   (List<IonicInteraction>) foundInteractions.getOrDefault(InteractionType.IONIC_INTERACTIONS, Collections.emptyList()),
+                                   (List<HydrophobicInteraction>) foundInteractions.getOrDefault(InteractionType.HYDROPHOBIC_INTERACTIONS, Collections.emptyList()));
+    }
+}
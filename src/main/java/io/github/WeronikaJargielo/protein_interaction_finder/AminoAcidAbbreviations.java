@@ -1,5 +1,8 @@
 package io.github.WeronikaJargielo.protein_interaction_finder;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  *  IUPAC abbreviations for each natural amino acid.
  */
@@ -83,5 +86,18 @@ public enum AminoAcidAbbreviations {
     /**
      * Valine
      */
-    VAL
+    VAL;
+
+    private static final Map<String, AminoAcidAbbreviations> abbreviationsByPdbName = new HashMap<>();
+
+    static {
+        for (AminoAcidAbbreviations aminoAcidAbbr : values()) {
+            abbreviationsByPdbName.put(aminoAcidAbbr.name(), aminoAcidAbbr);
+        }
+    }
+
+    // Exception-free counterpart of valueOf; returns null for names of non-standard groups (ligands, water, etc.).
+    static AminoAcidAbbreviations fromPdbName(String pdbName) {
+        return abbreviationsByPdbName.get(pdbName);
+    }
 }
@@ -1,8 +1,5 @@
 package io.github.WeronikaJargielo.protein_interaction_finder;
 
-import org.biojava.nbio.structure.Atom;
-import org.biojava.nbio.structure.Calc;
-
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -13,7 +10,7 @@ final class AminoAromaticInteractionFinder {
     private final class Cation {
         public final String[] atoms;
         public final List<AminoAcidAbbreviations> aminoAcid;
-        public final Function<AminoAromaticInteractionFinder.Cation, List<Atom>> cationFilter;
+        public final Function<AminoAromaticInteractionFinder.Cation, int[]> cationFilter;
         public final Boolean specialTreatment;
 
         public Cation(String[] atoms, List<AminoAcidAbbreviations> aminoAcid) {
@@ -23,7 +20,7 @@ final class AminoAromaticInteractionFinder {
             this.specialTreatment = false;
         }
 
-        public Cation(String[] atoms, List<AminoAcidAbbreviations> aminoAcid, Function<AminoAromaticInteractionFinder.Cation, List<Atom>> cationFilter) {
+        public Cation(String[] atoms, List<AminoAcidAbbreviations> aminoAcid, Function<AminoAromaticInteractionFinder.Cation, int[]> cationFilter) {
             this.atoms = atoms;
             this.aminoAcid = aminoAcid;
             this.cationFilter = cationFilter;
@@ -37,29 +34,17 @@ final class AminoAromaticInteractionFinder {
         this.pdbStructureParser = pdbStructureParser;
     }
 
-    final private Function<AminoAromaticInteractionFinder.Cation, List<Atom>> getHisAtomsIfIsChargedFilter = (cation -> {
-        List<Atom> histidineCationsAtoms = new ArrayList<>();
-        final List<Atom> foundCE1s = pdbStructureParser.getAtoms(cation.atoms, cation.aminoAcid);
-        if (foundCE1s.isEmpty()) { return histidineCationsAtoms; }
+    final private Function<AminoAromaticInteractionFinder.Cation, int[]> getHisAtomsIfIsChargedFilter = (cation -> {
+        final CoordinateTable coordinates = pdbStructureParser.getCoordinateTable();
+        final int[] foundCE1s = coordinates.getResidueIndex().getAtomIndices(cation.atoms, cation.aminoAcid);
+        if (foundCE1s.length == 0) { return foundCE1s; }
 
 //      If histidine is charged it should have those two hydrogen atom: HD1 and HE2.
-        final String[] hisHsAtoms = new String[]{"HD1" ,"HE2"};
-        final List<Atom> foundHs = pdbStructureParser.getAtoms(hisHsAtoms, cation.aminoAcid);
-
-        foundCE1s.forEach(CE1 -> {
-            final Integer CE1SeqNum = CE1.getGroup().getResidueNumber().getSeqNum();
-            final String CE1Chain = CE1.getGroup().getChain().getName();
-
-            final long counterMatchingHs = foundHs.stream()
-                                                  .filter(H -> CE1SeqNum.equals(H.getGroup().getResidueNumber().getSeqNum())
-                                                               && CE1Chain.equals(H.getGroup().getChain().getName()) )
-                                                  .count();
+        final ProtonationIndex protonationIndex = coordinates.getResidueIndex().getProtonationIndex();
 
-            if (counterMatchingHs == hisHsAtoms.length) {
-                histidineCationsAtoms.add(CE1);
-            }
-        });
-        return histidineCationsAtoms;
+        return Arrays.stream(foundCE1s)
+                     .filter(CE1 -> protonationIndex.isChargedHistidine(coordinates.getResidue(CE1)))
+                     .toArray();
     });
 
     private final List<AminoAromaticInteractionFinder.Cation> desiredCations = Arrays.asList(new Cation(new String[] {"CZ"}, Arrays.asList(AminoAcidAbbreviations.ARG)),
@@ -71,49 +56,71 @@ final class AminoAromaticInteractionFinder {
 
 
     public List<AminoAromaticInteraction> findAminoAromaticInteractions(AminoAromaticInteractionCriteria criteria) {
-        List<Atom> cations = new ArrayList<>();
-        desiredCations.forEach(cation -> {
-           if (cation.specialTreatment) {
-                cations.addAll(cation.cationFilter.apply(cation));
-           } else {
-                cations.addAll(pdbStructureParser.getAtoms(cation.atoms, cation.aminoAcid));
-            }
-        });
+        return new ArrayList<>(this.tabulateAminoAromaticInteractions(criteria).asList());
+    }
+
+    public AminoAromaticInteractionTable tabulateAminoAromaticInteractions(AminoAromaticInteractionCriteria criteria) {
+        return pdbStructureParser.memoize(InteractionType.AMINO_AROMATIC_INTERACTIONS, criteria, () -> this.searchAminoAromaticInteractions(criteria).toTable());
+    }
 
-        List<AminoAromaticInteraction> foundAminoAromaticInteractions = new ArrayList<>();
+    public TableSearch<AminoAromaticInteraction, AminoAromaticInteractionTable> searchAminoAromaticInteractions(AminoAromaticInteractionCriteria criteria) {
+        final CoordinateTable coordinates = pdbStructureParser.getCoordinateTable();
 
-        final ArrayList<AromaticRing> aromaticRings = pdbStructureParser.getAromaticRings();
-        aromaticRings.forEach(aromaticRing -> {
-            cations.forEach(cation -> {
-                final AminoAromaticInteraction aminoAromaticInteraction = this.obtainAminoAromaticInteraction(cation, aromaticRing, criteria);
+        final int[] cations = pdbStructureParser.getParticipants("AminoAromaticInteractionFinder.cations",
+                                                                 () -> desiredCations.stream()
+                                                                                     .flatMapToInt(cation -> Arrays.stream(cation.specialTreatment
+                                                                                                                           ? cation.cationFilter.apply(cation)
+                                                                                                                           : coordinates.getResidueIndex().getAtomIndices(cation.atoms, cation.aminoAcid)))
+                                                                                     .toArray());
 
-                if (aminoAromaticInteraction != null) {
-                    foundAminoAromaticInteractions.add(aminoAromaticInteraction);
-                }
-            });
-        });
+        final AromaticRingTable aromaticRings = pdbStructureParser.getAromaticRingTable();
 
-        return foundAminoAromaticInteractions;
+        final NeighborSearch cationsSearch = pdbStructureParser.getNeighborSearch("AminoAromaticInteractionFinder.cations",
+                                                                                  aromaticRings.getCentroids(),
+                                                                                  coordinates.getPoints(cations),
+                                                                                  criteria.getMaxDistanceBtwCationRing());
+
+        return new TableSearch<>() {
+            @Override
+            int getQueriesCount() {
+                return aromaticRings.size();
+            }
+
+            @Override
+            AminoAromaticInteractionTable createTable() {
+                return new AminoAromaticInteractionTable(coordinates.getResidueIndex());
+            }
+
+            @Override
+            void findRows(int ringInd, AminoAromaticInteractionTable aminoAromaticInteractions) {
+                for (int cationInd : cationsSearch.findNeighbors(ringInd)) {
+                    obtainAminoAromaticInteraction(coordinates, cations[cationInd], aromaticRings, ringInd, criteria, aminoAromaticInteractions);
+                }
+            }
+        };
     }
 
-    private AminoAromaticInteraction obtainAminoAromaticInteraction(Atom cation, AromaticRing aromaticRing, AminoAromaticInteractionCriteria criteria) {
-        final double distanceBtwCationRing = Calc.getDistance(cation, aromaticRing.getRingCentroid());
+    private void obtainAminoAromaticInteraction(CoordinateTable coordinates, int cation, AromaticRingTable aromaticRings, int ringInd,
+                                                AminoAromaticInteractionCriteria criteria, AminoAromaticInteractionTable aminoAromaticInteractions) {
+        final double x = coordinates.getX(cation), y = coordinates.getY(cation), z = coordinates.getZ(cation);
+
+        final double distanceBtwCationRing = aromaticRings.distanceToCentroid(ringInd, x, y, z);
         if ( ! (distanceBtwCationRing > criteria.getMinDistanceBtwCationRing() && distanceBtwCationRing < criteria.getMaxDistanceBtwCationRing())) {
-            return null;
+            return;
         }
 
-        final double polarAngle = aromaticRing.calculatePolarAngleOfAtom(cation);
+        final double polarAngle = aromaticRings.polarAngle(ringInd, x, y, z);
         if ( ! (polarAngle >= criteria.getMinPolarAngle() && polarAngle <= criteria.getMaxPolarAngle())) {
-            return null;
+            return;
         }
 
-        final double azimuthalAngle = aromaticRing.calculateAzimuthalAngleOfAtom(cation);
+        final double azimuthalAngle = aromaticRings.azimuthalAngle(ringInd, x, y, z);
         if ( ! (azimuthalAngle >= criteria.getMinAzimuthalAngle() && azimuthalAngle <= criteria.getMaxAzimuthalAngle())) {
-            return null;
+            return;
         }
 
-        return new AminoAromaticInteraction(aromaticRing.getAminoAcid(),
-                                            new AminoAcid(cation.getGroup()),
-                                            distanceBtwCationRing, polarAngle, azimuthalAngle);
+        aminoAromaticInteractions.add(aromaticRings.getResidue(ringInd),
+                                      coordinates.getResidue(cation),
+                                      distanceBtwCationRing, polarAngle, azimuthalAngle);
     }
 }
@@ -0,0 +1,108 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import java.util.Arrays;
+
+/**
+ * Class representing amino-aromatic interactions found in protein, stored column by column: amino acids of participants
+ * as indices of residues of the structure and measured quantities as columns of doubles, one row per interaction.
+ * Rows are read by index, from 0 to size() - 1, and reading them creates no objects; AminoAromaticInteraction objects
+ * are created only on demand, by get(row) or by the list view (asList()).
+ */
+public final class AminoAromaticInteractionTable extends InteractionTable<AminoAromaticInteraction> {
+
+    private static final int[] noResidues = new int[0];
+    private static final double[] noValues = new double[0];
+
+    private final ResidueIndex residueIndex;
+
+    private int[] aromaticAminoAcidResidues = noResidues;
+    private int[] aminoAminoAcidResidues = noResidues;
+    private double[] distancesBtwCationRing = noValues;
+    private double[] polarAngles = noValues;
+    private double[] azimuthalAngles = noValues;
+
+    AminoAromaticInteractionTable(ResidueIndex residueIndex) {
+        this.residueIndex = residueIndex;
+    }
+
+    void add(int aromaticAminoAcidResidue, int aminoAminoAcidResidue, double distanceBtwCationRing, double polarAngle, double azimuthalAngle) {
+        final int row = this.addRow();
+        aromaticAminoAcidResidues[row] = aromaticAminoAcidResidue;
+        aminoAminoAcidResidues[row] = aminoAminoAcidResidue;
+        distancesBtwCationRing[row] = distanceBtwCationRing;
+        polarAngles[row] = polarAngle;
+        azimuthalAngles[row] = azimuthalAngle;
+    }
+
+    /**
+     * Returns amino acid of aromatic interaction participant of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Amino acid of aromatic interaction participant.
+     */
+    public AminoAcid getAromaticAminoAcid(int row) {
+        return residueIndex.getAminoAcid(aromaticAminoAcidResidues[this.checkRow(row)]);
+    }
+
+    /**
+     * Returns amino acid of interaction participant with amino group of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Amino acid of interaction participant with amino group.
+     */
+    public AminoAcid getAminoAminoAcid(int row) {
+        return residueIndex.getAminoAcid(aminoAminoAcidResidues[this.checkRow(row)]);
+    }
+
+    /**
+     * Returns distance between aromatic ring centroid and amino group representative of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Distance between aromatic ring centroid and amino group representative.
+     */
+    public double getDistanceBtwCationRing(int row) {
+        return distancesBtwCationRing[this.checkRow(row)];
+    }
+
+    /**
+     * Returns polar angle for aromatic ring and amino group representative of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Polar angle for aromatic ring and amino group representative.
+     */
+    public double getPolarAngle(int row) {
+        return polarAngles[this.checkRow(row)];
+    }
+
+    /**
+     * Returns azimuthal angle for aromatic ring and amino group representative of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Azimuthal angle for aromatic ring and amino group representative.
+     */
+    public double getAzimuthalAngle(int row) {
+        return azimuthalAngles[this.checkRow(row)];
+    }
+
+    @Override
+    public AminoAromaticInteraction get(int row) {
+        this.checkRow(row);
+        return new AminoAromaticInteraction(residueIndex.getAminoAcid(aromaticAminoAcidResidues[row]),
+                                            residueIndex.getAminoAcid(aminoAminoAcidResidues[row]),
+                                            distancesBtwCationRing[row], polarAngles[row], azimuthalAngles[row]);
+    }
+
+    @Override
+    void resizeColumns(int capacity) {
+        aromaticAminoAcidResidues = Arrays.copyOf(aromaticAminoAcidResidues, capacity);
+        aminoAminoAcidResidues = Arrays.copyOf(aminoAminoAcidResidues, capacity);
+        distancesBtwCationRing = Arrays.copyOf(distancesBtwCationRing, capacity);
+        polarAngles = Arrays.copyOf(polarAngles, capacity);
+        azimuthalAngles = Arrays.copyOf(azimuthalAngles, capacity);
+    }
+
+    @Override
+    int getRowBytes() {
+        return 2 * Integer.BYTES + 3 * Double.BYTES;
+    }
+}
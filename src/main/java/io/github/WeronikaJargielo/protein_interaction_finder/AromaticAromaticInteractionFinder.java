@@ -1,9 +1,9 @@
 package io.github.WeronikaJargielo.protein_interaction_finder;
 
-import org.biojava.nbio.structure.Calc;
-
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 final class AromaticAromaticInteractionFinder {
 
@@ -14,48 +14,84 @@ final class AromaticAromaticInteractionFinder {
     }
 
     public List<AromaticAromaticInteraction> findAromaticAromaticInteraction(AromaticAromaticInteractionCriteria criteria) {
-        final List<AromaticRing> aromaticRings = pdbStructureParser.getAromaticRings();
-        ArrayList<AromaticAromaticInteraction> foundAromaticAromaticInteractions = new ArrayList<>();
-
-        final int aromaticRingsLen = aromaticRings.size();
-        for (int i = 0; i < aromaticRingsLen; ++i) {
-            for (int j = i + 1; j < aromaticRingsLen; ++j) {
-                final AromaticAromaticInteraction aromaticAromaticInteraction = this.obtainAromaticAromaticInteraction(aromaticRings.get(i),
-                                                                                                                       aromaticRings.get(j),
-                                                                                                                       criteria);
-
-                if (aromaticAromaticInteraction != null) {
-                    foundAromaticAromaticInteractions.add(aromaticAromaticInteraction);
-                }
+        return new ArrayList<>(this.tabulateAromaticAromaticInteractions(criteria).asList());
+    }
+
+    // Identifies interactions satisfying each of many criteria, measuring every pair of rings only once (see CriteriaSweep).
+    public Map<AromaticAromaticInteractionCriteria, List<AromaticAromaticInteraction>> sweepAromaticAromaticInteractions(Collection<AromaticAromaticInteractionCriteria> criteria) {
+        return CriteriaSweep.sweep(criteria,
+                                   () -> this.searchAromaticAromaticInteractions(new AromaticAromaticInteractionCriteria(
+                                           criteria.stream().mapToDouble(AromaticAromaticInteractionCriteria::getMinDistanceBtwRings).min().getAsDouble(),
+                                           criteria.stream().mapToDouble(AromaticAromaticInteractionCriteria::getMaxDistanceBtwRings).max().getAsDouble(),
+                                           criteria.stream().mapToDouble(AromaticAromaticInteractionCriteria::getMinAngleBtwRings).min().getAsDouble(),
+                                           criteria.stream().mapToDouble(AromaticAromaticInteractionCriteria::getMaxAngleBtwRings).max().getAsDouble())),
+                                   AromaticAromaticInteractionFinder::satisfies);
+    }
+
+    public AromaticAromaticInteractionTable tabulateAromaticAromaticInteractions(AromaticAromaticInteractionCriteria criteria) {
+        return pdbStructureParser.memoize(InteractionType.AROMATIC_AROMATIC_INTERACTIONS, criteria, () -> this.searchAromaticAromaticInteractions(criteria).toTable());
+    }
+
+    public TableSearch<AromaticAromaticInteraction, AromaticAromaticInteractionTable> searchAromaticAromaticInteractions(AromaticAromaticInteractionCriteria criteria) {
+        final AromaticRingTable aromaticRings = pdbStructureParser.getAromaticRingTable();
+
+        final Points ringCentroids = aromaticRings.getCentroids();
+        final NeighborSearch ringCentroidsSearch = pdbStructureParser.getNeighborSearch("AromaticAromaticInteractionFinder.rings",
+                                                                                        ringCentroids, ringCentroids,
+                                                                                        criteria.getMaxDistanceBtwRings());
+
+        return new TableSearch<>() {
+            @Override
+            int getQueriesCount() {
+                return aromaticRings.size();
+            }
+
+            @Override
+            AromaticAromaticInteractionTable createTable() {
+                return new AromaticAromaticInteractionTable(pdbStructureParser.getResidueIndex());
             }
-        }
 
-        return foundAromaticAromaticInteractions;
+            @Override
+            void findRows(int i, AromaticAromaticInteractionTable aromaticAromaticInteractions) {
+                for (int j : ringCentroidsSearch.findNeighbors(i)) {
+                    if (j <= i) { continue; }
+
+                    obtainAromaticAromaticInteraction(aromaticRings, i, j, criteria, aromaticAromaticInteractions);
+                }
+            }
+        };
     }
 
-    private AromaticAromaticInteraction obtainAromaticAromaticInteraction(AromaticRing firstRing, AromaticRing secondRing,
-                                                                          AromaticAromaticInteractionCriteria criteria) {
+    private void obtainAromaticAromaticInteraction(AromaticRingTable aromaticRings, int firstRingInd, int secondRingInd,
+                                                   AromaticAromaticInteractionCriteria criteria, AromaticAromaticInteractionTable aromaticAromaticInteractions) {
+        final AromaticRing firstRing = aromaticRings.getRing(firstRingInd);
+        final AromaticRing secondRing = aromaticRings.getRing(secondRingInd);
+
         // Check to eliminate TRP 5 to TRP 6 ring interactions.
         if (firstRing.getGroup().equals(secondRing.getGroup())) {
-            return null;
+            return;
         }
 
-        final double distanceBtwRings = Calc.getDistance(firstRing.getRingCentroid(), secondRing.getRingCentroid());
+        final double distanceBtwRings = aromaticRings.distanceBetweenCentroids(firstRingInd, secondRingInd);
         if ( ! (distanceBtwRings > criteria.getMinDistanceBtwRings() && distanceBtwRings < criteria.getMaxDistanceBtwRings()) ) {
-            return null;
+            return;
         }
 
-        final double angleBtwRings = getAngleBetweenRings(firstRing, secondRing);
+        final double angleBtwRings = aromaticRings.angleBetweenNormals(firstRingInd, secondRingInd);
         if ( ! (angleBtwRings >= criteria.getMinAngleBtwRings() && angleBtwRings <= criteria.getMaxAngleBtwRings()) ) {
-            return null;
+            return;
         }
 
-        return new AromaticAromaticInteraction(firstRing.getAminoAcid(),
-                                               secondRing.getAminoAcid(),
-                                               distanceBtwRings, angleBtwRings);
+        aromaticAromaticInteractions.add(aromaticRings.getResidue(firstRingInd),
+                                         aromaticRings.getResidue(secondRingInd),
+                                         distanceBtwRings, angleBtwRings);
     }
 
-    private double getAngleBetweenRings(AromaticRing firstRing, AromaticRing secondRing) {
-        return MathHelper.radiansToDegrees(firstRing.getNormalVector().angle(secondRing.getNormalVector()));
+    // Checks interaction already measured by obtainAromaticAromaticInteraction against other criteria, the same way it does.
+    private static boolean satisfies(AromaticAromaticInteraction aromaticAromaticInteraction, AromaticAromaticInteractionCriteria criteria) {
+        return aromaticAromaticInteraction.getDistanceBtwRings() > criteria.getMinDistanceBtwRings()
+                && aromaticAromaticInteraction.getDistanceBtwRings() < criteria.getMaxDistanceBtwRings()
+                && aromaticAromaticInteraction.getAngleBtwRings() >= criteria.getMinAngleBtwRings()
+                && aromaticAromaticInteraction.getAngleBtwRings() <= criteria.getMaxAngleBtwRings();
     }
 }
@@ -0,0 +1,95 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import java.util.Arrays;
+
+/**
+ * Class representing aromatic-aromatic interactions found in protein, stored column by column: amino acids of participants
+ * as indices of residues of the structure and measured quantities as columns of doubles, one row per interaction.
+ * Rows are read by index, from 0 to size() - 1, and reading them creates no objects; AromaticAromaticInteraction objects
+ * are created only on demand, by get(row) or by the list view (asList()).
+ */
+public final class AromaticAromaticInteractionTable extends InteractionTable<AromaticAromaticInteraction> {
+
+    private static final int[] noResidues = new int[0];
+    private static final double[] noValues = new double[0];
+
+    private final ResidueIndex residueIndex;
+
+    private int[] firstAromaticRingResidues = noResidues;
+    private int[] secondAromaticRingResidues = noResidues;
+    private double[] distancesBtwRings = noValues;
+    private double[] anglesBtwRings = noValues;
+
+    AromaticAromaticInteractionTable(ResidueIndex residueIndex) {
+        this.residueIndex = residueIndex;
+    }
+
+    void add(int firstAromaticRingResidue, int secondAromaticRingResidue, double distanceBtwRings, double angleBtwRings) {
+        final int row = this.addRow();
+        firstAromaticRingResidues[row] = firstAromaticRingResidue;
+        secondAromaticRingResidues[row] = secondAromaticRingResidue;
+        distancesBtwRings[row] = distanceBtwRings;
+        anglesBtwRings[row] = angleBtwRings;
+    }
+
+    /**
+     * Returns aromatic amino acid of first interaction participant of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Aromatic amino acid of first interaction participant.
+     */
+    public AminoAcid getFirstAromaticRing(int row) {
+        return residueIndex.getAminoAcid(firstAromaticRingResidues[this.checkRow(row)]);
+    }
+
+    /**
+     * Returns aromatic amino acid of second interaction participant of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Aromatic amino acid of second interaction participant.
+     */
+    public AminoAcid getSecondAromaticRing(int row) {
+        return residueIndex.getAminoAcid(secondAromaticRingResidues[this.checkRow(row)]);
+    }
+
+    /**
+     * Returns distance between aromatic rings' centroids of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Distance between aromatic rings' centroids.
+     */
+    public double getDistanceBtwRings(int row) {
+        return distancesBtwRings[this.checkRow(row)];
+    }
+
+    /**
+     * Returns angle between aromatic rings' normal vectors of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Angle between aromatic rings' normal vectors.
+     */
+    public double getAngleBtwRings(int row) {
+        return anglesBtwRings[this.checkRow(row)];
+    }
+
+    @Override
+    public AromaticAromaticInteraction get(int row) {
+        this.checkRow(row);
+        return new AromaticAromaticInteraction(residueIndex.getAminoAcid(firstAromaticRingResidues[row]),
+                                               residueIndex.getAminoAcid(secondAromaticRingResidues[row]),
+                                               distancesBtwRings[row], anglesBtwRings[row]);
+    }
+
+    @Override
+    void resizeColumns(int capacity) {
+        firstAromaticRingResidues = Arrays.copyOf(firstAromaticRingResidues, capacity);
+        secondAromaticRingResidues = Arrays.copyOf(secondAromaticRingResidues, capacity);
+        distancesBtwRings = Arrays.copyOf(distancesBtwRings, capacity);
+        anglesBtwRings = Arrays.copyOf(anglesBtwRings, capacity);
+    }
+
+    @Override
+    int getRowBytes() {
+        return 2 * Integer.BYTES + 2 * Double.BYTES;
+    }
+}
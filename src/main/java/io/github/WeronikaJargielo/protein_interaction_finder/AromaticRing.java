@@ -16,7 +16,8 @@ import java.util.List;
  */
 public final class AromaticRing {
     private final Atom[] atoms;
-    private final Group aminoAcid;
+    private final Group group;
+    private final AminoAcid aminoAcid;
     private final Atom ringCentroid;
     private final Vector3d normalVector;
 
@@ -26,10 +27,16 @@ public final class AromaticRing {
      * @param atoms Atoms forming the aromatic ring.
      */
     public AromaticRing(List<Atom> atoms) {
+        this(atoms, new AminoAcid(atoms.get(0).getGroup()));
+    }
+
+    // Ring of given amino acid, which is shared with other results concerning the same residue.
+    AromaticRing(List<Atom> atoms, AminoAcid aminoAcid) {
         this.atoms = new Atom[atoms.size()];
         atoms.toArray(this.atoms);
 
-        this.aminoAcid = this.atoms[0].getGroup();
+        this.group = this.atoms[0].getGroup();
+        this.aminoAcid = aminoAcid;
         this.ringCentroid = Calc.getCentroid(this.atoms);
         this.normalVector = this.calculateNormalVector();
         this.normalVector.normalize();
@@ -50,7 +57,7 @@ public final class AromaticRing {
      * @return BioJava Group representing aromatic ring's amino acid.
      */
     public Group getGroup() {
-        return aminoAcid;
+        return group;
     }
 
     /**
@@ -59,7 +66,7 @@ public final class AromaticRing {
      * @return Amino acid of the aromatic ring.
      */
     public AminoAcid getAminoAcid() {
-        return new AminoAcid(aminoAcid);
+        return aminoAcid;
     }
 
     /**
@@ -84,7 +91,7 @@ public final class AromaticRing {
         final String atomNameForBeginVec;
         final String atomNameForEndVec;
 
-        switch (AminoAcidAbbreviations.valueOf(aminoAcid.getPDBName())) {
+        switch (aminoAcid.getAbbreviation()) {
             case PHE:
             case TYR:
                 atomNameForBeginVec = "CD1"; atomNameForEndVec = "CG";
@@ -132,7 +139,7 @@ public final class AromaticRing {
     public double calculateAzimuthalAngleOfAtom(Atom atom) {
         double azimuthalAngle = this.calculateEquatorialAngleOfAtom(atom);
 
-        final AminoAcidAbbreviations aminoAcidAbbr = AminoAcidAbbreviations.valueOf(aminoAcid.getPDBName());
+        final AminoAcidAbbreviations aminoAcidAbbr = aminoAcid.getAbbreviation();
         if (aminoAcidAbbr == AminoAcidAbbreviations.PHE || aminoAcidAbbr == AminoAcidAbbreviations.TYR) {
             azimuthalAngle = (azimuthalAngle >= 180.0) ? azimuthalAngle - 180.0 : azimuthalAngle + 180.0;
         }
@@ -195,10 +202,10 @@ public final class AromaticRing {
                           this.normalVector.z*t + atom.getZ());
     }
 
-    private Atom getRingAtomForEquatorialAngle() {
+    Atom getRingAtomForEquatorialAngle() {
         final String desiredAtom;
 
-        switch (AminoAcidAbbreviations.valueOf(aminoAcid.getPDBName())) {
+        switch (aminoAcid.getAbbreviation()) {
             case PHE:
             case TYR:
                 desiredAtom = "CZ";
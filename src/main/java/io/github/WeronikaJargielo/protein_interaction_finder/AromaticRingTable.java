@@ -0,0 +1,173 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import org.biojava.nbio.structure.Atom;
+
+import javax.vecmath.Vector3d;
+import java.util.Collections;
+import java.util.List;
+
+// Aromatic rings of a structure together with their geometry precomputed into primitive arrays.
+// Kernels below perform exactly the same arithmetic as corresponding AromaticRing methods, so their results are
+// identical, but they do not allocate any vectors and do not repeat the per-ring part of computations.
+final class AromaticRingTable {
+
+    // Estimated heap footprint of one ring: AromaticRing with its centroid and normal vector, and its row of the table.
+    private static final long bytesPerRing = 400;
+
+    private final List<AromaticRing> rings;
+    // Index of residue of every ring in the residue index of the structure.
+    private final int[] residues;
+
+    private final double[] centroidX, centroidY, centroidZ;
+
+    // Normal vectors are normalized in AromaticRing, but their length and squared length may still slightly differ from 1.
+    private final double[] normalX, normalY, normalZ;
+    private final double[] normalLength, normalLengthSquared;
+
+    // Plane equation: Ax + By + Cz + D = 0, where (A, B, C) is normal vector and D is plane offset.
+    private final double[] planeOffset;
+
+    // Equatorial reference vector (centroid -> ring atom used for equatorial angle) and normal x reference vector.
+    private final double[] referenceX, referenceY, referenceZ, referenceLength;
+    private final double[] perpendicularX, perpendicularY, perpendicularZ;
+
+    // Azimuthal angle of Phe and Tyr rings is measured from the opposite side of the ring.
+    private final boolean[] azimuthFlipped;
+
+    AromaticRingTable(List<AromaticRing> rings, int[] residues) {
+        this.rings = Collections.unmodifiableList(rings);
+        this.residues = residues;
+
+        final int ringsLen = rings.size();
+        centroidX = new double[ringsLen]; centroidY = new double[ringsLen]; centroidZ = new double[ringsLen];
+        normalX = new double[ringsLen]; normalY = new double[ringsLen]; normalZ = new double[ringsLen];
+        normalLength = new double[ringsLen]; normalLengthSquared = new double[ringsLen];
+        planeOffset = new double[ringsLen];
+        referenceX = new double[ringsLen]; referenceY = new double[ringsLen]; referenceZ = new double[ringsLen];
+        referenceLength = new double[ringsLen];
+        perpendicularX = new double[ringsLen]; perpendicularY = new double[ringsLen]; perpendicularZ = new double[ringsLen];
+        azimuthFlipped = new boolean[ringsLen];
+
+        for (int r = 0; r < ringsLen; ++r) {
+            final AromaticRing ring = rings.get(r);
+            final Atom centroid = ring.getRingCentroid();
+            final Vector3d normal = ring.getNormalVector();
+
+            centroidX[r] = centroid.getX(); centroidY[r] = centroid.getY(); centroidZ[r] = centroid.getZ();
+            normalX[r] = normal.x; normalY[r] = normal.y; normalZ[r] = normal.z;
+            normalLength[r] = normal.length();
+            normalLengthSquared[r] = normal.lengthSquared();
+
+            final Atom anyRingAtom = ring.getAtoms()[0];
+            planeOffset[r] = -(normal.dot(new Vector3d(anyRingAtom.getCoordsAsPoint3d())));
+
+            final Vector3d reference = MathHelper.calculateVector(centroid, ring.getRingAtomForEquatorialAngle());
+            final Vector3d perpendicular = MathHelper.calculateCrossProduct(normal, reference);
+            referenceX[r] = reference.x; referenceY[r] = reference.y; referenceZ[r] = reference.z;
+            referenceLength[r] = reference.length();
+            perpendicularX[r] = perpendicular.x; perpendicularY[r] = perpendicular.y; perpendicularZ[r] = perpendicular.z;
+
+            final AminoAcidAbbreviations aminoAcidAbbr = AminoAcidAbbreviations.fromPdbName(ring.getGroup().getPDBName());
+            azimuthFlipped[r] = (aminoAcidAbbr == AminoAcidAbbreviations.PHE || aminoAcidAbbr == AminoAcidAbbreviations.TYR);
+        }
+    }
+
+    // Estimated heap footprint of the table in bytes.
+    long getFootprint() {
+        return bytesPerRing * rings.size();
+    }
+
+    int size() {
+        return rings.size();
+    }
+
+    List<AromaticRing> getRings() {
+        return rings;
+    }
+
+    AromaticRing getRing(int ringInd) {
+        return rings.get(ringInd);
+    }
+
+    int getResidue(int ringInd) {
+        return residues[ringInd];
+    }
+
+    Points getCentroids() {
+        return new Points(centroidX, centroidY, centroidZ);
+    }
+
+    // Same as Calc.getDistance between ring centroid and given point.
+    double distanceToCentroid(int ringInd, double x, double y, double z) {
+        final double dx = x - centroidX[ringInd];
+        final double dy = y - centroidY[ringInd];
+        final double dz = z - centroidZ[ringInd];
+        return Math.sqrt(dx*dx + dy*dy + dz*dz);
+    }
+
+    // Same as Calc.getDistance between centroids of both rings.
+    double distanceBetweenCentroids(int firstRingInd, int secondRingInd) {
+        return distanceToCentroid(firstRingInd, centroidX[secondRingInd], centroidY[secondRingInd], centroidZ[secondRingInd]);
+    }
+
+    // Same as angle between normal vectors computed with Vector3d.angle, in degrees.
+    double angleBetweenNormals(int firstRingInd, int secondRingInd) {
+        final double dot = normalX[firstRingInd]*normalX[secondRingInd]
+                           + normalY[firstRingInd]*normalY[secondRingInd]
+                           + normalZ[firstRingInd]*normalZ[secondRingInd];
+
+        double cosine = dot / (normalLength[firstRingInd] * normalLength[secondRingInd]);
+        if (cosine < -1.0) { cosine = -1.0; }
+        if (cosine > 1.0) { cosine = 1.0; }
+
+        return MathHelper.radiansToDegrees(Math.acos(cosine));
+    }
+
+    // Same as AromaticRing.calculatePolarAngleOfAtom.
+    double polarAngle(int ringInd, double x, double y, double z) {
+        final double vx = x - centroidX[ringInd];
+        final double vy = y - centroidY[ringInd];
+        final double vz = z - centroidZ[ringInd];
+
+        return MathHelper.radiansToDegrees(Math.acos((normalX[ringInd]*vx + normalY[ringInd]*vy + normalZ[ringInd]*vz)
+                                                     / (normalLength[ringInd] * Math.sqrt(vx*vx + vy*vy + vz*vz))));
+    }
+
+    // Same as AromaticRing.calculateElevationAngleOfAtom.
+    double elevationAngle(int ringInd, double x, double y, double z) {
+        return Math.abs(90 - this.polarAngle(ringInd, x, y, z));
+    }
+
+    // Same as AromaticRing.calculateEquatorialAngleOfAtom.
+    double equatorialAngle(int ringInd, double x, double y, double z) {
+        final double nx = normalX[ringInd], ny = normalY[ringInd], nz = normalZ[ringInd];
+
+        // Projection of the point on the ring plane.
+        final double t = - (planeOffset[ringInd] + (nx*x + ny*y + nz*z)) / normalLengthSquared[ringInd];
+        final double px = nx*t + x - centroidX[ringInd];
+        final double py = ny*t + y - centroidY[ringInd];
+        final double pz = nz*t + z - centroidZ[ringInd];
+
+        final double lengths = referenceLength[ringInd] * Math.sqrt(px*px + py*py + pz*pz);
+        final double cosine = (referenceX[ringInd]*px + referenceY[ringInd]*py + referenceZ[ringInd]*pz) / lengths;
+        final double sine = (perpendicularX[ringInd]*px + perpendicularY[ringInd]*py + perpendicularZ[ringInd]*pz) / lengths;
+
+        final double equatorialAngle;
+        if (sine >= 0) {
+            equatorialAngle = Math.acos(cosine);
+        } else {
+            equatorialAngle = 2*Math.PI - Math.acos(cosine);
+        }
+        return MathHelper.radiansToDegrees(equatorialAngle);
+    }
+
+    // Same as AromaticRing.calculateAzimuthalAngleOfAtom.
+    double azimuthalAngle(int ringInd, double x, double y, double z) {
+        double azimuthalAngle = this.equatorialAngle(ringInd, x, y, z);
+
+        if (azimuthFlipped[ringInd]) {
+            azimuthalAngle = (azimuthalAngle >= 180.0) ? azimuthalAngle - 180.0 : azimuthalAngle + 180.0;
+        }
+        return azimuthalAngle;
+    }
+}
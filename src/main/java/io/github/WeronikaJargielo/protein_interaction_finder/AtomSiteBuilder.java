@@ -0,0 +1,152 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import org.biojava.nbio.structure.Chain;
+import org.biojava.nbio.structure.Group;
+import org.biojava.nbio.structure.Structure;
+import org.biojava.nbio.structure.StructureException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// Builds structure of rows of atom_site category of mmCIF or BinaryCIF file, read one by one. As in BioJava,
+// chains are identified by label_asym_id and named by auth_asym_id, groups are named by label_comp_id and numbered
+// by auth_seq_id and pdbx_PDB_ins_code, and atoms are named by label_atom_id (auth_* and label_* fields replace
+// each other when missing). Chains are ordered as their first atoms, models by pdbx_PDB_model_num of their atoms.
+final class AtomSiteBuilder {
+
+    // Fields of atom_site category read by the builder.
+    enum Field {
+        ID, TYPE_SYMBOL, LABEL_ATOM_ID, AUTH_ATOM_ID, LABEL_ALT_ID, LABEL_COMP_ID, AUTH_COMP_ID,
+        LABEL_ASYM_ID, AUTH_ASYM_ID, LABEL_SEQ_ID, AUTH_SEQ_ID, PDBX_PDB_INS_CODE,
+        CARTN_X, CARTN_Y, CARTN_Z, OCCUPANCY, B_ISO_OR_EQUIV, PDBX_FORMAL_CHARGE, PDBX_PDB_MODEL_NUM;
+
+        // Field of given name of atom_site column (case insensitive, without category name), or null.
+        static Field fromColumnName(String columnName) {
+            try {
+                return Field.valueOf(columnName.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
+
+    // Fields without which atoms can not be built.
+    private static final Field[] requiredFields = {Field.CARTN_X, Field.CARTN_Y, Field.CARTN_Z};
+
+    // Fields of the current row of atom_site category. Getters are called only for present fields, i.e. ones
+    // in the file and not equal to . or ?.
+    interface Row {
+        // Whether the category has column of given field, regardless of its values.
+        boolean hasColumn(Field field);
+
+        boolean isPresent(Field field);
+
+        String getString(Field field) throws StructureException;
+
+        int getInt(Field field) throws StructureException;
+
+        double getDouble(Field field) throws StructureException;
+    }
+
+    private final StructureBuilder structureBuilder;
+
+    private final Map<String, Chain> chains = new LinkedHashMap<>();
+    private int modelNum;
+    private String groupAsymId;
+
+    AtomSiteBuilder(StructureBuilder structureBuilder) {
+        this.structureBuilder = structureBuilder;
+    }
+
+    StructureBuilder getStructureBuilder() {
+        return structureBuilder;
+    }
+
+    // Checks once per atom_site category, before its rows are added, that it has columns of all required fields.
+    void checkColumns(Row row) throws StructureException {
+        for (Field field : requiredFields) {
+            if ( ! row.hasColumn(field)) {
+                throw new StructureException("Missing atom_site column " + getColumnName(field));
+            }
+        }
+    }
+
+    void addAtom(Row row) throws StructureException {
+        final int atomModelNum = row.isPresent(Field.PDBX_PDB_MODEL_NUM) ? row.getInt(Field.PDBX_PDB_MODEL_NUM) : 1;
+        if (atomModelNum != modelNum && ! chains.isEmpty()) {
+            this.addModel();
+        }
+        modelNum = atomModelNum;
+
+        final String asymId = this.getString(row, Field.LABEL_ASYM_ID, Field.AUTH_ASYM_ID, "");
+        final String chainName = this.getString(row, Field.AUTH_ASYM_ID, Field.LABEL_ASYM_ID, "");
+        final int resSeq = row.isPresent(Field.AUTH_SEQ_ID) ? row.getInt(Field.AUTH_SEQ_ID)
+                         : row.isPresent(Field.LABEL_SEQ_ID) ? row.getInt(Field.LABEL_SEQ_ID) : 0;
+        final char insCode = this.getChar(row, Field.PDBX_PDB_INS_CODE);
+        if ( ! asymId.equals(groupAsymId) || ! structureBuilder.isInGroup(chainName, resSeq, insCode)) {
+            final String pdbName = this.getString(row, Field.LABEL_COMP_ID, Field.AUTH_COMP_ID, "");
+            final Group group = structureBuilder.startGroup(pdbName, chainName, resSeq, insCode);
+            chains.computeIfAbsent(asymId, id -> StructureBuilder.newChain(id, chainName)).addGroup(group);
+            groupAsymId = asymId;
+        }
+
+        final char altLoc = this.getChar(row, Field.LABEL_ALT_ID);
+        if ( ! structureBuilder.isKeptAltLoc(altLoc)) {
+            return;
+        }
+
+        final String atomName = this.getString(row, Field.LABEL_ATOM_ID, Field.AUTH_ATOM_ID, "");
+        structureBuilder.addAtom(atomName, altLoc,
+                                 row.isPresent(Field.ID) ? row.getInt(Field.ID) : 0,
+                                 this.getCoordinate(row, Field.CARTN_X),
+                                 this.getCoordinate(row, Field.CARTN_Y),
+                                 this.getCoordinate(row, Field.CARTN_Z),
+                                 row.isPresent(Field.OCCUPANCY) ? (float) row.getDouble(Field.OCCUPANCY) : 1.0f,
+                                 row.isPresent(Field.B_ISO_OR_EQUIV) ? (float) row.getDouble(Field.B_ISO_OR_EQUIV) : 0.0f,
+                                 structureBuilder.getElement(this.getString(row, Field.TYPE_SYMBOL, Field.TYPE_SYMBOL, null), atomName),
+                                 row.isPresent(Field.PDBX_FORMAL_CHARGE) ? row.getInt(Field.PDBX_FORMAL_CHARGE) : 0);
+    }
+
+    Structure build() {
+        if ( ! chains.isEmpty()) {
+            this.addModel();
+        }
+        return structureBuilder.build();
+    }
+
+    private void addModel() {
+        structureBuilder.addModel(new ArrayList<>(chains.values()));
+        chains.clear();
+        groupAsymId = null;
+    }
+
+    // Value of given field, of the other one when it is missing, or the default value when both are missing.
+    private String getString(Row row, Field field, Field otherField, String defaultValue) throws StructureException {
+        if (row.isPresent(field)) {
+            return row.getString(field);
+        }
+        return row.isPresent(otherField) ? row.getString(otherField) : defaultValue;
+    }
+
+    private double getCoordinate(Row row, Field field) throws StructureException {
+        if ( ! row.isPresent(field)) {
+            throw new StructureException("Missing value in atom_site column " + getColumnName(field));
+        }
+        return row.getDouble(field);
+    }
+
+    // Single-character value of given field, or space when it is missing.
+    private char getChar(Row row, Field field) throws StructureException {
+        if ( ! row.isPresent(field)) {
+            return ' ';
+        }
+        final String value = row.getString(field);
+        return value.isEmpty() ? ' ' : value.charAt(0);
+    }
+
+    private static String getColumnName(Field field) {
+        return field.name().toLowerCase(Locale.ROOT);
+    }
+}
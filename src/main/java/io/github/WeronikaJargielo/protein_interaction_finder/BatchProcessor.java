@@ -0,0 +1,242 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import org.biojava.nbio.structure.Structure;
+import org.biojava.nbio.structure.StructureException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * Class for identifying interactions in many protein structures (e.g. whole PDB mirror) in parallel.
+ *
+ * Files are processed concurrently by a fixed number of threads, each file by one thread.
+ * Structures are read by PdbCoordinateReader, MmcifCoordinateReader or BinaryCifCoordinateReader (depending on
+ * extension of the file), which read only coordinates of the file. Files compressed with gzip or bgzip (*.gz, e.g. as in
+ * PDB archive) are decompressed into memory by the thread processing them, so their decompression overlaps processing
+ * of other files; blocks of bgzip files are decompressed concurrently.
+ * At most maxPendingFiles files are being processed or waiting for the sink at any time, so files are listed lazily
+ * and neither structures nor results accumulate in memory when the sink is slower than processing.
+ * Failure of one file (unreadable or incorrectly formatted structure, or any other exception thrown while processing it)
+ * is reported in its result and does not affect other files.
+ */
+public final class BatchProcessor {
+
+    private static final List<String> pdbFilesExtensions = Arrays.asList(".pdb", ".ent");
+    private static final List<String> mmcifFilesExtensions = Arrays.asList(".cif", ".mmcif");
+    private static final List<String> bcifFilesExtensions = Arrays.asList(".bcif");
+
+    private final AllInteractionsCriteria criteria;
+    private final Set<InteractionType> interactionTypes;
+    private final int parallelism;
+    private final int maxPendingFiles;
+
+    /**
+     * Instantiates new BatchProcessor identifying all interactions with default criteria
+     * using as many threads as available processors.
+     */
+    public BatchProcessor() {
+        this(new AllInteractionsCriteria(), EnumSet.allOf(InteractionType.class), Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Instantiates new BatchProcessor processing at most twice as many files at once as it has threads.
+     *
+     * @param criteria         Criteria that will be used for identification of every interaction.
+     * @param interactionTypes Types of interactions to identify.
+     * @param parallelism      Number of threads processing files.
+     */
+    public BatchProcessor(AllInteractionsCriteria criteria, Set<InteractionType> interactionTypes, int parallelism) {
+        this(criteria, interactionTypes, parallelism, 2 * parallelism);
+    }
+
+    /**
+     * Instantiates new BatchProcessor.
+     *
+     * @param criteria         Criteria that will be used for identification of every interaction.
+     * @param interactionTypes Types of interactions to identify.
+     * @param parallelism      Number of threads processing files.
+     * @param maxPendingFiles  Maximal number of files being processed or waiting for the sink at once (at least parallelism).
+     */
+    public BatchProcessor(AllInteractionsCriteria criteria, Set<InteractionType> interactionTypes, int parallelism, int maxPendingFiles) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+        if (maxPendingFiles < parallelism) {
+            throw new IllegalArgumentException("Max pending files (" + maxPendingFiles + ") must not be less than parallelism (" + parallelism + ")");
+        }
+        this.criteria = Objects.requireNonNull(criteria);
+        this.interactionTypes = interactionTypes.isEmpty() ? Collections.emptySet()
+                                                           : Collections.unmodifiableSet(EnumSet.copyOf(interactionTypes));
+        this.parallelism = parallelism;
+        this.maxPendingFiles = maxPendingFiles;
+    }
+
+    /**
+     * Returns criteria used for identification of every interaction.
+     *
+     * @return Criteria used for identification of every interaction.
+     */
+    public AllInteractionsCriteria getCriteria() {
+        return criteria;
+    }
+
+    /**
+     * Returns types of identified interactions.
+     *
+     * @return Unmodifiable set of types of identified interactions.
+     */
+    public Set<InteractionType> getInteractionTypes() {
+        return interactionTypes;
+    }
+
+    /**
+     * Returns number of threads processing files.
+     *
+     * @return Number of threads processing files.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Returns maximal number of files being processed or waiting for the sink at once.
+     *
+     * @return Maximal number of files being processed or waiting for the sink at once.
+     */
+    public int getMaxPendingFiles() {
+        return maxPendingFiles;
+    }
+
+    /**
+     * Identifies interactions in all structure files (*.pdb, *.ent, *.cif, *.mmcif and *.bcif, also compressed as *.gz)
+     * found in given directory and its subdirectories.
+     * @see #process(Iterable, BatchResultSink)
+     *
+     * @param directory Directory containing structure files.
+     * @param sink      Receiver of results of every file.
+     * @return Summary of processed batch.
+     * @throws IOException          Directory could not be listed or the sink failed.
+     * @throws InterruptedException Calling thread was interrupted; files being processed are abandoned.
+     */
+    public BatchReport processDirectory(Path directory, BatchResultSink sink) throws IOException, InterruptedException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            final Iterable<Path> structureFiles = files.filter(Files::isRegularFile)
+                                                       .filter(BatchProcessor::isStructureFile)
+                                                       ::iterator;
+            return this.process(structureFiles, sink);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Identifies interactions in given structure files.
+     * Files are taken from given iterable only when there is room for them, so it can be lazy (e.g. lines of a file list).
+     * Result of every file is passed to the sink as soon as the file is processed.
+     *
+     * @param files Structure files.
+     * @param sink  Receiver of results of every file.
+     * @return Summary of processed batch.
+     * @throws IOException          The sink failed; processing of remaining files is stopped.
+     * @throws InterruptedException Calling thread was interrupted; files being processed are abandoned.
+     */
+    public BatchReport process(Iterable<Path> files, BatchResultSink sink) throws IOException, InterruptedException {
+        Objects.requireNonNull(sink);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        final Semaphore pendingFiles = new Semaphore(maxPendingFiles);
+        final Object sinkLock = new Object();
+        final AtomicLong filesCount = new AtomicLong();
+        final AtomicLong failedFilesCount = new AtomicLong();
+        // Failure of the sink (or error of JVM) stops the whole batch, unlike failures of single files.
+        final AtomicReference<Throwable> batchFailure = new AtomicReference<>();
+
+        final long start = System.nanoTime();
+        try {
+            for (Path file : files) {
+                // Waiting here when maxPendingFiles are in progress is what keeps the memory bounded.
+                pendingFiles.acquire();
+                if (batchFailure.get() != null) {
+                    break;
+                }
+                executor.execute(() -> {
+                    try {
+                        final BatchResult result = this.processFile(file);
+                        synchronized (sinkLock) {
+                            if (batchFailure.get() == null) {
+                                sink.accept(result);
+                                filesCount.incrementAndGet();
+                                if ( ! result.isSuccessful()) {
+                                    failedFilesCount.incrementAndGet();
+                                }
+                            }
+                        }
+                    } catch (Throwable e) {
+                        batchFailure.compareAndSet(null, e);
+                    } finally {
+                        pendingFiles.release();
+                    }
+                });
+            }
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        final long elapsedNanos = System.nanoTime() - start;
+
+        final Throwable failure = batchFailure.get();
+        if (failure instanceof IOException) {
+            throw (IOException) failure;
+        } else if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        return new BatchReport(filesCount.get(), failedFilesCount.get(), elapsedNanos);
+    }
+
+    private BatchResult processFile(Path file) {
+        try {
+            final PdbStructureParser pdbStructureParser = new PdbStructureParser(readStructure(file));
+            final AllInteractionsFinder allInteractionsFinder = new AllInteractionsFinder(pdbStructureParser);
+            return new BatchResult(file, allInteractionsFinder.findAllInteractions(criteria, interactionTypes), null);
+        } catch (Exception e) {
+            return new BatchResult(file, null, e);
+        }
+    }
+
+    private static Structure readStructure(Path file) throws IOException, StructureException {
+        if (hasExtension(file, mmcifFilesExtensions)) {
+            return MmcifCoordinateReader.read(file);
+        } else if (hasExtension(file, bcifFilesExtensions)) {
+            return BinaryCifCoordinateReader.read(file);
+        }
+        return PdbCoordinateReader.read(file);
+    }
+
+    private static boolean isStructureFile(Path file) {
+        return hasExtension(file, pdbFilesExtensions) || hasExtension(file, mmcifFilesExtensions) || hasExtension(file, bcifFilesExtensions);
+    }
+
+    private static boolean hasExtension(Path file, List<String> extensions) {
+        final String fileName = StructureFiles.getUncompressedName(file).toLowerCase(Locale.ROOT);
+        return extensions.stream().anyMatch(fileName::endsWith);
+    }
+}
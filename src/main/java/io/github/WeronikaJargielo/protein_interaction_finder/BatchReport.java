@@ -0,0 +1,78 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Class representing summary of batch processed by BatchProcessor.
+ */
+public final class BatchReport {
+
+    private final long filesCount;
+    private final long failedFilesCount;
+    private final long elapsedNanos;
+
+    BatchReport(long filesCount, long failedFilesCount, long elapsedNanos) {
+        this.filesCount = filesCount;
+        this.failedFilesCount = failedFilesCount;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns number of processed files (including failed ones).
+     *
+     * @return Number of processed files.
+     */
+    public long getFilesCount() {
+        return filesCount;
+    }
+
+    /**
+     * Returns number of files which processing failed.
+     *
+     * @return Number of files which processing failed.
+     */
+    public long getFailedFilesCount() {
+        return failedFilesCount;
+    }
+
+    /**
+     * Returns wall-clock time of processing the whole batch in nanoseconds.
+     *
+     * @return Wall-clock time of processing the whole batch in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns throughput of processing.
+     *
+     * @return Number of processed files per second of wall-clock time.
+     */
+    public double getFilesPerSecond() {
+        return (elapsedNanos == 0) ? 0.0 : filesCount / (elapsedNanos / 1e9);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BatchReport that = (BatchReport) o;
+        return filesCount == that.filesCount && failedFilesCount == that.failedFilesCount && elapsedNanos == that.elapsedNanos;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(filesCount, failedFilesCount, elapsedNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "BatchReport: " +
+                "filesCount = " + filesCount +
+                ",\tfailedFilesCount = " + failedFilesCount +
+                ",\telapsedSeconds = " + String.format(Locale.ROOT, "%.3f", elapsedNanos / 1e9) +
+                ",\tfilesPerSecond = " + String.format(Locale.ROOT, "%.2f", getFilesPerSecond());
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Class representing result of identifying interactions in one file processed by BatchProcessor:
+ * either identified interactions or failure which prevented identifying them.
+ */
+public final class BatchResult {
+
+    private final Path file;
+    private final AllInteractions interactions;
+    private final Exception failure;
+
+    BatchResult(Path file, AllInteractions interactions, Exception failure) {
+        this.file = file;
+        this.interactions = interactions;
+        this.failure = failure;
+    }
+
+    /**
+     * Returns processed file.
+     *
+     * @return Processed file.
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Returns whether interactions were identified successfully.
+     *
+     * @return True if interactions were identified, false if processing of the file failed.
+     */
+    public boolean isSuccessful() {
+        return failure == null;
+    }
+
+    /**
+     * Returns identified interactions. Lists of interaction types which were not requested are empty.
+     *
+     * @return Identified interactions or null if processing of the file failed.
+     */
+    public AllInteractions getInteractions() {
+        return interactions;
+    }
+
+    /**
+     * Returns exception which caused processing of the file to fail
+     * (e.g. IOException if the file could not be read, StructureException if it is incorrectly formatted).
+     *
+     * @return Exception which caused processing of the file to fail or null if interactions were identified.
+     */
+    public Exception getFailure() {
+        return failure;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BatchResult that = (BatchResult) o;
+        return file.equals(that.file) && Objects.equals(interactions, that.interactions) && Objects.equals(failure, that.failure);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(file, interactions, failure);
+    }
+
+    @Override
+    public String toString() {
+        return file + "\t" + (isSuccessful() ? interactions : "Failed: " + failure);
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import java.io.IOException;
+
+/**
+ * Receiver of results streamed by BatchProcessor as soon as each file is processed.
+ * Results are delivered one at a time (never concurrently), in order of completion, so implementations need not be thread-safe.
+ * Slow sink slows down processing instead of letting results accumulate in memory.
+ */
+@FunctionalInterface
+public interface BatchResultSink {
+
+    /**
+     * Receives result of processing one file.
+     *
+     * @param result Result of processing one file.
+     * @throws IOException Result could not be stored; it stops the whole batch.
+     */
+    void accept(BatchResult result) throws IOException;
+}
@@ -0,0 +1,396 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import org.biojava.nbio.structure.Structure;
+import org.biojava.nbio.structure.StructureException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Class for reading protein structures from BinaryCIF files faster and into less memory than BioJava does.
+ * The file is memory-mapped (or decompressed into memory when it is compressed with gzip or bgzip) and only columns of atom_site category of its first data block needed for identification
+ * of interactions are decoded (all other categories and columns are skipped), each into a primitive or string array.
+ * Supported are all column encodings of BinaryCIF: ByteArray, FixedPoint, IntervalQuantization, RunLength, Delta,
+ * IntegerPacking and StringArray. Fixed-point numbers (e.g. coordinates) are decoded by division by their factor,
+ * so they are the same as numbers written in PDB and mmCIF files.
+ * Returned BioJava Structure contains the same models, chains, groups and atoms as one read by MmcifCoordinateReader.
+ * @see io.github.WeronikaJargielo.protein_interaction_finder.MmcifCoordinateReader
+ * @see io.github.WeronikaJargielo.protein_interaction_finder.ProteinInteractionFinder#ProteinInteractionFinder(Structure)
+ */
+public final class BinaryCifCoordinateReader {
+
+    private static final String atomSiteCategory = "_atom_site";
+
+    // Types of ByteArray encoding.
+    private static final int int8 = 1, int16 = 2, int32 = 3, uint8 = 4, uint16 = 5, uint32 = 6, float32 = 32, float64 = 33;
+
+    private BinaryCifCoordinateReader() {
+    }
+
+    /**
+     * Reads protein structure from given BinaryCIF file.
+     *
+     * @param bcifFile Path to BinaryCIF file, possibly compressed with gzip or bgzip.
+     * @return BioJava Structure object containing coordinates of protein.
+     * @throws IOException        Probably given BinaryCIF file does not exist.
+     * @throws StructureException Probably given BinaryCIF file is incorrectly formatted.
+     */
+    public static Structure read(Path bcifFile) throws IOException, StructureException {
+        return read(StructureFiles.read(bcifFile), bcifFile.getFileName().toString());
+    }
+
+    // Reads structure from remaining bytes of given buffer (e.g. of decompressed file), naming it with given name.
+    static Structure read(ByteBuffer bcifFile, String name) throws StructureException {
+        final MessagePackReader reader = new MessagePackReader(bcifFile);
+        final AtomSiteBuilder atomSiteBuilder = new AtomSiteBuilder(new StructureBuilder(name));
+        final int fileEntriesCount = reader.readMapHeader();
+        for (int i = 0; i < fileEntriesCount; ++i) {
+            if ( ! reader.readString().equals("dataBlocks")) {
+                reader.skipValue();
+                continue;
+            }
+            if (reader.readArrayHeader() > 0) {
+                readDataBlock(reader, atomSiteBuilder);
+            }
+            break;
+        }
+        return atomSiteBuilder.build();
+    }
+
+    private static void readDataBlock(MessagePackReader reader, AtomSiteBuilder atomSiteBuilder) throws StructureException {
+        final int blockEntriesCount = reader.readMapHeader();
+        for (int i = 0; i < blockEntriesCount; ++i) {
+            if ( ! reader.readString().equals("categories")) {
+                reader.skipValue();
+                continue;
+            }
+            final int categoriesCount = reader.readArrayHeader();
+            for (int category = 0; category < categoriesCount; ++category) {
+                final Map<String, Object> atomSite = readAtomSiteCategory(reader);
+                if (atomSite != null) {
+                    readAtomSite(atomSite, atomSiteBuilder);
+                    return;
+                }
+            }
+            return;
+        }
+    }
+
+    // Entries of category starting at current position if it is atom_site, otherwise null (and the category is skipped).
+    private static Map<String, Object> readAtomSiteCategory(MessagePackReader reader) throws StructureException {
+        final Map<String, Object> category = new HashMap<>();
+        final int entriesCount = reader.readMapHeader();
+        for (int i = 0; i < entriesCount; ++i) {
+            final String key = reader.readString();
+            final Object value = reader.readValue();
+            if (key.equals("name") && ! atomSiteCategory.equalsIgnoreCase(String.valueOf(value))) {
+                for (int j = i + 1; j < entriesCount; ++j) {
+                    reader.skipValue();
+                    reader.skipValue();
+                }
+                return null;
+            }
+            category.put(key, value);
+        }
+        return category.containsKey("name") ? category : null;
+    }
+
+    private static void readAtomSite(Map<String, Object> atomSite, AtomSiteBuilder atomSiteBuilder) throws StructureException {
+        final int rowsCount = get(atomSite, "rowCount", Number.class).intValue();
+        final ColumnRow row = new ColumnRow(atomSiteBuilder.getStructureBuilder());
+        for (Object column : get(atomSite, "columns", List.class)) {
+            final Map<?, ?> columnMap = get(column, Map.class);
+            final AtomSiteBuilder.Field field = AtomSiteBuilder.Field.fromColumnName(get(columnMap, "name", String.class));
+            if (field == null) {
+                continue;
+            }
+            final Object values = decode(get(columnMap, "data", Map.class));
+            // Columns without mask may have it null or empty.
+            final Object mask = columnMap.get("mask");
+            final boolean hasMask = mask != null && ! get(mask, Map.class).isEmpty();
+            row.setColumn(field, values, hasMask ? get(decode(get(mask, Map.class)), int[].class) : null, rowsCount);
+        }
+        atomSiteBuilder.checkColumns(row);
+        for (int r = 0; r < rowsCount; ++r) {
+            row.index = r;
+            atomSiteBuilder.addAtom(row);
+        }
+    }
+
+    // Values of column (int[], double[] or String[]) decoded from given encoded data.
+    private static Object decode(Map<?, ?> encodedData) throws StructureException {
+        return decode(get(encodedData, "data", ByteBuffer.class), get(encodedData, "encoding", List.class));
+    }
+
+    // Data decoded by given encodings, applied in reverse order.
+    private static Object decode(Object data, List<?> encodings) throws StructureException {
+        Object decodedData = data;
+        for (int i = encodings.size() - 1; i >= 0; --i) {
+            decodedData = decodeStep(decodedData, get(encodings.get(i), Map.class));
+        }
+        return decodedData;
+    }
+
+    private static Object decodeStep(Object data, Map<?, ?> encoding) throws StructureException {
+        final String kind = get(encoding, "kind", String.class);
+        switch (kind) {
+            case "ByteArray":
+                return decodeByteArray(get(data, ByteBuffer.class), get(encoding, "type", Number.class).intValue());
+            case "FixedPoint": {
+                final int[] input = get(data, int[].class);
+                final double factor = get(encoding, "factor", Number.class).doubleValue();
+                final double[] output = new double[input.length];
+                for (int i = 0; i < input.length; ++i) {
+                    output[i] = input[i] / factor;
+                }
+                return output;
+            }
+            case "IntervalQuantization": {
+                final int[] input = get(data, int[].class);
+                final double min = get(encoding, "min", Number.class).doubleValue();
+                final double max = get(encoding, "max", Number.class).doubleValue();
+                final int stepsCount = get(encoding, "numSteps", Number.class).intValue();
+                final double delta = (max - min) / (stepsCount - 1);
+                final double[] output = new double[input.length];
+                for (int i = 0; i < input.length; ++i) {
+                    output[i] = min + delta * input[i];
+                }
+                return output;
+            }
+            case "RunLength": {
+                final int[] input = get(data, int[].class);
+                final int[] output = new int[get(encoding, "srcSize", Number.class).intValue()];
+                int o = 0;
+                for (int i = 0; i + 1 < input.length; i += 2) {
+                    if (input[i + 1] < 0 || input[i + 1] > output.length - o) {
+                        throw new StructureException("Incorrect BinaryCIF run length: " + input[i + 1]);
+                    }
+                    for (int run = 0; run < input[i + 1]; ++run) {
+                        output[o++] = input[i];
+                    }
+                }
+                return output;
+            }
+            case "Delta": {
+                final int[] input = get(data, int[].class);
+                final int[] output = new int[input.length];
+                int value = get(encoding, "origin", Number.class).intValue();
+                for (int i = 0; i < input.length; ++i) {
+                    value += input[i];
+                    output[i] = value;
+                }
+                return output;
+            }
+            case "IntegerPacking":
+                return decodeIntegerPacking(get(data, int[].class), get(encoding, "byteCount", Number.class).intValue(),
+                                            get(encoding, "isUnsigned", Boolean.class),
+                                            get(encoding, "srcSize", Number.class).intValue());
+            case "StringArray": {
+                final String stringData = get(encoding, "stringData", String.class);
+                final int[] offsets = get(decode(get(encoding, "offsets", ByteBuffer.class),
+                                                 get(encoding, "offsetEncoding", List.class)), int[].class);
+                final String[] strings = new String[Math.max(offsets.length - 1, 0)];
+                for (int s = 0; s < strings.length; ++s) {
+                    if (offsets[s] < 0 || offsets[s] > offsets[s + 1] || offsets[s + 1] > stringData.length()) {
+                        throw new StructureException("Incorrect BinaryCIF string offset: " + offsets[s + 1]);
+                    }
+                    strings[s] = stringData.substring(offsets[s], offsets[s + 1]);
+                }
+                final int[] dataIndices = get(decode(data, get(encoding, "dataEncoding", List.class)), int[].class);
+                final String[] output = new String[dataIndices.length];
+                for (int i = 0; i < dataIndices.length; ++i) {
+                    if (dataIndices[i] >= strings.length) {
+                        throw new StructureException("Incorrect BinaryCIF string index: " + dataIndices[i]);
+                    }
+                    output[i] = (dataIndices[i] < 0) ? null : strings[dataIndices[i]];
+                }
+                return output;
+            }
+            default:
+                throw new StructureException("Unsupported BinaryCIF encoding: " + kind);
+        }
+    }
+
+    private static Object decodeByteArray(ByteBuffer data, int type) throws StructureException {
+        final ByteBuffer bytes = data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        switch (type) {
+            case int8: case uint8: {
+                final int[] output = new int[bytes.remaining()];
+                for (int i = 0; i < output.length; ++i) {
+                    output[i] = (type == int8) ? bytes.get(i) : bytes.get(i) & 0xff;
+                }
+                return output;
+            }
+            case int16: case uint16: {
+                final int[] output = new int[bytes.remaining() / 2];
+                for (int i = 0; i < output.length; ++i) {
+                    output[i] = (type == int16) ? bytes.getShort(2 * i) : bytes.getShort(2 * i) & 0xffff;
+                }
+                return output;
+            }
+            case int32: case uint32: {
+                final int[] output = new int[bytes.remaining() / 4];
+                for (int i = 0; i < output.length; ++i) {
+                    output[i] = bytes.getInt(4 * i);
+                }
+                return output;
+            }
+            case float32: {
+                final double[] output = new double[bytes.remaining() / 4];
+                for (int i = 0; i < output.length; ++i) {
+                    output[i] = bytes.getFloat(4 * i);
+                }
+                return output;
+            }
+            case float64: {
+                final double[] output = new double[bytes.remaining() / 8];
+                for (int i = 0; i < output.length; ++i) {
+                    output[i] = bytes.getDouble(8 * i);
+                }
+                return output;
+            }
+            default:
+                throw new StructureException("Unsupported BinaryCIF data type: " + type);
+        }
+    }
+
+    // Integers packed into 1 or 2 bytes: values equal to the limits of packed type are added to the following ones.
+    private static int[] decodeIntegerPacking(int[] input, int byteCount, boolean isUnsigned, int srcSize) throws StructureException {
+        final int upperLimit = isUnsigned ? (byteCount == 1 ? 0xff : 0xffff) : (byteCount == 1 ? 0x7f : 0x7fff);
+        final int lowerLimit = isUnsigned ? 0 : -upperLimit - 1;
+        final int[] output = new int[srcSize];
+        int o = 0;
+        for (int i = 0; i < input.length; ++i) {
+            int value = 0;
+            while (i < input.length && (input[i] == upperLimit || (input[i] == lowerLimit && ! isUnsigned))) {
+                value += input[i++];
+            }
+            if (i < input.length) {
+                value += input[i];
+            }
+            if (o == srcSize) {
+                throw new StructureException("Incorrect BinaryCIF packed integers count");
+            }
+            output[o++] = value;
+        }
+        return output;
+    }
+
+    private static <T> T get(Map<?, ?> map, String key, Class<T> valueClass) throws StructureException {
+        final Object value = map.get(key);
+        if ( ! valueClass.isInstance(value)) {
+            throw new StructureException("Missing or incorrect BinaryCIF entry: " + key);
+        }
+        return valueClass.cast(value);
+    }
+
+    private static <T> T get(Object value, Class<T> valueClass) throws StructureException {
+        if ( ! valueClass.isInstance(value)) {
+            throw new StructureException("Incorrect BinaryCIF value, " + valueClass.getSimpleName() + " expected");
+        }
+        return valueClass.cast(value);
+    }
+
+    // Row of atom_site category, with decoded columns of every field (null when there is no such column).
+    private static final class ColumnRow implements AtomSiteBuilder.Row {
+        private final StructureBuilder structureBuilder;
+        private final Object[] columns = new Object[AtomSiteBuilder.Field.values().length];
+        private final int[][] masks = new int[columns.length][];
+        private int index;
+
+        private ColumnRow(StructureBuilder structureBuilder) {
+            this.structureBuilder = structureBuilder;
+        }
+
+        void setColumn(AtomSiteBuilder.Field field, Object values, int[] mask, int rowsCount) throws StructureException {
+            final int valuesCount;
+            if (values instanceof int[]) {
+                valuesCount = ((int[]) values).length;
+            } else if (values instanceof double[]) {
+                valuesCount = ((double[]) values).length;
+            } else if (values instanceof String[]) {
+                valuesCount = ((String[]) values).length;
+            } else {
+                throw new StructureException("Undecoded column " + this.getColumnName(field) + " of atom_site category");
+            }
+            if (valuesCount < rowsCount || (mask != null && mask.length < rowsCount)) {
+                throw new StructureException("Too few values in column " + this.getColumnName(field) + " of atom_site category");
+            }
+            if (values instanceof String[]) {
+                final String[] strings = (String[]) values;
+                for (int i = 0; i < strings.length; ++i) {
+                    strings[i] = (strings[i] == null) ? null : structureBuilder.share(strings[i]);
+                }
+            }
+            columns[field.ordinal()] = values;
+            masks[field.ordinal()] = mask;
+        }
+
+        @Override
+        public boolean hasColumn(AtomSiteBuilder.Field field) {
+            return columns[field.ordinal()] != null;
+        }
+
+        @Override
+        public boolean isPresent(AtomSiteBuilder.Field field) {
+            final Object column = columns[field.ordinal()];
+            final int[] mask = masks[field.ordinal()];
+            return column != null && (mask == null || mask[index] == 0)
+                   && ! (column instanceof String[] && ((String[]) column)[index] == null);
+        }
+
+        @Override
+        public String getString(AtomSiteBuilder.Field field) {
+            final Object column = columns[field.ordinal()];
+            if (column instanceof String[]) {
+                return ((String[]) column)[index];
+            }
+            return structureBuilder.share((column instanceof int[]) ? Integer.toString(((int[]) column)[index])
+                                                                    : Double.toString(((double[]) column)[index]));
+        }
+
+        @Override
+        public int getInt(AtomSiteBuilder.Field field) throws StructureException {
+            final Object column = columns[field.ordinal()];
+            if (column instanceof int[]) {
+                return ((int[]) column)[index];
+            } else if (column instanceof double[]) {
+                return (int) ((double[]) column)[index];
+            }
+            try {
+                return Integer.parseInt(((String[]) column)[index].trim());
+            } catch (NumberFormatException e) {
+                throw incorrectNumber(field);
+            }
+        }
+
+        @Override
+        public double getDouble(AtomSiteBuilder.Field field) throws StructureException {
+            final Object column = columns[field.ordinal()];
+            if (column instanceof double[]) {
+                return ((double[]) column)[index];
+            } else if (column instanceof int[]) {
+                return ((int[]) column)[index];
+            }
+            try {
+                return Double.parseDouble(((String[]) column)[index].trim());
+            } catch (NumberFormatException e) {
+                throw incorrectNumber(field);
+            }
+        }
+
+        private StructureException incorrectNumber(AtomSiteBuilder.Field field) {
+            return new StructureException("Incorrect number in column " + this.getColumnName(field) + " of atom_site category, row " + (index + 1));
+        }
+
+        private String getColumnName(AtomSiteBuilder.Field field) {
+            return field.name().toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import java.util.Arrays;
+
+// Uniform grid (cell list) over a set of points, used by the finders to enumerate only candidates lying within
+// the cutoff of their criteria instead of comparing every participant with every other one.
+// Neighbour queries are conservative: every point within the radius is returned (plus possibly a few lying
+// on the boundary), so the exact criteria check is still done by the finders themselves.
+// Points may be stored in single precision, halving memory traffic of queries; the radius is then widened
+// by the single-precision error, so queries remain conservative.
+final class CellList {
+
+    // Grids never have more than about two cells per point, so sparse sets do not allocate huge grids.
+    private static final double maxCellsPerPoint = 2.0;
+    private static final double minCellEdge = 1e-3;
+    private static final double radiusTolerance = 1e-9;
+
+    private final double minX, minY, minZ;
+    private final double cellEdge;
+    private final int cellsX, cellsY, cellsZ;
+
+    // Points sorted by cell; points of cell c are stored in [cellStart[c], cellStart[c + 1]).
+    private final int[] cellStart;
+    private final int[] pointIndices;
+    // Coordinates of sorted points, in double or (when enabled) single precision; the other arrays are null.
+    private final double[] xs, ys, zs;
+    private final float[] xsf, ysf, zsf;
+    private final double maxAbsCoordinate;
+
+    CellList(double[] x, double[] y, double[] z, double cutoff) {
+        this(x, y, z, cutoff, false);
+    }
+
+    CellList(double[] x, double[] y, double[] z, double cutoff, boolean singlePrecision) {
+        final int pointsLen = x.length;
+
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY, minZ = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY, maxZ = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < pointsLen; ++i) {
+            minX = Math.min(minX, x[i]); maxX = Math.max(maxX, x[i]);
+            minY = Math.min(minY, y[i]); maxY = Math.max(maxY, y[i]);
+            minZ = Math.min(minZ, z[i]); maxZ = Math.max(maxZ, z[i]);
+        }
+        if (pointsLen == 0) {
+            minX = minY = minZ = maxX = maxY = maxZ = 0.0;
+        }
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxAbsCoordinate = Math.max(Math.max(Math.max(-minX, maxX), Math.max(-minY, maxY)), Math.max(-minZ, maxZ));
+
+        final double extentX = maxX - minX, extentY = maxY - minY, extentZ = maxZ - minZ;
+        this.cellEdge = chooseCellEdge(cutoff, extentX, extentY, extentZ, pointsLen);
+        this.cellsX = cellsAlong(extentX, cellEdge);
+        this.cellsY = cellsAlong(extentY, cellEdge);
+        this.cellsZ = cellsAlong(extentZ, cellEdge);
+
+        // Counting sort of points by their cells, stable with respect to point indices.
+        final int[] cellOfPoint = new int[pointsLen];
+        this.cellStart = new int[cellsX * cellsY * cellsZ + 1];
+        for (int i = 0; i < pointsLen; ++i) {
+            cellOfPoint[i] = cellIndex(cellCoordinate(x[i], minX, cellsX), cellCoordinate(y[i], minY, cellsY), cellCoordinate(z[i], minZ, cellsZ));
+            ++cellStart[cellOfPoint[i] + 1];
+        }
+        for (int c = 1; c < cellStart.length; ++c) {
+            cellStart[c] += cellStart[c - 1];
+        }
+
+        final int[] nextFree = Arrays.copyOf(cellStart, cellStart.length - 1);
+        this.pointIndices = new int[pointsLen];
+        for (int i = 0; i < pointsLen; ++i) {
+            pointIndices[nextFree[cellOfPoint[i]]++] = i;
+        }
+
+        this.xs = singlePrecision ? null : new double[pointsLen];
+        this.ys = singlePrecision ? null : new double[pointsLen];
+        this.zs = singlePrecision ? null : new double[pointsLen];
+        this.xsf = singlePrecision ? new float[pointsLen] : null;
+        this.ysf = singlePrecision ? new float[pointsLen] : null;
+        this.zsf = singlePrecision ? new float[pointsLen] : null;
+        for (int position = 0; position < pointsLen; ++position) {
+            final int i = pointIndices[position];
+            if (singlePrecision) {
+                xsf[position] = (float) x[i];
+                ysf[position] = (float) y[i];
+                zsf[position] = (float) z[i];
+            } else {
+                xs[position] = x[i];
+                ys[position] = y[i];
+                zs[position] = z[i];
+            }
+        }
+    }
+
+    int size() {
+        return pointIndices.length;
+    }
+
+    // Returns indices (in ascending order) of points lying within given radius from given position.
+    int[] findNeighbors(double x, double y, double z, double radius) {
+        // Negative radius cannot be satisfied by any distance.
+        if ( ! (radius >= 0) || pointIndices.length == 0) {
+            return new int[0];
+        }
+
+        int[] found = new int[16];
+        int foundLen = 0;
+
+        final int fromX = firstCell(x - radius, minX), toX = lastCell(x + radius, minX, cellsX);
+        final int fromY = firstCell(y - radius, minY), toY = lastCell(y + radius, minY, cellsY);
+        final int fromZ = firstCell(z - radius, minZ), toZ = lastCell(z + radius, minZ, cellsZ);
+        if (fromZ > toZ) {
+            return new int[0];
+        }
+        final double radiusSquared = radius * radius * (1 + radiusTolerance) + radiusTolerance;
+
+        // Single-precision distance differs from the exact one by at most a few ulps of the largest coordinate
+        // (see CoordinateTable.singlePrecisionToleranceOf) plus its relative rounding.
+        final double singlePrecisionRadius = (radius + 8 * Math.ulp((float) Math.max(maxAbsCoordinate,
+                                                                                     Math.max(Math.abs(x), Math.max(Math.abs(y), Math.abs(z))))))
+                                             * (1 + 1e-6);
+        final float radiusSquaredFloat = (float) (singlePrecisionRadius * singlePrecisionRadius);
+        final float xf = (float) x, yf = (float) y, zf = (float) z;
+
+        for (int cx = fromX; cx <= toX; ++cx) {
+            for (int cy = fromY; cy <= toY; ++cy) {
+                // Cells along z axis are adjacent in memory, so their points form one run checked by one kernel call.
+                final int from = cellStart[cellIndex(cx, cy, fromZ)];
+                final int to = cellStart[cellIndex(cx, cy, toZ) + 1];
+                if (found.length - foundLen < to - from) {
+                    found = Arrays.copyOf(found, Math.max(2 * found.length, foundLen + to - from));
+                }
+                foundLen = (xsf != null)
+                           ? NeighborKernel.collectWithin(xsf, ysf, zsf, from, to, xf, yf, zf, radiusSquaredFloat, pointIndices, found, foundLen)
+                           : NeighborKernel.collectWithin(xs, ys, zs, from, to, x, y, z, radiusSquared, pointIndices, found, foundLen);
+            }
+        }
+
+        // Ascending order keeps results in the same order as exhaustive pairwise comparison.
+        Arrays.sort(found, 0, foundLen);
+        return Arrays.copyOf(found, foundLen);
+    }
+
+    private static double chooseCellEdge(double cutoff, double extentX, double extentY, double extentZ, int pointsLen) {
+        final double maxCells = maxCellsPerPoint * pointsLen + 1;
+
+        double edge = (cutoff > minCellEdge) ? cutoff : minCellEdge;
+        while ((Math.floor(extentX / edge) + 1) * (Math.floor(extentY / edge) + 1) * (Math.floor(extentZ / edge) + 1) > maxCells
+               && edge < Double.MAX_VALUE) {
+            edge *= 1.5;
+        }
+        return edge;
+    }
+
+    private static int cellsAlong(double extent, double cellEdge) {
+        final double cells = Math.floor(extent / cellEdge) + 1;
+        return (cells < Integer.MAX_VALUE) ? (int) cells : Integer.MAX_VALUE;
+    }
+
+    private int cellCoordinate(double coordinate, double min, int cells) {
+        final int cell = (int) ((coordinate - min) / cellEdge);
+        return Math.max(0, Math.min(cells - 1, cell));
+    }
+
+    private int firstCell(double coordinate, double min) {
+        return (int) Math.max(0.0, Math.floor((coordinate - min) / cellEdge));
+    }
+
+    private int lastCell(double coordinate, double min, int cells) {
+        return (int) Math.min(cells - 1, Math.floor((coordinate - min) / cellEdge));
+    }
+
+    private int cellIndex(int cx, int cy, int cz) {
+        return (cx * cellsY + cy) * cellsZ + cz;
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+/**
+ * Precision of geometry used for screening candidates for interactions.
+ * Found interactions and their measures are the same in both, as candidates passing the screening
+ * (including those close to boundaries of criteria) are always checked and measured in double precision.
+ */
+public enum ComputePrecision {
+    /**
+     * Candidates are screened in double precision
+     */
+    DOUBLE,
+    /**
+     * Coordinates are additionally stored in single precision and candidates are screened in it, which halves memory
+     * traffic of neighbour searches and replaces most angle computations by comparisons of cosines
+     */
+    SINGLE
+}
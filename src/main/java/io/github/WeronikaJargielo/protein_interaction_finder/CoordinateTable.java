@@ -0,0 +1,306 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import org.biojava.nbio.structure.Atom;
+import org.biojava.nbio.structure.Group;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+// Structure-of-arrays copy of atoms indexed by ResidueIndex: coordinates, residue, role and chain of every atom
+// are stored in primitive arrays, so finders can run their geometry without touching BioJava objects.
+// BioJava atoms and amino acids are created only for accepted interactions.
+// Distance and angle kernels perform exactly the same arithmetic as Calc.getDistance and MathHelper.angle.
+// Optionally coordinates are also stored in single precision, to screen out candidates by cheaper kernels
+// (see mayHaveDistanceWithin and mayHaveAngleWithin) before they are checked in double precision.
+final class CoordinateTable {
+
+    // Atom role codes: bit 0 marks hydrogen atoms, bit 1 marks main chain atoms.
+    static final byte sideChainHeavyAtomRole = 0;
+    static final byte sideChainHydrogenRole = 1;
+    static final byte mainChainHeavyAtomRole = 2;
+    static final byte mainChainHydrogenRole = 3;
+
+    private static final Set<String> mainChainAtomsNames = new HashSet<>(Arrays.asList("N", "CA", "C", "O", "OXT",
+                                                                                       "H", "H1", "H2", "H3",
+                                                                                       "HA", "HA2", "HA3"));
+
+    private final ResidueIndex residueIndex;
+
+    private final double[] x, y, z;
+    // Single-precision copy of coordinates, null unless enabled, and bound on error of single-precision
+    // differences of coordinates (both rounding of coordinates and of their subtraction).
+    private final float[] xf, yf, zf;
+    private final double singlePrecisionTolerance;
+    private final int[] residueOfAtom;
+    private final byte[] atomRoles;
+    private final int[] chainOfAtom;
+
+    private final int[] residueNumbers;
+    private final String[] chainIds;
+
+    CoordinateTable(ResidueIndex residueIndex, boolean singlePrecision) {
+        this.residueIndex = residueIndex;
+
+        final int atomsLen = residueIndex.getAtomsCount();
+        final int residuesLen = residueIndex.getResiduesCount();
+        x = new double[atomsLen];
+        y = new double[atomsLen];
+        z = new double[atomsLen];
+        residueOfAtom = new int[atomsLen];
+        atomRoles = new byte[atomsLen];
+        chainOfAtom = new int[atomsLen];
+        residueNumbers = new int[residuesLen];
+
+        // Chains are indexed by their IDs, so atoms have equal chain index exactly when they have equal chain ID.
+        final Map<String, Integer> chainIndices = new HashMap<>();
+        for (int r = 0; r < residuesLen; ++r) {
+            final Group residue = residueIndex.getResidue(r);
+            final Integer chainInd = chainIndices.computeIfAbsent(residue.getChain().getName(), name -> chainIndices.size());
+            residueNumbers[r] = residue.getResidueNumber().getSeqNum();
+
+            for (int a = residueIndex.getResidueAtomStart(r); a < residueIndex.getResidueAtomStart(r + 1); ++a) {
+                final Atom atom = residueIndex.getAtom(a);
+                x[a] = atom.getX();
+                y[a] = atom.getY();
+                z[a] = atom.getZ();
+                residueOfAtom[a] = r;
+                atomRoles[a] = roleOf(atom.getName());
+                chainOfAtom[a] = chainInd;
+            }
+        }
+
+        chainIds = new String[chainIndices.size()];
+        chainIndices.forEach((chainId, chainInd) -> chainIds[chainInd] = chainId);
+
+        xf = singlePrecision ? toFloats(x) : null;
+        yf = singlePrecision ? toFloats(y) : null;
+        zf = singlePrecision ? toFloats(z) : null;
+        singlePrecisionTolerance = singlePrecision ? singlePrecisionToleranceOf(x, y, z) : 0.0;
+    }
+
+    // Table of other model (or frame) of the same structure. When its residue index shares templates with this one,
+    // residues, roles and chains of atoms are shared as well and only coordinates are copied.
+    CoordinateTable forModel(ResidueIndex modelResidueIndex) {
+        if ( ! modelResidueIndex.sharesTemplatesWith(residueIndex)) {
+            return new CoordinateTable(modelResidueIndex, this.isSinglePrecision());
+        }
+        return new CoordinateTable(this, modelResidueIndex);
+    }
+
+    private CoordinateTable(CoordinateTable template, ResidueIndex residueIndex) {
+        this.residueIndex = residueIndex;
+
+        final int atomsLen = residueIndex.getAtomsCount();
+        x = new double[atomsLen];
+        y = new double[atomsLen];
+        z = new double[atomsLen];
+        for (int a = 0; a < atomsLen; ++a) {
+            final Atom atom = residueIndex.getAtom(a);
+            x[a] = atom.getX();
+            y[a] = atom.getY();
+            z[a] = atom.getZ();
+        }
+
+        xf = template.isSinglePrecision() ? toFloats(x) : null;
+        yf = template.isSinglePrecision() ? toFloats(y) : null;
+        zf = template.isSinglePrecision() ? toFloats(z) : null;
+        singlePrecisionTolerance = template.isSinglePrecision() ? singlePrecisionToleranceOf(x, y, z) : 0.0;
+
+        residueOfAtom = template.residueOfAtom;
+        atomRoles = template.atomRoles;
+        chainOfAtom = template.chainOfAtom;
+        residueNumbers = template.residueNumbers;
+        chainIds = template.chainIds;
+    }
+
+    private static float[] toFloats(double[] coordinates) {
+        final float[] floats = new float[coordinates.length];
+        for (int i = 0; i < coordinates.length; ++i) {
+            floats[i] = (float) coordinates[i];
+        }
+        return floats;
+    }
+
+    // Rounding of each of two coordinates and of their difference is at most one ulp of the largest coordinate,
+    // so a few ulps bound the error of any single-precision difference of coordinates.
+    static double singlePrecisionToleranceOf(double[] x, double[] y, double[] z) {
+        double maxAbsCoordinate = 0.0;
+        for (int i = 0; i < x.length; ++i) {
+            maxAbsCoordinate = Math.max(maxAbsCoordinate, Math.max(Math.abs(x[i]), Math.max(Math.abs(y[i]), Math.abs(z[i]))));
+        }
+        return 4 * Math.ulp((float) maxAbsCoordinate);
+    }
+
+    private static byte roleOf(String atomName) {
+        // Names of all hydrogen atoms of standard amino acids start with H.
+        final boolean isHydrogen = atomName.charAt(0) == 'H';
+        if (mainChainAtomsNames.contains(atomName)) {
+            return isHydrogen ? mainChainHydrogenRole : mainChainHeavyAtomRole;
+        }
+        return isHydrogen ? sideChainHydrogenRole : sideChainHeavyAtomRole;
+    }
+
+    int size() {
+        return x.length;
+    }
+
+    boolean isSinglePrecision() {
+        return xf != null;
+    }
+
+    ResidueIndex getResidueIndex() {
+        return residueIndex;
+    }
+
+    double getX(int atomInd) {
+        return x[atomInd];
+    }
+
+    double getY(int atomInd) {
+        return y[atomInd];
+    }
+
+    double getZ(int atomInd) {
+        return z[atomInd];
+    }
+
+    int getResidue(int atomInd) {
+        return residueOfAtom[atomInd];
+    }
+
+    byte getRole(int atomInd) {
+        return atomRoles[atomInd];
+    }
+
+    boolean isHydrogen(int atomInd) {
+        return (atomRoles[atomInd] & sideChainHydrogenRole) != 0;
+    }
+
+    boolean isMainChain(int atomInd) {
+        return (atomRoles[atomInd] & mainChainHeavyAtomRole) != 0;
+    }
+
+    int getChain(int atomInd) {
+        return chainOfAtom[atomInd];
+    }
+
+    String getChainId(int chainInd) {
+        return chainIds[chainInd];
+    }
+
+    int getResidueNumber(int residueInd) {
+        return residueNumbers[residueInd];
+    }
+
+    Atom getAtom(int atomInd) {
+        return residueIndex.getAtom(atomInd);
+    }
+
+    AminoAcid getAminoAcid(int atomInd) {
+        return residueIndex.getAminoAcid(residueOfAtom[atomInd]);
+    }
+
+    Points getPoints(int[] atomInds) {
+        final int atomIndsLen = atomInds.length;
+        final double[] xs = new double[atomIndsLen];
+        final double[] ys = new double[atomIndsLen];
+        final double[] zs = new double[atomIndsLen];
+
+        for (int i = 0; i < atomIndsLen; ++i) {
+            xs[i] = x[atomInds[i]];
+            ys[i] = y[atomInds[i]];
+            zs[i] = z[atomInds[i]];
+        }
+        return new Points(xs, ys, zs);
+    }
+
+    // Same as Calc.getDistance between given atoms.
+    double distance(int firstAtomInd, int secondAtomInd) {
+        final double dx = x[firstAtomInd] - x[secondAtomInd];
+        final double dy = y[firstAtomInd] - y[secondAtomInd];
+        final double dz = z[firstAtomInd] - z[secondAtomInd];
+        return Math.sqrt(dx*dx + dy*dy + dz*dz);
+    }
+
+    // Same as MathHelper.angle between given atoms: angle at the second atom, in degrees.
+    double angle(int firstAtomInd, int secondAtomInd, int thirdAtomInd) {
+        final double firstX = x[firstAtomInd] - x[secondAtomInd];
+        final double firstY = y[firstAtomInd] - y[secondAtomInd];
+        final double firstZ = z[firstAtomInd] - z[secondAtomInd];
+
+        final double thirdX = x[thirdAtomInd] - x[secondAtomInd];
+        final double thirdY = y[thirdAtomInd] - y[secondAtomInd];
+        final double thirdZ = z[thirdAtomInd] - z[secondAtomInd];
+
+        return MathHelper.radiansToDegrees(Math.acos((firstX*thirdX + firstY*thirdY + firstZ*thirdZ)
+                                                     / (Math.sqrt(firstX*firstX + firstY*firstY + firstZ*firstZ)
+                                                        * Math.sqrt(thirdX*thirdX + thirdY*thirdY + thirdZ*thirdZ))));
+    }
+
+    // Same as Calc.getCentroid of given atoms; centroid is stored in given arrays at given position.
+    void centroid(int[] atomInds, int from, int len, double[] centroidX, double[] centroidY, double[] centroidZ, int centroidInd) {
+        double sumX = 0.0, sumY = 0.0, sumZ = 0.0;
+        for (int i = from; i < from + len; ++i) {
+            sumX += x[atomInds[i]];
+            sumY += y[atomInds[i]];
+            sumZ += z[atomInds[i]];
+        }
+        centroidX[centroidInd] = sumX / len;
+        centroidY[centroidInd] = sumY / len;
+        centroidZ[centroidInd] = sumZ / len;
+    }
+
+    // Screens distance between given atoms against range (minDistance, maxDistance) in single precision. Returns false
+    // only when the distance lies outside the range by more than the single-precision error, so the double-precision
+    // check would fail as well; borderline distances are left to the double-precision check.
+    boolean mayHaveDistanceWithin(int firstAtomInd, int secondAtomInd, double minDistance, double maxDistance) {
+        final float dx = xf[firstAtomInd] - xf[secondAtomInd];
+        final float dy = yf[firstAtomInd] - yf[secondAtomInd];
+        final float dz = zf[firstAtomInd] - zf[secondAtomInd];
+        final float distanceSquared = dx*dx + dy*dy + dz*dz;
+
+        final double maxScreened = maxDistance + this.singlePrecisionMargin(maxDistance);
+        if (distanceSquared > maxScreened * maxScreened) {
+            return false;
+        }
+        final double minScreened = minDistance - this.singlePrecisionMargin(minDistance);
+        return ! (minScreened > 0 && distanceSquared < minScreened * minScreened);
+    }
+
+    // Screens angle at the second atom against range given by cosines of its bounds (see cosineOfAngle), like
+    // mayHaveDistanceWithin. Cosines are compared directly, so no acos is computed.
+    boolean mayHaveAngleWithin(int firstAtomInd, int secondAtomInd, int thirdAtomInd, double cosineOfMaxAngle, double cosineOfMinAngle) {
+        final float firstX = xf[firstAtomInd] - xf[secondAtomInd];
+        final float firstY = yf[firstAtomInd] - yf[secondAtomInd];
+        final float firstZ = zf[firstAtomInd] - zf[secondAtomInd];
+
+        final float thirdX = xf[thirdAtomInd] - xf[secondAtomInd];
+        final float thirdY = yf[thirdAtomInd] - yf[secondAtomInd];
+        final float thirdZ = zf[thirdAtomInd] - zf[secondAtomInd];
+
+        final float firstLength = (float) Math.sqrt(firstX*firstX + firstY*firstY + firstZ*firstZ);
+        final float thirdLength = (float) Math.sqrt(thirdX*thirdX + thirdY*thirdY + thirdZ*thirdZ);
+        final float cosine = (firstX*thirdX + firstY*thirdY + firstZ*thirdZ) / (firstLength * thirdLength);
+
+        // Error of cosine is at most twice the sum of errors of vectors (each below sqrt(3) * tolerance) relative to
+        // their lengths; it is NaN or infinite for (nearly) zero-length vectors, which are then never screened out.
+        final double margin = 4 * singlePrecisionTolerance * (1 / firstLength + 1 / thirdLength) + 1e-6;
+        return ! (cosine < cosineOfMaxAngle - margin || cosine > cosineOfMinAngle + margin);
+    }
+
+    // Cosine of angle bound in degrees, for screening angles. Bounds outside [0, 180] do not constrain angles at all.
+    static double cosineOfAngle(double angle, boolean isMaxAngle) {
+        if (isMaxAngle) {
+            return (angle >= 180) ? Double.NEGATIVE_INFINITY : Math.cos(Math.toRadians(angle));
+        }
+        return (angle <= 0) ? Double.POSITIVE_INFINITY : Math.cos(Math.toRadians(angle));
+    }
+
+    // Error of single-precision distance: error of differences of coordinates and relative error of float arithmetic.
+    private double singlePrecisionMargin(double distance) {
+        return 2 * singlePrecisionTolerance + 1e-6 * Math.abs(distance);
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+
+// Evaluation of many criteria of one interaction type in one pass. Search is run once with the loosest criteria
+// (the widest range of every quantity), so every geometric quantity of every candidate is computed once and stored
+// in the found interaction. Each interaction is then assigned to every criteria whose ranges contain its quantities.
+final class CriteriaSweep {
+
+    private CriteriaSweep() {
+    }
+
+    // Returns interactions satisfying every criteria, by criteria in their iteration order. Interactions satisfying
+    // given criteria come in the same order as found by the loosest search, which is the order of search with these
+    // criteria alone. Equal criteria share one list; for no criteria nothing is searched for.
+    static <C, T> Map<C, List<T>> sweep(Collection<C> criteria, Supplier<InteractionSearch<T>> loosestSearch, BiPredicate<T, C> satisfies) {
+        final Map<C, List<T>> foundInteractions = new LinkedHashMap<>();
+        for (C singleCriteria : criteria) {
+            foundInteractions.putIfAbsent(singleCriteria, new ArrayList<>());
+        }
+        if (foundInteractions.isEmpty()) {
+            return foundInteractions;
+        }
+
+        loosestSearch.get().forEach(interaction -> foundInteractions.forEach((singleCriteria, interactions) -> {
+            if (satisfies.test(interaction, singleCriteria)) {
+                interactions.add(interaction);
+            }
+        }));
+        return foundInteractions;
+    }
+}
@@ -0,0 +1,147 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import java.util.Arrays;
+
+/**
+ * Class representing disulphide bridges found in protein, stored column by column: amino acids of participants
+ * as indices of residues of the structure and measured quantities as columns of doubles, one row per interaction.
+ * Rows are read by index, from 0 to size() - 1, and reading them creates no objects; DisulphideBridge objects
+ * are created only on demand, by get(row) or by the list view (asList()).
+ */
+public final class DisulphideBridgeTable extends InteractionTable<DisulphideBridge> {
+
+    private static final int[] noResidues = new int[0];
+    private static final double[] noValues = new double[0];
+
+    private final ResidueIndex residueIndex;
+
+    private int[] firstInteracteeResidues = noResidues;
+    private int[] secondInteracteeResidues = noResidues;
+    private double[] distancesBtwCAs = noValues;
+    private double[] distancesBtwCBs = noValues;
+    private double[] distancesBtwSS = noValues;
+    private double[] absDihAnglesSS = noValues;
+    private double[] absDihAngles1 = noValues;
+    private double[] absDihAngles2 = noValues;
+
+    DisulphideBridgeTable(ResidueIndex residueIndex) {
+        this.residueIndex = residueIndex;
+    }
+
+    void add(int firstInteracteeResidue, int secondInteracteeResidue, double distanceBtwCAs, double distanceBtwCBs, double distanceBtwSS, double absDihAngleSS, double absDihAngle1, double absDihAngle2) {
+        final int row = this.addRow();
+        firstInteracteeResidues[row] = firstInteracteeResidue;
+        secondInteracteeResidues[row] = secondInteracteeResidue;
+        distancesBtwCAs[row] = distanceBtwCAs;
+        distancesBtwCBs[row] = distanceBtwCBs;
+        distancesBtwSS[row] = distanceBtwSS;
+        absDihAnglesSS[row] = absDihAngleSS;
+        absDihAngles1[row] = absDihAngle1;
+        absDihAngles2[row] = absDihAngle2;
+    }
+
+    /**
+     * Returns first cysteine of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return First cysteine.
+     */
+    public AminoAcid getFirstInteractee(int row) {
+        return residueIndex.getAminoAcid(firstInteracteeResidues[this.checkRow(row)]);
+    }
+
+    /**
+     * Returns second cysteine of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Second cysteine.
+     */
+    public AminoAcid getSecondInteractee(int row) {
+        return residueIndex.getAminoAcid(secondInteracteeResidues[this.checkRow(row)]);
+    }
+
+    /**
+     * Returns distance between CA atoms of participating cysteines of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Distance between CA atoms of participating cysteines.
+     */
+    public double getDistanceBtwCAs(int row) {
+        return distancesBtwCAs[this.checkRow(row)];
+    }
+
+    /**
+     * Returns distance between CB atoms of participating cysteines of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Distance between CB atoms of participating cysteines.
+     */
+    public double getDistanceBtwCBs(int row) {
+        return distancesBtwCBs[this.checkRow(row)];
+    }
+
+    /**
+     * Returns distance between sulphur atoms of participating cysteines of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Distance between sulphur atoms of participating cysteines.
+     */
+    public double getDistanceBtwSS(int row) {
+        return distancesBtwSS[this.checkRow(row)];
+    }
+
+    /**
+     * Returns dihedral angle between planes formed by CB1, S1, S2 and S1, S2, CB2 atoms (1 - first cysteine, 2 - second cysteine) of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Dihedral angle between planes formed by CB1, S1, S2 and S1, S2, CB2 atoms.
+     */
+    public double getAbsDihAngleSS(int row) {
+        return absDihAnglesSS[this.checkRow(row)];
+    }
+
+    /**
+     * Returns dihedral angle between planes formed by N, CA, CB and CA, CB, S atoms of first cysteine of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Dihedral angle between planes formed by N, CA, CB and CA, CB, S atoms of first cysteine.
+     */
+    public double getAbsDihAngle1(int row) {
+        return absDihAngles1[this.checkRow(row)];
+    }
+
+    /**
+     * Returns dihedral angle between planes formed by N, CA, CB and CA, CB, S atoms of second cysteine of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Dihedral angle between planes formed by N, CA, CB and CA, CB, S atoms of second cysteine.
+     */
+    public double getAbsDihAngle2(int row) {
+        return absDihAngles2[this.checkRow(row)];
+    }
+
+    @Override
+    public DisulphideBridge get(int row) {
+        this.checkRow(row);
+        return new DisulphideBridge(residueIndex.getAminoAcid(firstInteracteeResidues[row]),
+                                    residueIndex.getAminoAcid(secondInteracteeResidues[row]),
+                                    distancesBtwCAs[row], distancesBtwCBs[row], distancesBtwSS[row], absDihAnglesSS[row], absDihAngles1[row], absDihAngles2[row]);
+    }
+
+    @Override
+    void resizeColumns(int capacity) {
+        firstInteracteeResidues = Arrays.copyOf(firstInteracteeResidues, capacity);
+        secondInteracteeResidues = Arrays.copyOf(secondInteracteeResidues, capacity);
+        distancesBtwCAs = Arrays.copyOf(distancesBtwCAs, capacity);
+        distancesBtwCBs = Arrays.copyOf(distancesBtwCBs, capacity);
+        distancesBtwSS = Arrays.copyOf(distancesBtwSS, capacity);
+        absDihAnglesSS = Arrays.copyOf(absDihAnglesSS, capacity);
+        absDihAngles1 = Arrays.copyOf(absDihAngles1, capacity);
+        absDihAngles2 = Arrays.copyOf(absDihAngles2, capacity);
+    }
+
+    @Override
+    int getRowBytes() {
+        return 2 * Integer.BYTES + 6 * Double.BYTES;
+    }
+}
@@ -1,11 +1,9 @@
 package io.github.WeronikaJargielo.protein_interaction_finder;
 
-import com.google.common.collect.Lists;
 import org.biojava.nbio.structure.Atom;
 import org.biojava.nbio.structure.Calc;
 
 import java.util.*;
-import java.util.stream.IntStream;
 
 final class DisulphideBridgesFinder {
     private final PdbStructureParser pdbStructureParser;
@@ -14,81 +12,106 @@ final class DisulphideBridgesFinder {
 
     private final String[] desiredAtoms = new String[] {"N", "CA", "CB", "SG"};
 
+    private final int indN = Arrays.asList(desiredAtoms).indexOf("N");
+    private final int indCA = Arrays.asList(desiredAtoms).indexOf("CA");
+    private final int indCB = Arrays.asList(desiredAtoms).indexOf("CB");
+    private final int indSG = Arrays.asList(desiredAtoms).indexOf("SG");
+
     public DisulphideBridgesFinder(PdbStructureParser pdbStructureParser) {
         this.pdbStructureParser = pdbStructureParser;
     }
 
     public List<DisulphideBridge> findDisulphideBridges(DisulphideBridgeCriteria criteria) {
-        ArrayList<Atom> atoms = pdbStructureParser.getAtoms(desiredAtoms, allowedAminoAcids);
-        List<List<Atom>> cysteines = Lists.partition(atoms, desiredAtoms.length);
+        return new ArrayList<>(this.tabulateDisulphideBridges(criteria).asList());
+    }
+
+    public DisulphideBridgeTable tabulateDisulphideBridges(DisulphideBridgeCriteria criteria) {
+        return pdbStructureParser.memoize(InteractionType.DISULPHIDE_BRIDGES, criteria, () -> this.searchDisulphideBridges(criteria).toTable());
+    }
 
-        ArrayList<DisulphideBridge> foundDisulphideBridges = new ArrayList<>();
+    public TableSearch<DisulphideBridge, DisulphideBridgeTable> searchDisulphideBridges(DisulphideBridgeCriteria criteria) {
+        final CoordinateTable coordinates = pdbStructureParser.getCoordinateTable();
+        final int[] atoms = coordinates.getResidueIndex().getAtomIndices(desiredAtoms, allowedAminoAcids);
 
-        final int cysteinesLen = cysteines.size();
+        // Atoms of i-th cysteine are stored in atoms[i * desiredAtoms.length + indAtom].
+        final int cysteinesLen = atoms.length / desiredAtoms.length;
+        final int[] CAsAtoms = new int[cysteinesLen];
         for (int i = 0; i < cysteinesLen; ++i) {
-            for (int j = i + 1; j < cysteinesLen; ++j) {
-                final DisulphideBridge disulphideBridge = obtainDisulphideBridge(cysteines.get(i), cysteines.get(j), criteria);
+            CAsAtoms[i] = atoms[i * desiredAtoms.length + indCA];
+        }
+        final Points CAs = coordinates.getPoints(CAsAtoms);
+        final NeighborSearch CAsSearch = pdbStructureParser.getNeighborSearch("DisulphideBridgesFinder.CAs", CAs, CAs, criteria.getDistanceBtwCAs());
+
+        return new TableSearch<>() {
+            @Override
+            int getQueriesCount() {
+                return cysteinesLen;
+            }
 
-                if (disulphideBridge != null) {
-                    foundDisulphideBridges.add(disulphideBridge);
+            @Override
+            DisulphideBridgeTable createTable() {
+                return new DisulphideBridgeTable(coordinates.getResidueIndex());
+            }
+
+            @Override
+            void findRows(int i, DisulphideBridgeTable disulphideBridges) {
+                for (int j : CAsSearch.findNeighbors(i)) {
+                    if (j <= i) { continue; }
+
+                    obtainDisulphideBridge(coordinates, atoms, i * desiredAtoms.length, j * desiredAtoms.length, criteria, disulphideBridges);
                 }
             }
-        }
-        return foundDisulphideBridges;
+        };
     }
 
-    private DisulphideBridge obtainDisulphideBridge(List<Atom> firstCys, List<Atom> secondCys, DisulphideBridgeCriteria criteria) {
-        final int indN = IntStream.range(0, firstCys.size())
-                                  .filter(i -> "N".equals(firstCys.get(i).getName()))
-                                  .findFirst()
-                                  .orElse(-1);
-        final int indCA = IntStream.range(0, firstCys.size())
-                                   .filter(i -> "CA".equals(firstCys.get(i).getName()))
-                                   .findFirst()
-                                   .orElse(-1);
-        final int indCB = IntStream.range(0, firstCys.size())
-                                   .filter(i -> "CB".equals(firstCys.get(i).getName()))
-                                   .findFirst()
-                                   .orElse(-1);
-        final int indSG = IntStream.range(0, firstCys.size())
-                                   .filter(i -> "SG".equals(firstCys.get(i).getName()))
-                                   .findFirst()
-                                   .orElse(-1);
-
-        if ( ! (firstCys.get(indCA).getName().equals("CA") || secondCys.get(indCA).getName().equals("CA")) ) {
-            System.exit(-1);
+    private void obtainDisulphideBridge(CoordinateTable coordinates, int[] atoms, int firstCys, int secondCys, DisulphideBridgeCriteria criteria,
+                                        DisulphideBridgeTable disulphideBridges) {
+        if ( ! (coordinates.getAtom(atoms[firstCys + indCA]).getName().equals("CA") || coordinates.getAtom(atoms[secondCys + indCA]).getName().equals("CA")) ) {
+            throw new IllegalStateException("Unexpected order of cysteine atoms, CA expected.");
         }
 
-        if ( ! (firstCys.get(indCB).getName().equals("CB") || secondCys.get(indCB).getName().equals("CB")) ){
-            System.exit(-1);
+        if ( ! (coordinates.getAtom(atoms[firstCys + indCB]).getName().equals("CB") || coordinates.getAtom(atoms[secondCys + indCB]).getName().equals("CB")) ) {
+            throw new IllegalStateException("Unexpected order of cysteine atoms, CB expected.");
         }
 
-        if ( ! (firstCys.get(indSG).getName().equals("SG") || secondCys.get(indSG).getName().equals("SG")) ) {
-            System.exit(-1);
+        if ( ! (coordinates.getAtom(atoms[firstCys + indSG]).getName().equals("SG") || coordinates.getAtom(atoms[secondCys + indSG]).getName().equals("SG")) ) {
+            throw new IllegalStateException("Unexpected order of cysteine atoms, SG expected.");
         }
 
-        final double distanceBtwCAs = Calc.getDistance(firstCys.get(indCA), secondCys.get(indCA));
-        final double distanceBtwCBs = Calc.getDistance(firstCys.get(indCB), secondCys.get(indCB));
-        if ( ! (distanceBtwCAs <= criteria.getDistanceBtwCAs() && distanceBtwCBs <= criteria.getDistanceBtwCBs()) ) { return null; }
+        final double distanceBtwCAs = coordinates.distance(atoms[firstCys + indCA], atoms[secondCys + indCA]);
+        final double distanceBtwCBs = coordinates.distance(atoms[firstCys + indCB], atoms[secondCys + indCB]);
+        if ( ! (distanceBtwCAs <= criteria.getDistanceBtwCAs() && distanceBtwCBs <= criteria.getDistanceBtwCBs()) ) { return; }
+
+        final double distanceBtwSS = coordinates.distance(atoms[firstCys + indSG], atoms[secondCys + indSG]);
+        if ( ! (distanceBtwSS >= criteria.getMinDistanceBtwSulphurs() && distanceBtwSS <= criteria.getMaxDistanceBtwSulphurs()) ) { return; }
 
-        final double distanceBtwSS = Calc.getDistance(firstCys.get(indSG), secondCys.get(indSG));
-        if ( ! (distanceBtwSS >= criteria.getMinDistanceBtwSulphurs() && distanceBtwSS <= criteria.getMaxDistanceBtwSulphurs()) ) { return null; }
+//      Only pairs satisfying all distance criteria reach dihedral angles, which are computed by BioJava on atoms themselves.
+        final List<Atom> firstCysAtoms = this.getCysteineAtoms(coordinates, atoms, firstCys);
+        final List<Atom> secondCysAtoms = this.getCysteineAtoms(coordinates, atoms, secondCys);
 
-        final double absDihAngleSS = Math.abs(Calc.torsionAngle(firstCys.get(indCB), firstCys.get(indSG), secondCys.get(indSG), secondCys.get(indCB)));
-        if ( ! (absDihAngleSS >= criteria.getMinAbsDihAngleSS() && absDihAngleSS <= criteria.getMaxAbsDihAngleSS()) ) { return null; }
+        final double absDihAngleSS = Math.abs(Calc.torsionAngle(firstCysAtoms.get(indCB), firstCysAtoms.get(indSG), secondCysAtoms.get(indSG), secondCysAtoms.get(indCB)));
+        if ( ! (absDihAngleSS >= criteria.getMinAbsDihAngleSS() && absDihAngleSS <= criteria.getMaxAbsDihAngleSS()) ) { return; }
 
-        final double absDihAngle1 = Math.abs(Calc.torsionAngle(firstCys.get(indN), firstCys.get(indCA), firstCys.get(indCB), firstCys.get(indSG)));
+        final double absDihAngle1 = Math.abs(Calc.torsionAngle(firstCysAtoms.get(indN), firstCysAtoms.get(indCA), firstCysAtoms.get(indCB), firstCysAtoms.get(indSG)));
         if ( ! ((absDihAngle1 >= criteria.getLowerRangeMinAbsDihAngle1() && absDihAngle1 <= criteria.getLowerRangeMaxAbsDihAngle1())
-                 || (absDihAngle1 >= criteria.getUpperRangeMinAbsDihAngle1() && absDihAngle1 <= criteria.getUpperRangeMaxAbsDihAngle1())) ) { return null; }
+                 || (absDihAngle1 >= criteria.getUpperRangeMinAbsDihAngle1() && absDihAngle1 <= criteria.getUpperRangeMaxAbsDihAngle1())) ) { return; }
 
-        final double absDihAngle2 = Math.abs(Calc.torsionAngle(secondCys.get(indSG), secondCys.get(indCB), secondCys.get(indCA), secondCys.get(indN)));
+        final double absDihAngle2 = Math.abs(Calc.torsionAngle(secondCysAtoms.get(indSG), secondCysAtoms.get(indCB), secondCysAtoms.get(indCA), secondCysAtoms.get(indN)));
         if ( ! ((absDihAngle2 >= criteria.getLowerRangeMinAbsDihAngle2() && absDihAngle2 <= criteria.getLowerRangeMaxAbsDihAngle2())
-                || (absDihAngle2 >= criteria.getUpperRangeMinAbsDihAngle2() && absDihAngle2 <= criteria.getUpperRangeMaxAbsDihAngle2())) ) { return null; }
+                || (absDihAngle2 >= criteria.getUpperRangeMinAbsDihAngle2() && absDihAngle2 <= criteria.getUpperRangeMaxAbsDihAngle2())) ) { return; }
 
-        return new DisulphideBridge(new AminoAcid(firstCys.get(indSG).getGroup()),
-                                    new AminoAcid(secondCys.get(indSG).getGroup()),
-                                    distanceBtwCAs, distanceBtwCBs, distanceBtwSS,
-                                    absDihAngleSS, absDihAngle1, absDihAngle2);
+        disulphideBridges.add(coordinates.getResidue(atoms[firstCys + indSG]),
+                              coordinates.getResidue(atoms[secondCys + indSG]),
+                              distanceBtwCAs, distanceBtwCBs, distanceBtwSS,
+                              absDihAngleSS, absDihAngle1, absDihAngle2);
+    }
+
+    private List<Atom> getCysteineAtoms(CoordinateTable coordinates, int[] atoms, int cys) {
+        List<Atom> cysAtoms = new ArrayList<>(desiredAtoms.length);
+        for (int i = 0; i < desiredAtoms.length; ++i) {
+            cysAtoms.add(coordinates.getAtom(atoms[cys + i]));
+        }
+        return cysAtoms;
     }
 
 }
@@ -0,0 +1,78 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Class representing interactions identified in every model of protein structure (e.g. NMR ensemble)
+ * together with their occupancy across all models.
+ */
+public final class EnsembleInteractions {
+
+    private final List<AllInteractions> modelsInteractions;
+    private final List<InteractionOccupancy> occupancies;
+
+    EnsembleInteractions(List<AllInteractions> modelsInteractions, List<InteractionOccupancy> occupancies) {
+        this.modelsInteractions = Collections.unmodifiableList(modelsInteractions);
+        this.occupancies = Collections.unmodifiableList(occupancies);
+    }
+
+    /**
+     * Returns number of models of protein structure.
+     *
+     * @return Number of models of protein structure.
+     */
+    public int getModelsCount() {
+        return modelsInteractions.size();
+    }
+
+    /**
+     * Returns interactions identified in given model.
+     *
+     * @param modelInd Index of model (0 for the first model).
+     * @return All interactions identified in given model.
+     */
+    public AllInteractions getModelInteractions(int modelInd) {
+        return modelsInteractions.get(modelInd);
+    }
+
+    /**
+     * Returns interactions identified in every model.
+     *
+     * @return Unmodifiable list of interactions identified in consecutive models.
+     */
+    public List<AllInteractions> getModelsInteractions() {
+        return modelsInteractions;
+    }
+
+    /**
+     * Returns occupancies of interactions, i.e. fractions of models in which pairs of amino acids interact.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.InteractionOccupancy
+     *
+     * @return Unmodifiable list of occupancies of all interactions found in any model, in order of their first occurrence.
+     */
+    public List<InteractionOccupancy> getOccupancies() {
+        return occupancies;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EnsembleInteractions that = (EnsembleInteractions) o;
+        return modelsInteractions.equals(that.modelsInteractions) && occupancies.equals(that.occupancies);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(modelsInteractions, occupancies);
+    }
+
+    @Override
+    public String toString() {
+        return "EnsembleInteractions: " +
+                "modelsCount = " + modelsInteractions.size() +
+                ",\toccupancies = " + occupancies.size();
+    }
+}
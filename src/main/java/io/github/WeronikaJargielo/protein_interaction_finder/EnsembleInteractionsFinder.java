@@ -0,0 +1,39 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+final class EnsembleInteractionsFinder {
+
+    private final PdbStructureParser pdbStructureParser;
+
+    public EnsembleInteractionsFinder(PdbStructureParser pdbStructureParser) {
+        this.pdbStructureParser = pdbStructureParser;
+    }
+
+    public EnsembleInteractions findAllInteractions(AllInteractionsCriteria criteria, Set<InteractionType> interactionTypes, ForkJoinPool pool) {
+        final int modelsCount = pdbStructureParser.getModelsCount();
+
+        // Models are independent, so each of them is one task; interactions of a single model are identified sequentially.
+        // Models share templates of residues and participants, which are computed by whichever model needs them first.
+        final List<ForkJoinTask<AllInteractions>> tasks = new ArrayList<>(modelsCount);
+        for (int modelInd = 0; modelInd < modelsCount; ++modelInd) {
+            final int model = modelInd;
+            tasks.add(ForkJoinTask.adapt(() -> new AllInteractionsFinder(pdbStructureParser.getModel(model)).findAllInteractions(criteria, interactionTypes)));
+        }
+
+        pool.invoke(ForkJoinTask.adapt(() -> { ForkJoinTask.invokeAll(tasks); }));
+
+        final List<AllInteractions> modelsInteractions = new ArrayList<>(modelsCount);
+        final OccupancyCounter occupancyCounter = new OccupancyCounter();
+        for (ForkJoinTask<AllInteractions> task : tasks) {
+            final AllInteractions modelInteractions = task.join();
+            modelsInteractions.add(modelInteractions);
+            occupancyCounter.add(modelInteractions);
+        }
+        return new EnsembleInteractions(modelsInteractions, occupancyCounter.getOccupancies());
+    }
+}
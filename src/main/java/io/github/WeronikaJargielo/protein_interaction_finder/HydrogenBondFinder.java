@@ -1,9 +1,5 @@
 package io.github.WeronikaJargielo.protein_interaction_finder;
 
-import com.google.common.collect.Lists;
-import org.biojava.nbio.structure.Atom;
-import org.biojava.nbio.structure.Calc;
-
 import java.util.*;
 import java.util.function.Function;
 
@@ -13,7 +9,7 @@ final class HydrogenBondFinder {
     final private class BondParticipant {
         public final String[] atoms;
         public final AminoAcidAbbreviations aminoAcid;
-        public final Function<BondParticipant, List<Atom>> bondParticipantFilter;
+        public final Function<BondParticipant, int[]> bondParticipantFilter;
         public final  Boolean specialTreatment;
 
         public BondParticipant(String[] atoms, AminoAcidAbbreviations aminoAcid) {
@@ -23,7 +19,7 @@ final class HydrogenBondFinder {
             this.specialTreatment = false;
         }
 
-        public BondParticipant(String[] atoms, AminoAcidAbbreviations aminoAcid, Function<BondParticipant, List<Atom>> bondParticipantFilter) {
+        public BondParticipant(String[] atoms, AminoAcidAbbreviations aminoAcid, Function<BondParticipant, int[]> bondParticipantFilter) {
             this.atoms = atoms;
             this.aminoAcid = aminoAcid;
             this.bondParticipantFilter = bondParticipantFilter;
@@ -32,11 +28,43 @@ final class HydrogenBondFinder {
 
     }
 
+    // Single-precision screening of candidate bonds (see CoordinateTable.mayHaveDistanceWithin), rejecting only bonds
+    // which certainly fail the criteria. Cosines of bounds of angles are computed once per search.
+    final private class SinglePrecisionScreen {
+        private final HydrogenBondCriteria criteria;
+        private final double cosineOfMaxAngleDHA, cosineOfMinAngleDHA;
+        private final double cosineOfMaxAngleHAAa, cosineOfMinAngleHAAa;
+        private final double cosineOfMaxAngleDAAa, cosineOfMinAngleDAAa;
+
+        public SinglePrecisionScreen(HydrogenBondCriteria criteria) {
+            this.criteria = criteria;
+            this.cosineOfMaxAngleDHA = CoordinateTable.cosineOfAngle(criteria.getMaxAngleDHA(), true);
+            this.cosineOfMinAngleDHA = CoordinateTable.cosineOfAngle(criteria.getMinAngleDHA(), false);
+            this.cosineOfMaxAngleHAAa = CoordinateTable.cosineOfAngle(criteria.getMaxAngleHAAa(), true);
+            this.cosineOfMinAngleHAAa = CoordinateTable.cosineOfAngle(criteria.getMinAngleHAAa(), false);
+            this.cosineOfMaxAngleDAAa = CoordinateTable.cosineOfAngle(criteria.getMaxAngleDAAa(), true);
+            this.cosineOfMinAngleDAAa = CoordinateTable.cosineOfAngle(criteria.getMinAngleDAAa(), false);
+        }
+
+        public boolean mayBond(int D, int H, int A, int Aa) {
+            return coordinates.mayHaveDistanceWithin(D, A, criteria.getMinDistanceDA(), criteria.getMaxDistanceDA())
+                   && coordinates.mayHaveDistanceWithin(H, A, criteria.getMinDistanceHA(), criteria.getMaxDistanceHA())
+                   && coordinates.mayHaveAngleWithin(D, H, A, cosineOfMaxAngleDHA, cosineOfMinAngleDHA)
+                   && coordinates.mayHaveAngleWithin(H, A, Aa, cosineOfMaxAngleHAAa, cosineOfMinAngleHAAa)
+                   && coordinates.mayHaveAngleWithin(D, A, Aa, cosineOfMaxAngleDAAa, cosineOfMinAngleDAAa);
+        }
+    }
+
     private final int bondParticipantSize = 2;
+    private static final List<InteractionType> hydrogenBondTypes = Arrays.asList(InteractionType.MAIN_MAIN_HYDROGEN_BONDS,
+                                                                                 InteractionType.MAIN_SIDE_HYDROGEN_BONDS,
+                                                                                 InteractionType.SIDE_SIDE_HYDROGEN_BONDS);
     private PdbStructureParser pdbStructureParser;
+    private CoordinateTable coordinates;
 
     public HydrogenBondFinder(PdbStructureParser pdbStructureParser) {
         this.pdbStructureParser = pdbStructureParser;
+        this.coordinates = pdbStructureParser.getCoordinateTable();
     }
 
 //  Filter is essential due to the fact that the histidine is particularly difficult to examine. There are two scenarios:
@@ -44,37 +72,31 @@ final class HydrogenBondFinder {
 //     in a hydrogen bond while the other nitrogen can only accept one.
 //  2. Additionally, HIS could be charged with a hydrogen on each nitrogen, allowing both only to donate.
 //  The important message here is that a single histidine side-chain nitrogen cannot simultaneously accept and donate a hydrogen bond.
-    private final Function<BondParticipant, List<Atom>> acceptorHistidineFilter = (bondParticipant -> {
-        List<Atom> histidineAcceptorsAtoms = new ArrayList<>();
+    private final Function<BondParticipant, int[]> acceptorHistidineFilter = (bondParticipant -> {
         final String[] desiredAtomsPdbNames = bondParticipant.atoms;
         final List<AminoAcidAbbreviations> desiredAbbreviations = Arrays.asList(bondParticipant.aminoAcid);
 
-        final List<Atom> foundAtoms = pdbStructureParser.getAtoms(desiredAtomsPdbNames, desiredAbbreviations);
-        if (foundAtoms.isEmpty()) { return histidineAcceptorsAtoms; }
-
-        final List<List<Atom>> dublets = Lists.partition(foundAtoms, desiredAtomsPdbNames.length);
-
-        final int indN = (foundAtoms.get(0).getName().charAt(0) == ('N')) ? 0 : 1;
-        String HPdbName = desiredAtomsPdbNames[indN];
-        HPdbName.replace("N", "H");
+        final int[] foundAtoms = coordinates.getResidueIndex().getAtomIndices(desiredAtomsPdbNames, desiredAbbreviations);
+        if (foundAtoms.length == 0) { return foundAtoms; }
 
-        final List<Atom> foundHs = pdbStructureParser.getAtoms(new String[] {HPdbName}, desiredAbbreviations);
+        final int indN = (coordinates.getAtom(foundAtoms[0]).getName().charAt(0) == ('N')) ? 0 : 1;
+        final String HPdbName = desiredAtomsPdbNames[indN].replace("N", "H");
 
-        dublets.forEach(dublet -> {
-            final Integer dubletSeqNum = dublet.get(indN).getGroup().getResidueNumber().getSeqNum();
-            final String dubletChain = dublet.get(indN).getGroup().getChain().getName();
+        final ProtonationIndex protonationIndex = coordinates.getResidueIndex().getProtonationIndex();
 
-            final Optional<Atom> matchingH = foundHs.stream()
-                                                    .filter(H -> dubletSeqNum.equals(H.getGroup().getResidueNumber().getSeqNum())
-                                                                 && dubletChain.equals(H.getGroup().getChain().getName()))
-                                                    .findAny();
+        int[] histidineAcceptorsAtoms = new int[foundAtoms.length];
+        int histidineAcceptorsAtomsLen = 0;
+        for (int dublet = 0; dublet < foundAtoms.length; dublet += desiredAtomsPdbNames.length) {
+            final int dubletResidue = coordinates.getResidue(foundAtoms[dublet + indN]);
 
-            if (matchingH.isEmpty()) {
-                histidineAcceptorsAtoms.addAll(foundAtoms);
+//          Nitrogen without hydrogen can accept hydrogen bond.
+            if ( ! protonationIndex.hasHistidineHydrogen(dubletResidue, HPdbName)) {
+                System.arraycopy(foundAtoms, dublet, histidineAcceptorsAtoms, histidineAcceptorsAtomsLen, desiredAtomsPdbNames.length);
+                histidineAcceptorsAtomsLen += desiredAtomsPdbNames.length;
             }
-        });
+        }
 
-        return histidineAcceptorsAtoms;
+        return Arrays.copyOf(histidineAcceptorsAtoms, histidineAcceptorsAtomsLen);
     });
 
 
@@ -148,122 +170,353 @@ final class HydrogenBondFinder {
 
 
     public List<HydrogenBond> findMainMainHydrogenBonds(HydrogenBondCriteria criteria) {
-        final List<List<Atom>> donors = this.getDonorsMainChain();
-        final List<List<Atom>> acceptors = this.getAcceptorsMainChain();
-
-        return this.findHydrogenBonds(donors, acceptors, criteria);
+        return new ArrayList<>(this.tabulateMainMainHydrogenBonds(criteria).asList());
     }
 
     public List<HydrogenBond> findMainSideHydrogenBonds(HydrogenBondCriteria criteria) {
-        final List<List<Atom>> donorsMainChain = this.getDonorsMainChain();
-        final List<List<Atom>> donorsSideChain = this.getDonorsSideChain();
+        return new ArrayList<>(this.tabulateMainSideHydrogenBonds(criteria).asList());
+    }
 
-        final List<List<Atom>> acceptorsMainChain = this.getAcceptorsMainChain();
-        final List<List<Atom>> acceptorsSideChain = this.getAcceptorsSideChain();
+    public List<HydrogenBond> findSideSideHydrogenBonds(HydrogenBondCriteria criteria) {
+        return new ArrayList<>(this.tabulateSideSideHydrogenBonds(criteria).asList());
+    }
 
-        List<HydrogenBond> foundMainSideHydrogenBonds = this.findHydrogenBonds(donorsMainChain, acceptorsSideChain, criteria);
-        foundMainSideHydrogenBonds.addAll(this.findHydrogenBonds(donorsSideChain, acceptorsMainChain, criteria));
+    public HydrogenBondTable tabulateMainMainHydrogenBonds(HydrogenBondCriteria criteria) {
+        return pdbStructureParser.memoize(InteractionType.MAIN_MAIN_HYDROGEN_BONDS, criteria, () -> this.searchMainMainHydrogenBonds(criteria).toTable());
+    }
 
-        return foundMainSideHydrogenBonds;
+    public HydrogenBondTable tabulateMainSideHydrogenBonds(HydrogenBondCriteria criteria) {
+        return pdbStructureParser.memoize(InteractionType.MAIN_SIDE_HYDROGEN_BONDS, criteria, () -> this.searchMainSideHydrogenBonds(criteria).toTable());
     }
 
-    public List<HydrogenBond> findSideSideHydrogenBonds(HydrogenBondCriteria criteria) {
-        final List<List<Atom>> donors = this.getDonorsSideChain();
-        final List<List<Atom>> acceptors = this.getAcceptorsSideChain();
+    public HydrogenBondTable tabulateSideSideHydrogenBonds(HydrogenBondCriteria criteria) {
+        return pdbStructureParser.memoize(InteractionType.SIDE_SIDE_HYDROGEN_BONDS, criteria, () -> this.searchSideSideHydrogenBonds(criteria).toTable());
+    }
 
-        return this.findHydrogenBonds(donors, acceptors, criteria);
+    public TableSearch<HydrogenBond, HydrogenBondTable> searchMainMainHydrogenBonds(HydrogenBondCriteria criteria) {
+        final int[] donors = this.getDonorsMainChain();
+        final int[] acceptors = this.getAcceptorsMainChain();
+
+        return this.searchHydrogenBonds("HydrogenBondFinder.mainMain", donors, acceptors, criteria);
     }
 
-    private List<List<Atom>> getDonorsMainChain() {
-        List<Atom> donorsMainChain = new ArrayList<>();
-        donorsDesiredAtomsMainChain.forEach(bondParticipant -> donorsMainChain.addAll(pdbStructureParser.getAtoms(bondParticipant.atoms)));
+    public TableSearch<HydrogenBond, HydrogenBondTable> searchMainSideHydrogenBonds(HydrogenBondCriteria criteria) {
+        final int[] donorsMainChain = this.getDonorsMainChain();
+        final int[] donorsSideChain = this.getDonorsSideChain();
+
+        final int[] acceptorsMainChain = this.getAcceptorsMainChain();
+        final int[] acceptorsSideChain = this.getAcceptorsSideChain();
 
-        return Lists.partition(donorsMainChain, bondParticipantSize);
+        return TableSearch.concat(this.searchHydrogenBonds("HydrogenBondFinder.mainSide", donorsMainChain, acceptorsSideChain, criteria),
+                                  this.searchHydrogenBonds("HydrogenBondFinder.sideMain", donorsSideChain, acceptorsMainChain, criteria));
     }
 
-    private List<List<Atom>> getAcceptorsMainChain() {
-        List<Atom> acceptorsMainChain = new ArrayList<>();
-        acceptorsDesiredAtomsMainChain.forEach(bondParticipant -> acceptorsMainChain.addAll(pdbStructureParser.getAtoms(bondParticipant.atoms)));
+    public TableSearch<HydrogenBond, HydrogenBondTable> searchSideSideHydrogenBonds(HydrogenBondCriteria criteria) {
+        final int[] donors = this.getDonorsSideChain();
+        final int[] acceptors = this.getAcceptorsSideChain();
 
-        return Lists.partition(acceptorsMainChain, bondParticipantSize);
+        return this.searchHydrogenBonds("HydrogenBondFinder.sideSide", donors, acceptors, criteria);
     }
 
-    private List<List<Atom>> getDonorsSideChain() {
-        List<Atom> donorsSideChain = new ArrayList<>();
-        donorsDesiredAtomsSideChain.forEach(bondParticipant -> donorsSideChain.addAll(pdbStructureParser.getAtoms(bondParticipant.atoms, Arrays.asList(bondParticipant.aminoAcid))));
+    // Sweeps identify bonds satisfying each of many criteria, measuring every candidate bond only once (see CriteriaSweep).
+    public Map<HydrogenBondCriteria, List<HydrogenBond>> sweepMainMainHydrogenBonds(Collection<HydrogenBondCriteria> criteria) {
+        return CriteriaSweep.sweep(criteria, () -> this.searchMainMainHydrogenBonds(loosestCriteria(criteria)), HydrogenBondFinder::satisfies);
+    }
+
+    public Map<HydrogenBondCriteria, List<HydrogenBond>> sweepMainSideHydrogenBonds(Collection<HydrogenBondCriteria> criteria) {
+        return CriteriaSweep.sweep(criteria, () -> this.searchMainSideHydrogenBonds(loosestCriteria(criteria)), HydrogenBondFinder::satisfies);
+    }
+
+    public Map<HydrogenBondCriteria, List<HydrogenBond>> sweepSideSideHydrogenBonds(Collection<HydrogenBondCriteria> criteria) {
+        return CriteriaSweep.sweep(criteria, () -> this.searchSideSideHydrogenBonds(loosestCriteria(criteria)), HydrogenBondFinder::satisfies);
+    }
+
+    // Identifies hydrogen bonds of all three kinds in a single pass. Donors and acceptors of main and side chains
+    // are classified once, candidate acceptors of every donor atom are searched for once, and every found bond is tagged
+    // with its kind by the chains of its participants. Bonds of every kind come in the same order as from their own search.
+    public Map<InteractionType, List<HydrogenBond>> findAllHydrogenBonds(HydrogenBondCriteria criteria) {
+        final Map<InteractionType, List<HydrogenBond>> hydrogenBonds = new EnumMap<>(InteractionType.class);
+        this.tabulateAllHydrogenBonds(criteria).forEach((interactionType, hydrogenBondTable) -> hydrogenBonds.put(interactionType,
+                                                                                                                   new ArrayList<>(hydrogenBondTable.asList())));
+        return hydrogenBonds;
+    }
+
+    // Bonds of all kinds are memoized as bonds of every kind, so they are found again only when any kind is missing.
+    public Map<InteractionType, HydrogenBondTable> tabulateAllHydrogenBonds(HydrogenBondCriteria criteria) {
+        final ResultMemo resultMemo = pdbStructureParser.getResultMemo();
+        if (resultMemo == null) {
+            return this.searchAllHydrogenBonds(criteria);
+        }
 
-        return Lists.partition(donorsSideChain, bondParticipantSize);
+        final Map<InteractionType, HydrogenBondTable> hydrogenBonds = new EnumMap<>(InteractionType.class);
+        for (InteractionType interactionType : hydrogenBondTypes) {
+            final HydrogenBondTable hydrogenBondTable = resultMemo.get(interactionType, criteria);
+            if (hydrogenBondTable == null) {
+                final Map<InteractionType, HydrogenBondTable> foundHydrogenBonds = this.searchAllHydrogenBonds(criteria);
+                foundHydrogenBonds.forEach((foundInteractionType, foundHydrogenBondTable) -> resultMemo.put(foundInteractionType, criteria, foundHydrogenBondTable));
+                return foundHydrogenBonds;
+            }
+            hydrogenBonds.put(interactionType, hydrogenBondTable);
+        }
+        return hydrogenBonds;
     }
 
-    private List<List<Atom>> getAcceptorsSideChain() {
-        List<Atom> acceptorsSideChain = new ArrayList<>();
-        acceptorsDesiredAtomsSideChain.forEach(bondParticipant -> {
-            if (bondParticipant.specialTreatment) {
-                acceptorsSideChain.addAll(bondParticipant.bondParticipantFilter.apply(bondParticipant));
-            } else {
-                acceptorsSideChain.addAll(pdbStructureParser.getAtoms(bondParticipant.atoms, Arrays.asList(bondParticipant.aminoAcid)));
+    private Map<InteractionType, HydrogenBondTable> searchAllHydrogenBonds(HydrogenBondCriteria criteria) {
+        final int[] donorsMainChain = this.getDonorsMainChain();
+        final int[] acceptorsMainChain = this.getAcceptorsMainChain();
+
+//      Main chain participants precede side chain ones, so chain of a participant is told by its index.
+        final int[] donors = this.concatParticipants("HydrogenBondFinder.donors", donorsMainChain, this.getDonorsSideChain());
+        final int[] acceptors = this.concatParticipants("HydrogenBondFinder.acceptors", acceptorsMainChain, this.getAcceptorsSideChain());
+        final int donorsMainChainLen = donorsMainChain.length / bondParticipantSize;
+        final int acceptorsMainChainLen = acceptorsMainChain.length / bondParticipantSize;
+
+//      Donor atom bound to many hydrogens (e.g. NZ of lysine or N at the N-terminus) is searched for once for all of them.
+        final int[] donorAtomOfDonor = new int[donors.length / bondParticipantSize];
+        final int[] donorAtoms = this.getDonorAtoms(donors, donorAtomOfDonor);
+
+//      D-A distance is at most D-H + H-A, so no acceptor farther from donor atom than the longest D-H bond + maxDistanceHA
+//      can form a bond, whatever maxDistanceDA is.
+        double maxDistanceDH = 0.0;
+        for (int donor = 0; donor < donors.length; donor += bondParticipantSize) {
+            maxDistanceDH = Math.max(maxDistanceDH, coordinates.distance(donors[donor], donors[donor + 1]));
+        }
+        final double pruningRadius = Math.min(criteria.getMaxDistanceDA(), maxDistanceDH + criteria.getMaxDistanceHA());
+
+        final NeighborSearch acceptorsSearch = pdbStructureParser.getNeighborSearch("HydrogenBondFinder.all",
+                                                                                    coordinates.getPoints(donorAtoms),
+                                                                                    coordinates.getPoints(this.getParticipantsAtoms(acceptors, 0)),
+                                                                                    pruningRadius);
+        final int[][] candidateAcceptors = new int[donorAtoms.length][];
+        for (int donorAtom = 0; donorAtom < donorAtoms.length; ++donorAtom) {
+            candidateAcceptors[donorAtom] = acceptorsSearch.findNeighbors(donorAtom);
+        }
+
+        final SinglePrecisionScreen screen = this.createScreen(criteria);
+        final HydrogenBondTable mainMainHydrogenBonds = new HydrogenBondTable(coordinates);
+        final HydrogenBondTable mainSideHydrogenBonds = new HydrogenBondTable(coordinates);
+        final HydrogenBondTable sideMainHydrogenBonds = new HydrogenBondTable(coordinates);
+        final HydrogenBondTable sideSideHydrogenBonds = new HydrogenBondTable(coordinates);
+
+        for (int donorInd = 0; donorInd < donorAtomOfDonor.length; ++donorInd) {
+            final int D = donors[donorInd * bondParticipantSize];
+            final int H = donors[donorInd * bondParticipantSize + 1];
+            final boolean mainChainDonor = donorInd < donorsMainChainLen;
+
+            for (int acceptorInd : candidateAcceptors[donorAtomOfDonor[donorInd]]) {
+                final int acceptor = acceptorInd * bondParticipantSize;
+                final boolean mainChainAcceptor = acceptorInd < acceptorsMainChainLen;
+                final HydrogenBondTable hydrogenBondsOfKind = mainChainDonor ? (mainChainAcceptor ? mainMainHydrogenBonds : mainSideHydrogenBonds)
+                                                                             : (mainChainAcceptor ? sideMainHydrogenBonds : sideSideHydrogenBonds);
+                this.obtainHydrogenBond(D, H, acceptors[acceptor], acceptors[acceptor + 1], criteria, screen, hydrogenBondsOfKind);
             }
+        }
+
+//      Main-side bonds are bonds of main chain donors followed by bonds of side chain donors, as in searchMainSideHydrogenBonds.
+        mainSideHydrogenBonds.addAll(sideMainHydrogenBonds);
+        mainMainHydrogenBonds.trimToSize();
+        mainSideHydrogenBonds.trimToSize();
+        sideSideHydrogenBonds.trimToSize();
+
+        final Map<InteractionType, HydrogenBondTable> hydrogenBonds = new EnumMap<>(InteractionType.class);
+        hydrogenBonds.put(InteractionType.MAIN_MAIN_HYDROGEN_BONDS, mainMainHydrogenBonds);
+        hydrogenBonds.put(InteractionType.MAIN_SIDE_HYDROGEN_BONDS, mainSideHydrogenBonds);
+        hydrogenBonds.put(InteractionType.SIDE_SIDE_HYDROGEN_BONDS, sideSideHydrogenBonds);
+        return hydrogenBonds;
+    }
+
+    // Participants are stored as consecutive pairs of atom indices: (donor, hydrogen) for donors
+    // and (acceptor, acceptor antecedent) for acceptors. They are computed once per residue index (so once for all models
+    // of a structure) and shared by all kinds of hydrogen bonds, which may be searched for concurrently.
+    private int[] getDonorsMainChain() {
+        return pdbStructureParser.getParticipants("HydrogenBondFinder.donorsMainChain",
+                                                  () -> this.orderDonors(donorsDesiredAtomsMainChain.stream()
+                                                                                                    .flatMapToInt(bondParticipant -> Arrays.stream(this.getAtomIndices(bondParticipant.atoms, null)))
+                                                                                                    .toArray()));
+    }
+
+    private int[] getAcceptorsMainChain() {
+        return pdbStructureParser.getParticipants("HydrogenBondFinder.acceptorsMainChain",
+                                                  () -> this.orderAcceptors(acceptorsDesiredAtomsMainChain.stream()
+                                                                                                          .flatMapToInt(bondParticipant -> Arrays.stream(this.getAtomIndices(bondParticipant.atoms, null)))
+                                                                                                          .toArray()));
+    }
+
+    private int[] getDonorsSideChain() {
+        return pdbStructureParser.getParticipants("HydrogenBondFinder.donorsSideChain",
+                                                  () -> this.orderDonors(donorsDesiredAtomsSideChain.stream()
+                                                                                                    .flatMapToInt(bondParticipant -> Arrays.stream(this.getAtomIndices(bondParticipant.atoms, Arrays.asList(bondParticipant.aminoAcid))))
+                                                                                                    .toArray()));
+    }
+
+    private int[] getAcceptorsSideChain() {
+        return pdbStructureParser.getParticipants("HydrogenBondFinder.acceptorsSideChain",
+                                                  () -> this.orderAcceptors(acceptorsDesiredAtomsSideChain.stream()
+                                                                                                          .flatMapToInt(bondParticipant -> Arrays.stream(bondParticipant.specialTreatment
+                                                                                                                                                         ? bondParticipant.bondParticipantFilter.apply(bondParticipant)
+                                                                                                                                                         : this.getAtomIndices(bondParticipant.atoms, Arrays.asList(bondParticipant.aminoAcid))))
+                                                                                                          .toArray()));
+    }
+
+    private int[] concatParticipants(String key, int[] mainChainParticipants, int[] sideChainParticipants) {
+        return pdbStructureParser.getParticipants(key, () -> {
+            final int[] participants = Arrays.copyOf(mainChainParticipants, mainChainParticipants.length + sideChainParticipants.length);
+            System.arraycopy(sideChainParticipants, 0, participants, mainChainParticipants.length, sideChainParticipants.length);
+            return participants;
         });
+    }
+
+    // Returns distinct donor atoms in order of their first occurrence and fills donorAtomOfDonor with position of donor atom
+    // of every donor among them.
+    private int[] getDonorAtoms(int[] donors, int[] donorAtomOfDonor) {
+        final Map<Integer, Integer> donorAtomsPositions = new HashMap<>();
+        final int[] donorAtoms = new int[donorAtomOfDonor.length];
+        for (int donorInd = 0; donorInd < donorAtomOfDonor.length; ++donorInd) {
+            final int D = donors[donorInd * bondParticipantSize];
+            final int donorAtom = donorAtomsPositions.computeIfAbsent(D, atom -> donorAtomsPositions.size());
+            donorAtoms[donorAtom] = D;
+            donorAtomOfDonor[donorInd] = donorAtom;
+        }
+        return Arrays.copyOf(donorAtoms, donorAtomsPositions.size());
+    }
+
+    private int[] getAtomIndices(String[] atomNames, List<AminoAcidAbbreviations> allowedAminoAcids) {
+        return coordinates.getResidueIndex().getAtomIndices(atomNames, allowedAminoAcids);
+    }
+
+    // Puts hydrogen second in every donor pair.
+    private int[] orderDonors(int[] donors) {
+        for (int donor = 0; donor < donors.length; donor += bondParticipantSize) {
+            if (coordinates.isHydrogen(donors[donor])) {
+                this.swap(donors, donor, donor + 1);
+            }
+        }
+        return donors;
+    }
 
-        return Lists.partition(acceptorsSideChain, bondParticipantSize);
+    // Puts acceptor antecedent (carbon) second in every acceptor pair.
+    private int[] orderAcceptors(int[] acceptors) {
+        for (int acceptor = 0; acceptor < acceptors.length; acceptor += bondParticipantSize) {
+            if (coordinates.getAtom(acceptors[acceptor]).getName().charAt(0) == ('C')) {
+                this.swap(acceptors, acceptor, acceptor + 1);
+            }
+        }
+        return acceptors;
     }
 
-    private HydrogenBond obtainHydrogenBond(List<Atom> donor, List<Atom> acceptor, HydrogenBondCriteria criteria) {
-        final int indD = (donor.get(0).getName().charAt(0) == ('H')) ? 1 : 0;
-        final int indH = (donor.get(0).getName().charAt(0) == ('H')) ? 0 : 1;
+    private void swap(int[] atoms, int first, int second) {
+        final int tmp = atoms[first];
+        atoms[first] = atoms[second];
+        atoms[second] = tmp;
+    }
 
-        final int indA = (acceptor.get(0).getName().charAt(0) == ('C')) ? 1 : 0;
-        final int indAa = (acceptor.get(0).getName().charAt(0) == ('C')) ? 0 : 1;
+    // Returns atoms at given position (0 or 1) of every participant.
+    private int[] getParticipantsAtoms(int[] participants, int position) {
+        final int[] participantsAtoms = new int[participants.length / bondParticipantSize];
+        for (int i = 0; i < participantsAtoms.length; ++i) {
+            participantsAtoms[i] = participants[i * bondParticipantSize + position];
+        }
+        return participantsAtoms;
+    }
 
+    // Screen of given criteria, or null when coordinates are not stored in single precision.
+    private SinglePrecisionScreen createScreen(HydrogenBondCriteria criteria) {
+        return coordinates.isSinglePrecision() ? new SinglePrecisionScreen(criteria) : null;
+    }
+
+    // Measures candidate bond and adds it to given table when it satisfies criteria.
+    private void obtainHydrogenBond(int D, int H, int A, int Aa, HydrogenBondCriteria criteria, SinglePrecisionScreen screen,
+                                    HydrogenBondTable hydrogenBonds) {
 //      Checking if donor atom is not equal to acceptor atom, to eliminate cases when one atom can be donor and acceptor at the same time.
-        if ( (donor.get(indD).getPDBserial() == acceptor.get(indA).getPDBserial())
-              && (donor.get(indD).getGroup().equals(acceptor.get(indA).getGroup())) ) {
-            return null;
+        if (D == A) {
+            return;
+        }
+
+        if (screen != null && ! screen.mayBond(D, H, A, Aa)) {
+            return;
         }
 
-        final double distanceDA = Calc.getDistance(donor.get(indD), acceptor.get(indA));
+        final double distanceDA = coordinates.distance(D, A);
         if ( ! (distanceDA > criteria.getMinDistanceDA() && distanceDA < criteria.getMaxDistanceDA())) {
-            return null;
+            return;
         }
 
-        final double distanceHA = Calc.getDistance(donor.get(indH), acceptor.get(indA));
+        final double distanceHA = coordinates.distance(H, A);
         if ( ! (distanceHA > criteria.getMinDistanceHA() && distanceHA < criteria.getMaxDistanceHA()) ) {
-            return null;
+            return;
         }
 
-        final double angleDHA = MathHelper.angle(donor.get(indD), donor.get(indH), acceptor.get(indA));
+        final double angleDHA = coordinates.angle(D, H, A);
         if ( ! (angleDHA > criteria.getMinAngleDHA() && angleDHA < criteria.getMaxAngleDHA()) ) {
-            return null;
+            return;
         }
 
-        final double angleHAAa = MathHelper.angle(donor.get(indH), acceptor.get(indA), acceptor.get(indAa));
+        final double angleHAAa = coordinates.angle(H, A, Aa);
         if ( ! (angleHAAa > criteria.getMinAngleHAAa() && angleHAAa < criteria.getMaxAngleHAAa()) ) {
-            return null;
+            return;
         }
 
-        final double angleDAAa = MathHelper.angle(donor.get(indD), acceptor.get(indA), acceptor.get(indAa));
+        final double angleDAAa = coordinates.angle(D, A, Aa);
         if ( ! (angleDAAa > criteria.getMinAngleDAAa() && angleDAAa < criteria.getMaxAngleDAAa()) ) {
-            return null;
+            return;
         }
 
-        return new HydrogenBond(new AminoAcid(donor.get(indD).getGroup()), new AminoAcid(acceptor.get(indA).getGroup()),
-                                donor.get(indD), donor.get(indH), acceptor.get(indA), acceptor.get(indAa),
-                                distanceHA, distanceDA, angleDHA, angleHAAa, angleDAAa);
+        hydrogenBonds.add(D, H, A, Aa, distanceHA, distanceDA, angleDHA, angleHAAa, angleDAAa);
     }
 
-    private List<HydrogenBond> findHydrogenBonds(List<List<Atom>> donors, List<List<Atom>> acceptors, HydrogenBondCriteria criteria) {
-        List<HydrogenBond> foundHydrogenBonds = new ArrayList<>();
+    // Criteria with the widest range of every quantity among given ones, so any bond satisfying one of them satisfies it too.
+    private static HydrogenBondCriteria loosestCriteria(Collection<HydrogenBondCriteria> criteria) {
+        return new HydrogenBondCriteria(criteria.stream().mapToDouble(HydrogenBondCriteria::getMinDistanceDA).min().getAsDouble(),
+                                        criteria.stream().mapToDouble(HydrogenBondCriteria::getMaxDistanceDA).max().getAsDouble(),
+                                        criteria.stream().mapToDouble(HydrogenBondCriteria::getMinDistanceHA).min().getAsDouble(),
+                                        criteria.stream().mapToDouble(HydrogenBondCriteria::getMaxDistanceHA).max().getAsDouble(),
+                                        criteria.stream().mapToDouble(HydrogenBondCriteria::getMinAngleDHA).min().getAsDouble(),
+                                        criteria.stream().mapToDouble(HydrogenBondCriteria::getMaxAngleDHA).max().getAsDouble(),
+                                        criteria.stream().mapToDouble(HydrogenBondCriteria::getMinAngleHAAa).min().getAsDouble(),
+                                        criteria.stream().mapToDouble(HydrogenBondCriteria::getMaxAngleHAAa).max().getAsDouble(),
+                                        criteria.stream().mapToDouble(HydrogenBondCriteria::getMinAngleDAAa).min().getAsDouble(),
+                                        criteria.stream().mapToDouble(HydrogenBondCriteria::getMaxAngleDAAa).max().getAsDouble());
+    }
 
-        donors.forEach(donor -> {
-            acceptors.forEach(acceptor -> {
-                final HydrogenBond hydrogenBond = this.obtainHydrogenBond(donor, acceptor, criteria);
+    // Checks bond already measured by obtainHydrogenBond against other criteria, the same way obtainHydrogenBond does.
+    private static boolean satisfies(HydrogenBond hydrogenBond, HydrogenBondCriteria criteria) {
+        return hydrogenBond.getDistanceDA() > criteria.getMinDistanceDA() && hydrogenBond.getDistanceDA() < criteria.getMaxDistanceDA()
+                && hydrogenBond.getDistanceHA() > criteria.getMinDistanceHA() && hydrogenBond.getDistanceHA() < criteria.getMaxDistanceHA()
+                && hydrogenBond.getAngleDHA() > criteria.getMinAngleDHA() && hydrogenBond.getAngleDHA() < criteria.getMaxAngleDHA()
+                && hydrogenBond.getAngleHAAa() > criteria.getMinAngleHAAa() && hydrogenBond.getAngleHAAa() < criteria.getMaxAngleHAAa()
+                && hydrogenBond.getAngleDAAa() > criteria.getMinAngleDAAa() && hydrogenBond.getAngleDAAa() < criteria.getMaxAngleDAAa();
+    }
 
-                if (hydrogenBond != null) {
-                    foundHydrogenBonds.add(hydrogenBond);
+    private TableSearch<HydrogenBond, HydrogenBondTable> searchHydrogenBonds(String key, int[] donors, int[] acceptors, HydrogenBondCriteria criteria) {
+//      Every bond has to satisfy H-A distance criterion, so only acceptors close enough to donor's hydrogen are checked.
+        final NeighborSearch acceptorsSearch = pdbStructureParser.getNeighborSearch(key,
+                                                                                    coordinates.getPoints(this.getParticipantsAtoms(donors, 1)),
+                                                                                    coordinates.getPoints(this.getParticipantsAtoms(acceptors, 0)),
+                                                                                    criteria.getMaxDistanceHA());
+        final SinglePrecisionScreen screen = this.createScreen(criteria);
+
+        return new TableSearch<>() {
+            @Override
+            int getQueriesCount() {
+                return donors.length / bondParticipantSize;
+            }
+
+            @Override
+            HydrogenBondTable createTable() {
+                return new HydrogenBondTable(coordinates);
+            }
+
+            @Override
+            void findRows(int donorInd, HydrogenBondTable hydrogenBonds) {
+                final int D = donors[donorInd * bondParticipantSize];
+                final int H = donors[donorInd * bondParticipantSize + 1];
+
+                for (int acceptorInd : acceptorsSearch.findNeighbors(donorInd)) {
+                    final int acceptor = acceptorInd * bondParticipantSize;
+                    obtainHydrogenBond(D, H, acceptors[acceptor], acceptors[acceptor + 1], criteria, screen, hydrogenBonds);
                 }
-            });
-        });
-        return foundHydrogenBonds;
+            }
+        };
     }
 
 }
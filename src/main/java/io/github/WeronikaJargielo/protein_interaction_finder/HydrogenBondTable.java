@@ -0,0 +1,191 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import org.biojava.nbio.structure.Atom;
+
+import java.util.Arrays;
+
+/**
+ * Class representing hydrogen bonds found in protein, stored column by column: donor, hydrogen, acceptor and acceptor
+ * antecedent atoms as indices of atoms of the structure and measured quantities as columns of doubles, one row per bond.
+ * Rows are read by index, from 0 to size() - 1, and reading them creates no objects; HydrogenBond objects
+ * are created only on demand, by get(row) or by the list view (asList()).
+ */
+public final class HydrogenBondTable extends InteractionTable<HydrogenBond> {
+
+    private static final int[] noAtoms = new int[0];
+    private static final double[] noValues = new double[0];
+
+    private final CoordinateTable coordinates;
+
+    private int[] donorAtoms = noAtoms;
+    private int[] hydrogenAtoms = noAtoms;
+    private int[] acceptorAtoms = noAtoms;
+    private int[] acceptorAntecedentAtoms = noAtoms;
+    private double[] distancesHA = noValues;
+    private double[] distancesDA = noValues;
+    private double[] anglesDHA = noValues;
+    private double[] anglesHAAa = noValues;
+    private double[] anglesDAAa = noValues;
+
+    HydrogenBondTable(CoordinateTable coordinates) {
+        this.coordinates = coordinates;
+    }
+
+    void add(int D, int H, int A, int Aa, double distanceHA, double distanceDA, double angleDHA, double angleHAAa, double angleDAAa) {
+        final int row = this.addRow();
+        donorAtoms[row] = D;
+        hydrogenAtoms[row] = H;
+        acceptorAtoms[row] = A;
+        acceptorAntecedentAtoms[row] = Aa;
+        distancesHA[row] = distanceHA;
+        distancesDA[row] = distanceDA;
+        anglesDHA[row] = angleDHA;
+        anglesHAAa[row] = angleHAAa;
+        anglesDAAa[row] = angleDAAa;
+    }
+
+    // Appends all rows of other table of the same structure.
+    void addAll(HydrogenBondTable other) {
+        for (int row = 0; row < other.size(); ++row) {
+            this.add(other.donorAtoms[row], other.hydrogenAtoms[row], other.acceptorAtoms[row], other.acceptorAntecedentAtoms[row],
+                     other.distancesHA[row], other.distancesDA[row], other.anglesDHA[row], other.anglesHAAa[row], other.anglesDAAa[row]);
+        }
+    }
+
+    /**
+     * Returns amino acid of participant with donor atom of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Amino acid of participant with donor atom.
+     */
+    public AminoAcid getDonor(int row) {
+        return coordinates.getAminoAcid(donorAtoms[this.checkRow(row)]);
+    }
+
+    /**
+     * Returns amino acid of participant with acceptor atom of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Amino acid of participant with acceptor atom.
+     */
+    public AminoAcid getAcceptor(int row) {
+        return coordinates.getAminoAcid(acceptorAtoms[this.checkRow(row)]);
+    }
+
+    /**
+     * Returns hydrogen bond donor of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Hydrogen bond donor.
+     */
+    public Atom getDonorAtom(int row) {
+        return coordinates.getAtom(donorAtoms[this.checkRow(row)]);
+    }
+
+    /**
+     * Returns hydrogen atom bound to donor of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Hydrogen atom bound to donor.
+     */
+    public Atom getHydrogenAtom(int row) {
+        return coordinates.getAtom(hydrogenAtoms[this.checkRow(row)]);
+    }
+
+    /**
+     * Returns hydrogen bond acceptor of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Hydrogen bond acceptor.
+     */
+    public Atom getAcceptorAtom(int row) {
+        return coordinates.getAtom(acceptorAtoms[this.checkRow(row)]);
+    }
+
+    /**
+     * Returns atom preceding hydrogen bond acceptor of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Atom preceding hydrogen bond acceptor.
+     */
+    public Atom getAcceptorAntecedentAtom(int row) {
+        return coordinates.getAtom(acceptorAntecedentAtoms[this.checkRow(row)]);
+    }
+
+    /**
+     * Returns distance between hydrogen and acceptor of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Distance between hydrogen and acceptor.
+     */
+    public double getDistanceHA(int row) {
+        return distancesHA[this.checkRow(row)];
+    }
+
+    /**
+     * Returns distance between donor and acceptor of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Distance between donor and acceptor.
+     */
+    public double getDistanceDA(int row) {
+        return distancesDA[this.checkRow(row)];
+    }
+
+    /**
+     * Returns angle between donor, hydrogen and acceptor of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Angle between donor, hydrogen and acceptor.
+     */
+    public double getAngleDHA(int row) {
+        return anglesDHA[this.checkRow(row)];
+    }
+
+    /**
+     * Returns angle between hydrogen, acceptor and acceptor antecedent of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Angle between hydrogen, acceptor and acceptor antecedent.
+     */
+    public double getAngleHAAa(int row) {
+        return anglesHAAa[this.checkRow(row)];
+    }
+
+    /**
+     * Returns angle between donor, acceptor and acceptor antecedent of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Angle between donor, acceptor and acceptor antecedent.
+     */
+    public double getAngleDAAa(int row) {
+        return anglesDAAa[this.checkRow(row)];
+    }
+
+    @Override
+    public HydrogenBond get(int row) {
+        this.checkRow(row);
+        final int D = donorAtoms[row], H = hydrogenAtoms[row], A = acceptorAtoms[row], Aa = acceptorAntecedentAtoms[row];
+        return new HydrogenBond(coordinates.getAminoAcid(D), coordinates.getAminoAcid(A),
+                                coordinates.getAtom(D), coordinates.getAtom(H), coordinates.getAtom(A), coordinates.getAtom(Aa),
+                                distancesHA[row], distancesDA[row], anglesDHA[row], anglesHAAa[row], anglesDAAa[row]);
+    }
+
+    @Override
+    void resizeColumns(int capacity) {
+        donorAtoms = Arrays.copyOf(donorAtoms, capacity);
+        hydrogenAtoms = Arrays.copyOf(hydrogenAtoms, capacity);
+        acceptorAtoms = Arrays.copyOf(acceptorAtoms, capacity);
+        acceptorAntecedentAtoms = Arrays.copyOf(acceptorAntecedentAtoms, capacity);
+        distancesHA = Arrays.copyOf(distancesHA, capacity);
+        distancesDA = Arrays.copyOf(distancesDA, capacity);
+        anglesDHA = Arrays.copyOf(anglesDHA, capacity);
+        anglesHAAa = Arrays.copyOf(anglesHAAa, capacity);
+        anglesDAAa = Arrays.copyOf(anglesDAAa, capacity);
+    }
+
+    @Override
+    int getRowBytes() {
+        return 4 * Integer.BYTES + 5 * Double.BYTES;
+    }
+}
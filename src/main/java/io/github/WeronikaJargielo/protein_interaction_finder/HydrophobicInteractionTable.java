@@ -0,0 +1,82 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import java.util.Arrays;
+
+/**
+ * Class representing hydrophobic interactions found in protein, stored column by column: amino acids of participants
+ * as indices of residues of the structure and measured quantities as columns of doubles, one row per interaction.
+ * Rows are read by index, from 0 to size() - 1, and reading them creates no objects; HydrophobicInteraction objects
+ * are created only on demand, by get(row) or by the list view (asList()).
+ */
+public final class HydrophobicInteractionTable extends InteractionTable<HydrophobicInteraction> {
+
+    private static final int[] noResidues = new int[0];
+    private static final double[] noValues = new double[0];
+
+    private final ResidueIndex residueIndex;
+
+    private int[] firstInteracteeResidues = noResidues;
+    private int[] secondInteracteeResidues = noResidues;
+    private double[] distancesBtwCAs = noValues;
+
+    HydrophobicInteractionTable(ResidueIndex residueIndex) {
+        this.residueIndex = residueIndex;
+    }
+
+    void add(int firstInteracteeResidue, int secondInteracteeResidue, double distanceBtwCAs) {
+        final int row = this.addRow();
+        firstInteracteeResidues[row] = firstInteracteeResidue;
+        secondInteracteeResidues[row] = secondInteracteeResidue;
+        distancesBtwCAs[row] = distanceBtwCAs;
+    }
+
+    /**
+     * Returns amino acid of first interaction participant of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Amino acid of first interaction participant.
+     */
+    public AminoAcid getFirstInteractee(int row) {
+        return residueIndex.getAminoAcid(firstInteracteeResidues[this.checkRow(row)]);
+    }
+
+    /**
+     * Returns amino acid of second interaction participant of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Amino acid of second interaction participant.
+     */
+    public AminoAcid getSecondInteractee(int row) {
+        return residueIndex.getAminoAcid(secondInteracteeResidues[this.checkRow(row)]);
+    }
+
+    /**
+     * Returns distance between CA atoms of interaction participants of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Distance between CA atoms of interaction participants.
+     */
+    public double getDistanceBtwCAs(int row) {
+        return distancesBtwCAs[this.checkRow(row)];
+    }
+
+    @Override
+    public HydrophobicInteraction get(int row) {
+        this.checkRow(row);
+        return new HydrophobicInteraction(residueIndex.getAminoAcid(firstInteracteeResidues[row]),
+                                          residueIndex.getAminoAcid(secondInteracteeResidues[row]),
+                                          distancesBtwCAs[row]);
+    }
+
+    @Override
+    void resizeColumns(int capacity) {
+        firstInteracteeResidues = Arrays.copyOf(firstInteracteeResidues, capacity);
+        secondInteracteeResidues = Arrays.copyOf(secondInteracteeResidues, capacity);
+        distancesBtwCAs = Arrays.copyOf(distancesBtwCAs, capacity);
+    }
+
+    @Override
+    int getRowBytes() {
+        return 2 * Integer.BYTES + Double.BYTES;
+    }
+}
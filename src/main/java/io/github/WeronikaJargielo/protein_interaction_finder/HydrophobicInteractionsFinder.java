@@ -1,8 +1,5 @@
 package io.github.WeronikaJargielo.protein_interaction_finder;
 
-import org.biojava.nbio.structure.Atom;
-import org.biojava.nbio.structure.Calc;
-
 import java.util.*;
 
 
@@ -29,34 +26,51 @@ final class HydrophobicInteractionsFinder {
     }
 
     List<HydrophobicInteraction> findHydrophobicInteractions(HydrophobicInteractionCriteria criteria) {
-        ArrayList<Atom> CAsAtoms = pdbStructureParser.getAtoms(desiredAtoms, nonPolarAminoAcids);
-        ArrayList<HydrophobicInteraction> foundHydrophobicInteractions = new ArrayList<>();
-
-        final int CAsAtomsLen = CAsAtoms.size();
-        for (int i = 0; i < CAsAtomsLen; ++i) {
-            for (int j = i + 1; j < CAsAtomsLen; ++j) {
-                final HydrophobicInteraction hydrophobicInteraction = this.obtainHydrophobicInteraction(CAsAtoms.get(i),
-                                                                                                        CAsAtoms.get(j),
-                                                                                                        criteria);
-
-                if (hydrophobicInteraction != null) {
-                    foundHydrophobicInteractions.add(hydrophobicInteraction);
+        return new ArrayList<>(this.tabulateHydrophobicInteractions(criteria).asList());
+    }
+
+    HydrophobicInteractionTable tabulateHydrophobicInteractions(HydrophobicInteractionCriteria criteria) {
+        return pdbStructureParser.memoize(InteractionType.HYDROPHOBIC_INTERACTIONS, criteria, () -> this.searchHydrophobicInteractions(criteria).toTable());
+    }
+
+    TableSearch<HydrophobicInteraction, HydrophobicInteractionTable> searchHydrophobicInteractions(HydrophobicInteractionCriteria criteria) {
+        final CoordinateTable coordinates = pdbStructureParser.getCoordinateTable();
+        final int[] CAsAtoms = coordinates.getResidueIndex().getAtomIndices(desiredAtoms, nonPolarAminoAcids);
+
+        final Points CAs = coordinates.getPoints(CAsAtoms);
+        final NeighborSearch CAsSearch = pdbStructureParser.getNeighborSearch("HydrophobicInteractionsFinder.CAs", CAs, CAs, criteria.getMaxDistanceCAs());
+
+        return new TableSearch<>() {
+            @Override
+            int getQueriesCount() {
+                return CAsAtoms.length;
+            }
+
+            @Override
+            HydrophobicInteractionTable createTable() {
+                return new HydrophobicInteractionTable(coordinates.getResidueIndex());
+            }
+
+            @Override
+            void findRows(int i, HydrophobicInteractionTable hydrophobicInteractions) {
+                for (int j : CAsSearch.findNeighbors(i)) {
+                    if (j <= i) { continue; }
+
+                    obtainHydrophobicInteraction(coordinates, CAsAtoms[i], CAsAtoms[j], criteria, hydrophobicInteractions);
                 }
             }
-        }
-        return foundHydrophobicInteractions;
+        };
     }
 
-    private HydrophobicInteraction obtainHydrophobicInteraction(Atom firstAtom, Atom secondAtom, HydrophobicInteractionCriteria criteria) {
-        final double distCAs = Calc.getDistance(firstAtom, secondAtom);
+    private void obtainHydrophobicInteraction(CoordinateTable coordinates, int firstAtom, int secondAtom,
+                                              HydrophobicInteractionCriteria criteria, HydrophobicInteractionTable hydrophobicInteractions) {
+        final double distCAs = coordinates.distance(firstAtom, secondAtom);
 
         if (distCAs >= criteria.getMinDistanceCAs() && distCAs <= criteria.getMaxDistanceCAs()) {
-            return new HydrophobicInteraction(new AminoAcid(firstAtom.getGroup()),
-                                              new AminoAcid(secondAtom.getGroup()),
-                                              distCAs);
+            hydrophobicInteractions.add(coordinates.getResidue(firstAtom),
+                                        coordinates.getResidue(secondAtom),
+                                        distCAs);
         }
-
-        return null;
     }
 
 }
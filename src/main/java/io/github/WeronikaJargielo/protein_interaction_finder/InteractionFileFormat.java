@@ -0,0 +1,77 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import java.nio.ByteOrder;
+
+// Layout of binary interaction files written by InteractionFileWriter and mapped by InteractionFileReader.
+// All numbers are little-endian; every column starts at offset aligned to the size of its values.
+//
+// Header (headerSize bytes):
+//   int magic, int version, int structures count, int 0, long offset of offset table, long 0
+// Structure blocks, one per structure, each starting at offset aligned to 8:
+//   string name
+//   int chains count, chain IDs (strings)
+//   int atom names count, atom names (strings)
+//   int residues count, int[] positions, int[] chains (indices of chain IDs), byte[] abbreviations (ordinals), padding to 8
+//   for every InteractionType in order of declaration:
+//     int rows count, int 0,
+//     int[] first residue, int[] second residue, for hydrogen bonds also int[] atom names of donor, hydrogen, acceptor
+//     and acceptor antecedent (indices of atom names), padding to 8,
+//     double[] of every measured quantity, in order of parameters of constructor of the interaction
+// Offset table: long offset of every structure block, in order of writing.
+// String is stored as int length of its UTF-8 bytes followed by the bytes and padding to 4.
+final class InteractionFileFormat {
+
+    static final int magic = 0x52464950; // "PIFR" when read byte by byte
+    static final int version = 1;
+    static final ByteOrder byteOrder = ByteOrder.LITTLE_ENDIAN;
+
+    static final int headerSize = 32;
+    static final int versionPosition = 4;
+    static final int structuresCountPosition = 8;
+    static final int offsetTablePosition = 16;
+
+    static final int residueColumnsCount = 2;
+    static final int atomColumnsCount = 4;
+
+    private InteractionFileFormat() {
+    }
+
+    static boolean hasAtomColumns(InteractionType interactionType) {
+        return interactionType == InteractionType.MAIN_MAIN_HYDROGEN_BONDS
+               || interactionType == InteractionType.MAIN_SIDE_HYDROGEN_BONDS
+               || interactionType == InteractionType.SIDE_SIDE_HYDROGEN_BONDS;
+    }
+
+    static int getValueColumnsCount(InteractionType interactionType) {
+        switch (interactionType) {
+            case MAIN_MAIN_HYDROGEN_BONDS:
+            case MAIN_SIDE_HYDROGEN_BONDS:
+            case SIDE_SIDE_HYDROGEN_BONDS:
+                return 5;
+            case DISULPHIDE_BRIDGES:
+                return 6;
+            case SULPHUR_AROMATIC_INTERACTIONS:
+            case AMINO_AROMATIC_INTERACTIONS:
+                return 3;
+            case AROMATIC_AROMATIC_INTERACTIONS:
+                return 2;
+            case IONIC_INTERACTIONS:
+            case HYDROPHOBIC_INTERACTIONS:
+                return 1;
+            default:
+                throw new IllegalArgumentException("Unknown interaction type: " + interactionType);
+        }
+    }
+
+    static int getIntColumnsCount(InteractionType interactionType) {
+        return residueColumnsCount + (hasAtomColumns(interactionType) ? atomColumnsCount : 0);
+    }
+
+    static int align(int position, int alignment) {
+        return (position + alignment - 1) / alignment * alignment;
+    }
+
+    static long align(long position, int alignment) {
+        return (position + alignment - 1) / alignment * alignment;
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Class for reading binary files written by InteractionFileWriter.
+ * The file is memory-mapped instead of being read and parsed: opening it reads only its header and offset table,
+ * block of a structure is mapped when the structure is requested, and its interactions are read directly
+ * from the mapped file when they are accessed.
+ * @see io.github.WeronikaJargielo.protein_interaction_finder.InteractionFileWriter
+ */
+public final class InteractionFileReader implements Closeable {
+
+    private final FileChannel channel;
+    private final int structuresCount;
+    private final ByteBuffer offsetTable;
+    private final long offsetTableOffset;
+
+    /**
+     * Instantiates new InteractionFileReader of given file.
+     *
+     * @param file Path to the file written by InteractionFileWriter.
+     * @throws IOException File could not be read, is not a complete interaction file or has unsupported version.
+     */
+    public InteractionFileReader(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            if (channel.size() < InteractionFileFormat.headerSize) {
+                throw new IOException("Not an interaction file (too short): " + file);
+            }
+            final ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, InteractionFileFormat.headerSize)
+                                             .order(InteractionFileFormat.byteOrder);
+            if (header.getInt(0) != InteractionFileFormat.magic) {
+                throw new IOException("Not an interaction file (or not completed by closing its writer): " + file);
+            }
+            final int version = header.getInt(InteractionFileFormat.versionPosition);
+            if (version != InteractionFileFormat.version) {
+                throw new IOException("Unsupported version " + version + " of interaction file: " + file);
+            }
+
+            this.structuresCount = header.getInt(InteractionFileFormat.structuresCountPosition);
+            this.offsetTableOffset = header.getLong(InteractionFileFormat.offsetTablePosition);
+            if (structuresCount < 0 || offsetTableOffset + (long) Long.BYTES * structuresCount > channel.size()) {
+                throw new IOException("Corrupted interaction file: " + file);
+            }
+            this.offsetTable = channel.map(FileChannel.MapMode.READ_ONLY, offsetTableOffset, (long) Long.BYTES * structuresCount)
+                                      .order(InteractionFileFormat.byteOrder);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns number of structures stored in the file.
+     *
+     * @return Number of structures stored in the file.
+     */
+    public int getStructuresCount() {
+        return structuresCount;
+    }
+
+    /**
+     * Returns interactions of given structure, read directly from the mapped file.
+     * Returned object stays valid after the reader is closed.
+     *
+     * @param structureInd Index of structure, in order of writing (from 0 to getStructuresCount() - 1).
+     * @return Interactions of given structure.
+     * @throws IOException Block of the structure could not be mapped.
+     */
+    public StoredInteractions getStructure(int structureInd) throws IOException {
+        Objects.checkIndex(structureInd, structuresCount);
+        final long blockOffset = offsetTable.getLong(structureInd * Long.BYTES);
+        final long blockEnd = (structureInd + 1 < structuresCount) ? offsetTable.getLong((structureInd + 1) * Long.BYTES) : offsetTableOffset;
+        if (blockEnd - blockOffset > Integer.MAX_VALUE) {
+            throw new IOException("Block of structure " + structureInd + " exceeds 2 GB");
+        }
+        return new StoredInteractions(channel.map(FileChannel.MapMode.READ_ONLY, blockOffset, blockEnd - blockOffset)
+                                             .order(InteractionFileFormat.byteOrder));
+    }
+
+    /**
+     * Closes the file. Structures already returned stay valid.
+     *
+     * @throws IOException File could not be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,270 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import org.biojava.nbio.structure.Atom;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Class for writing interactions of many structures (e.g. of whole local copy of PDB) to one binary file,
+ * which is read by InteractionFileReader without any parsing.
+ * Every structure is stored as a block with its own dictionary of amino acids and with interactions of every type
+ * as columns of indices of amino acids and columns of measured quantities; blocks are located by offset table
+ * written at the end of the file when the writer is closed.
+ * Writer can be used directly as a sink of BatchProcessor; interactions of every successfully processed file
+ * are then stored under the name of the file, and failed files are skipped.
+ * @see io.github.WeronikaJargielo.protein_interaction_finder.InteractionFileReader
+ */
+public final class InteractionFileWriter implements BatchResultSink, Closeable {
+
+    // Interactions of one type together with functions extracting their columns.
+    private static final class Section<T> {
+        private final List<T> interactions;
+        private final Function<T, AminoAcid> first;
+        private final Function<T, AminoAcid> second;
+        private final List<Function<T, Atom>> atoms;
+        private final List<ToDoubleFunction<T>> values;
+
+        private Section(List<T> interactions, Function<T, AminoAcid> first, Function<T, AminoAcid> second,
+                        List<Function<T, Atom>> atoms, List<ToDoubleFunction<T>> values) {
+            this.interactions = interactions;
+            this.first = first;
+            this.second = second;
+            this.atoms = atoms;
+            this.values = values;
+        }
+    }
+
+    private final FileChannel channel;
+    private final List<Long> structureOffsets = new ArrayList<>();
+    private long position = InteractionFileFormat.headerSize;
+
+    /**
+     * Instantiates new InteractionFileWriter creating (or overwriting) given file.
+     *
+     * @param file Path to the file to write.
+     * @throws IOException File could not be created.
+     */
+    public InteractionFileWriter(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Returns number of structures written so far.
+     *
+     * @return Number of structures written so far.
+     */
+    public int getStructuresCount() {
+        return structureOffsets.size();
+    }
+
+    /**
+     * Stores interactions of successfully processed file under the name of the file; failed files are skipped.
+     *
+     * @param result Result of processing one file.
+     * @throws IOException Interactions could not be written.
+     */
+    @Override
+    public void accept(BatchResult result) throws IOException {
+        if (result.isSuccessful()) {
+            this.write(result.getFile().getFileName().toString(), result.getInteractions());
+        }
+    }
+
+    /**
+     * Stores interactions of one structure.
+     *
+     * @param name         Name of the structure (e.g. PDB ID or name of its file).
+     * @param interactions Interactions identified in the structure.
+     * @throws IOException Interactions could not be written.
+     */
+    public void write(String name, AllInteractions interactions) throws IOException {
+        if ( ! channel.isOpen()) {
+            throw new IllegalStateException("Writer is closed");
+        }
+        final List<Section<?>> sections = getSections(Objects.requireNonNull(interactions));
+
+        final Map<AminoAcid, Integer> residues = new LinkedHashMap<>();
+        final Map<String, Integer> chainIds = new LinkedHashMap<>();
+        final Map<String, Integer> atomNames = new LinkedHashMap<>();
+        for (Section<?> section : sections) {
+            collectDictionaries(section, residues, chainIds, atomNames);
+        }
+
+        final ByteBuffer block = ByteBuffer.allocate(getBlockSize(name, sections, residues, chainIds, atomNames))
+                                           .order(InteractionFileFormat.byteOrder);
+        putString(block, name);
+        putStrings(block, chainIds.keySet());
+        putStrings(block, atomNames.keySet());
+
+        block.putInt(residues.size());
+        residues.keySet().forEach(aminoAcid -> block.putInt(aminoAcid.getPosition()));
+        residues.keySet().forEach(aminoAcid -> block.putInt(chainIds.get(aminoAcid.getChainId())));
+        residues.keySet().forEach(aminoAcid -> block.put((byte) aminoAcid.getAbbreviation().ordinal()));
+        pad(block, 8);
+
+        for (Section<?> section : sections) {
+            putSection(block, section, residues, atomNames);
+        }
+
+        block.flip();
+        structureOffsets.add(position);
+        this.writeFully(block, position);
+        position += block.limit();
+    }
+
+    /**
+     * Writes offset table and header and closes the file. Written file is complete only after the writer is closed.
+     *
+     * @throws IOException File could not be completed.
+     */
+    @Override
+    public void close() throws IOException {
+        if ( ! channel.isOpen()) {
+            return;
+        }
+        try {
+            final ByteBuffer offsetTable = ByteBuffer.allocate(Long.BYTES * structureOffsets.size()).order(InteractionFileFormat.byteOrder);
+            structureOffsets.forEach(offsetTable::putLong);
+            offsetTable.flip();
+            this.writeFully(offsetTable, position);
+
+            final ByteBuffer header = ByteBuffer.allocate(InteractionFileFormat.headerSize).order(InteractionFileFormat.byteOrder);
+            header.putInt(0, InteractionFileFormat.magic);
+            header.putInt(InteractionFileFormat.versionPosition, InteractionFileFormat.version);
+            header.putInt(InteractionFileFormat.structuresCountPosition, structureOffsets.size());
+            header.putLong(InteractionFileFormat.offsetTablePosition, position);
+            this.writeFully(header, 0);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer, long filePosition) throws IOException {
+        long writePosition = filePosition;
+        while (buffer.hasRemaining()) {
+            writePosition += channel.write(buffer, writePosition);
+        }
+    }
+
+    private static List<Section<?>> getSections(AllInteractions interactions) {
+        // Sections in order of InteractionType; measured quantities in order of parameters of constructors.
+        final List<ToDoubleFunction<HydrogenBond>> hydrogenBondValues = Arrays.asList(HydrogenBond::getDistanceHA, HydrogenBond::getDistanceDA,
+                                                                                      HydrogenBond::getAngleDHA, HydrogenBond::getAngleHAAa,
+                                                                                      HydrogenBond::getAngleDAAa);
+        final List<Function<HydrogenBond, Atom>> hydrogenBondAtoms = Arrays.asList(HydrogenBond::getDonorAtom, HydrogenBond::getHydrogenAtom,
+                                                                                   HydrogenBond::getAcceptorAtom, HydrogenBond::getAcceptorAntecedentAtom);
+        return Arrays.asList(
+                new Section<>(interactions.getMainMainHydrogenBonds(), HydrogenBond::getDonor, HydrogenBond::getAcceptor,
+                              hydrogenBondAtoms, hydrogenBondValues),
+                new Section<>(interactions.getMainSideHydrogenBonds(), HydrogenBond::getDonor, HydrogenBond::getAcceptor,
+                              hydrogenBondAtoms, hydrogenBondValues),
+                new Section<>(interactions.getSideSideHydrogenBonds(), HydrogenBond::getDonor, HydrogenBond::getAcceptor,
+                              hydrogenBondAtoms, hydrogenBondValues),
+                new Section<>(interactions.getDisulphideBridges(), DisulphideBridge::getFirstInteractee, DisulphideBridge::getSecondInteractee,
+                              List.of(), Arrays.asList(DisulphideBridge::getDistanceBtwCAs, DisulphideBridge::getDistanceBtwCBs,
+                                                       DisulphideBridge::getDistanceBtwSS, DisulphideBridge::getAbsDihAngleSS,
+                                                       DisulphideBridge::getAbsDihAngle1, DisulphideBridge::getAbsDihAngle2)),
+                new Section<>(interactions.getSulphurAromaticInteractions(), SulphurAromaticInteraction::getAromaticAminoAcid,
+                              SulphurAromaticInteraction::getSulphurAminoAcid,
+                              List.of(), Arrays.asList(SulphurAromaticInteraction::getDistanceBtwRingSulphur, SulphurAromaticInteraction::getElevationAngle,
+                                                       SulphurAromaticInteraction::getEquatorialAngle)),
+                new Section<>(interactions.getAminoAromaticInteractions(), AminoAromaticInteraction::getAromaticAminoAcid,
+                              AminoAromaticInteraction::getAminoAminoAcid,
+                              List.of(), Arrays.asList(AminoAromaticInteraction::getDistanceBtwCationRing, AminoAromaticInteraction::getPolarAngle,
+                                                       AminoAromaticInteraction::getAzimuthalAngle)),
+                new Section<>(interactions.getAromaticAromaticInteractions(), AromaticAromaticInteraction::getFirstAromaticRing,
+                              AromaticAromaticInteraction::getSecondAromaticRing,
+                              List.of(), Arrays.asList(AromaticAromaticInteraction::getDistanceBtwRings, AromaticAromaticInteraction::getAngleBtwRings)),
+                new Section<>(interactions.getIonicInteractions(), IonicInteraction::getAnionicAminoAcid, IonicInteraction::getCationicAminoAcid,
+                              List.of(), List.of(IonicInteraction::getDistanceBtwCentroids)),
+                new Section<>(interactions.getHydrophobicInteractions(), HydrophobicInteraction::getFirstInteractee,
+                              HydrophobicInteraction::getSecondInteractee,
+                              List.of(), List.of(HydrophobicInteraction::getDistanceBtwCAs)));
+    }
+
+    private static <T> void collectDictionaries(Section<T> section, Map<AminoAcid, Integer> residues, Map<String, Integer> chainIds,
+                                                Map<String, Integer> atomNames) {
+        for (T interaction : section.interactions) {
+            for (AminoAcid aminoAcid : Arrays.asList(section.first.apply(interaction), section.second.apply(interaction))) {
+                residues.putIfAbsent(aminoAcid, residues.size());
+                chainIds.putIfAbsent(aminoAcid.getChainId(), chainIds.size());
+            }
+            for (Function<T, Atom> atom : section.atoms) {
+                atomNames.putIfAbsent(atom.apply(interaction).getName(), atomNames.size());
+            }
+        }
+    }
+
+    private static int getBlockSize(String name, List<Section<?>> sections, Map<AminoAcid, Integer> residues,
+                                    Map<String, Integer> chainIds, Map<String, Integer> atomNames) {
+        int size = getStringSize(name);
+        size += Integer.BYTES;
+        for (String chainId : chainIds.keySet()) {
+            size += getStringSize(chainId);
+        }
+        size += Integer.BYTES;
+        for (String atomName : atomNames.keySet()) {
+            size += getStringSize(atomName);
+        }
+        size = InteractionFileFormat.align(size + Integer.BYTES + residues.size() * (2 * Integer.BYTES + 1), 8);
+
+        for (Section<?> section : sections) {
+            final int rowsCount = section.interactions.size();
+            size += 2 * Integer.BYTES;
+            size = InteractionFileFormat.align(size + (2 + section.atoms.size()) * rowsCount * Integer.BYTES, 8);
+            size += section.values.size() * rowsCount * Double.BYTES;
+        }
+        return size;
+    }
+
+    private static <T> void putSection(ByteBuffer block, Section<T> section, Map<AminoAcid, Integer> residues, Map<String, Integer> atomNames) {
+        block.putInt(section.interactions.size());
+        block.putInt(0);
+        section.interactions.forEach(interaction -> block.putInt(residues.get(section.first.apply(interaction))));
+        section.interactions.forEach(interaction -> block.putInt(residues.get(section.second.apply(interaction))));
+        for (Function<T, Atom> atom : section.atoms) {
+            section.interactions.forEach(interaction -> block.putInt(atomNames.get(atom.apply(interaction).getName())));
+        }
+        pad(block, 8);
+        for (ToDoubleFunction<T> value : section.values) {
+            section.interactions.forEach(interaction -> block.putDouble(value.applyAsDouble(interaction)));
+        }
+    }
+
+    private static int getStringSize(String string) {
+        return Integer.BYTES + InteractionFileFormat.align(string.getBytes(StandardCharsets.UTF_8).length, 4);
+    }
+
+    private static void putString(ByteBuffer block, String string) {
+        final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        block.putInt(bytes.length);
+        block.put(bytes);
+        pad(block, 4);
+    }
+
+    private static void putStrings(ByteBuffer block, Collection<String> strings) {
+        block.putInt(strings.size());
+        strings.forEach(string -> putString(block, string));
+    }
+
+    private static void pad(ByteBuffer block, int alignment) {
+        while (block.position() % alignment != 0) {
+            block.put((byte) 0);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Class representing occupancy of interaction between pair of amino acids in an ensemble of structures
+ * (e.g. NMR models or frames of molecular dynamics trajectory).
+ * Interactions of given type between the same amino acids are counted at most once per structure,
+ * so occupancy is the fraction of structures in which the amino acids interact.
+ */
+public final class InteractionOccupancy {
+
+    private final InteractionType interactionType;
+    private final AminoAcid firstAminoAcid;
+    private final AminoAcid secondAminoAcid;
+    private final int occurrencesCount;
+    private final int structuresCount;
+
+    InteractionOccupancy(InteractionType interactionType, AminoAcid firstAminoAcid, AminoAcid secondAminoAcid,
+                         int occurrencesCount, int structuresCount) {
+        this.interactionType = interactionType;
+        this.firstAminoAcid = firstAminoAcid;
+        this.secondAminoAcid = secondAminoAcid;
+        this.occurrencesCount = occurrencesCount;
+        this.structuresCount = structuresCount;
+    }
+
+    /**
+     * Returns type of interaction.
+     *
+     * @return Type of interaction.
+     */
+    public InteractionType getInteractionType() {
+        return interactionType;
+    }
+
+    /**
+     * Returns first amino acid of interaction, in the same role as in interaction of given type
+     * (e.g. donor of hydrogen bond, aromatic amino acid of amino-aromatic interaction, anionic amino acid of ionic interaction).
+     *
+     * @return First amino acid of interaction.
+     */
+    public AminoAcid getFirstAminoAcid() {
+        return firstAminoAcid;
+    }
+
+    /**
+     * Returns second amino acid of interaction, in the same role as in interaction of given type
+     * (e.g. acceptor of hydrogen bond, amino amino acid of amino-aromatic interaction, cationic amino acid of ionic interaction).
+     *
+     * @return Second amino acid of interaction.
+     */
+    public AminoAcid getSecondAminoAcid() {
+        return secondAminoAcid;
+    }
+
+    /**
+     * Returns number of structures in which the amino acids interact.
+     *
+     * @return Number of structures in which the amino acids interact.
+     */
+    public int getOccurrencesCount() {
+        return occurrencesCount;
+    }
+
+    /**
+     * Returns number of all structures of the ensemble.
+     *
+     * @return Number of all structures of the ensemble.
+     */
+    public int getStructuresCount() {
+        return structuresCount;
+    }
+
+    /**
+     * Returns occupancy of interaction.
+     *
+     * @return Fraction of structures in which the amino acids interact (from 0 to 1).
+     */
+    public double getOccupancy() {
+        return (double) occurrencesCount / structuresCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        InteractionOccupancy that = (InteractionOccupancy) o;
+        return occurrencesCount == that.occurrencesCount &&
+                structuresCount == that.structuresCount &&
+                interactionType == that.interactionType &&
+                firstAminoAcid.equals(that.firstAminoAcid) &&
+                secondAminoAcid.equals(that.secondAminoAcid);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(interactionType, firstAminoAcid, secondAminoAcid, occurrencesCount, structuresCount);
+    }
+
+    @Override
+    public String toString() {
+        return "InteractionOccupancy: " +
+                "interactionType = " + interactionType +
+                ",\tfirstAminoAcid = " + firstAminoAcid +
+                ",\tsecondAminoAcid = " + secondAminoAcid +
+                ",\toccurrencesCount = " + occurrencesCount +
+                ",\tstructuresCount = " + structuresCount +
+                ",\toccupancy = " + String.format(Locale.ROOT, "%.3f", getOccupancy());
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Search for interactions split along the outer loop of a finder: interactions of every query (e.g. donor, ring or CA atom)
+// are found independently of other queries. Found interactions can therefore be pushed to a consumer one by one,
+// collected to a list, or streamed by a spliterator which splits ranges of queries, so parallel streams need no locking.
+// All three give interactions in the same order.
+abstract class InteractionSearch<T> {
+
+    abstract int getQueriesCount();
+
+    abstract void findInteractions(int query, Consumer<? super T> consumer);
+
+    final void forEach(Consumer<? super T> consumer) {
+        final int queriesCount = this.getQueriesCount();
+        for (int query = 0; query < queriesCount; ++query) {
+            this.findInteractions(query, consumer);
+        }
+    }
+
+    List<T> toList() {
+        final List<T> foundInteractions = new ArrayList<>();
+        this.forEach(foundInteractions::add);
+        return foundInteractions;
+    }
+
+    final Stream<T> stream() {
+        return StreamSupport.stream(new QueriesSpliterator(0, this.getQueriesCount()), false);
+    }
+
+    // Interactions of the first search followed by interactions of the second one.
+    static <T> InteractionSearch<T> concat(InteractionSearch<T> first, InteractionSearch<T> second) {
+        return new InteractionSearch<T>() {
+            @Override
+            int getQueriesCount() {
+                return first.getQueriesCount() + second.getQueriesCount();
+            }
+
+            @Override
+            void findInteractions(int query, Consumer<? super T> consumer) {
+                final int firstQueriesCount = first.getQueriesCount();
+                if (query < firstQueriesCount) {
+                    first.findInteractions(query, consumer);
+                } else {
+                    second.findInteractions(query - firstQueriesCount, consumer);
+                }
+            }
+        };
+    }
+
+    // Spliterator over range of queries; interactions of one query are buffered only when they are taken one by one.
+    private final class QueriesSpliterator implements Spliterator<T> {
+        private int query;
+        private final int end;
+        private final ArrayDeque<T> buffer = new ArrayDeque<>();
+
+        QueriesSpliterator(int query, int end) {
+            this.query = query;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (buffer.isEmpty()) {
+                if (query >= end) {
+                    return false;
+                }
+                findInteractions(query++, buffer::add);
+            }
+            action.accept(buffer.poll());
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            while ( ! buffer.isEmpty()) {
+                action.accept(buffer.poll());
+            }
+            for (; query < end; ++query) {
+                findInteractions(query, action);
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            // Buffered interactions precede all remaining queries, so the prefix can be split off only with empty buffer.
+            if ( ! buffer.isEmpty() || end - query < 2) {
+                return null;
+            }
+            final int middle = query + (end - query) / 2;
+            final Spliterator<T> prefix = new QueriesSpliterator(query, middle);
+            query = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - query + buffer.size();
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+    }
+}
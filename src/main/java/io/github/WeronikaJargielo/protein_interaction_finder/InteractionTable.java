@@ -0,0 +1,88 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+// Interactions of one type stored column by column: participants as int indices (of residues or atoms) into the index
+// of the structure they were found in and measured quantities as double columns, one row per interaction.
+// Rows are read by index (0 to size() - 1), with no object created per row; interaction objects are created on demand
+// only, by get(row) or by the list view.
+abstract class InteractionTable<T> {
+
+    private static final int initialCapacity = 16;
+
+    private int size;
+    private int capacity;
+
+    /**
+     * Returns number of interactions (rows) in the table.
+     *
+     * @return Number of interactions in the table.
+     */
+    public final int size() {
+        return size;
+    }
+
+    /**
+     * Returns interaction of given row as a new object, equal to the one identified by corresponding find method.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Interaction of given row.
+     */
+    public abstract T get(int row);
+
+    /**
+     * Returns unmodifiable list view of the table, which creates interaction of a row whenever the row is accessed.
+     *
+     * @return List view of the table, in order of rows.
+     */
+    public final List<T> asList() {
+        return new ListView();
+    }
+
+    // Returns index of new row, growing columns first when they are full.
+    final int addRow() {
+        if (size == capacity) {
+            capacity = Math.max(initialCapacity, 2 * capacity);
+            this.resizeColumns(capacity);
+        }
+        return size++;
+    }
+
+    // Shrinks columns to the number of rows, once the table is complete.
+    final void trimToSize() {
+        if (capacity > size) {
+            capacity = size;
+            this.resizeColumns(capacity);
+        }
+    }
+
+    final int checkRow(int row) {
+        return Objects.checkIndex(row, size);
+    }
+
+    // Estimated heap footprint of columns in bytes.
+    final long getFootprint() {
+        return (long) capacity * this.getRowBytes();
+    }
+
+    // Copies every column to array of given length.
+    abstract void resizeColumns(int capacity);
+
+    // Number of bytes taken by one row in all columns.
+    abstract int getRowBytes();
+
+    private final class ListView extends AbstractList<T> implements RandomAccess {
+        @Override
+        public T get(int row) {
+            return InteractionTable.this.get(row);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
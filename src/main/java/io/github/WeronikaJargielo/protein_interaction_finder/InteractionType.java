@@ -0,0 +1,43 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+/**
+ * Types of implemented interactions.
+ */
+public enum InteractionType {
+    /**
+     * Main chain - main chain hydrogen bonds
+     */
+    MAIN_MAIN_HYDROGEN_BONDS,
+    /**
+     * Main chain - side chain hydrogen bonds
+     */
+    MAIN_SIDE_HYDROGEN_BONDS,
+    /**
+     * Side chain - side chain hydrogen bonds
+     */
+    SIDE_SIDE_HYDROGEN_BONDS,
+    /**
+     * Disulphide bridges
+     */
+    DISULPHIDE_BRIDGES,
+    /**
+     * Sulphur-aromatic interactions
+     */
+    SULPHUR_AROMATIC_INTERACTIONS,
+    /**
+     * Amino-aromatic interactions
+     */
+    AMINO_AROMATIC_INTERACTIONS,
+    /**
+     * Aromatic-aromatic interactions
+     */
+    AROMATIC_AROMATIC_INTERACTIONS,
+    /**
+     * Ionic interactions
+     */
+    IONIC_INTERACTIONS,
+    /**
+     * Hydrophobic interactions
+     */
+    HYDROPHOBIC_INTERACTIONS
+}
@@ -0,0 +1,82 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import java.util.Arrays;
+
+/**
+ * Class representing ionic interactions found in protein, stored column by column: amino acids of participants
+ * as indices of residues of the structure and measured quantities as columns of doubles, one row per interaction.
+ * Rows are read by index, from 0 to size() - 1, and reading them creates no objects; IonicInteraction objects
+ * are created only on demand, by get(row) or by the list view (asList()).
+ */
+public final class IonicInteractionTable extends InteractionTable<IonicInteraction> {
+
+    private static final int[] noResidues = new int[0];
+    private static final double[] noValues = new double[0];
+
+    private final ResidueIndex residueIndex;
+
+    private int[] anionicAminoAcidResidues = noResidues;
+    private int[] cationicAminoAcidResidues = noResidues;
+    private double[] distancesBtwCentroids = noValues;
+
+    IonicInteractionTable(ResidueIndex residueIndex) {
+        this.residueIndex = residueIndex;
+    }
+
+    void add(int anionicAminoAcidResidue, int cationicAminoAcidResidue, double distanceBtwCentroids) {
+        final int row = this.addRow();
+        anionicAminoAcidResidues[row] = anionicAminoAcidResidue;
+        cationicAminoAcidResidues[row] = cationicAminoAcidResidue;
+        distancesBtwCentroids[row] = distanceBtwCentroids;
+    }
+
+    /**
+     * Returns negatively charged amino acid of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Negatively charged amino acid.
+     */
+    public AminoAcid getAnionicAminoAcid(int row) {
+        return residueIndex.getAminoAcid(anionicAminoAcidResidues[this.checkRow(row)]);
+    }
+
+    /**
+     * Returns positively charged amino acid of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Positively charged amino acid.
+     */
+    public AminoAcid getCationicAminoAcid(int row) {
+        return residueIndex.getAminoAcid(cationicAminoAcidResidues[this.checkRow(row)]);
+    }
+
+    /**
+     * Returns distance between charged groups' centroids of interaction participants of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Distance between charged groups' centroids of interaction participants.
+     */
+    public double getDistanceBtwCentroids(int row) {
+        return distancesBtwCentroids[this.checkRow(row)];
+    }
+
+    @Override
+    public IonicInteraction get(int row) {
+        this.checkRow(row);
+        return new IonicInteraction(residueIndex.getAminoAcid(anionicAminoAcidResidues[row]),
+                                    residueIndex.getAminoAcid(cationicAminoAcidResidues[row]),
+                                    distancesBtwCentroids[row]);
+    }
+
+    @Override
+    void resizeColumns(int capacity) {
+        anionicAminoAcidResidues = Arrays.copyOf(anionicAminoAcidResidues, capacity);
+        cationicAminoAcidResidues = Arrays.copyOf(cationicAminoAcidResidues, capacity);
+        distancesBtwCentroids = Arrays.copyOf(distancesBtwCentroids, capacity);
+    }
+
+    @Override
+    int getRowBytes() {
+        return 2 * Integer.BYTES + Double.BYTES;
+    }
+}
@@ -1,9 +1,5 @@
 package io.github.WeronikaJargielo.protein_interaction_finder;
 
-import com.google.common.collect.Lists;
-import org.biojava.nbio.structure.Atom;
-import org.biojava.nbio.structure.Calc;
-
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -15,7 +11,7 @@ final class IonicInteractionsFinder {
     private final class IonInteractee {
         public final String[] atoms;
         public final List<AminoAcidAbbreviations> aminoAcid;
-        public final Function<IonicInteractionsFinder.IonInteractee, List<Atom>> ionInteracteeFilter;
+        public final Function<IonicInteractionsFinder.IonInteractee, int[]> ionInteracteeFilter;
         public final Boolean specialTreatment;
 
 
@@ -27,7 +23,7 @@ final class IonicInteractionsFinder {
 
         }
 
-        public IonInteractee(String[] atoms, List<AminoAcidAbbreviations> aminoAcid, Function<IonInteractee, List<Atom>> ionInteracteeFilter) {
+        public IonInteractee(String[] atoms, List<AminoAcidAbbreviations> aminoAcid, Function<IonInteractee, int[]> ionInteracteeFilter) {
             this.atoms = atoms;
             this.aminoAcid = aminoAcid;
             this.ionInteracteeFilter = ionInteracteeFilter;
@@ -35,36 +31,53 @@ final class IonicInteractionsFinder {
         }
     }
 
+    // Inner class representing centroids of charged groups, each with the first atom of its group.
+    private final class Centroids {
+        public double[] x = new double[0], y = new double[0], z = new double[0];
+        public int[] groupAtoms = new int[0];
+        public int size = 0;
+
+        public void addGroups(int[] atomInds, int groupSize) {
+            final int groupsLen = atomInds.length / groupSize;
+            x = Arrays.copyOf(x, size + groupsLen);
+            y = Arrays.copyOf(y, size + groupsLen);
+            z = Arrays.copyOf(z, size + groupsLen);
+            groupAtoms = Arrays.copyOf(groupAtoms, size + groupsLen);
+
+            for (int g = 0; g < groupsLen; ++g) {
+                coordinates.centroid(atomInds, g * groupSize, groupSize, x, y, z, size);
+                groupAtoms[size++] = atomInds[g * groupSize];
+            }
+        }
+    }
+
     private PdbStructureParser pdbStructureParser;
+    private CoordinateTable coordinates;
 
     public IonicInteractionsFinder(PdbStructureParser pdbStructureParser) {
         this.pdbStructureParser = pdbStructureParser;
+        this.coordinates = pdbStructureParser.getCoordinateTable();
     }
 
-    final private Function<IonicInteractionsFinder.IonInteractee, List<Atom>> getHisCentroidIfIsChargedFilter = (ionInteractee -> {
-        List<Atom> histidineCentroids = new ArrayList<>();
-        final List<List<Atom>> foundHisAtoms = Lists.partition(pdbStructureParser.getAtoms(ionInteractee.atoms, ionInteractee.aminoAcid), ionInteractee.atoms.length);
-        if (foundHisAtoms.isEmpty()) { return histidineCentroids; }
-
-//      If histidine is charged it should have those two hydrogen atom: HD1 and HE2.
-        final String[] hisHsAtoms = new String[]{"HD1" ,"HE2"};
-        final List<Atom> foundHs = pdbStructureParser.getAtoms(hisHsAtoms, ionInteractee.aminoAcid);
-
-        foundHisAtoms.forEach(his -> {
-            final Atom anyAtom = his.get(0);
-            final Integer hisSeqNum = anyAtom.getGroup().getResidueNumber().getSeqNum();
-            final String hisChain = anyAtom.getGroup().getChain().getName();
+    final private Function<IonicInteractionsFinder.IonInteractee, int[]> getHisAtomsIfIsChargedFilter = (ionInteractee -> {
+        final ResidueIndex residueIndex = coordinates.getResidueIndex();
+        final int groupSize = ionInteractee.atoms.length;
 
-            final long counterMatchingHs = foundHs.stream()
-                                                  .filter(H -> hisSeqNum.equals(H.getGroup().getResidueNumber().getSeqNum())
-                                                               && hisChain.equals(H.getGroup().getChain().getName()))
-                                                  .count();
+        final int[] foundHisAtoms = residueIndex.getAtomIndices(ionInteractee.atoms, ionInteractee.aminoAcid);
+        if (foundHisAtoms.length == 0) { return foundHisAtoms; }
 
-            if (counterMatchingHs == hisHsAtoms.length) {
-                histidineCentroids.add(this.calculateCentroidOfGroupAtoms(his));
+//      If histidine is charged it should have those two hydrogen atom: HD1 and HE2.
+        final ProtonationIndex protonationIndex = residueIndex.getProtonationIndex();
+
+        int[] chargedHisAtoms = new int[foundHisAtoms.length];
+        int chargedHisAtomsLen = 0;
+        for (int his = 0; his < foundHisAtoms.length; his += groupSize) {
+            if (protonationIndex.isChargedHistidine(coordinates.getResidue(foundHisAtoms[his]))) {
+                System.arraycopy(foundHisAtoms, his, chargedHisAtoms, chargedHisAtomsLen, groupSize);
+                chargedHisAtomsLen += groupSize;
             }
-        });
-        return histidineCentroids;
+        }
+        return Arrays.copyOf(chargedHisAtoms, chargedHisAtomsLen);
     });
 
     private final List<IonicInteractionsFinder.IonInteractee> desiredAtomsOfAnionicGroups = Arrays.asList(new IonInteractee(new String[]{"CG", "OD1", "OD2"}, Arrays.asList(AminoAcidAbbreviations.ASP)),
@@ -73,58 +86,75 @@ final class IonicInteractionsFinder {
 
     private final List<IonicInteractionsFinder.IonInteractee> desiredAtomsOfCationicGroups = Arrays.asList(new IonInteractee(new String[]{"NE", "CZ", "NH1", "NH2"}, Arrays.asList(AminoAcidAbbreviations.ARG)),
                                                                                                            new IonInteractee(new String[]{"NZ"}, Arrays.asList(AminoAcidAbbreviations.LYS)),
-                                                                                                           new IonInteractee(new String[]{"CG", "ND1", "CD2", "CE1", "NE2"}, Arrays.asList(AminoAcidAbbreviations.HIS), getHisCentroidIfIsChargedFilter)
+                                                                                                           new IonInteractee(new String[]{"CG", "ND1", "CD2", "CE1", "NE2"}, Arrays.asList(AminoAcidAbbreviations.HIS), getHisAtomsIfIsChargedFilter)
     );
 
 
-    private List<Atom> getListOfGroupsCentroids(List<IonicInteractionsFinder.IonInteractee> desiredAtomsOfGroups){
-        List<Atom> centroids = new ArrayList<>();
+    private Centroids getGroupsCentroids(List<IonicInteractionsFinder.IonInteractee> desiredAtomsOfGroups){
+        Centroids centroids = new Centroids();
         desiredAtomsOfGroups.forEach(ionInteractee -> {
             if (ionInteractee.specialTreatment) {
-                centroids.addAll(ionInteractee.ionInteracteeFilter.apply(ionInteractee));
+                final int[] filteredAtoms = pdbStructureParser.getParticipants("IonicInteractionsFinder." + String.join(",", ionInteractee.atoms),
+                                                                               () -> ionInteractee.ionInteracteeFilter.apply(ionInteractee));
+                centroids.addGroups(filteredAtoms, ionInteractee.atoms.length);
             } else {
-                List<List<Atom>> atomsSingleAminoAcid = Lists.partition(pdbStructureParser.getAtoms(ionInteractee.atoms, ionInteractee.aminoAcid), ionInteractee.atoms.length);
-                atomsSingleAminoAcid.forEach(atomsPerAminoAcids -> centroids.add(this.calculateCentroidOfGroupAtoms(atomsPerAminoAcids)));
+                centroids.addGroups(coordinates.getResidueIndex().getAtomIndices(ionInteractee.atoms, ionInteractee.aminoAcid), ionInteractee.atoms.length);
             }
         });
         return centroids;
     }
 
-    private Atom calculateCentroidOfGroupAtoms(List<Atom> foundGroupAtoms) {
-        Atom[] atomsAsArray = new Atom[foundGroupAtoms.size()];
-        Atom centroid = Calc.getCentroid(foundGroupAtoms.toArray(atomsAsArray));
-        centroid.setGroup(atomsAsArray[0].getGroup());
+    public List<IonicInteraction> findIonicInteractions(IonicInteractionCriteria criteria) {
+        return new ArrayList<>(this.tabulateIonicInteractions(criteria).asList());
+    }
 
-        return centroid;
+    public IonicInteractionTable tabulateIonicInteractions(IonicInteractionCriteria criteria) {
+        return pdbStructureParser.memoize(InteractionType.IONIC_INTERACTIONS, criteria, () -> this.searchIonicInteractions(criteria).toTable());
     }
 
-    public List<IonicInteraction> findIonicInteractions(IonicInteractionCriteria criteria) {
-        final List<Atom> anionicCentroids = this.getListOfGroupsCentroids(desiredAtomsOfAnionicGroups);
-        final List<Atom> cationicCentroids = this.getListOfGroupsCentroids(desiredAtomsOfCationicGroups);
-
-        List<IonicInteraction> foundIonicInteractions = new ArrayList<>();
-        anionicCentroids.forEach(anion -> {
-            cationicCentroids.forEach(cation -> {
-                final IonicInteraction ionicInteraction = this.obtainIonicInteraction(anion, cation, criteria);
-                if (ionicInteraction != null) {
-                    foundIonicInteractions.add(ionicInteraction);
-                }
-            });
-        });
+    public TableSearch<IonicInteraction, IonicInteractionTable> searchIonicInteractions(IonicInteractionCriteria criteria) {
+        final Centroids anionicCentroids = this.getGroupsCentroids(desiredAtomsOfAnionicGroups);
+        final Centroids cationicCentroids = this.getGroupsCentroids(desiredAtomsOfCationicGroups);
+
+        final NeighborSearch cationicSearch = pdbStructureParser.getNeighborSearch("IonicInteractionsFinder.centroids",
+                                                                                   new Points(anionicCentroids.x, anionicCentroids.y, anionicCentroids.z),
+                                                                                   new Points(cationicCentroids.x, cationicCentroids.y, cationicCentroids.z),
+                                                                                   criteria.getMaxDistanceBtwCentroids());
 
-        return foundIonicInteractions;
+        return new TableSearch<>() {
+            @Override
+            int getQueriesCount() {
+                return anionicCentroids.size;
+            }
+
+            @Override
+            IonicInteractionTable createTable() {
+                return new IonicInteractionTable(coordinates.getResidueIndex());
+            }
+
+            @Override
+            void findRows(int anion, IonicInteractionTable ionicInteractions) {
+                for (int cation : cationicSearch.findNeighbors(anion)) {
+                    obtainIonicInteraction(anionicCentroids, anion, cationicCentroids, cation, criteria, ionicInteractions);
+                }
+            }
+        };
     }
 
-    private IonicInteraction obtainIonicInteraction(Atom anion, Atom cation, IonicInteractionCriteria criteria) {
-        final double distanceBtwCentroids = Calc.getDistance(anion, cation);
+    private void obtainIonicInteraction(Centroids anionicCentroids, int anion, Centroids cationicCentroids, int cation,
+                                        IonicInteractionCriteria criteria, IonicInteractionTable ionicInteractions) {
+        // Same as Calc.getDistance between centroids.
+        final double dx = anionicCentroids.x[anion] - cationicCentroids.x[cation];
+        final double dy = anionicCentroids.y[anion] - cationicCentroids.y[cation];
+        final double dz = anionicCentroids.z[anion] - cationicCentroids.z[cation];
+        final double distanceBtwCentroids = Math.sqrt(dx*dx + dy*dy + dz*dz);
 
         if (distanceBtwCentroids >= criteria.getMinDistanceBtwCentroids()
             && distanceBtwCentroids <= criteria.getMaxDistanceBtwCentroids()) {
 
-            return new IonicInteraction(new AminoAcid(anion.getGroup()),
-                                        new AminoAcid(cation.getGroup()),
-                                        distanceBtwCentroids);
+            ionicInteractions.add(coordinates.getResidue(anionicCentroids.groupAtoms[anion]),
+                                  coordinates.getResidue(cationicCentroids.groupAtoms[cation]),
+                                  distanceBtwCentroids);
         }
-        return null;
     }
 }
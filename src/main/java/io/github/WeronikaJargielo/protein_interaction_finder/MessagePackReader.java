@@ -0,0 +1,195 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import org.biojava.nbio.structure.StructureException;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Reader of consecutive values of MessagePack format, in which BinaryCIF files are written. Values are read either
+// whole (maps as maps of string keys, arrays as lists, strings as strings, integers as longs, floats as doubles and
+// binary data as read-only buffers sharing content of the read one) or piece by piece (headers of maps and arrays
+// followed by their elements), so that parts of a large file can be skipped without being stored.
+final class MessagePackReader {
+
+    private final ByteBuffer buffer;
+
+    MessagePackReader(ByteBuffer buffer) {
+        this.buffer = buffer.slice().order(ByteOrder.BIG_ENDIAN);
+    }
+
+    Object readValue() throws StructureException {
+        try {
+            final int type = buffer.get() & 0xff;
+            if (type <= 0x7f) {
+                return (long) type;
+            } else if (type <= 0x8f) {
+                return this.readMap(type & 0x0f);
+            } else if (type <= 0x9f) {
+                return this.readArray(type & 0x0f);
+            } else if (type <= 0xbf) {
+                return this.readString(type & 0x1f);
+            } else if (type >= 0xe0) {
+                return (long) (byte) type;
+            }
+            switch (type) {
+                case 0xc0: return null;
+                case 0xc2: return false;
+                case 0xc3: return true;
+                case 0xc4: return this.readBinary(buffer.get() & 0xff);
+                case 0xc5: return this.readBinary(buffer.getShort() & 0xffff);
+                case 0xc6: return this.readBinary(this.readLength());
+                case 0xca: return (double) buffer.getFloat();
+                case 0xcb: return buffer.getDouble();
+                case 0xcc: return (long) (buffer.get() & 0xff);
+                case 0xcd: return (long) (buffer.getShort() & 0xffff);
+                case 0xce: return buffer.getInt() & 0xffffffffL;
+                case 0xcf: return buffer.getLong();
+                case 0xd0: return (long) buffer.get();
+                case 0xd1: return (long) buffer.getShort();
+                case 0xd2: return (long) buffer.getInt();
+                case 0xd3: return buffer.getLong();
+                case 0xd9: return this.readString(buffer.get() & 0xff);
+                case 0xda: return this.readString(buffer.getShort() & 0xffff);
+                case 0xdb: return this.readString(this.readLength());
+                case 0xdc: return this.readArray(buffer.getShort() & 0xffff);
+                case 0xdd: return this.readArray(this.readLength());
+                case 0xde: return this.readMap(buffer.getShort() & 0xffff);
+                case 0xdf: return this.readMap(this.readLength());
+                default: throw new StructureException("Unsupported MessagePack type: 0x" + Integer.toHexString(type));
+            }
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new StructureException("Unexpected end of MessagePack data", e);
+        }
+    }
+
+    // Number of entries of the map starting at current position.
+    int readMapHeader() throws StructureException {
+        try {
+            final int type = buffer.get() & 0xff;
+            if (type >= 0x80 && type <= 0x8f) {
+                return type & 0x0f;
+            } else if (type == 0xde) {
+                return buffer.getShort() & 0xffff;
+            } else if (type == 0xdf) {
+                return this.readLength();
+            }
+            throw new StructureException("MessagePack map expected, found type 0x" + Integer.toHexString(type));
+        } catch (BufferUnderflowException e) {
+            throw new StructureException("Unexpected end of MessagePack data", e);
+        }
+    }
+
+    // Number of elements of the array starting at current position.
+    int readArrayHeader() throws StructureException {
+        try {
+            final int type = buffer.get() & 0xff;
+            if (type >= 0x90 && type <= 0x9f) {
+                return type & 0x0f;
+            } else if (type == 0xdc) {
+                return buffer.getShort() & 0xffff;
+            } else if (type == 0xdd) {
+                return this.readLength();
+            }
+            throw new StructureException("MessagePack array expected, found type 0x" + Integer.toHexString(type));
+        } catch (BufferUnderflowException e) {
+            throw new StructureException("Unexpected end of MessagePack data", e);
+        }
+    }
+
+    // Moves past the value starting at current position without reading it.
+    void skipValue() throws StructureException {
+        try {
+            final int type = buffer.get() & 0xff;
+            if (type <= 0x7f || type >= 0xe0) {
+                return;
+            } else if (type <= 0x8f) {
+                this.skipValues(2 * (type & 0x0f));
+                return;
+            } else if (type <= 0x9f) {
+                this.skipValues(type & 0x0f);
+                return;
+            } else if (type <= 0xbf) {
+                this.skipBytes(type & 0x1f);
+                return;
+            }
+            switch (type) {
+                case 0xc0: case 0xc2: case 0xc3: return;
+                case 0xc4: case 0xd9: this.skipBytes(buffer.get() & 0xff); return;
+                case 0xc5: case 0xda: this.skipBytes(buffer.getShort() & 0xffff); return;
+                case 0xc6: case 0xdb: this.skipBytes(this.readLength()); return;
+                case 0xcc: case 0xd0: this.skipBytes(1); return;
+                case 0xcd: case 0xd1: this.skipBytes(2); return;
+                case 0xca: case 0xce: case 0xd2: this.skipBytes(4); return;
+                case 0xcb: case 0xcf: case 0xd3: this.skipBytes(8); return;
+                case 0xdc: this.skipValues(buffer.getShort() & 0xffff); return;
+                case 0xdd: this.skipValues(this.readLength()); return;
+                case 0xde: this.skipValues(2 * (buffer.getShort() & 0xffff)); return;
+                case 0xdf: this.skipValues(2L * this.readLength()); return;
+                default: throw new StructureException("Unsupported MessagePack type: 0x" + Integer.toHexString(type));
+            }
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new StructureException("Unexpected end of MessagePack data", e);
+        }
+    }
+
+    String readString() throws StructureException {
+        final Object value = this.readValue();
+        if ( ! (value instanceof String)) {
+            throw new StructureException("MessagePack string expected, found " + value);
+        }
+        return (String) value;
+    }
+
+    private int readLength() throws StructureException {
+        final int length = buffer.getInt();
+        if (length < 0) {
+            throw new StructureException("MessagePack value exceeds 2 GB");
+        }
+        return length;
+    }
+
+    private void skipValues(long count) throws StructureException {
+        for (long i = 0; i < count; ++i) {
+            this.skipValue();
+        }
+    }
+
+    private void skipBytes(int count) {
+        buffer.position(buffer.position() + count);
+    }
+
+    private Map<String, Object> readMap(int size) throws StructureException {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; ++i) {
+            map.put(this.readString(), this.readValue());
+        }
+        return map;
+    }
+
+    private List<Object> readArray(int size) throws StructureException {
+        final List<Object> array = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            array.add(this.readValue());
+        }
+        return array;
+    }
+
+    private String readString(int length) {
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private ByteBuffer readBinary(int length) {
+        final ByteBuffer binary = buffer.slice();
+        binary.limit(length);
+        buffer.position(buffer.position() + length);
+        return binary.asReadOnlyBuffer();
+    }
+}
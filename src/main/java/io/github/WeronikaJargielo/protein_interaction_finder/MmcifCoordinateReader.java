@@ -0,0 +1,328 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import org.biojava.nbio.structure.Structure;
+import org.biojava.nbio.structure.StructureException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Class for reading protein structures from mmCIF files faster and into less memory than BioJava does.
+ * The file is memory-mapped (or decompressed into memory when it is compressed with gzip or bgzip) and streamed token by token; only the loop of atom_site category of its first data block
+ * is read, row by row, and all other categories are skipped without being stored.
+ * Returned BioJava Structure contains only models, chains, groups and atoms with names, coordinates, occupancies,
+ * temperature factors, elements and formal charges written in the file, so interactions identified in it
+ * are the same as in the structure parsed by BioJava. Of alternate locations of atoms only the first one
+ * of every group is kept, as in main groups built by BioJava.
+ * @see io.github.WeronikaJargielo.protein_interaction_finder.BinaryCifCoordinateReader
+ * @see io.github.WeronikaJargielo.protein_interaction_finder.ProteinInteractionFinder#ProteinInteractionFinder(Structure)
+ */
+public final class MmcifCoordinateReader {
+
+    private static final String atomSiteCategory = "_atom_site.";
+
+    private MmcifCoordinateReader() {
+    }
+
+    /**
+     * Reads protein structure from given mmCIF file.
+     *
+     * @param mmcifFile Path to mmCIF file, possibly compressed with gzip or bgzip.
+     * @return BioJava Structure object containing coordinates of protein.
+     * @throws IOException        Probably given mmCIF file does not exist.
+     * @throws StructureException Probably given mmCIF file is incorrectly formatted.
+     */
+    public static Structure read(Path mmcifFile) throws IOException, StructureException {
+        return read(StructureFiles.read(mmcifFile), mmcifFile.getFileName().toString());
+    }
+
+    // Reads structure from remaining bytes of given buffer (e.g. of decompressed file), naming it with given name.
+    static Structure read(ByteBuffer mmcifFile, String name) throws StructureException {
+        final Tokenizer tokenizer = new Tokenizer(mmcifFile);
+        final AtomSiteBuilder atomSiteBuilder = new AtomSiteBuilder(new StructureBuilder(name));
+        boolean isAtomSiteRead = false;
+        boolean hasToken = tokenizer.next();
+        while (hasToken) {
+            if (tokenizer.isKeyword("loop_")) {
+                final List<String> tags = new ArrayList<>();
+                while ((hasToken = tokenizer.next()) && tokenizer.isTag()) {
+                    tags.add(tokenizer.getText().toLowerCase(Locale.ROOT));
+                }
+                if ( ! isAtomSiteRead && ! tags.isEmpty() && tags.get(0).startsWith(atomSiteCategory)) {
+                    hasToken = readAtomSite(tokenizer, tags, atomSiteBuilder);
+                    isAtomSiteRead = true;
+                } else {
+                    while (hasToken && ! tokenizer.isReserved()) {
+                        hasToken = tokenizer.next();
+                    }
+                }
+            } else if (tokenizer.isKeyword("data_") && isAtomSiteRead) {
+                break;
+            } else {
+                hasToken = tokenizer.next();
+            }
+        }
+        return atomSiteBuilder.build();
+    }
+
+    // Reads rows of atom_site loop of given tags, up to the first reserved token after them, and returns
+    // whether there is such token.
+    private static boolean readAtomSite(Tokenizer tokenizer, List<String> tags, AtomSiteBuilder atomSiteBuilder) throws StructureException {
+        final TokenRow row = new TokenRow(tokenizer, atomSiteBuilder.getStructureBuilder(), tags);
+        atomSiteBuilder.checkColumns(row);
+        boolean hasToken = true;
+        int column = 0;
+        while (hasToken && ! tokenizer.isReserved()) {
+            row.setColumn(column);
+            if (++column == tags.size()) {
+                atomSiteBuilder.addAtom(row);
+                column = 0;
+            }
+            hasToken = tokenizer.next();
+        }
+        if (column != 0) {
+            throw new StructureException("Incomplete last row of atom_site category before line " + tokenizer.getLineNumber());
+        }
+        return hasToken;
+    }
+
+    // Splits file into tokens: unquoted values, tags and reserved words, values in quotes and text fields
+    // (lines between ones starting with semicolon). Comments are skipped.
+    private static final class Tokenizer {
+        private final ByteBuffer file;
+        private final int start;
+        private final int limit;
+        private int position;
+        private int lineNumber = 1;
+
+        private int tokenStart;
+        private int tokenEnd;
+        private boolean isTokenQuoted;
+
+        private Tokenizer(ByteBuffer file) {
+            this.file = file;
+            this.start = file.position();
+            this.limit = file.limit();
+            this.position = start;
+        }
+
+        // Moves to the next token and returns whether there is one.
+        boolean next() throws StructureException {
+            while (true) {
+                while (position < limit && isWhitespace(file.get(position))) {
+                    if (file.get(position++) == '\n') {
+                        ++lineNumber;
+                    }
+                }
+                if (position >= limit) {
+                    return false;
+                }
+
+                final byte first = file.get(position);
+                if (first == '#') {
+                    while (position < limit && file.get(position) != '\n') {
+                        ++position;
+                    }
+                } else if (first == ';' && (position == start || file.get(position - 1) == '\n')) {
+                    this.readTextField();
+                    return true;
+                } else if (first == '\'' || first == '"') {
+                    this.readQuoted(first);
+                    return true;
+                } else {
+                    tokenStart = position;
+                    while (position < limit && ! isWhitespace(file.get(position))) {
+                        ++position;
+                    }
+                    tokenEnd = position;
+                    isTokenQuoted = false;
+                    return true;
+                }
+            }
+        }
+
+        private void readTextField() throws StructureException {
+            final int startLineNumber = lineNumber;
+            tokenStart = position + 1;
+            for (int i = tokenStart; i < limit; ++i) {
+                if (file.get(i) == '\n') {
+                    ++lineNumber;
+                    if (i + 1 < limit && file.get(i + 1) == ';') {
+                        tokenEnd = (i > tokenStart && file.get(i - 1) == '\r') ? i - 1 : i;
+                        position = i + 2;
+                        isTokenQuoted = true;
+                        return;
+                    }
+                }
+            }
+            throw new StructureException("Unterminated text field in line " + startLineNumber);
+        }
+
+        // Quoted value ends at the same quote followed by whitespace.
+        private void readQuoted(byte quote) throws StructureException {
+            tokenStart = position + 1;
+            for (int i = tokenStart; i < limit; ++i) {
+                final byte b = file.get(i);
+                if (b == quote && (i + 1 == limit || isWhitespace(file.get(i + 1)))) {
+                    tokenEnd = i;
+                    position = i + 1;
+                    isTokenQuoted = true;
+                    return;
+                }
+                if (b == '\n') {
+                    break;
+                }
+            }
+            throw new StructureException("Unterminated quoted value in line " + lineNumber);
+        }
+
+        boolean isTag() {
+            return ! isTokenQuoted && file.get(tokenStart) == '_';
+        }
+
+        // Whether token is a tag or a reserved word, ending values of a loop.
+        boolean isReserved() {
+            return this.isTag() || this.isKeyword("loop_") || this.isKeyword("data_") || this.isKeyword("save_")
+                   || this.isKeyword("global_") || this.isKeyword("stop_");
+        }
+
+        // Whether token is unquoted and starts with given keyword (case insensitive).
+        boolean isKeyword(String keyword) {
+            if (isTokenQuoted || tokenEnd - tokenStart < keyword.length()) {
+                return false;
+            }
+            for (int i = 0; i < keyword.length(); ++i) {
+                if (Character.toLowerCase(file.get(tokenStart + i)) != keyword.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // Whether token is unquoted . (inapplicable value) or ? (unknown value).
+        boolean isMissingValue() {
+            if (isTokenQuoted || tokenEnd - tokenStart != 1) {
+                return false;
+            }
+            final byte b = file.get(tokenStart);
+            return b == '.' || b == '?';
+        }
+
+        String getText() {
+            final byte[] text = new byte[tokenEnd - tokenStart];
+            for (int i = 0; i < text.length; ++i) {
+                text[i] = file.get(tokenStart + i);
+            }
+            return new String(text, StandardCharsets.UTF_8);
+        }
+
+        int getLineNumber() {
+            return lineNumber;
+        }
+
+        private static boolean isWhitespace(byte b) {
+            return b == ' ' || b == '\n' || b == '\t' || b == '\r';
+        }
+    }
+
+    // Row of atom_site loop, remembering positions of tokens of its columns in the file.
+    private static final class TokenRow implements AtomSiteBuilder.Row {
+        private final Tokenizer tokenizer;
+        private final StructureBuilder structureBuilder;
+
+        // Column of every field, or -1 when there is no such column.
+        private final int[] fieldColumns = new int[AtomSiteBuilder.Field.values().length];
+        private final int[] tokenStarts;
+        private final int[] tokenEnds;
+        private final boolean[] areMissing;
+        private final int[] lineNumbers;
+        private byte[] text = new byte[32];
+
+        private TokenRow(Tokenizer tokenizer, StructureBuilder structureBuilder, List<String> tags) {
+            this.tokenizer = tokenizer;
+            this.structureBuilder = structureBuilder;
+            Arrays.fill(fieldColumns, -1);
+            for (int column = 0; column < tags.size(); ++column) {
+                final String tag = tags.get(column);
+                final AtomSiteBuilder.Field field = tag.startsWith(atomSiteCategory)
+                                                    ? AtomSiteBuilder.Field.fromColumnName(tag.substring(atomSiteCategory.length()))
+                                                    : null;
+                if (field != null) {
+                    fieldColumns[field.ordinal()] = column;
+                }
+            }
+            tokenStarts = new int[tags.size()];
+            tokenEnds = new int[tags.size()];
+            areMissing = new boolean[tags.size()];
+            lineNumbers = new int[tags.size()];
+        }
+
+        // Remembers current token of tokenizer as value of given column.
+        void setColumn(int column) {
+            tokenStarts[column] = tokenizer.tokenStart;
+            tokenEnds[column] = tokenizer.tokenEnd;
+            areMissing[column] = tokenizer.isMissingValue();
+            lineNumbers[column] = tokenizer.lineNumber;
+        }
+
+        @Override
+        public boolean hasColumn(AtomSiteBuilder.Field field) {
+            return fieldColumns[field.ordinal()] >= 0;
+        }
+
+        @Override
+        public boolean isPresent(AtomSiteBuilder.Field field) {
+            final int column = fieldColumns[field.ordinal()];
+            return column >= 0 && ! areMissing[column];
+        }
+
+        @Override
+        public String getString(AtomSiteBuilder.Field field) {
+            final int column = fieldColumns[field.ordinal()];
+            return structureBuilder.share(this.copyText(column), 0, tokenEnds[column] - tokenStarts[column]);
+        }
+
+        @Override
+        public int getInt(AtomSiteBuilder.Field field) throws StructureException {
+            final int column = fieldColumns[field.ordinal()];
+            try {
+                return NumberParser.parseInt(this.copyText(column), 0, tokenEnds[column] - tokenStarts[column]);
+            } catch (NumberFormatException e) {
+                throw this.incorrectNumber(field, column);
+            }
+        }
+
+        @Override
+        public double getDouble(AtomSiteBuilder.Field field) throws StructureException {
+            final int column = fieldColumns[field.ordinal()];
+            try {
+                return NumberParser.parseDouble(this.copyText(column), 0, tokenEnds[column] - tokenStarts[column]);
+            } catch (NumberFormatException e) {
+                throw this.incorrectNumber(field, column);
+            }
+        }
+
+        // Copies token of given column to the beginning of text array.
+        private byte[] copyText(int column) {
+            final int len = tokenEnds[column] - tokenStarts[column];
+            if (len > text.length) {
+                text = new byte[Math.max(len, 2 * text.length)];
+            }
+            for (int i = 0; i < len; ++i) {
+                text[i] = tokenizer.file.get(tokenStarts[column] + i);
+            }
+            return text;
+        }
+
+        private StructureException incorrectNumber(AtomSiteBuilder.Field field, int column) {
+            return new StructureException("Incorrect number in " + atomSiteCategory + field.name().toLowerCase(Locale.ROOT)
+                                          + " column in line " + lineNumbers[column]);
+        }
+    }
+}
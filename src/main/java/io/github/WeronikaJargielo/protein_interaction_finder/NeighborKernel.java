@@ -0,0 +1,19 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+// Kernel of neighbour searches (see ScalarNeighborKernel). This is the version for Java 11; multi-release jar
+// replaces it on Java 17 and later with the one in src/main/java17, which uses Vector API when it is available.
+final class NeighborKernel {
+
+    private NeighborKernel() {
+    }
+
+    static int collectWithin(double[] xs, double[] ys, double[] zs, int from, int to, double x, double y, double z,
+                             double radiusSquared, int[] pointIndices, int[] found, int foundLen) {
+        return ScalarNeighborKernel.collectWithin(xs, ys, zs, from, to, x, y, z, radiusSquared, pointIndices, found, foundLen);
+    }
+
+    static int collectWithin(float[] xs, float[] ys, float[] zs, int from, int to, float x, float y, float z,
+                             float radiusSquared, int[] pointIndices, int[] found, int foundLen) {
+        return ScalarNeighborKernel.collectWithin(xs, ys, zs, from, to, x, y, z, radiusSquared, pointIndices, found, foundLen);
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+// Search of candidates for interactions between query points and target points. For given query it returns indices
+// (in ascending order) of all targets lying within the cutoff from it, plus possibly a few more distant ones,
+// so the exact criteria check is still done by the finders themselves.
+@FunctionalInterface
+interface NeighborSearch {
+
+    int[] findNeighbors(int query);
+
+    // Search in the cell list of targets, built anew for the current positions of points (see CellList for single precision).
+    static NeighborSearch inCellList(Points queries, Points targets, double cutoff, boolean singlePrecision) {
+        final CellList targetsCellList = new CellList(targets.x, targets.y, targets.z, cutoff, singlePrecision);
+        return query -> targetsCellList.findNeighbors(queries.x[query], queries.y[query], queries.z[query], cutoff);
+    }
+}
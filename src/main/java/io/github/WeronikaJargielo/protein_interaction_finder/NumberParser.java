@@ -0,0 +1,106 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import java.nio.charset.StandardCharsets;
+
+// Parser of numbers written as ASCII text (e.g. in columns of coordinate records), surrounded by any number of spaces.
+// Fixed-point decimal numbers, in which coordinates are written, are parsed without creating strings, but with exactly
+// the same result as Double.parseDouble and Float.parseFloat: both integer of their digits and power of ten are exact,
+// so is their correctly rounded quotient. Other notations are left to Double.parseDouble and Float.parseFloat.
+final class NumberParser {
+
+    // Powers of ten represented exactly in double and float.
+    private static final double[] powersOfTen = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+                                                 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+    private static final float[] floatPowersOfTen = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+
+    private NumberParser() {
+    }
+
+    static int parseInt(byte[] text, int from, int to) {
+        int i = from;
+        while (i < to && text[i] == ' ') { ++i; }
+        final boolean negative = i < to && text[i] == '-';
+        if (negative || (i < to && text[i] == '+')) { ++i; }
+        if (i == to || text[i] == ' ') {
+            throw new NumberFormatException("Missing number");
+        }
+        int value = 0;
+        for (; i < to && text[i] != ' '; ++i) {
+            if (text[i] < '0' || text[i] > '9') {
+                throw new NumberFormatException("Incorrect number: " + new String(text, from, to - from, StandardCharsets.ISO_8859_1));
+            }
+            value = 10 * value + (text[i] - '0');
+        }
+        if ( ! isBlank(text, i, to)) {
+            throw new NumberFormatException("Incorrect number: " + new String(text, from, to - from, StandardCharsets.ISO_8859_1));
+        }
+        return negative ? -value : value;
+    }
+
+    static double parseDouble(byte[] text, int from, int to) {
+        int i = from;
+        while (i < to && text[i] == ' ') { ++i; }
+        final boolean negative = i < to && text[i] == '-';
+        if (negative) { ++i; }
+        long digits = 0;
+        int digitsLen = 0;
+        int fractionLen = -1;
+        for (; i < to && text[i] != ' '; ++i) {
+            final byte c = text[i];
+            if (c >= '0' && c <= '9' && digitsLen < 15) {
+                digits = 10 * digits + (c - '0');
+                ++digitsLen;
+                if (fractionLen >= 0) { ++fractionLen; }
+            } else if (c == '.' && fractionLen < 0) {
+                fractionLen = 0;
+            } else {
+                return Double.parseDouble(toString(text, from, to));
+            }
+        }
+        if (digitsLen == 0 || ! isBlank(text, i, to)) {
+            return Double.parseDouble(toString(text, from, to));
+        }
+        final double value = (fractionLen > 0) ? digits / powersOfTen[fractionLen] : digits;
+        return negative ? -value : value;
+    }
+
+    static float parseFloat(byte[] text, int from, int to) {
+        int i = from;
+        while (i < to && text[i] == ' ') { ++i; }
+        final boolean negative = i < to && text[i] == '-';
+        if (negative) { ++i; }
+        int digits = 0;
+        int digitsLen = 0;
+        int fractionLen = -1;
+        for (; i < to && text[i] != ' '; ++i) {
+            final byte c = text[i];
+            if (c >= '0' && c <= '9' && digitsLen < 7) {
+                digits = 10 * digits + (c - '0');
+                ++digitsLen;
+                if (fractionLen >= 0) { ++fractionLen; }
+            } else if (c == '.' && fractionLen < 0) {
+                fractionLen = 0;
+            } else {
+                return Float.parseFloat(toString(text, from, to));
+            }
+        }
+        if (digitsLen == 0 || ! isBlank(text, i, to)) {
+            return Float.parseFloat(toString(text, from, to));
+        }
+        final float value = (fractionLen > 0) ? digits / floatPowersOfTen[fractionLen] : digits;
+        return negative ? -value : value;
+    }
+
+    static boolean isBlank(byte[] text, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            if (text[i] != ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String toString(byte[] text, int from, int to) {
+        return new String(text, from, to - from, StandardCharsets.ISO_8859_1).trim();
+    }
+}
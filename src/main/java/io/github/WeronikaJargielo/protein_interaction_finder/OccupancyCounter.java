@@ -0,0 +1,91 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+// Counts, for every type of interaction and pair of amino acids, in how many structures of an ensemble they interact.
+// Structures have to be added in order, then occupancies are listed in order of first occurrence.
+final class OccupancyCounter {
+
+    // Pair of amino acids interacting in given way, the same for all structures of an ensemble.
+    private static final class ResiduePair {
+        private final InteractionType interactionType;
+        private final AminoAcid first;
+        private final AminoAcid second;
+
+        private ResiduePair(InteractionType interactionType, AminoAcid first, AminoAcid second) {
+            this.interactionType = interactionType;
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ResiduePair that = (ResiduePair) o;
+            return interactionType == that.interactionType && first.equals(that.first) && second.equals(that.second);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(interactionType, first, second);
+        }
+    }
+
+    private final Map<ResiduePair, Integer> occurrencesCounts = new LinkedHashMap<>();
+    private int structuresCount = 0;
+
+    void add(AllInteractions interactions) {
+        // Several interactions of one pair (e.g. two hydrogen bonds) in the same structure are counted once.
+        final Set<ResiduePair> residuePairs = new HashSet<>();
+
+        addPairs(residuePairs, InteractionType.MAIN_MAIN_HYDROGEN_BONDS, interactions.getMainMainHydrogenBonds(), HydrogenBond::getDonor, HydrogenBond::getAcceptor);
+        addPairs(residuePairs, InteractionType.MAIN_SIDE_HYDROGEN_BONDS, interactions.getMainSideHydrogenBonds(), HydrogenBond::getDonor, HydrogenBond::getAcceptor);
+        addPairs(residuePairs, InteractionType.SIDE_SIDE_HYDROGEN_BONDS, interactions.getSideSideHydrogenBonds(), HydrogenBond::getDonor, HydrogenBond::getAcceptor);
+        addPairs(residuePairs, InteractionType.DISULPHIDE_BRIDGES, interactions.getDisulphideBridges(),
+                 DisulphideBridge::getFirstInteractee, DisulphideBridge::getSecondInteractee);
+        addPairs(residuePairs, InteractionType.SULPHUR_AROMATIC_INTERACTIONS, interactions.getSulphurAromaticInteractions(),
+                 SulphurAromaticInteraction::getAromaticAminoAcid, SulphurAromaticInteraction::getSulphurAminoAcid);
+        addPairs(residuePairs, InteractionType.AMINO_AROMATIC_INTERACTIONS, interactions.getAminoAromaticInteractions(),
+                 AminoAromaticInteraction::getAromaticAminoAcid, AminoAromaticInteraction::getAminoAminoAcid);
+        addPairs(residuePairs, InteractionType.AROMATIC_AROMATIC_INTERACTIONS, interactions.getAromaticAromaticInteractions(),
+                 AromaticAromaticInteraction::getFirstAromaticRing, AromaticAromaticInteraction::getSecondAromaticRing);
+        addPairs(residuePairs, InteractionType.IONIC_INTERACTIONS, interactions.getIonicInteractions(),
+                 IonicInteraction::getAnionicAminoAcid, IonicInteraction::getCationicAminoAcid);
+        addPairs(residuePairs, InteractionType.HYDROPHOBIC_INTERACTIONS, interactions.getHydrophobicInteractions(),
+                 HydrophobicInteraction::getFirstInteractee, HydrophobicInteraction::getSecondInteractee);
+
+        ++structuresCount;
+    }
+
+    private <T> void addPairs(Set<ResiduePair> residuePairs, InteractionType interactionType, List<T> interactions,
+                              Function<T, AminoAcid> first, Function<T, AminoAcid> second) {
+        for (T interaction : interactions) {
+            final ResiduePair residuePair = new ResiduePair(interactionType, first.apply(interaction), second.apply(interaction));
+            if (residuePairs.add(residuePair)) {
+                occurrencesCounts.merge(residuePair, 1, Integer::sum);
+            }
+        }
+    }
+
+    int getStructuresCount() {
+        return structuresCount;
+    }
+
+    List<InteractionOccupancy> getOccupancies() {
+        final List<InteractionOccupancy> occupancies = new ArrayList<>(occurrencesCounts.size());
+        occurrencesCounts.forEach((residuePair, occurrencesCount) -> occupancies.add(new InteractionOccupancy(residuePair.interactionType,
+                                                                                                              residuePair.first,
+                                                                                                              residuePair.second,
+                                                                                                              occurrencesCount,
+                                                                                                              structuresCount)));
+        return occupancies;
+    }
+}
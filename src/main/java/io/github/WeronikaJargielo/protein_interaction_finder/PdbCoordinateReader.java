@@ -0,0 +1,217 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import org.biojava.nbio.structure.Chain;
+import org.biojava.nbio.structure.Group;
+import org.biojava.nbio.structure.Structure;
+import org.biojava.nbio.structure.StructureException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Class for reading protein structures from PDB files faster and into less memory than BioJava's StructureIO does.
+ * The file is memory-mapped (or decompressed into memory when it is compressed with gzip or bgzip) and only its
+ * coordinate records (ATOM, HETATM, MODEL, ENDMDL and TER) are read,
+ * field by field from their fixed columns; header, SEQRES records, compounds and all other records are skipped.
+ * Returned BioJava Structure contains only models, chains, groups and atoms with names, coordinates, occupancies,
+ * temperature factors, elements and formal charges written in the file, so interactions identified in it are the same as in the structure
+ * parsed by StructureIO. Of alternate locations of atoms only the first one of every group is kept, as in main
+ * groups built by BioJava. Groups following TER record of their chain are stored in separate non-polymer chains
+ * (water in water chains), which follow all polymer chains of their model.
+ * @see io.github.WeronikaJargielo.protein_interaction_finder.ProteinInteractionFinder#ProteinInteractionFinder(Structure)
+ */
+public final class PdbCoordinateReader {
+
+    private static final int lineLen = 80;
+    private static final byte[] atomRecord = "ATOM  ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] hetatmRecord = "HETATM".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] modelRecord = "MODEL ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] endmdlRecord = "ENDMDL".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] terRecord = "TER".getBytes(StandardCharsets.US_ASCII);
+
+    private static final Set<String> waterNames = new HashSet<>(Arrays.asList("HOH", "DOD", "WAT"));
+
+    private PdbCoordinateReader() {
+    }
+
+    /**
+     * Reads protein structure from given PDB file.
+     *
+     * @param pdbFile Path to PDB file, possibly compressed with gzip or bgzip.
+     * @return BioJava Structure object containing coordinates of protein.
+     * @throws IOException        Probably given PDB file does not exist.
+     * @throws StructureException Probably given PDB file is incorrectly formatted.
+     */
+    public static Structure read(Path pdbFile) throws IOException, StructureException {
+        return read(StructureFiles.read(pdbFile), pdbFile.getFileName().toString());
+    }
+
+    // Reads structure from remaining bytes of given buffer (e.g. of decompressed file), naming it with given name.
+    static Structure read(ByteBuffer pdbFile, String name) throws StructureException {
+        final byte[] line = new byte[lineLen];
+        final ModelBuilder modelBuilder = new ModelBuilder(new StructureBuilder(name));
+        boolean isModelOpen = false;
+        int lineNumber = 0;
+        while (pdbFile.hasRemaining()) {
+            readLine(pdbFile, line);
+            ++lineNumber;
+            if (startsWith(line, atomRecord) || startsWith(line, hetatmRecord)) {
+                modelBuilder.addAtom(line, lineNumber);
+                isModelOpen = true;
+            } else if (startsWith(line, terRecord)) {
+                modelBuilder.terminateChains();
+            } else if (startsWith(line, modelRecord) || startsWith(line, endmdlRecord)) {
+                if (isModelOpen) {
+                    modelBuilder.addModel();
+                    isModelOpen = false;
+                }
+            }
+        }
+        if (isModelOpen) {
+            modelBuilder.addModel();
+        }
+        return modelBuilder.structureBuilder.build();
+    }
+
+    // Places groups of consecutive atom records of one model in its chains.
+    private static final class ModelBuilder {
+        private final StructureBuilder structureBuilder;
+
+        private final Map<String, Chain> polymerChains = new LinkedHashMap<>();
+        private final List<Chain> nonPolymerChains = new ArrayList<>();
+        private final Map<String, Chain> waterChains = new LinkedHashMap<>();
+        private final Set<String> terminatedChains = new HashSet<>();
+
+        private ModelBuilder(StructureBuilder structureBuilder) {
+            this.structureBuilder = structureBuilder;
+        }
+
+        void addAtom(byte[] line, int lineNumber) throws StructureException {
+            final String chainName = structureBuilder.share(line, 21, 22);
+            final int resSeq = parseInt(line, 22, 26, lineNumber);
+            final char insCode = (char) line[26];
+            if ( ! structureBuilder.isInGroup(chainName, resSeq, insCode)) {
+                this.startGroup(structureBuilder.share(line, 17, 20), chainName, resSeq, insCode);
+            }
+
+            final char altLoc = (char) line[16];
+            if ( ! structureBuilder.isKeptAltLoc(altLoc)) {
+                return;
+            }
+
+            final String atomName = structureBuilder.share(line, 12, 16);
+            int charge = 0;
+            if (line[78] >= '0' && line[78] <= '9' && (line[79] == '+' || line[79] == '-')) {
+                charge = (line[79] == '-' ? -1 : 1) * (line[78] - '0');
+            }
+            structureBuilder.addAtom(atomName, altLoc, parseInt(line, 6, 11, lineNumber),
+                                     parseDouble(line, 30, 38, lineNumber),
+                                     parseDouble(line, 38, 46, lineNumber),
+                                     parseDouble(line, 46, 54, lineNumber),
+                                     NumberParser.isBlank(line, 54, 60) ? 1.0f : parseFloat(line, 54, 60, lineNumber),
+                                     NumberParser.isBlank(line, 60, 66) ? 0.0f : parseFloat(line, 60, 66, lineNumber),
+                                     structureBuilder.getElement(structureBuilder.share(line, 76, 78), atomName),
+                                     charge);
+        }
+
+        private void startGroup(String pdbName, String chainName, int resSeq, char insCode) {
+            final Group group = structureBuilder.startGroup(pdbName, chainName, resSeq, insCode);
+            final Chain chain;
+            if (waterNames.contains(pdbName)) {
+                chain = waterChains.computeIfAbsent(chainName, name -> StructureBuilder.newChain(null, name));
+            } else if (terminatedChains.contains(chainName)) {
+                chain = StructureBuilder.newChain(null, chainName);
+                nonPolymerChains.add(chain);
+            } else {
+                chain = polymerChains.computeIfAbsent(chainName, name -> StructureBuilder.newChain(null, name));
+            }
+            chain.addGroup(group);
+        }
+
+        // Groups of chains read so far, read from now on, do not belong to their polymers (as ligands and water
+        // listed after TER records of all chains).
+        void terminateChains() {
+            terminatedChains.addAll(polymerChains.keySet());
+        }
+
+        // Adds model of chains read so far, which are then cleared for the next model.
+        void addModel() {
+            final List<Chain> chains = new ArrayList<>(polymerChains.values());
+            chains.addAll(nonPolymerChains);
+            chains.addAll(waterChains.values());
+            for (int i = 0; i < chains.size(); ++i) {
+                chains.get(i).setId(StructureBuilder.getChainId(i));
+            }
+            structureBuilder.addModel(chains);
+
+            polymerChains.clear();
+            nonPolymerChains.clear();
+            waterChains.clear();
+            terminatedChains.clear();
+        }
+    }
+
+    // Copies next line (up to lineLen bytes) into given array, padding it with spaces, and moves past its end.
+    private static void readLine(ByteBuffer pdbFile, byte[] line) {
+        int len = 0;
+        while (pdbFile.hasRemaining()) {
+            final byte b = pdbFile.get();
+            if (b == '\n') {
+                break;
+            }
+            if (len < lineLen) {
+                line[len++] = b;
+            }
+        }
+        if (len > 0 && line[len - 1] == '\r') {
+            --len;
+        }
+        Arrays.fill(line, len, lineLen, (byte) ' ');
+    }
+
+    private static boolean startsWith(byte[] line, byte[] record) {
+        for (int i = 0; i < record.length; ++i) {
+            if (line[i] != record[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int parseInt(byte[] line, int from, int to, int lineNumber) throws StructureException {
+        try {
+            return NumberParser.parseInt(line, from, to);
+        } catch (NumberFormatException e) {
+            throw incorrectNumber(from, to, lineNumber);
+        }
+    }
+
+    private static double parseDouble(byte[] line, int from, int to, int lineNumber) throws StructureException {
+        try {
+            return NumberParser.parseDouble(line, from, to);
+        } catch (NumberFormatException e) {
+            throw incorrectNumber(from, to, lineNumber);
+        }
+    }
+
+    private static float parseFloat(byte[] line, int from, int to, int lineNumber) throws StructureException {
+        try {
+            return NumberParser.parseFloat(line, from, to);
+        } catch (NumberFormatException e) {
+            throw incorrectNumber(from, to, lineNumber);
+        }
+    }
+
+    private static StructureException incorrectNumber(int from, int to, int lineNumber) {
+        return new StructureException("Incorrect number in columns " + (from + 1) + "-" + to + " of line " + lineNumber);
+    }
+}
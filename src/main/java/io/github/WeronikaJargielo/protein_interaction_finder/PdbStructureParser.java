@@ -1,20 +1,24 @@
 package io.github.WeronikaJargielo.protein_interaction_finder;
 
-import com.google.common.collect.Lists;
 import org.biojava.nbio.structure.*;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.function.Supplier;
 
 /**
  * Wrapper for BioJava Structure class.
  */
 public final class PdbStructureParser {
     private final Structure proteinStructure;
+    private final ResidueIndex residueIndex;
+    private final CoordinateTable coordinateTable;
+    private final VerletLists verletLists;
+    private volatile AromaticRingTable aromaticRingTable;
+    private volatile ResultMemo resultMemo;
+    private volatile Runnable footprintListener;
 
     /**
      * Instantiates new PdbStructureParser by parsing given PDB file to BioJava Structure object.
@@ -24,7 +28,47 @@ public final class PdbStructureParser {
      * @throws StructureException Probably given PDB file is incorrectly formatted.
      */
     PdbStructureParser(String pdbFilename) throws IOException, StructureException {
-        proteinStructure = readProteinStructure(pdbFilename);
+        this(readProteinStructure(pdbFilename));
+    }
+
+    // Parser of given PDB file, whose coordinate table stores also single-precision coordinates when requested.
+    PdbStructureParser(String pdbFilename, ComputePrecision computePrecision) throws IOException, StructureException {
+        this(readProteinStructure(pdbFilename), computePrecision);
+    }
+
+    /**
+     * Instantiates new PdbStructureParser wrapping already parsed or built BioJava Structure object.
+     *
+     * @param proteinStructure BioJava Structure object of protein.
+     */
+    PdbStructureParser(Structure proteinStructure) {
+        this(proteinStructure, ComputePrecision.DOUBLE);
+    }
+
+    PdbStructureParser(Structure proteinStructure, ComputePrecision computePrecision) {
+        this(proteinStructure, computePrecision, null);
+    }
+
+    // Parser of given PDB file kept in StructureCache. Its neighbour searches are stored in given Verlet lists
+    // (without skin, as points never move), so repeated searches reuse lists built by previous ones of the same
+    // or larger cutoff instead of building cell lists again.
+    PdbStructureParser(String pdbFilename, ComputePrecision computePrecision, VerletLists verletLists) throws IOException, StructureException {
+        this(readProteinStructure(pdbFilename), computePrecision, verletLists);
+    }
+
+    private PdbStructureParser(Structure proteinStructure, ComputePrecision computePrecision, VerletLists verletLists) {
+        this(proteinStructure, new ResidueIndex(proteinStructure.getModel(0)), computePrecision, verletLists);
+    }
+
+    private PdbStructureParser(Structure proteinStructure, ResidueIndex residueIndex, ComputePrecision computePrecision, VerletLists verletLists) {
+        this(proteinStructure, residueIndex, new CoordinateTable(residueIndex, computePrecision == ComputePrecision.SINGLE), verletLists);
+    }
+
+    private PdbStructureParser(Structure proteinStructure, ResidueIndex residueIndex, CoordinateTable coordinateTable, VerletLists verletLists) {
+        this.proteinStructure = proteinStructure;
+        this.residueIndex = residueIndex;
+        this.coordinateTable = coordinateTable;
+        this.verletLists = verletLists;
     }
 
     /**
@@ -36,7 +80,117 @@ public final class PdbStructureParser {
         return proteinStructure;
     }
 
-    private Structure readProteinStructure(String pdbFilename) throws IOException, StructureException {
+    int getModelsCount() {
+        return proteinStructure.nrModels();
+    }
+
+    // Parser of given model (this parser covers the first one). Templates of residues and participants are shared
+    // with this parser whenever the model has the same atoms, so they are not computed again for every model.
+    PdbStructureParser getModel(int modelInd) {
+        if (modelInd == 0) {
+            return this;
+        }
+        final ResidueIndex modelResidueIndex = residueIndex.forModel(proteinStructure.getModel(modelInd));
+        return new PdbStructureParser(proteinStructure, modelResidueIndex, coordinateTable.forModel(modelResidueIndex), null);
+    }
+
+    // Parser of given frame of the first model, e.g. of molecular dynamics trajectory (see ResidueIndex.forFrame).
+    // All templates are shared with this parser, so only coordinates are new. Neighbour searches of the frame use
+    // given Verlet lists, shared by all frames of the trajectory, unless they are null.
+    PdbStructureParser getFrame(double[] frame, int[] framePositions, VerletLists verletLists) {
+        final ResidueIndex frameResidueIndex = residueIndex.forFrame(frame, framePositions);
+        return new PdbStructureParser(proteinStructure, frameResidueIndex, coordinateTable.forModel(frameResidueIndex), verletLists);
+    }
+
+    // Search of targets lying within cutoff from queries, named by given key. It is Verlet list stored under that key
+    // (rebuilt only when points moved too far) in frames evaluated with Verlet lists, and cell list of targets otherwise.
+    NeighborSearch getNeighborSearch(String key, Points queries, Points targets, double cutoff) {
+        if (verletLists == null) {
+            return NeighborSearch.inCellList(queries, targets, cutoff, coordinateTable.isSinglePrecision());
+        }
+        final long rebuildsCount = verletLists.getRebuildsCount();
+        final NeighborSearch neighborSearch = verletLists.getNeighborSearch(key, queries, targets, cutoff);
+        if (verletLists.getRebuildsCount() != rebuildsCount) {
+            this.notifyFootprintChanged();
+        }
+        return neighborSearch;
+    }
+
+    // Participants of interactions stored under given key in the residue index (see ResidueIndex.getParticipants).
+    int[] getParticipants(String key, Supplier<int[]> participantsFinder) {
+        final boolean[] isFoundHere = {false};
+        final int[] participants = residueIndex.getParticipants(key, () -> {
+            isFoundHere[0] = true;
+            return participantsFinder.get();
+        });
+        if (isFoundHere[0]) {
+            this.notifyFootprintChanged();
+        }
+        return participants;
+    }
+
+    // Given listener is run whenever indexes derived from the structure after parsing (neighbour lists, participants
+    // of interactions and aromatic rings) grow or strongly referenced result is memoized, e.g. so that StructureCache
+    // re-estimates footprint of the structure.
+    void setFootprintListener(Runnable footprintListener) {
+        this.footprintListener = footprintListener;
+    }
+
+    // Estimated heap footprint in bytes of indexes derived from the structure after parsing and of memoized results.
+    long getDerivedFootprint() {
+        final AromaticRingTable ringTable = aromaticRingTable;
+        final ResultMemo memo = resultMemo;
+        return ((verletLists == null) ? 0 : verletLists.getFootprint())
+               + residueIndex.getParticipantsFootprint()
+               + ((ringTable == null) ? 0 : ringTable.getFootprint())
+               + ((memo == null) ? 0 : memo.getFootprint());
+    }
+
+    private void notifyFootprintChanged() {
+        final Runnable listener = footprintListener;
+        if (listener != null) {
+            listener.run();
+        }
+    }
+
+    // Results of this structure are memoized once memo is enabled; memo enabled before is kept with its policy.
+    // Parsers of models and frames have memos of their own.
+    synchronized void enableResultMemo(ResultMemoPolicy policy) {
+        if (resultMemo == null) {
+            resultMemo = new ResultMemo(policy);
+        }
+    }
+
+    ResultMemo getResultMemo() {
+        return resultMemo;
+    }
+
+    // Result of given type and criteria, found by given finder unless it is memoized.
+    <R> R memoize(InteractionType interactionType, Object criteria, Supplier<R> finder) {
+        final ResultMemo memo = resultMemo;
+        if (memo == null) {
+            return finder.get();
+        }
+        final boolean[] isFoundHere = {false};
+        final R result = memo.memoize(interactionType, criteria, () -> {
+            isFoundHere[0] = true;
+            return finder.get();
+        });
+        if (isFoundHere[0] && ! memo.getPolicy().isSoftlyReferenced()) {
+            this.notifyFootprintChanged();
+        }
+        return result;
+    }
+
+    ResidueIndex getResidueIndex() {
+        return residueIndex;
+    }
+
+    CoordinateTable getCoordinateTable() {
+        return coordinateTable;
+    }
+
+    private static Structure readProteinStructure(String pdbFilename) throws IOException, StructureException {
         return StructureIO.getStructure(pdbFilename);
     }
 
@@ -49,20 +203,7 @@ public final class PdbStructureParser {
      * @return Atoms of requested names present in parsed PDB structure.
      */
     public ArrayList<Atom> getAtoms(String[] atomNames) {
-        ArrayList<Atom> atoms = new ArrayList<>(Arrays.asList(StructureTools.getAtomArray(proteinStructure, atomNames)));
-
-        // Filter unrecognizable amino acid abbreviations.
-        atoms.removeIf((a) -> {
-            final String aminoAcidName = a.getGroup().getPDBName();
-            try {
-                final AminoAcidAbbreviations aminoAcidAbbr = AminoAcidAbbreviations.valueOf(aminoAcidName);
-            } catch (java.lang.IllegalArgumentException e) {
-                return true;
-            }
-            return false;
-        });
-
-        return atoms;
+        return residueIndex.getAtoms(atomNames, null);
     }
 
     /**
@@ -75,15 +216,7 @@ public final class PdbStructureParser {
      * @return Atoms of requested names present in parsed PDB structure belonging to desired allowedAminoAcids.
      */
     public ArrayList<Atom> getAtoms(String[] atomNames, List<AminoAcidAbbreviations> allowedAminoAcids) {
-        ArrayList<Atom> atoms = this.getAtoms(atomNames);
-
-        atoms.removeIf((a) -> {
-            final String aminoAcidName = a.getGroup().getPDBName();
-            final AminoAcidAbbreviations aminoAcidAbbr = AminoAcidAbbreviations.valueOf(aminoAcidName);
-            return ( ! allowedAminoAcids.contains(aminoAcidAbbr));
-        });
-
-        return atoms;
+        return residueIndex.getAtoms(atomNames, allowedAminoAcids);
     }
 
     /**
@@ -93,30 +226,60 @@ public final class PdbStructureParser {
      * @return Aromatic rings present in parsed PDB structure.
      */
     public ArrayList<AromaticRing> getAromaticRings() {
+        return new ArrayList<>(this.getAromaticRingTable().getRings());
+    }
 
-        final List<Atom> phenylalanineAtoms = getAtoms(new String[]{"CG", "CD1", "CD2", "CE1", "CE2", "CZ"}, Arrays.asList(AminoAcidAbbreviations.PHE));
-        final List<Atom> tyrosineAtoms = getAtoms(new String[]{"CG", "CD1", "CD2", "CE1", "CE2", "CZ"}, Arrays.asList(AminoAcidAbbreviations.TYR));
-
-        final List<Atom> tryptophanPyrroleRingAtoms = getAtoms(new String[]{"CG", "CD1", "CD2", "NE1", "CE2"}, Arrays.asList(AminoAcidAbbreviations.TRP));
-        final List<Atom> tryptophanBenzeneRingAtoms = getAtoms(new String[]{"CD2", "CE2", "CE3", "CZ2", "CZ3", "CH2"}, Arrays.asList(AminoAcidAbbreviations.TRP));
-
-        final int pyrroleRingLen = 5;
-        final int benzeneRingLen = 6;
-
-        final List<List<Atom>> phes = Lists.partition(phenylalanineAtoms, benzeneRingLen);
-        final List<List<Atom>> tyrs = Lists.partition(tyrosineAtoms, benzeneRingLen);
-        final List<List<Atom>> phesAndTyrs = Stream.concat(phes.stream(), tyrs.stream()).collect(Collectors.toList());
+    // Rings are computed once per structure, on first use, and shared by all ring-based finders.
+    AromaticRingTable getAromaticRingTable() {
+        AromaticRingTable ringTable = aromaticRingTable;
+        if (ringTable == null) {
+            boolean isBuiltHere = false;
+            synchronized (this) {
+                ringTable = aromaticRingTable;
+                if (ringTable == null) {
+                    final List<Integer> ringResidues = new ArrayList<>();
+                    final ArrayList<AromaticRing> rings = this.findAromaticRings(ringResidues);
+                    ringTable = new AromaticRingTable(rings, ringResidues.stream().mapToInt(Integer::intValue).toArray());
+                    aromaticRingTable = ringTable;
+                    isBuiltHere = true;
+                }
+            }
+            if (isBuiltHere) {
+                this.notifyFootprintChanged();
+            }
+        }
+        return ringTable;
+    }
 
-        final List<List<Atom>> tryPyrroles = Lists.partition(tryptophanPyrroleRingAtoms, pyrroleRingLen);
-        final List<List<Atom>> tryBenzenes = Lists.partition(tryptophanBenzeneRingAtoms, benzeneRingLen);
+    // Returns rings and collects index of residue of every ring into ringResidues.
+    private ArrayList<AromaticRing> findAromaticRings(List<Integer> ringResidues) {
+        final String[] benzeneRingAtomNames = {"CG", "CD1", "CD2", "CE1", "CE2", "CZ"};
+        final String[] tryptophanPyrroleRingAtomNames = {"CG", "CD1", "CD2", "NE1", "CE2"};
+        final String[] tryptophanBenzeneRingAtomNames = {"CD2", "CE2", "CE3", "CZ2", "CZ3", "CH2"};
 
         ArrayList <AromaticRing> aromaticRings = new ArrayList<>();
 
-        phesAndTyrs.forEach(aromaticRingAtoms -> aromaticRings.add(new AromaticRing(aromaticRingAtoms)));
-        tryPyrroles.forEach(aromaticRingAtoms -> aromaticRings.add(new AromaticRing(aromaticRingAtoms)));
-        tryBenzenes.forEach(aromaticRingAtoms -> aromaticRings.add(new AromaticRing(aromaticRingAtoms)));
+        this.addAromaticRings(aromaticRings, ringResidues, benzeneRingAtomNames, AminoAcidAbbreviations.PHE);
+        this.addAromaticRings(aromaticRings, ringResidues, benzeneRingAtomNames, AminoAcidAbbreviations.TYR);
+        this.addAromaticRings(aromaticRings, ringResidues, tryptophanPyrroleRingAtomNames, AminoAcidAbbreviations.TRP);
+        this.addAromaticRings(aromaticRings, ringResidues, tryptophanBenzeneRingAtomNames, AminoAcidAbbreviations.TRP);
 
         return aromaticRings;
     }
 
+    // Rings take amino acids of their residues from the coordinate table, so results share them with other results.
+    private void addAromaticRings(List<AromaticRing> aromaticRings, List<Integer> ringResidues, String[] ringAtomNames, AminoAcidAbbreviations aminoAcidAbbr) {
+        final int[] ringAtomInds = residueIndex.getAtomIndices(ringAtomNames, Arrays.asList(aminoAcidAbbr));
+        final int ringLen = ringAtomNames.length;
+
+        for (int ringStart = 0; ringStart < ringAtomInds.length; ringStart += ringLen) {
+            final List<Atom> ringAtoms = new ArrayList<>(ringLen);
+            for (int i = 0; i < ringLen; ++i) {
+                ringAtoms.add(residueIndex.getAtom(ringAtomInds[ringStart + i]));
+            }
+            aromaticRings.add(new AromaticRing(ringAtoms, coordinateTable.getAminoAcid(ringAtomInds[ringStart])));
+            ringResidues.add(coordinateTable.getResidue(ringAtomInds[ringStart]));
+        }
+    }
+
 }
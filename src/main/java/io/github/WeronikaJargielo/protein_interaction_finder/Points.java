@@ -0,0 +1,28 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+// Coordinates of points (atoms or centroids) taking part in neighbour searches, stored in primitive arrays.
+final class Points {
+    final double[] x, y, z;
+
+    Points(double[] x, double[] y, double[] z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    int size() {
+        return x.length;
+    }
+
+    // Largest distance between positions of the same point here and in other (of the same size).
+    double maxDisplacementFrom(Points other) {
+        double maxDisplacementSquared = 0.0;
+        for (int i = 0; i < x.length; ++i) {
+            final double dx = x[i] - other.x[i];
+            final double dy = y[i] - other.y[i];
+            final double dz = z[i] - other.z[i];
+            maxDisplacementSquared = Math.max(maxDisplacementSquared, dx*dx + dy*dy + dz*dz);
+        }
+        return Math.sqrt(maxDisplacementSquared);
+    }
+}
@@ -1,9 +1,17 @@
 package io.github.WeronikaJargielo.protein_interaction_finder;
 
+import org.biojava.nbio.structure.Structure;
 import org.biojava.nbio.structure.StructureException;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Class for identifying all implemented interactions.
@@ -22,6 +30,73 @@ public final class ProteinInteractionFinder {
         pdbStructureParser = new PdbStructureParser(pdbFilename);
     }
 
+    /**
+     * Instantiates new ProteinInteractionFinder for identifying interactions in protein given as BioJava Structure object
+     * (e.g. parsed from other format or built in memory).
+     *
+     * @param proteinStructure BioJava Structure object of protein.
+     */
+    public ProteinInteractionFinder(Structure proteinStructure) {
+        pdbStructureParser = new PdbStructureParser(proteinStructure);
+    }
+
+    /**
+     * Instantiates new ProteinInteractionFinder for identifying interactions in protein stored in given PDB file,
+     * screening candidates for interactions in given precision.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.ComputePrecision
+     *
+     * @param pdbFilename      Path to protein PDB file.
+     * @param computePrecision Precision of screening candidates for interactions.
+     * @throws IOException        Probably given PDB file does not exist.
+     * @throws StructureException Probably given PDB file is incorrectly formatted.
+     */
+    public ProteinInteractionFinder(String pdbFilename, ComputePrecision computePrecision) throws IOException, StructureException {
+        pdbStructureParser = new PdbStructureParser(pdbFilename, Objects.requireNonNull(computePrecision));
+    }
+
+    /**
+     * Instantiates new ProteinInteractionFinder for identifying interactions in protein given as BioJava Structure object,
+     * screening candidates for interactions in given precision.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.ComputePrecision
+     *
+     * @param proteinStructure BioJava Structure object of protein.
+     * @param computePrecision Precision of screening candidates for interactions.
+     */
+    public ProteinInteractionFinder(Structure proteinStructure, ComputePrecision computePrecision) {
+        pdbStructureParser = new PdbStructureParser(proteinStructure, Objects.requireNonNull(computePrecision));
+    }
+
+    /**
+     * Instantiates new ProteinInteractionFinder for identifying interactions in protein stored in given PDB file,
+     * taking parsed structure from given cache. The file is parsed only when it is not cached yet or has changed.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.StructureCache
+     *
+     * @param pdbFilename    Path to protein PDB file.
+     * @param structureCache Cache of parsed structures, possibly shared by many finders and threads.
+     * @throws IOException        Probably given PDB file does not exist.
+     * @throws StructureException Probably given PDB file is incorrectly formatted.
+     */
+    public ProteinInteractionFinder(String pdbFilename, StructureCache structureCache) throws IOException, StructureException {
+        this(pdbFilename, ComputePrecision.DOUBLE, structureCache);
+    }
+
+    /**
+     * Instantiates new ProteinInteractionFinder for identifying interactions in protein stored in given PDB file,
+     * screening candidates for interactions in given precision and taking parsed structure from given cache.
+     * Structures screened in different precisions are cached separately.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.StructureCache
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.ComputePrecision
+     *
+     * @param pdbFilename      Path to protein PDB file.
+     * @param computePrecision Precision of screening candidates for interactions.
+     * @param structureCache   Cache of parsed structures, possibly shared by many finders and threads.
+     * @throws IOException        Probably given PDB file does not exist.
+     * @throws StructureException Probably given PDB file is incorrectly formatted.
+     */
+    public ProteinInteractionFinder(String pdbFilename, ComputePrecision computePrecision, StructureCache structureCache) throws IOException, StructureException {
+        pdbStructureParser = structureCache.getParser(pdbFilename, Objects.requireNonNull(computePrecision));
+    }
+
     /**
      * Returns PdbStructureParser created in constructor.
      *
@@ -31,6 +106,19 @@ public final class ProteinInteractionFinder {
         return pdbStructureParser;
     }
 
+    /**
+     * Enables memoization of results: interactions identified by find and tabulate methods (including findAllInteractions)
+     * are kept by their type and criteria, so identification with equal criteria returns kept results instead of repeating it.
+     * Memo belongs to the protein structure, so it is shared with other finders of the same structure taken from StructureCache.
+     * If results of the structure are already memoized, existing memo and its policy are kept.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.ResultMemoPolicy
+     *
+     * @param policy Policy of keeping memoized results.
+     */
+    public void memoizeResults(ResultMemoPolicy policy) {
+        pdbStructureParser.enableResultMemo(Objects.requireNonNull(policy));
+    }
+
     /**
      * Identify main chain - main chain hydrogen bonds in protein.
      * Found bonds satisfy default criteria.
@@ -57,6 +145,94 @@ public final class ProteinInteractionFinder {
         return hydrogenBondFinder.findMainMainHydrogenBonds(userDefinedCriteria);
     }
 
+    /**
+     * Identify main chain - main chain hydrogen bonds in protein and pass them one by one to given consumer, without collecting them.
+     * Found bonds satisfy default criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.HydrogenBondCriteria
+     *
+     * @param consumer Consumer receiving main chain - main chain hydrogen bonds satisfying default criteria, in the same order as they are listed by findMainMainHydrogenBonds().
+     */
+    public void findMainMainHydrogenBonds(Consumer<? super HydrogenBond> consumer) {
+        this.findMainMainHydrogenBonds(new HydrogenBondCriteria(), consumer);
+    }
+
+    /**
+     * Identify main chain - main chain hydrogen bonds in protein and pass them one by one to given consumer, without collecting them.
+     * Found bonds satisfy custom criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.HydrogenBondCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for hydrogen bond identification.
+     * @param consumer            Consumer receiving main chain - main chain hydrogen bonds satisfying custom criteria, in the same order as they are listed by findMainMainHydrogenBonds(criteria).
+     */
+    public void findMainMainHydrogenBonds(HydrogenBondCriteria userDefinedCriteria, Consumer<? super HydrogenBond> consumer) {
+        final HydrogenBondFinder hydrogenBondFinder = new HydrogenBondFinder(pdbStructureParser);
+        hydrogenBondFinder.searchMainMainHydrogenBonds(userDefinedCriteria).forEach(Objects.requireNonNull(consumer));
+    }
+
+    /**
+     * Identify main chain - main chain hydrogen bonds in protein as a stream, which finds them lazily and can be run in parallel.
+     * Found bonds satisfy default criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.HydrogenBondCriteria
+     *
+     * @return Ordered stream of main chain - main chain hydrogen bonds satisfying default criteria.
+     */
+    public Stream<HydrogenBond> streamMainMainHydrogenBonds() {
+        return this.streamMainMainHydrogenBonds(new HydrogenBondCriteria());
+    }
+
+    /**
+     * Identify main chain - main chain hydrogen bonds in protein as a stream, which finds them lazily and can be run in parallel.
+     * Found bonds satisfy custom criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.HydrogenBondCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for hydrogen bond identification.
+     * @return Ordered stream of main chain - main chain hydrogen bonds satisfying custom criteria.
+     */
+    public Stream<HydrogenBond> streamMainMainHydrogenBonds(HydrogenBondCriteria userDefinedCriteria) {
+        final HydrogenBondFinder hydrogenBondFinder = new HydrogenBondFinder(pdbStructureParser);
+        return hydrogenBondFinder.searchMainMainHydrogenBonds(userDefinedCriteria).stream();
+    }
+
+    /**
+     * Identify main chain - main chain hydrogen bonds in protein and store them in a columnar table, which holds participants and measured quantities
+     * in primitive columns instead of one object per interaction.
+     * Found bonds satisfy default criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.HydrogenBondCriteria
+     *
+     * @return Table of main chain - main chain hydrogen bonds satisfying default criteria, with rows in the same order as they are listed by findMainMainHydrogenBonds().
+     */
+    public HydrogenBondTable tabulateMainMainHydrogenBonds() {
+        return this.tabulateMainMainHydrogenBonds(new HydrogenBondCriteria());
+    }
+
+    /**
+     * Identify main chain - main chain hydrogen bonds in protein and store them in a columnar table, which holds participants and measured quantities
+     * in primitive columns instead of one object per interaction.
+     * Found bonds satisfy custom criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.HydrogenBondCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for hydrogen bond identification.
+     * @return Table of main chain - main chain hydrogen bonds satisfying custom criteria, with rows in the same order as they are listed by findMainMainHydrogenBonds(criteria).
+     */
+    public HydrogenBondTable tabulateMainMainHydrogenBonds(HydrogenBondCriteria userDefinedCriteria) {
+        final HydrogenBondFinder hydrogenBondFinder = new HydrogenBondFinder(pdbStructureParser);
+        return hydrogenBondFinder.tabulateMainMainHydrogenBonds(userDefinedCriteria);
+    }
+
+    /**
+     * Identify main chain - main chain hydrogen bonds in protein for each of many custom criteria at once (e.g. for grid of boundary values).
+     * Candidate bonds are found and measured only once, using the widest boundary values among given criteria,
+     * and then assigned to every criteria they satisfy.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.HydrogenBondCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for hydrogen bond identification.
+     * @return Map from each of given criteria (in iteration order of the collection) to list of main chain - main chain hydrogen bonds satisfying it, in the same order as they are listed by findMainMainHydrogenBonds(criteria).
+     */
+    public Map<HydrogenBondCriteria, List<HydrogenBond>> sweepMainMainHydrogenBonds(Collection<HydrogenBondCriteria> userDefinedCriteria) {
+        final HydrogenBondFinder hydrogenBondFinder = new HydrogenBondFinder(pdbStructureParser);
+        return hydrogenBondFinder.sweepMainMainHydrogenBonds(userDefinedCriteria);
+    }
+
     /**
      * Identify side chain - side chain hydrogen bonds in protein.
      * Found bonds satisfy default criteria.
@@ -83,6 +259,94 @@ public final class ProteinInteractionFinder {
         return hydrogenBondFinder.findSideSideHydrogenBonds(userDefinedCriteria);
     }
 
+    /**
+     * Identify side chain - side chain hydrogen bonds in protein and pass them one by one to given consumer, without collecting them.
+     * Found bonds satisfy default criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.HydrogenBondCriteria
+     *
+     * @param consumer Consumer receiving side chain - side chain hydrogen bonds satisfying default criteria, in the same order as they are listed by findSideSideHydrogenBonds().
+     */
+    public void findSideSideHydrogenBonds(Consumer<? super HydrogenBond> consumer) {
+        this.findSideSideHydrogenBonds(new HydrogenBondCriteria(), consumer);
+    }
+
+    /**
+     * Identify side chain - side chain hydrogen bonds in protein and pass them one by one to given consumer, without collecting them.
+     * Found bonds satisfy custom criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.HydrogenBondCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for hydrogen bond identification.
+     * @param consumer            Consumer receiving side chain - side chain hydrogen bonds satisfying custom criteria, in the same order as they are listed by findSideSideHydrogenBonds(criteria).
+     */
+    public void findSideSideHydrogenBonds(HydrogenBondCriteria userDefinedCriteria, Consumer<? super HydrogenBond> consumer) {
+        final HydrogenBondFinder hydrogenBondFinder = new HydrogenBondFinder(pdbStructureParser);
+        hydrogenBondFinder.searchSideSideHydrogenBonds(userDefinedCriteria).forEach(Objects.requireNonNull(consumer));
+    }
+
+    /**
+     * Identify side chain - side chain hydrogen bonds in protein as a stream, which finds them lazily and can be run in parallel.
+     * Found bonds satisfy default criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.HydrogenBondCriteria
+     *
+     * @return Ordered stream of side chain - side chain hydrogen bonds satisfying default criteria.
+     */
+    public Stream<HydrogenBond> streamSideSideHydrogenBonds() {
+        return this.streamSideSideHydrogenBonds(new HydrogenBondCriteria());
+    }
+
+    /**
+     * Identify side chain - side chain hydrogen bonds in protein as a stream, which finds them lazily and can be run in parallel.
+     * Found bonds satisfy custom criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.HydrogenBondCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for hydrogen bond identification.
+     * @return Ordered stream of side chain - side chain hydrogen bonds satisfying custom criteria.
+     */
+    public Stream<HydrogenBond> streamSideSideHydrogenBonds(HydrogenBondCriteria userDefinedCriteria) {
+        final HydrogenBondFinder hydrogenBondFinder = new HydrogenBondFinder(pdbStructureParser);
+        return hydrogenBondFinder.searchSideSideHydrogenBonds(userDefinedCriteria).stream();
+    }
+
+    /**
+     * Identify side chain - side chain hydrogen bonds in protein and store them in a columnar table, which holds participants and measured quantities
+     * in primitive columns instead of one object per interaction.
+     * Found bonds satisfy default criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.HydrogenBondCriteria
+     *
+     * @return Table of side chain - side chain hydrogen bonds satisfying default criteria, with rows in the same order as they are listed by findSideSideHydrogenBonds().
+     */
+    public HydrogenBondTable tabulateSideSideHydrogenBonds() {
+        return this.tabulateSideSideHydrogenBonds(new HydrogenBondCriteria());
+    }
+
+    /**
+     * Identify side chain - side chain hydrogen bonds in protein and store them in a columnar table, which holds participants and measured quantities
+     * in primitive columns instead of one object per interaction.
+     * Found bonds satisfy custom criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.HydrogenBondCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for hydrogen bond identification.
+     * @return Table of side chain - side chain hydrogen bonds satisfying custom criteria, with rows in the same order as they are listed by findSideSideHydrogenBonds(criteria).
+     */
+    public HydrogenBondTable tabulateSideSideHydrogenBonds(HydrogenBondCriteria userDefinedCriteria) {
+        final HydrogenBondFinder hydrogenBondFinder = new HydrogenBondFinder(pdbStructureParser);
+        return hydrogenBondFinder.tabulateSideSideHydrogenBonds(userDefinedCriteria);
+    }
+
+    /**
+     * Identify side chain - side chain hydrogen bonds in protein for each of many custom criteria at once (e.g. for grid of boundary values).
+     * Candidate bonds are found and measured only once, using the widest boundary values among given criteria,
+     * and then assigned to every criteria they satisfy.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.HydrogenBondCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for hydrogen bond identification.
+     * @return Map from each of given criteria (in iteration order of the collection) to list of side chain - side chain hydrogen bonds satisfying it, in the same order as they are listed by findSideSideHydrogenBonds(criteria).
+     */
+    public Map<HydrogenBondCriteria, List<HydrogenBond>> sweepSideSideHydrogenBonds(Collection<HydrogenBondCriteria> userDefinedCriteria) {
+        final HydrogenBondFinder hydrogenBondFinder = new HydrogenBondFinder(pdbStructureParser);
+        return hydrogenBondFinder.sweepSideSideHydrogenBonds(userDefinedCriteria);
+    }
+
     /**
      * Identify main chain - side chain hydrogen bonds in protein.
      * Found bonds satisfy default criteria.
@@ -109,6 +373,94 @@ public final class ProteinInteractionFinder {
         return hydrogenBondFinder.findMainSideHydrogenBonds(userDefinedCriteria);
     }
 
+    /**
+     * Identify main chain - side chain hydrogen bonds in protein and pass them one by one to given consumer, without collecting them.
+     * Found bonds satisfy default criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.HydrogenBondCriteria
+     *
+     * @param consumer Consumer receiving main chain - side chain hydrogen bonds satisfying default criteria, in the same order as they are listed by findMainSideHydrogenBonds().
+     */
+    public void findMainSideHydrogenBonds(Consumer<? super HydrogenBond> consumer) {
+        this.findMainSideHydrogenBonds(new HydrogenBondCriteria(), consumer);
+    }
+
+    /**
+     * Identify main chain - side chain hydrogen bonds in protein and pass them one by one to given consumer, without collecting them.
+     * Found bonds satisfy custom criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.HydrogenBondCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for hydrogen bond identification.
+     * @param consumer            Consumer receiving main chain - side chain hydrogen bonds satisfying custom criteria, in the same order as they are listed by findMainSideHydrogenBonds(criteria).
+     */
+    public void findMainSideHydrogenBonds(HydrogenBondCriteria userDefinedCriteria, Consumer<? super HydrogenBond> consumer) {
+        final HydrogenBondFinder hydrogenBondFinder = new HydrogenBondFinder(pdbStructureParser);
+        hydrogenBondFinder.searchMainSideHydrogenBonds(userDefinedCriteria).forEach(Objects.requireNonNull(consumer));
+    }
+
+    /**
+     * Identify main chain - side chain hydrogen bonds in protein as a stream, which finds them lazily and can be run in parallel.
+     * Found bonds satisfy default criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.HydrogenBondCriteria
+     *
+     * @return Ordered stream of main chain - side chain hydrogen bonds satisfying default criteria.
+     */
+    public Stream<HydrogenBond> streamMainSideHydrogenBonds() {
+        return this.streamMainSideHydrogenBonds(new HydrogenBondCriteria());
+    }
+
+    /**
+     * Identify main chain - side chain hydrogen bonds in protein as a stream, which finds them lazily and can be run in parallel.
+     * Found bonds satisfy custom criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.HydrogenBondCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for hydrogen bond identification.
+     * @return Ordered stream of main chain - side chain hydrogen bonds satisfying custom criteria.
+     */
+    public Stream<HydrogenBond> streamMainSideHydrogenBonds(HydrogenBondCriteria userDefinedCriteria) {
+        final HydrogenBondFinder hydrogenBondFinder = new HydrogenBondFinder(pdbStructureParser);
+        return hydrogenBondFinder.searchMainSideHydrogenBonds(userDefinedCriteria).stream();
+    }
+
+    /**
+     * Identify main chain - side chain hydrogen bonds in protein and store them in a columnar table, which holds participants and measured quantities
+     * in primitive columns instead of one object per interaction.
+     * Found bonds satisfy default criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.HydrogenBondCriteria
+     *
+     * @return Table of main chain - side chain hydrogen bonds satisfying default criteria, with rows in the same order as they are listed by findMainSideHydrogenBonds().
+     */
+    public HydrogenBondTable tabulateMainSideHydrogenBonds() {
+        return this.tabulateMainSideHydrogenBonds(new HydrogenBondCriteria());
+    }
+
+    /**
+     * Identify main chain - side chain hydrogen bonds in protein and store them in a columnar table, which holds participants and measured quantities
+     * in primitive columns instead of one object per interaction.
+     * Found bonds satisfy custom criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.HydrogenBondCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for hydrogen bond identification.
+     * @return Table of main chain - side chain hydrogen bonds satisfying custom criteria, with rows in the same order as they are listed by findMainSideHydrogenBonds(criteria).
+     */
+    public HydrogenBondTable tabulateMainSideHydrogenBonds(HydrogenBondCriteria userDefinedCriteria) {
+        final HydrogenBondFinder hydrogenBondFinder = new HydrogenBondFinder(pdbStructureParser);
+        return hydrogenBondFinder.tabulateMainSideHydrogenBonds(userDefinedCriteria);
+    }
+
+    /**
+     * Identify main chain - side chain hydrogen bonds in protein for each of many custom criteria at once (e.g. for grid of boundary values).
+     * Candidate bonds are found and measured only once, using the widest boundary values among given criteria,
+     * and then assigned to every criteria they satisfy.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.HydrogenBondCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for hydrogen bond identification.
+     * @return Map from each of given criteria (in iteration order of the collection) to list of main chain - side chain hydrogen bonds satisfying it, in the same order as they are listed by findMainSideHydrogenBonds(criteria).
+     */
+    public Map<HydrogenBondCriteria, List<HydrogenBond>> sweepMainSideHydrogenBonds(Collection<HydrogenBondCriteria> userDefinedCriteria) {
+        final HydrogenBondFinder hydrogenBondFinder = new HydrogenBondFinder(pdbStructureParser);
+        return hydrogenBondFinder.sweepMainSideHydrogenBonds(userDefinedCriteria);
+    }
+
     /**
      * Identify disulphide bridges in protein.
      * Found bridges satisfy default criteria.
@@ -135,6 +487,80 @@ public final class ProteinInteractionFinder {
         return disulphideBridgesFinder.findDisulphideBridges(userDefinedCriteria);
     }
 
+    /**
+     * Identify disulphide bridges in protein and pass them one by one to given consumer, without collecting them.
+     * Found bridges satisfy default criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.DisulphideBridgeCriteria
+     *
+     * @param consumer Consumer receiving disulphide bridges satisfying default criteria, in the same order as they are listed by findDisulphideBridges().
+     */
+    public void findDisulphideBridges(Consumer<? super DisulphideBridge> consumer) {
+        this.findDisulphideBridges(new DisulphideBridgeCriteria(), consumer);
+    }
+
+    /**
+     * Identify disulphide bridges in protein and pass them one by one to given consumer, without collecting them.
+     * Found bridges satisfy custom criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.DisulphideBridgeCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for disulphide bridges identification.
+     * @param consumer            Consumer receiving disulphide bridges satisfying custom criteria, in the same order as they are listed by findDisulphideBridges(criteria).
+     */
+    public void findDisulphideBridges(DisulphideBridgeCriteria userDefinedCriteria, Consumer<? super DisulphideBridge> consumer) {
+        final DisulphideBridgesFinder disulphideBridgesFinder = new DisulphideBridgesFinder(pdbStructureParser);
+        disulphideBridgesFinder.searchDisulphideBridges(userDefinedCriteria).forEach(Objects.requireNonNull(consumer));
+    }
+
+    /**
+     * Identify disulphide bridges in protein as a stream, which finds them lazily and can be run in parallel.
+     * Found bridges satisfy default criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.DisulphideBridgeCriteria
+     *
+     * @return Ordered stream of disulphide bridges satisfying default criteria.
+     */
+    public Stream<DisulphideBridge> streamDisulphideBridges() {
+        return this.streamDisulphideBridges(new DisulphideBridgeCriteria());
+    }
+
+    /**
+     * Identify disulphide bridges in protein as a stream, which finds them lazily and can be run in parallel.
+     * Found bridges satisfy custom criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.DisulphideBridgeCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for disulphide bridges identification.
+     * @return Ordered stream of disulphide bridges satisfying custom criteria.
+     */
+    public Stream<DisulphideBridge> streamDisulphideBridges(DisulphideBridgeCriteria userDefinedCriteria) {
+        final DisulphideBridgesFinder disulphideBridgesFinder = new DisulphideBridgesFinder(pdbStructureParser);
+        return disulphideBridgesFinder.searchDisulphideBridges(userDefinedCriteria).stream();
+    }
+
+    /**
+     * Identify disulphide bridges in protein and store them in a columnar table, which holds participants and measured quantities
+     * in primitive columns instead of one object per interaction.
+     * Found bridges satisfy default criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.DisulphideBridgeCriteria
+     *
+     * @return Table of disulphide bridges satisfying default criteria, with rows in the same order as they are listed by findDisulphideBridges().
+     */
+    public DisulphideBridgeTable tabulateDisulphideBridges() {
+        return this.tabulateDisulphideBridges(new DisulphideBridgeCriteria());
+    }
+
+    /**
+     * Identify disulphide bridges in protein and store them in a columnar table, which holds participants and measured quantities
+     * in primitive columns instead of one object per interaction.
+     * Found bridges satisfy custom criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.DisulphideBridgeCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for disulphide bridges identification.
+     * @return Table of disulphide bridges satisfying custom criteria, with rows in the same order as they are listed by findDisulphideBridges(criteria).
+     */
+    public DisulphideBridgeTable tabulateDisulphideBridges(DisulphideBridgeCriteria userDefinedCriteria) {
+        final DisulphideBridgesFinder disulphideBridgesFinder = new DisulphideBridgesFinder(pdbStructureParser);
+        return disulphideBridgesFinder.tabulateDisulphideBridges(userDefinedCriteria);
+    }
+
     /**
      * Identify sulphur-aromatic interactions in protein.
      * Found interactions satisfy default criteria.
@@ -162,11 +588,85 @@ public final class ProteinInteractionFinder {
     }
 
     /**
-     * Identify amino-aromatic interactions in protein.
+     * Identify sulphur-aromatic interactions in protein and pass them one by one to given consumer, without collecting them.
      * Found interactions satisfy default criteria.
-     * @see io.github.WeronikaJargielo.protein_interaction_finder.AminoAromaticInteractionCriteria
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.SulphurAromaticInteractionCriteria
      *
-     * @return List of amino-aromatic interactions satisfying default criteria.
+     * @param consumer Consumer receiving sulphur-aromatic interactions satisfying default criteria, in the same order as they are listed by findSulphurAromaticInteractions().
+     */
+    public void findSulphurAromaticInteractions(Consumer<? super SulphurAromaticInteraction> consumer) {
+        this.findSulphurAromaticInteractions(new SulphurAromaticInteractionCriteria(), consumer);
+    }
+
+    /**
+     * Identify sulphur-aromatic interactions in protein and pass them one by one to given consumer, without collecting them.
+     * Found interactions satisfy custom criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.SulphurAromaticInteractionCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for sulphur-aromatic interactions identification.
+     * @param consumer            Consumer receiving sulphur-aromatic interactions satisfying custom criteria, in the same order as they are listed by findSulphurAromaticInteractions(criteria).
+     */
+    public void findSulphurAromaticInteractions(SulphurAromaticInteractionCriteria userDefinedCriteria, Consumer<? super SulphurAromaticInteraction> consumer) {
+        final SulphurAromaticInteractionsFinder sulphurAromaticInteractionsFinder = new SulphurAromaticInteractionsFinder(pdbStructureParser);
+        sulphurAromaticInteractionsFinder.searchSulphurAromaticInteractions(userDefinedCriteria).forEach(Objects.requireNonNull(consumer));
+    }
+
+    /**
+     * Identify sulphur-aromatic interactions in protein as a stream, which finds them lazily and can be run in parallel.
+     * Found interactions satisfy default criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.SulphurAromaticInteractionCriteria
+     *
+     * @return Ordered stream of sulphur-aromatic interactions satisfying default criteria.
+     */
+    public Stream<SulphurAromaticInteraction> streamSulphurAromaticInteractions() {
+        return this.streamSulphurAromaticInteractions(new SulphurAromaticInteractionCriteria());
+    }
+
+    /**
+     * Identify sulphur-aromatic interactions in protein as a stream, which finds them lazily and can be run in parallel.
+     * Found interactions satisfy custom criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.SulphurAromaticInteractionCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for sulphur-aromatic interactions identification.
+     * @return Ordered stream of sulphur-aromatic interactions satisfying custom criteria.
+     */
+    public Stream<SulphurAromaticInteraction> streamSulphurAromaticInteractions(SulphurAromaticInteractionCriteria userDefinedCriteria) {
+        final SulphurAromaticInteractionsFinder sulphurAromaticInteractionsFinder = new SulphurAromaticInteractionsFinder(pdbStructureParser);
+        return sulphurAromaticInteractionsFinder.searchSulphurAromaticInteractions(userDefinedCriteria).stream();
+    }
+
+    /**
+     * Identify sulphur-aromatic interactions in protein and store them in a columnar table, which holds participants and measured quantities
+     * in primitive columns instead of one object per interaction.
+     * Found interactions satisfy default criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.SulphurAromaticInteractionCriteria
+     *
+     * @return Table of sulphur-aromatic interactions satisfying default criteria, with rows in the same order as they are listed by findSulphurAromaticInteractions().
+     */
+    public SulphurAromaticInteractionTable tabulateSulphurAromaticInteractions() {
+        return this.tabulateSulphurAromaticInteractions(new SulphurAromaticInteractionCriteria());
+    }
+
+    /**
+     * Identify sulphur-aromatic interactions in protein and store them in a columnar table, which holds participants and measured quantities
+     * in primitive columns instead of one object per interaction.
+     * Found interactions satisfy custom criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.SulphurAromaticInteractionCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for sulphur-aromatic interactions identification.
+     * @return Table of sulphur-aromatic interactions satisfying custom criteria, with rows in the same order as they are listed by findSulphurAromaticInteractions(criteria).
+     */
+    public SulphurAromaticInteractionTable tabulateSulphurAromaticInteractions(SulphurAromaticInteractionCriteria userDefinedCriteria) {
+        final SulphurAromaticInteractionsFinder sulphurAromaticInteractionsFinder = new SulphurAromaticInteractionsFinder(pdbStructureParser);
+        return sulphurAromaticInteractionsFinder.tabulateSulphurAromaticInteractions(userDefinedCriteria);
+    }
+
+    /**
+     * Identify amino-aromatic interactions in protein.
+     * Found interactions satisfy default criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.AminoAromaticInteractionCriteria
+     *
+     * @return List of amino-aromatic interactions satisfying default criteria.
      */
     public List<AminoAromaticInteraction> findAminoAromaticInteractions() {
         final AminoAromaticInteractionCriteria defaultCriteria = new AminoAromaticInteractionCriteria();
@@ -187,6 +687,80 @@ public final class ProteinInteractionFinder {
         return aminoAromaticInteractionFinder.findAminoAromaticInteractions(userDefinedCriteria);
     }
 
+    /**
+     * Identify amino-aromatic interactions in protein and pass them one by one to given consumer, without collecting them.
+     * Found interactions satisfy default criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.AminoAromaticInteractionCriteria
+     *
+     * @param consumer Consumer receiving amino-aromatic interactions satisfying default criteria, in the same order as they are listed by findAminoAromaticInteractions().
+     */
+    public void findAminoAromaticInteractions(Consumer<? super AminoAromaticInteraction> consumer) {
+        this.findAminoAromaticInteractions(new AminoAromaticInteractionCriteria(), consumer);
+    }
+
+    /**
+     * Identify amino-aromatic interactions in protein and pass them one by one to given consumer, without collecting them.
+     * Found interactions satisfy custom criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.AminoAromaticInteractionCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for amino-aromatic interactions identification.
+     * @param consumer            Consumer receiving amino-aromatic interactions satisfying custom criteria, in the same order as they are listed by findAminoAromaticInteractions(criteria).
+     */
+    public void findAminoAromaticInteractions(AminoAromaticInteractionCriteria userDefinedCriteria, Consumer<? super AminoAromaticInteraction> consumer) {
+        final AminoAromaticInteractionFinder aminoAromaticInteractionFinder = new AminoAromaticInteractionFinder(pdbStructureParser);
+        aminoAromaticInteractionFinder.searchAminoAromaticInteractions(userDefinedCriteria).forEach(Objects.requireNonNull(consumer));
+    }
+
+    /**
+     * Identify amino-aromatic interactions in protein as a stream, which finds them lazily and can be run in parallel.
+     * Found interactions satisfy default criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.AminoAromaticInteractionCriteria
+     *
+     * @return Ordered stream of amino-aromatic interactions satisfying default criteria.
+     */
+    public Stream<AminoAromaticInteraction> streamAminoAromaticInteractions() {
+        return this.streamAminoAromaticInteractions(new AminoAromaticInteractionCriteria());
+    }
+
+    /**
+     * Identify amino-aromatic interactions in protein as a stream, which finds them lazily and can be run in parallel.
+     * Found interactions satisfy custom criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.AminoAromaticInteractionCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for amino-aromatic interactions identification.
+     * @return Ordered stream of amino-aromatic interactions satisfying custom criteria.
+     */
+    public Stream<AminoAromaticInteraction> streamAminoAromaticInteractions(AminoAromaticInteractionCriteria userDefinedCriteria) {
+        final AminoAromaticInteractionFinder aminoAromaticInteractionFinder = new AminoAromaticInteractionFinder(pdbStructureParser);
+        return aminoAromaticInteractionFinder.searchAminoAromaticInteractions(userDefinedCriteria).stream();
+    }
+
+    /**
+     * Identify amino-aromatic interactions in protein and store them in a columnar table, which holds participants and measured quantities
+     * in primitive columns instead of one object per interaction.
+     * Found interactions satisfy default criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.AminoAromaticInteractionCriteria
+     *
+     * @return Table of amino-aromatic interactions satisfying default criteria, with rows in the same order as they are listed by findAminoAromaticInteractions().
+     */
+    public AminoAromaticInteractionTable tabulateAminoAromaticInteractions() {
+        return this.tabulateAminoAromaticInteractions(new AminoAromaticInteractionCriteria());
+    }
+
+    /**
+     * Identify amino-aromatic interactions in protein and store them in a columnar table, which holds participants and measured quantities
+     * in primitive columns instead of one object per interaction.
+     * Found interactions satisfy custom criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.AminoAromaticInteractionCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for amino-aromatic interactions identification.
+     * @return Table of amino-aromatic interactions satisfying custom criteria, with rows in the same order as they are listed by findAminoAromaticInteractions(criteria).
+     */
+    public AminoAromaticInteractionTable tabulateAminoAromaticInteractions(AminoAromaticInteractionCriteria userDefinedCriteria) {
+        final AminoAromaticInteractionFinder aminoAromaticInteractionFinder = new AminoAromaticInteractionFinder(pdbStructureParser);
+        return aminoAromaticInteractionFinder.tabulateAminoAromaticInteractions(userDefinedCriteria);
+    }
+
     /**
      * Identify aromatic-aromatic interactions in protein.
      * Found interactions satisfy default criteria.
@@ -213,6 +787,94 @@ public final class ProteinInteractionFinder {
         return aromaticAromaticInteractionFinder.findAromaticAromaticInteraction(userDefinedCriteria);
     }
 
+    /**
+     * Identify aromatic-aromatic interactions in protein and pass them one by one to given consumer, without collecting them.
+     * Found interactions satisfy default criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.AromaticAromaticInteractionCriteria
+     *
+     * @param consumer Consumer receiving aromatic-aromatic interactions satisfying default criteria, in the same order as they are listed by findAromaticAromaticInteractions().
+     */
+    public void findAromaticAromaticInteractions(Consumer<? super AromaticAromaticInteraction> consumer) {
+        this.findAromaticAromaticInteractions(new AromaticAromaticInteractionCriteria(), consumer);
+    }
+
+    /**
+     * Identify aromatic-aromatic interactions in protein and pass them one by one to given consumer, without collecting them.
+     * Found interactions satisfy custom criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.AromaticAromaticInteractionCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for aromatic-aromatic interactions identification.
+     * @param consumer            Consumer receiving aromatic-aromatic interactions satisfying custom criteria, in the same order as they are listed by findAromaticAromaticInteractions(criteria).
+     */
+    public void findAromaticAromaticInteractions(AromaticAromaticInteractionCriteria userDefinedCriteria, Consumer<? super AromaticAromaticInteraction> consumer) {
+        final AromaticAromaticInteractionFinder aromaticAromaticInteractionFinder = new AromaticAromaticInteractionFinder(pdbStructureParser);
+        aromaticAromaticInteractionFinder.searchAromaticAromaticInteractions(userDefinedCriteria).forEach(Objects.requireNonNull(consumer));
+    }
+
+    /**
+     * Identify aromatic-aromatic interactions in protein as a stream, which finds them lazily and can be run in parallel.
+     * Found interactions satisfy default criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.AromaticAromaticInteractionCriteria
+     *
+     * @return Ordered stream of aromatic-aromatic interactions satisfying default criteria.
+     */
+    public Stream<AromaticAromaticInteraction> streamAromaticAromaticInteractions() {
+        return this.streamAromaticAromaticInteractions(new AromaticAromaticInteractionCriteria());
+    }
+
+    /**
+     * Identify aromatic-aromatic interactions in protein as a stream, which finds them lazily and can be run in parallel.
+     * Found interactions satisfy custom criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.AromaticAromaticInteractionCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for aromatic-aromatic interactions identification.
+     * @return Ordered stream of aromatic-aromatic interactions satisfying custom criteria.
+     */
+    public Stream<AromaticAromaticInteraction> streamAromaticAromaticInteractions(AromaticAromaticInteractionCriteria userDefinedCriteria) {
+        final AromaticAromaticInteractionFinder aromaticAromaticInteractionFinder = new AromaticAromaticInteractionFinder(pdbStructureParser);
+        return aromaticAromaticInteractionFinder.searchAromaticAromaticInteractions(userDefinedCriteria).stream();
+    }
+
+    /**
+     * Identify aromatic-aromatic interactions in protein and store them in a columnar table, which holds participants and measured quantities
+     * in primitive columns instead of one object per interaction.
+     * Found interactions satisfy default criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.AromaticAromaticInteractionCriteria
+     *
+     * @return Table of aromatic-aromatic interactions satisfying default criteria, with rows in the same order as they are listed by findAromaticAromaticInteractions().
+     */
+    public AromaticAromaticInteractionTable tabulateAromaticAromaticInteractions() {
+        return this.tabulateAromaticAromaticInteractions(new AromaticAromaticInteractionCriteria());
+    }
+
+    /**
+     * Identify aromatic-aromatic interactions in protein and store them in a columnar table, which holds participants and measured quantities
+     * in primitive columns instead of one object per interaction.
+     * Found interactions satisfy custom criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.AromaticAromaticInteractionCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for aromatic-aromatic interactions identification.
+     * @return Table of aromatic-aromatic interactions satisfying custom criteria, with rows in the same order as they are listed by findAromaticAromaticInteractions(criteria).
+     */
+    public AromaticAromaticInteractionTable tabulateAromaticAromaticInteractions(AromaticAromaticInteractionCriteria userDefinedCriteria) {
+        final AromaticAromaticInteractionFinder aromaticAromaticInteractionFinder = new AromaticAromaticInteractionFinder(pdbStructureParser);
+        return aromaticAromaticInteractionFinder.tabulateAromaticAromaticInteractions(userDefinedCriteria);
+    }
+
+    /**
+     * Identify aromatic-aromatic interactions in protein for each of many custom criteria at once (e.g. for grid of boundary values).
+     * Candidate interactions are found and measured only once, using the widest boundary values among given criteria,
+     * and then assigned to every criteria they satisfy.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.AromaticAromaticInteractionCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for aromatic-aromatic interactions identification.
+     * @return Map from each of given criteria (in iteration order of the collection) to list of aromatic-aromatic interactions satisfying it, in the same order as they are listed by findAromaticAromaticInteractions(criteria).
+     */
+    public Map<AromaticAromaticInteractionCriteria, List<AromaticAromaticInteraction>> sweepAromaticAromaticInteractions(Collection<AromaticAromaticInteractionCriteria> userDefinedCriteria) {
+        final AromaticAromaticInteractionFinder aromaticAromaticInteractionFinder = new AromaticAromaticInteractionFinder(pdbStructureParser);
+        return aromaticAromaticInteractionFinder.sweepAromaticAromaticInteractions(userDefinedCriteria);
+    }
+
     /**
      * Identify ionic interactions in protein.
      * Found interactions satisfy default criteria.
@@ -239,6 +901,80 @@ public final class ProteinInteractionFinder {
         return ionicInteractionsFinder.findIonicInteractions(userDefinedCriteria);
     }
 
+    /**
+     * Identify ionic interactions in protein and pass them one by one to given consumer, without collecting them.
+     * Found interactions satisfy default criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.IonicInteractionCriteria
+     *
+     * @param consumer Consumer receiving ionic interactions satisfying default criteria, in the same order as they are listed by findIonicInteractions().
+     */
+    public void findIonicInteractions(Consumer<? super IonicInteraction> consumer) {
+        this.findIonicInteractions(new IonicInteractionCriteria(), consumer);
+    }
+
+    /**
+     * Identify ionic interactions in protein and pass them one by one to given consumer, without collecting them.
+     * Found interactions satisfy custom criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.IonicInteractionCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for ionic interactions identification.
+     * @param consumer            Consumer receiving ionic interactions satisfying custom criteria, in the same order as they are listed by findIonicInteractions(criteria).
+     */
+    public void findIonicInteractions(IonicInteractionCriteria userDefinedCriteria, Consumer<? super IonicInteraction> consumer) {
+        final IonicInteractionsFinder ionicInteractionsFinder = new IonicInteractionsFinder(pdbStructureParser);
+        ionicInteractionsFinder.searchIonicInteractions(userDefinedCriteria).forEach(Objects.requireNonNull(consumer));
+    }
+
+    /**
+     * Identify ionic interactions in protein as a stream, which finds them lazily and can be run in parallel.
+     * Found interactions satisfy default criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.IonicInteractionCriteria
+     *
+     * @return Ordered stream of ionic interactions satisfying default criteria.
+     */
+    public Stream<IonicInteraction> streamIonicInteractions() {
+        return this.streamIonicInteractions(new IonicInteractionCriteria());
+    }
+
+    /**
+     * Identify ionic interactions in protein as a stream, which finds them lazily and can be run in parallel.
+     * Found interactions satisfy custom criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.IonicInteractionCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for ionic interactions identification.
+     * @return Ordered stream of ionic interactions satisfying custom criteria.
+     */
+    public Stream<IonicInteraction> streamIonicInteractions(IonicInteractionCriteria userDefinedCriteria) {
+        final IonicInteractionsFinder ionicInteractionsFinder = new IonicInteractionsFinder(pdbStructureParser);
+        return ionicInteractionsFinder.searchIonicInteractions(userDefinedCriteria).stream();
+    }
+
+    /**
+     * Identify ionic interactions in protein and store them in a columnar table, which holds participants and measured quantities
+     * in primitive columns instead of one object per interaction.
+     * Found interactions satisfy default criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.IonicInteractionCriteria
+     *
+     * @return Table of ionic interactions satisfying default criteria, with rows in the same order as they are listed by findIonicInteractions().
+     */
+    public IonicInteractionTable tabulateIonicInteractions() {
+        return this.tabulateIonicInteractions(new IonicInteractionCriteria());
+    }
+
+    /**
+     * Identify ionic interactions in protein and store them in a columnar table, which holds participants and measured quantities
+     * in primitive columns instead of one object per interaction.
+     * Found interactions satisfy custom criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.IonicInteractionCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for ionic interactions identification.
+     * @return Table of ionic interactions satisfying custom criteria, with rows in the same order as they are listed by findIonicInteractions(criteria).
+     */
+    public IonicInteractionTable tabulateIonicInteractions(IonicInteractionCriteria userDefinedCriteria) {
+        final IonicInteractionsFinder ionicInteractionsFinder = new IonicInteractionsFinder(pdbStructureParser);
+        return ionicInteractionsFinder.tabulateIonicInteractions(userDefinedCriteria);
+    }
+
     /**
      * Identify hydrophobic interactions in protein.
      * Found interactions satisfy default criteria.
@@ -265,4 +1001,163 @@ public final class ProteinInteractionFinder {
         return hydrophobicInteractionsFinder.findHydrophobicInteractions(userDefinedCriteria);
     }
 
+    /**
+     * Identify hydrophobic interactions in protein and pass them one by one to given consumer, without collecting them.
+     * Found interactions satisfy default criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.HydrophobicInteractionCriteria
+     *
+     * @param consumer Consumer receiving hydrophobic interactions satisfying default criteria, in the same order as they are listed by findHydrophobicInteractions().
+     */
+    public void findHydrophobicInteractions(Consumer<? super HydrophobicInteraction> consumer) {
+        this.findHydrophobicInteractions(new HydrophobicInteractionCriteria(), consumer);
+    }
+
+    /**
+     * Identify hydrophobic interactions in protein and pass them one by one to given consumer, without collecting them.
+     * Found interactions satisfy custom criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.HydrophobicInteractionCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for hydrophobic interactions identification.
+     * @param consumer            Consumer receiving hydrophobic interactions satisfying custom criteria, in the same order as they are listed by findHydrophobicInteractions(criteria).
+     */
+    public void findHydrophobicInteractions(HydrophobicInteractionCriteria userDefinedCriteria, Consumer<? super HydrophobicInteraction> consumer) {
+        final HydrophobicInteractionsFinder hydrophobicInteractionsFinder = new HydrophobicInteractionsFinder(pdbStructureParser);
+        hydrophobicInteractionsFinder.searchHydrophobicInteractions(userDefinedCriteria).forEach(Objects.requireNonNull(consumer));
+    }
+
+    /**
+     * Identify hydrophobic interactions in protein as a stream, which finds them lazily and can be run in parallel.
+     * Found interactions satisfy default criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.HydrophobicInteractionCriteria
+     *
+     * @return Ordered stream of hydrophobic interactions satisfying default criteria.
+     */
+    public Stream<HydrophobicInteraction> streamHydrophobicInteractions() {
+        return this.streamHydrophobicInteractions(new HydrophobicInteractionCriteria());
+    }
+
+    /**
+     * Identify hydrophobic interactions in protein as a stream, which finds them lazily and can be run in parallel.
+     * Found interactions satisfy custom criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.HydrophobicInteractionCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for hydrophobic interactions identification.
+     * @return Ordered stream of hydrophobic interactions satisfying custom criteria.
+     */
+    public Stream<HydrophobicInteraction> streamHydrophobicInteractions(HydrophobicInteractionCriteria userDefinedCriteria) {
+        final HydrophobicInteractionsFinder hydrophobicInteractionsFinder = new HydrophobicInteractionsFinder(pdbStructureParser);
+        return hydrophobicInteractionsFinder.searchHydrophobicInteractions(userDefinedCriteria).stream();
+    }
+
+    /**
+     * Identify hydrophobic interactions in protein and store them in a columnar table, which holds participants and measured quantities
+     * in primitive columns instead of one object per interaction.
+     * Found interactions satisfy default criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.HydrophobicInteractionCriteria
+     *
+     * @return Table of hydrophobic interactions satisfying default criteria, with rows in the same order as they are listed by findHydrophobicInteractions().
+     */
+    public HydrophobicInteractionTable tabulateHydrophobicInteractions() {
+        return this.tabulateHydrophobicInteractions(new HydrophobicInteractionCriteria());
+    }
+
+    /**
+     * Identify hydrophobic interactions in protein and store them in a columnar table, which holds participants and measured quantities
+     * in primitive columns instead of one object per interaction.
+     * Found interactions satisfy custom criteria.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.HydrophobicInteractionCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for hydrophobic interactions identification.
+     * @return Table of hydrophobic interactions satisfying custom criteria, with rows in the same order as they are listed by findHydrophobicInteractions(criteria).
+     */
+    public HydrophobicInteractionTable tabulateHydrophobicInteractions(HydrophobicInteractionCriteria userDefinedCriteria) {
+        final HydrophobicInteractionsFinder hydrophobicInteractionsFinder = new HydrophobicInteractionsFinder(pdbStructureParser);
+        return hydrophobicInteractionsFinder.tabulateHydrophobicInteractions(userDefinedCriteria);
+    }
+
+    /**
+     * Identify all implemented interactions in protein.
+     * Found interactions satisfy default criteria.
+     * Independent kinds of interactions are identified concurrently in the common ForkJoinPool.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.AllInteractionsCriteria
+     *
+     * @return All interactions satisfying default criteria.
+     */
+    public AllInteractions findAllInteractions() {
+        return this.findAllInteractions(new AllInteractionsCriteria(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Identify all implemented interactions in protein.
+     * Found interactions satisfy custom criteria.
+     * Independent kinds of interactions are identified concurrently in the common ForkJoinPool.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.AllInteractionsCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for identification of every interaction.
+     * @return All interactions satisfying custom criteria.
+     */
+    public AllInteractions findAllInteractions(AllInteractionsCriteria userDefinedCriteria) {
+        return this.findAllInteractions(userDefinedCriteria, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Identify all implemented interactions in protein.
+     * Found interactions satisfy custom criteria.
+     * Independent kinds of interactions are identified concurrently in given ForkJoinPool.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.AllInteractionsCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for identification of every interaction.
+     * @param pool                Pool in which interactions will be identified (e.g. new ForkJoinPool(1) for sequential run).
+     * @return All interactions satisfying custom criteria.
+     */
+    public AllInteractions findAllInteractions(AllInteractionsCriteria userDefinedCriteria, ForkJoinPool pool) {
+        final AllInteractionsFinder allInteractionsFinder = new AllInteractionsFinder(pdbStructureParser);
+        return allInteractionsFinder.findAllInteractions(Objects.requireNonNull(userDefinedCriteria), EnumSet.allOf(InteractionType.class),
+                                                         Objects.requireNonNull(pool));
+    }
+
+    /**
+     * Identify all implemented interactions in every model of protein structure (e.g. NMR ensemble)
+     * and their occupancy across models.
+     * Found interactions satisfy default criteria.
+     * Models are processed concurrently in the common ForkJoinPool.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.AllInteractionsCriteria
+     *
+     * @return All interactions satisfying default criteria in every model, with their occupancy.
+     */
+    public EnsembleInteractions findAllInteractionsInAllModels() {
+        return this.findAllInteractionsInAllModels(new AllInteractionsCriteria(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Identify all implemented interactions in every model of protein structure (e.g. NMR ensemble)
+     * and their occupancy across models.
+     * Found interactions satisfy custom criteria.
+     * Models are processed concurrently in the common ForkJoinPool.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.AllInteractionsCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for identification of every interaction.
+     * @return All interactions satisfying custom criteria in every model, with their occupancy.
+     */
+    public EnsembleInteractions findAllInteractionsInAllModels(AllInteractionsCriteria userDefinedCriteria) {
+        return this.findAllInteractionsInAllModels(userDefinedCriteria, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Identify all implemented interactions in every model of protein structure (e.g. NMR ensemble)
+     * and their occupancy across models.
+     * Found interactions satisfy custom criteria.
+     * Models are processed concurrently in given ForkJoinPool.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.AllInteractionsCriteria
+     *
+     * @param userDefinedCriteria Custom criteria that will be used for identification of every interaction.
+     * @param pool                Pool in which models will be processed (e.g. new ForkJoinPool(1) for sequential run).
+     * @return All interactions satisfying custom criteria in every model, with their occupancy.
+     */
+    public EnsembleInteractions findAllInteractionsInAllModels(AllInteractionsCriteria userDefinedCriteria, ForkJoinPool pool) {
+        final EnsembleInteractionsFinder ensembleInteractionsFinder = new EnsembleInteractionsFinder(pdbStructureParser);
+        return ensembleInteractionsFinder.findAllInteractions(Objects.requireNonNull(userDefinedCriteria), EnumSet.allOf(InteractionType.class),
+                                                              Objects.requireNonNull(pool));
+    }
+
 }
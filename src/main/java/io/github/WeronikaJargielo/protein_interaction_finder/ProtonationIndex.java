@@ -0,0 +1,50 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import java.util.Collections;
+
+// Protonation states of histidines, built once per residue index: for every residue a bitmask of present hydrogen atoms
+// which can be bound to side chain nitrogens of histidine (HD1 on ND1, HE2 on NE2). Uncharged histidine has one of them,
+// charged histidine has both, so the finders can tell the state of any histidine without scanning hydrogens of others.
+final class ProtonationIndex {
+
+    private static final byte hydrogenHD1 = 1;
+    private static final byte hydrogenHE2 = 2;
+    private static final byte bothHydrogens = hydrogenHD1 | hydrogenHE2;
+
+    private final byte[] histidineHydrogens;
+
+    ProtonationIndex(ResidueIndex residueIndex) {
+        histidineHydrogens = new byte[residueIndex.getResiduesCount()];
+
+        final int[] atomInd = new int[1];
+        for (int r : residueIndex.getResidues(Collections.singletonList(AminoAcidAbbreviations.HIS))) {
+            if (residueIndex.findAtoms(r, new String[]{"HD1"}, atomInd)) {
+                histidineHydrogens[r] |= hydrogenHD1;
+            }
+            if (residueIndex.findAtoms(r, new String[]{"HE2"}, atomInd)) {
+                histidineHydrogens[r] |= hydrogenHE2;
+            }
+        }
+    }
+
+    // Checks whether given residue has hydrogen of given name (HD1 or HE2) bound to its side chain nitrogen.
+    boolean hasHistidineHydrogen(int residueInd, String hydrogenName) {
+        return (histidineHydrogens[residueInd] & bitOf(hydrogenName)) != 0;
+    }
+
+    // Histidine is charged when both of its side chain nitrogens carry hydrogen.
+    boolean isChargedHistidine(int residueInd) {
+        return histidineHydrogens[residueInd] == bothHydrogens;
+    }
+
+    private static byte bitOf(String hydrogenName) {
+        switch (hydrogenName) {
+            case "HD1":
+                return hydrogenHD1;
+            case "HE2":
+                return hydrogenHE2;
+            default:
+                throw new IllegalArgumentException("Not a hydrogen of histidine side chain nitrogen: " + hydrogenName);
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import org.biojava.nbio.structure.Atom;
+import org.biojava.nbio.structure.Chain;
+import org.biojava.nbio.structure.Group;
+import org.biojava.nbio.structure.Structure;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// Index of amino acids (residues) of one model of a structure, built in a single pass.
+// Residues are kept in the same order as BioJava's StructureTools.getAtomArray visits them, and for each amino acid
+// type the atoms are stored in columns keyed by atom name, so looking atoms up does not require scanning the structure.
+final class ResidueIndex {
+
+    private static final int absentAtom = -1;
+
+    private final Group[] residues;
+    private final AminoAcidAbbreviations[] residueTypes;
+    private final int[] residuePositionsInType;
+    // One AminoAcid per residue, handed out to all results concerning the residue (AminoAcid is immutable).
+    private final AminoAcid[] aminoAcids;
+
+    private final Atom[] atoms;
+    private final int[] residueAtomStart;
+
+    private final EnumMap<AminoAcidAbbreviations, int[]> residuesOfType = new EnumMap<>(AminoAcidAbbreviations.class);
+    // For each amino acid type: atom name -> indices of atoms of given name (or absentAtom) for consecutive residues of that type.
+    private final EnumMap<AminoAcidAbbreviations, Map<String, int[]>> atomColumns = new EnumMap<>(AminoAcidAbbreviations.class);
+
+    // Participants of interactions (as atom indices) found by the finders. They depend only on names of residues and atoms,
+    // so they are computed once and shared by all models having the same residues and atoms (see forModel).
+    private final Map<String, int[]> participants;
+
+    private final ProtonationIndex protonationIndex;
+
+    ResidueIndex(List<Chain> model) {
+        final List<Group> residues = new ArrayList<>();
+        final List<AminoAcidAbbreviations> residueTypes = new ArrayList<>();
+
+        for (Group group : aminoAcidsOf(model)) {
+            residues.add(group);
+            residueTypes.add(AminoAcidAbbreviations.fromPdbName(group.getPDBName()));
+        }
+
+        final int residuesLen = residues.size();
+        this.residues = residues.toArray(new Group[0]);
+        this.residueTypes = residueTypes.toArray(new AminoAcidAbbreviations[0]);
+        this.residuePositionsInType = new int[residuesLen];
+        this.aminoAcids = new AminoAcid[residuesLen];
+        this.residueAtomStart = new int[residuesLen + 1];
+        this.participants = new ConcurrentHashMap<>();
+
+        final EnumMap<AminoAcidAbbreviations, Integer> residuesOfTypeLen = new EnumMap<>(AminoAcidAbbreviations.class);
+        for (int r = 0; r < residuesLen; ++r) {
+            final int positionInType = residuesOfTypeLen.getOrDefault(this.residueTypes[r], 0);
+            residuePositionsInType[r] = positionInType;
+            residuesOfTypeLen.put(this.residueTypes[r], positionInType + 1);
+            residueAtomStart[r + 1] = residueAtomStart[r] + this.residues[r].getAtoms().size();
+            aminoAcids[r] = new AminoAcid(this.residueTypes[r], this.residues[r].getChain().getName(),
+                                          this.residues[r].getResidueNumber().getSeqNum());
+        }
+        residuesOfTypeLen.forEach((aminoAcidAbbr, len) -> {
+            residuesOfType.put(aminoAcidAbbr, new int[len]);
+            atomColumns.put(aminoAcidAbbr, new HashMap<>());
+        });
+
+        this.atoms = new Atom[residueAtomStart[residuesLen]];
+        for (int r = 0; r < residuesLen; ++r) {
+            final Group residue = this.residues[r];
+            final AminoAcidAbbreviations aminoAcidAbbr = this.residueTypes[r];
+            final int positionInType = residuePositionsInType[r];
+            final Map<String, int[]> columns = atomColumns.get(aminoAcidAbbr);
+
+            residuesOfType.get(aminoAcidAbbr)[positionInType] = r;
+
+            final List<Atom> residueAtoms = residue.getAtoms();
+            final int residueAtomsLen = residueAtoms.size();
+            for (int i = 0; i < residueAtomsLen; ++i) {
+                atoms[residueAtomStart[r] + i] = residueAtoms.get(i);
+            }
+
+            for (int i = 0; i < residueAtomsLen; ++i) {
+                final String atomName = residueAtoms.get(i).getName();
+                final int[] column = columns.computeIfAbsent(atomName, name -> {
+                    final int[] newColumn = new int[residuesOfTypeLen.get(aminoAcidAbbr)];
+                    Arrays.fill(newColumn, absentAtom);
+                    return newColumn;
+                });
+                if (column[positionInType] != absentAtom) { continue; }
+
+                // The same atom BioJava returns for given name (it matters e.g. for atoms with alternate locations).
+                final Atom namedAtom = residue.getAtom(atomName);
+                for (int j = 0; j < residueAtomsLen; ++j) {
+                    if (residueAtoms.get(j) == namedAtom) {
+                        column[positionInType] = residueAtomStart[r] + j;
+                        break;
+                    }
+                }
+            }
+        }
+
+        this.protonationIndex = new ProtonationIndex(this);
+    }
+
+    // Index of other model of the same structure. When the model has the same residues with the same atoms (as models
+    // of NMR ensembles usually have), residue types, amino acids, atom columns and participants are shared with this index,
+    // and only residues and atoms of the model are collected; otherwise the model is indexed from scratch.
+    ResidueIndex forModel(List<Chain> model) {
+        final List<Group> modelResidues = aminoAcidsOf(model);
+        if (modelResidues.size() != residues.length) {
+            return new ResidueIndex(model);
+        }
+
+        final Atom[] modelAtoms = new Atom[atoms.length];
+        for (int r = 0; r < residues.length; ++r) {
+            final Group residue = residues[r];
+            final Group modelResidue = modelResidues.get(r);
+            final List<Atom> modelResidueAtoms = modelResidue.getAtoms();
+            final int residueAtomsLen = residueAtomStart[r + 1] - residueAtomStart[r];
+
+            if ( ! (modelResidue.getPDBName().equals(residue.getPDBName())
+                    && modelResidue.getResidueNumber().equals(residue.getResidueNumber())
+                    && modelResidue.getChain().getName().equals(residue.getChain().getName())
+                    && modelResidueAtoms.size() == residueAtomsLen) ) {
+                return new ResidueIndex(model);
+            }
+            for (int i = 0; i < residueAtomsLen; ++i) {
+                final Atom modelAtom = modelResidueAtoms.get(i);
+                if ( ! (modelAtom.getName().equals(atoms[residueAtomStart[r] + i].getName())
+                        && Objects.equals(modelAtom.getAltLoc(), atoms[residueAtomStart[r] + i].getAltLoc())) ) {
+                    return new ResidueIndex(model);
+                }
+                modelAtoms[residueAtomStart[r] + i] = modelAtom;
+            }
+        }
+        return new ResidueIndex(this, modelResidues.toArray(new Group[0]), modelAtoms);
+    }
+
+    private ResidueIndex(ResidueIndex template, Group[] residues, Atom[] atoms) {
+        this.residues = residues;
+        this.atoms = atoms;
+        this.residueTypes = template.residueTypes;
+        this.residuePositionsInType = template.residuePositionsInType;
+        this.aminoAcids = template.aminoAcids;
+        this.residueAtomStart = template.residueAtomStart;
+        this.residuesOfType.putAll(template.residuesOfType);
+        this.atomColumns.putAll(template.atomColumns);
+        this.participants = template.participants;
+        this.protonationIndex = template.protonationIndex;
+    }
+
+    // Index of a frame (e.g. of molecular dynamics trajectory) of the model of this index: every atom is copied
+    // with coordinates taken from frame, which stores x, y and z of consecutive atoms at positions given by framePositions.
+    // Copies belong to the same residues as original atoms, but residues are not modified, and all templates are shared.
+    ResidueIndex forFrame(double[] frame, int[] framePositions) {
+        final Atom[] frameAtoms = new Atom[atoms.length];
+        for (int a = 0; a < atoms.length; ++a) {
+            final Atom frameAtom = (Atom) atoms[a].clone();
+            final int position = framePositions[a];
+            frameAtom.setX(frame[position]);
+            frameAtom.setY(frame[position + 1]);
+            frameAtom.setZ(frame[position + 2]);
+            frameAtom.setGroup(atoms[a].getGroup());
+            frameAtoms[a] = frameAtom;
+        }
+        return new ResidueIndex(this, residues, frameAtoms);
+    }
+
+    // Positions of x coordinates of indexed atoms in frames covering all atoms of the model (including atoms of groups
+    // other than amino acids, e.g. water and ligands), in the order of chains, groups and atoms, three coordinates per atom.
+    static int[] getFramePositions(List<Chain> model) {
+        final List<Integer> framePositions = new ArrayList<>();
+        int frameAtomsLen = 0;
+        for (Chain chain : model) {
+            for (Group group : chain.getAtomGroups()) {
+                final boolean isAminoAcid = AminoAcidAbbreviations.fromPdbName(group.getPDBName()) != null;
+                for (int i = 0; i < group.getAtoms().size(); ++i) {
+                    if (isAminoAcid) {
+                        framePositions.add(3 * frameAtomsLen);
+                    }
+                    ++frameAtomsLen;
+                }
+            }
+        }
+        return framePositions.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    static int getFrameAtomsCount(List<Chain> model) {
+        int frameAtomsLen = 0;
+        for (Chain chain : model) {
+            for (Group group : chain.getAtomGroups()) {
+                frameAtomsLen += group.getAtoms().size();
+            }
+        }
+        return frameAtomsLen;
+    }
+
+    boolean sharesTemplatesWith(ResidueIndex other) {
+        return participants == other.participants;
+    }
+
+    private static List<Group> aminoAcidsOf(List<Chain> model) {
+        final List<Group> aminoAcids = new ArrayList<>();
+        for (Chain chain : model) {
+            for (Group group : chain.getAtomGroups()) {
+                if (AminoAcidAbbreviations.fromPdbName(group.getPDBName()) != null) {
+                    aminoAcids.add(group);
+                }
+            }
+        }
+        return aminoAcids;
+    }
+
+    // Returns participants stored under given key, finding them first if they are not stored yet.
+    // Returned array is shared, so it must not be modified.
+    int[] getParticipants(String key, Supplier<int[]> participantsFinder) {
+        return participants.computeIfAbsent(key, k -> participantsFinder.get());
+    }
+
+    // Estimated heap footprint of stored participants in bytes.
+    long getParticipantsFootprint() {
+        return participants.values().stream().mapToLong(participantsAtoms -> Integer.BYTES * (long) participantsAtoms.length).sum();
+    }
+
+    ProtonationIndex getProtonationIndex() {
+        return protonationIndex;
+    }
+
+    int getResiduesCount() {
+        return residues.length;
+    }
+
+    Group getResidue(int residueInd) {
+        return residues[residueInd];
+    }
+
+    AminoAcidAbbreviations getResidueType(int residueInd) {
+        return residueTypes[residueInd];
+    }
+
+    AminoAcid getAminoAcid(int residueInd) {
+        return aminoAcids[residueInd];
+    }
+
+    Atom getAtom(int atomInd) {
+        return atoms[atomInd];
+    }
+
+    int getAtomsCount() {
+        return atoms.length;
+    }
+
+    // Atoms of given residue have indices in [getResidueAtomStart(residueInd), getResidueAtomStart(residueInd + 1)).
+    int getResidueAtomStart(int residueInd) {
+        return residueAtomStart[residueInd];
+    }
+
+    // Returns atoms of requested names for each residue of allowed types (all types when allowedAminoAcids is null)
+    // containing all of them, in the same order as BioJava's StructureTools.getAtomArray would return them.
+    ArrayList<Atom> getAtoms(String[] atomNames, Collection<AminoAcidAbbreviations> allowedAminoAcids) {
+        final int[] foundAtomInds = this.getAtomIndices(atomNames, allowedAminoAcids);
+
+        ArrayList<Atom> foundAtoms = new ArrayList<>(foundAtomInds.length);
+        for (int atomInd : foundAtomInds) {
+            foundAtoms.add(atoms[atomInd]);
+        }
+        return foundAtoms;
+    }
+
+    // Same as getAtoms, but returns indices of found atoms instead of atoms themselves.
+    int[] getAtomIndices(String[] atomNames, Collection<AminoAcidAbbreviations> allowedAminoAcids) {
+        final int[] allowedResidues = this.getResidues(allowedAminoAcids);
+        final int[] atomInds = new int[atomNames.length];
+
+        int[] foundAtomInds = new int[allowedResidues.length * atomNames.length];
+        int foundAtomIndsLen = 0;
+        for (int r : allowedResidues) {
+            if (this.findAtoms(r, atomNames, atomInds)) {
+                System.arraycopy(atomInds, 0, foundAtomInds, foundAtomIndsLen, atomInds.length);
+                foundAtomIndsLen += atomInds.length;
+            }
+        }
+        return Arrays.copyOf(foundAtomInds, foundAtomIndsLen);
+    }
+
+    // Fills atomInds with indices of atoms of requested names in given residue; returns false if any of them is absent.
+    boolean findAtoms(int residueInd, String[] atomNames, int[] atomInds) {
+        final Map<String, int[]> columns = atomColumns.get(residueTypes[residueInd]);
+        final int positionInType = residuePositionsInType[residueInd];
+
+        for (int i = 0; i < atomNames.length; ++i) {
+            final int[] column = columns.get(atomNames[i]);
+            if (column == null || column[positionInType] == absentAtom) {
+                return false;
+            }
+            atomInds[i] = column[positionInType];
+        }
+        return true;
+    }
+
+    // Returns indices (in ascending order) of residues of allowed types (all residues when allowedAminoAcids is null).
+    int[] getResidues(Collection<AminoAcidAbbreviations> allowedAminoAcids) {
+        if (allowedAminoAcids == null) {
+            final int[] allResidues = new int[residues.length];
+            Arrays.setAll(allResidues, r -> r);
+            return allResidues;
+        }
+
+        final EnumSet<AminoAcidAbbreviations> allowed = EnumSet.noneOf(AminoAcidAbbreviations.class);
+        allowedAminoAcids.forEach(aminoAcidAbbr -> { if (aminoAcidAbbr != null) { allowed.add(aminoAcidAbbr); } });
+
+        if (allowed.size() == 1) {
+            return residuesOfType.getOrDefault(allowed.iterator().next(), new int[0]).clone();
+        }
+
+        int allowedResiduesLen = 0;
+        for (AminoAcidAbbreviations aminoAcidAbbr : allowed) {
+            allowedResiduesLen += residuesOfType.getOrDefault(aminoAcidAbbr, new int[0]).length;
+        }
+
+        final int[] allowedResidues = new int[allowedResiduesLen];
+        int allowedResiduesInd = 0;
+        for (int r = 0; r < residues.length && allowedResiduesInd < allowedResiduesLen; ++r) {
+            if (allowed.contains(residueTypes[r])) {
+                allowedResidues[allowedResiduesInd++] = r;
+            }
+        }
+        return allowedResidues;
+    }
+}
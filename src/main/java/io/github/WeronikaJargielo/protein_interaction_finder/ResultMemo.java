@@ -0,0 +1,109 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+// Results of one structure kept by interaction type and criteria, as told by ResultMemoPolicy. Results are tables
+// of interactions, which are not modified once found, so one table is returned to all callers asking for it.
+// Callers missing the same result at once find it independently and the result found last is kept.
+final class ResultMemo {
+
+    private static final class Key {
+        private final InteractionType interactionType;
+        private final Object criteria;
+
+        private Key(InteractionType interactionType, Object criteria) {
+            this.interactionType = interactionType;
+            this.criteria = Objects.requireNonNull(criteria);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return interactionType == key.interactionType && criteria.equals(key.criteria);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(interactionType, criteria);
+        }
+    }
+
+    // Softly referenced result, which remembers its key to be removed once cleared.
+    private static final class SoftResult extends SoftReference<Object> {
+        private final Key key;
+
+        private SoftResult(Key key, Object result, ReferenceQueue<Object> clearedResults) {
+            super(result, clearedResults);
+            this.key = key;
+        }
+    }
+
+    private final ResultMemoPolicy policy;
+
+    // Guarded by this; values are results or SoftResults, iterated from the least recently used one.
+    private final LinkedHashMap<Key, Object> results = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReferenceQueue<Object> clearedResults = new ReferenceQueue<>();
+
+    ResultMemo(ResultMemoPolicy policy) {
+        this.policy = policy;
+    }
+
+    ResultMemoPolicy getPolicy() {
+        return policy;
+    }
+
+    <R> R memoize(InteractionType interactionType, Object criteria, Supplier<R> finder) {
+        R result = this.get(interactionType, criteria);
+        if (result == null) {
+            result = finder.get();
+            this.put(interactionType, criteria, result);
+        }
+        return result;
+    }
+
+    // Kept result of given type and criteria, or null.
+    @SuppressWarnings("unchecked")
+    synchronized <R> R get(InteractionType interactionType, Object criteria) {
+        this.removeClearedResults();
+        final Object result = results.get(new Key(interactionType, criteria));
+        return (R) ((result instanceof SoftResult) ? ((SoftResult) result).get() : result);
+    }
+
+    synchronized void put(InteractionType interactionType, Object criteria, Object result) {
+        this.removeClearedResults();
+        final Key key = new Key(interactionType, criteria);
+        results.put(key, policy.isSoftlyReferenced() ? new SoftResult(key, result, clearedResults) : result);
+
+        final Iterator<Object> resultsIterator = results.values().iterator();
+        while (results.size() > policy.getMaxResults()) {
+            resultsIterator.next();
+            resultsIterator.remove();
+        }
+    }
+
+    // Estimated heap footprint in bytes of strongly referenced results. Softly referenced ones are not counted,
+    // as the garbage collector drops them when memory runs low.
+    synchronized long getFootprint() {
+        long footprint = 0;
+        for (Object result : results.values()) {
+            if (result instanceof InteractionTable) {
+                footprint += ((InteractionTable<?>) result).getFootprint();
+            }
+        }
+        return footprint;
+    }
+
+    private void removeClearedResults() {
+        for (Reference<?> clearedResult = clearedResults.poll(); clearedResult != null; clearedResult = clearedResults.poll()) {
+            results.remove(((SoftResult) clearedResult).key, clearedResult);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+/**
+ * Class representing policy of keeping memoized results of a protein structure.
+ * Results are kept by interaction type and criteria; when there are more of them than the maximal number,
+ * least recently used ones are dropped. Softly referenced results are additionally dropped by the garbage collector
+ * when memory runs low.
+ * @see io.github.WeronikaJargielo.protein_interaction_finder.ProteinInteractionFinder#memoizeResults(ResultMemoPolicy)
+ */
+public final class ResultMemoPolicy {
+    private final int maxResults;
+    private final boolean softlyReferenced;
+
+    /**
+     * Instantiates new ResultMemoPolicy keeping unlimited number of softly referenced results.
+     */
+    public ResultMemoPolicy() {
+        this(Integer.MAX_VALUE, true);
+    }
+
+    /**
+     * Instantiates new ResultMemoPolicy.
+     *
+     * @param maxResults       Maximal number of kept results (at least 1).
+     * @param softlyReferenced Whether results are softly referenced, i.e. may be dropped by the garbage collector.
+     */
+    public ResultMemoPolicy(int maxResults, boolean softlyReferenced) {
+        if (maxResults < 1) {
+            throw new IllegalArgumentException("Maximal number of results must be positive: " + maxResults);
+        }
+        this.maxResults = maxResults;
+        this.softlyReferenced = softlyReferenced;
+    }
+
+    /**
+     * Returns maximal number of kept results.
+     *
+     * @return Maximal number of kept results.
+     */
+    public int getMaxResults() {
+        return maxResults;
+    }
+
+    /**
+     * Returns whether results are softly referenced, i.e. may be dropped by the garbage collector.
+     *
+     * @return Whether results are softly referenced.
+     */
+    public boolean isSoftlyReferenced() {
+        return softlyReferenced;
+    }
+}
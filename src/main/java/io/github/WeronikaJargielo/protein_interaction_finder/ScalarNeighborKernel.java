@@ -0,0 +1,36 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+// Scalar kernel of neighbour searches: checks a run of points stored in consecutive positions of coordinate arrays
+// against one query and appends indices of points lying within the radius to found (which has to have room for all
+// of them), returning new number of found points. Used directly on JVMs without Vector API and for tails of runs.
+final class ScalarNeighborKernel {
+
+    private ScalarNeighborKernel() {
+    }
+
+    static int collectWithin(double[] xs, double[] ys, double[] zs, int from, int to, double x, double y, double z,
+                             double radiusSquared, int[] pointIndices, int[] found, int foundLen) {
+        for (int p = from; p < to; ++p) {
+            final double dx = xs[p] - x;
+            final double dy = ys[p] - y;
+            final double dz = zs[p] - z;
+            if (dx*dx + dy*dy + dz*dz <= radiusSquared) {
+                found[foundLen++] = pointIndices[p];
+            }
+        }
+        return foundLen;
+    }
+
+    static int collectWithin(float[] xs, float[] ys, float[] zs, int from, int to, float x, float y, float z,
+                             float radiusSquared, int[] pointIndices, int[] found, int foundLen) {
+        for (int p = from; p < to; ++p) {
+            final float dx = xs[p] - x;
+            final float dy = ys[p] - y;
+            final float dz = zs[p] - z;
+            if (dx*dx + dy*dy + dz*dz <= radiusSquared) {
+                found[foundLen++] = pointIndices[p];
+            }
+        }
+        return foundLen;
+    }
+}
@@ -0,0 +1,216 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Class representing interactions of one structure stored in binary file, read by InteractionFileReader.
+ * Nothing is copied from the file: every value is read directly from the mapped file when it is requested.
+ * Participants are identified by indices of amino acids of the structure (from 0 to getResiduesCount() - 1),
+ * measured quantities by indices of columns, in order of parameters of constructor of the interaction
+ * (e.g. distanceHA, distanceDA, angleDHA, angleHAAa, angleDAAa for hydrogen bonds). First participant is the one
+ * returned first by the interaction (e.g. donor of hydrogen bond, aromatic amino acid of sulphur-aromatic interaction).
+ * @see io.github.WeronikaJargielo.protein_interaction_finder.InteractionFileReader
+ */
+public final class StoredInteractions {
+
+    private static final InteractionType[] interactionTypes = InteractionType.values();
+    private static final AminoAcidAbbreviations[] abbreviations = AminoAcidAbbreviations.values();
+
+    private final ByteBuffer block;
+    private final String name;
+    private final int[] chainIdOffsets;
+    private final int[] atomNameOffsets;
+    private final int residuesCount;
+    private final int positionsOffset;
+    private final int chainsOffset;
+    private final int abbreviationsOffset;
+    private final int[] rowsCounts = new int[interactionTypes.length];
+    private final int[] intColumnsOffsets = new int[interactionTypes.length];
+    private final int[] valueColumnsOffsets = new int[interactionTypes.length];
+
+    // Strings are decoded on first use; racing threads decode equal strings, so no synchronization is needed.
+    private final String[] chainIds;
+    private final String[] atomNames;
+
+    StoredInteractions(ByteBuffer block) {
+        this.block = block;
+        int position = 0;
+
+        this.name = getString(block, position);
+        position = skipString(block, position);
+
+        this.chainIdOffsets = new int[block.getInt(position)];
+        position += Integer.BYTES;
+        for (int i = 0; i < chainIdOffsets.length; ++i) {
+            chainIdOffsets[i] = position;
+            position = skipString(block, position);
+        }
+        this.chainIds = new String[chainIdOffsets.length];
+
+        this.atomNameOffsets = new int[block.getInt(position)];
+        position += Integer.BYTES;
+        for (int i = 0; i < atomNameOffsets.length; ++i) {
+            atomNameOffsets[i] = position;
+            position = skipString(block, position);
+        }
+        this.atomNames = new String[atomNameOffsets.length];
+
+        this.residuesCount = block.getInt(position);
+        position += Integer.BYTES;
+        this.positionsOffset = position;
+        this.chainsOffset = positionsOffset + residuesCount * Integer.BYTES;
+        this.abbreviationsOffset = chainsOffset + residuesCount * Integer.BYTES;
+        position = InteractionFileFormat.align(abbreviationsOffset + residuesCount, 8);
+
+        for (InteractionType interactionType : interactionTypes) {
+            final int type = interactionType.ordinal();
+            rowsCounts[type] = block.getInt(position);
+            position += 2 * Integer.BYTES;
+            intColumnsOffsets[type] = position;
+            position = InteractionFileFormat.align(position + InteractionFileFormat.getIntColumnsCount(interactionType) * rowsCounts[type] * Integer.BYTES, 8);
+            valueColumnsOffsets[type] = position;
+            position += InteractionFileFormat.getValueColumnsCount(interactionType) * rowsCounts[type] * Double.BYTES;
+        }
+    }
+
+    /**
+     * Returns name under which the structure was written.
+     *
+     * @return Name of the structure.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns number of amino acids of the structure participating in any stored interaction.
+     *
+     * @return Number of amino acids.
+     */
+    public int getResiduesCount() {
+        return residuesCount;
+    }
+
+    /**
+     * Returns amino acid of given index.
+     *
+     * @param residue Index of amino acid, from 0 to getResiduesCount() - 1.
+     * @return Amino acid of given index.
+     */
+    public AminoAcid getAminoAcid(int residue) {
+        Objects.checkIndex(residue, residuesCount);
+        final int chain = block.getInt(chainsOffset + residue * Integer.BYTES);
+        if (chainIds[chain] == null) {
+            chainIds[chain] = getString(block, chainIdOffsets[chain]);
+        }
+        return new AminoAcid(abbreviations[block.get(abbreviationsOffset + residue)],
+                             chainIds[chain],
+                             block.getInt(positionsOffset + residue * Integer.BYTES));
+    }
+
+    /**
+     * Returns number of stored interactions of given type.
+     *
+     * @param interactionType Type of interactions.
+     * @return Number of stored interactions of given type.
+     */
+    public int getRowsCount(InteractionType interactionType) {
+        return rowsCounts[interactionType.ordinal()];
+    }
+
+    /**
+     * Returns index of amino acid of first participant of given interaction.
+     *
+     * @param interactionType Type of interaction.
+     * @param row             Index of interaction, from 0 to getRowsCount(interactionType) - 1.
+     * @return Index of amino acid of first participant.
+     */
+    public int getFirstResidue(InteractionType interactionType, int row) {
+        return this.getIntColumn(interactionType, 0, row);
+    }
+
+    /**
+     * Returns index of amino acid of second participant of given interaction.
+     *
+     * @param interactionType Type of interaction.
+     * @param row             Index of interaction, from 0 to getRowsCount(interactionType) - 1.
+     * @return Index of amino acid of second participant.
+     */
+    public int getSecondResidue(InteractionType interactionType, int row) {
+        return this.getIntColumn(interactionType, 1, row);
+    }
+
+    /**
+     * Returns name of atom of given hydrogen bond.
+     *
+     * @param interactionType Type of hydrogen bonds.
+     * @param row             Index of hydrogen bond, from 0 to getRowsCount(interactionType) - 1.
+     * @param atomColumn      Atom: 0 for donor, 1 for hydrogen, 2 for acceptor, 3 for acceptor antecedent.
+     * @return Name of atom (e.g. "N", "OG1").
+     */
+    public String getAtomName(InteractionType interactionType, int row, int atomColumn) {
+        if ( ! InteractionFileFormat.hasAtomColumns(interactionType)) {
+            throw new IllegalArgumentException("Atoms are stored only for hydrogen bonds, not for " + interactionType);
+        }
+        final int atomName = this.getIntColumn(interactionType, InteractionFileFormat.residueColumnsCount
+                                                                + Objects.checkIndex(atomColumn, InteractionFileFormat.atomColumnsCount), row);
+        if (atomNames[atomName] == null) {
+            atomNames[atomName] = getString(block, atomNameOffsets[atomName]);
+        }
+        return atomNames[atomName];
+    }
+
+    /**
+     * Returns number of measured quantities stored for interactions of given type.
+     *
+     * @param interactionType Type of interactions.
+     * @return Number of measured quantities.
+     */
+    public int getValuesCount(InteractionType interactionType) {
+        return InteractionFileFormat.getValueColumnsCount(interactionType);
+    }
+
+    /**
+     * Returns measured quantity of given interaction.
+     *
+     * @param interactionType Type of interaction.
+     * @param row             Index of interaction, from 0 to getRowsCount(interactionType) - 1.
+     * @param column          Index of measured quantity, from 0 to getValuesCount(interactionType) - 1.
+     * @return Measured quantity.
+     */
+    public double getValue(InteractionType interactionType, int row, int column) {
+        final int type = interactionType.ordinal();
+        Objects.checkIndex(row, rowsCounts[type]);
+        Objects.checkIndex(column, InteractionFileFormat.getValueColumnsCount(interactionType));
+        return block.getDouble(valueColumnsOffsets[type] + (column * rowsCounts[type] + row) * Double.BYTES);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder stringBuilder = new StringBuilder(name);
+        for (InteractionType interactionType : interactionTypes) {
+            stringBuilder.append('\n').append(interactionType).append('\t').append(this.getRowsCount(interactionType));
+        }
+        return stringBuilder.toString();
+    }
+
+    private int getIntColumn(InteractionType interactionType, int column, int row) {
+        final int type = interactionType.ordinal();
+        Objects.checkIndex(row, rowsCounts[type]);
+        return block.getInt(intColumnsOffsets[type] + (column * rowsCounts[type] + row) * Integer.BYTES);
+    }
+
+    private static String getString(ByteBuffer block, int position) {
+        final byte[] bytes = new byte[block.getInt(position)];
+        for (int i = 0; i < bytes.length; ++i) {
+            bytes[i] = block.get(position + Integer.BYTES + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int skipString(ByteBuffer block, int position) {
+        return position + Integer.BYTES + InteractionFileFormat.align(block.getInt(position), 4);
+    }
+}
@@ -0,0 +1,165 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import org.biojava.nbio.structure.AminoAcidImpl;
+import org.biojava.nbio.structure.Atom;
+import org.biojava.nbio.structure.AtomImpl;
+import org.biojava.nbio.structure.Chain;
+import org.biojava.nbio.structure.ChainImpl;
+import org.biojava.nbio.structure.Element;
+import org.biojava.nbio.structure.Group;
+import org.biojava.nbio.structure.HetatomImpl;
+import org.biojava.nbio.structure.ResidueNumber;
+import org.biojava.nbio.structure.Structure;
+import org.biojava.nbio.structure.StructureImpl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Builds minimal BioJava Structure (models of chains of groups of atoms) of atoms read one by one by coordinate readers,
+// which place groups in chains of their models themselves. Strings repeated in many atoms, as well as elements,
+// are shared by all atoms of the structure. Of alternate locations of atoms only the first one of every group is kept,
+// as in main groups built by BioJava.
+final class StructureBuilder {
+
+    // One-letter codes of amino acids, in order of AminoAcidAbbreviations.
+    private static final String aminoTypes = "ARNDCQEGHILKMFPSTWYV";
+
+    private final StructureImpl structure = new StructureImpl();
+    private final Map<String, String> strings = new HashMap<>();
+    private final Map<String, Element> elements = new HashMap<>();
+
+    private Group group;
+    private String groupChainName;
+    private int groupResSeq;
+    private char groupInsCode;
+    private char groupAltLoc;
+
+    StructureBuilder(String name) {
+        structure.setName(name);
+    }
+
+    boolean isInGroup(String chainName, int resSeq, char insCode) {
+        return group != null && resSeq == groupResSeq && insCode == groupInsCode && chainName.equals(groupChainName);
+    }
+
+    // New group, to which atoms are added from now on; it is up to the caller to add it to its chain.
+    Group startGroup(String pdbName, String chainName, int resSeq, char insCode) {
+        final AminoAcidAbbreviations aminoAcidAbbr = AminoAcidAbbreviations.fromPdbName(pdbName);
+        if (aminoAcidAbbr != null) {
+            final AminoAcidImpl aminoAcid = new AminoAcidImpl();
+            aminoAcid.setAminoType(aminoTypes.charAt(aminoAcidAbbr.ordinal()));
+            aminoAcid.setRecordType(AminoAcidImpl.ATOMRECORD);
+            group = aminoAcid;
+        } else {
+            group = new HetatomImpl();
+        }
+        group.setPDBName(pdbName);
+        group.setResidueNumber(new ResidueNumber(chainName, resSeq, (insCode == ' ') ? null : insCode));
+
+        groupChainName = chainName;
+        groupResSeq = resSeq;
+        groupInsCode = insCode;
+        groupAltLoc = ' ';
+        return group;
+    }
+
+    // Whether atoms of given alternate location are kept in the current group, i.e. whether it is blank
+    // or the first one of the group.
+    boolean isKeptAltLoc(char altLoc) {
+        if (altLoc == ' ' || altLoc == groupAltLoc) {
+            return true;
+        }
+        if (groupAltLoc == ' ') {
+            groupAltLoc = altLoc;
+            return true;
+        }
+        return false;
+    }
+
+    void addAtom(String name, char altLoc, int serial, double x, double y, double z,
+                 float occupancy, float tempFactor, Element element, int charge) {
+        final Atom atom = new AtomImpl();
+        atom.setName(name);
+        atom.setAltLoc(altLoc);
+        atom.setPDBserial(serial);
+        atom.setX(x);
+        atom.setY(y);
+        atom.setZ(z);
+        atom.setOccupancy(occupancy);
+        atom.setTempFactor(tempFactor);
+        atom.setElement(element);
+        atom.setCharge((short) charge);
+        group.addAtom(atom);
+    }
+
+    // Adds model of given chains, after which groups are started anew.
+    void addModel(List<Chain> chains) {
+        for (Chain chain : chains) {
+            chain.setStructure(structure);
+        }
+        structure.addModel(chains);
+        group = null;
+        groupChainName = null;
+    }
+
+    Structure build() {
+        if (structure.nrModels() == 0) {
+            structure.addModel(new ArrayList<>());
+        }
+        return structure;
+    }
+
+    // Given string, or equal one given before.
+    String share(String string) {
+        return strings.computeIfAbsent(string, s -> s);
+    }
+
+    // Trimmed ASCII string of given bytes, shared as above. Blank single character is kept as " ".
+    String share(byte[] text, int from, int to) {
+        int start = from, end = to;
+        while (start < end && text[start] == ' ') { ++start; }
+        while (end > start && text[end - 1] == ' ') { --end; }
+        if (start == end) {
+            return (to - from == 1) ? " " : "";
+        }
+        return this.share(new String(text, start, end - start, StandardCharsets.ISO_8859_1));
+    }
+
+    // Element of given symbol, or of the first letter of atom name when the symbol is blank or null.
+    Element getElement(String symbol, String atomName) {
+        String elementSymbol = (symbol == null) ? "" : symbol.trim();
+        for (int i = 0; elementSymbol.isEmpty() && i < atomName.length(); ++i) {
+            if (Character.isLetter(atomName.charAt(i))) {
+                elementSymbol = atomName.substring(i, i + 1);
+            }
+        }
+        return elements.computeIfAbsent(elementSymbol, s -> {
+            try {
+                return Element.valueOfIgnoreCase(s);
+            } catch (IllegalArgumentException e) {
+                return Element.R;
+            }
+        });
+    }
+
+    static Chain newChain(String chainId, String chainName) {
+        final Chain chain = new ChainImpl();
+        chain.setId(chainId);
+        chain.setName(chainName);
+        return chain;
+    }
+
+    // IDs of chains as assigned in mmCIF files: A, B, ..., Z, AA, BA, ..., ZA, AB, ...
+    static String getChainId(int chainInd) {
+        final StringBuilder chainId = new StringBuilder();
+        int remaining = chainInd;
+        do {
+            chainId.append((char) ('A' + remaining % 26));
+            remaining = remaining / 26 - 1;
+        } while (remaining >= 0);
+        return chainId.toString();
+    }
+}
@@ -0,0 +1,272 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import org.biojava.nbio.structure.StructureException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Class for keeping parsed structures in memory, so repeated identification of interactions in the same files
+ * skips parsing and building of indexes of atoms, aromatic rings and neighbours, which are kept together with them.
+ * Structures are cached by path and precision of screening, and are parsed again when modification time or size
+ * of the file changes. When estimated heap footprint of cached structures exceeds the limit, least recently used
+ * ones are evicted. Footprint of a structure is estimated when it is parsed and estimated again whenever indexes derived
+ * from it later (neighbour lists, participants of interactions and aromatic rings) grow, so they are charged as well.
+ * Results memoized with strong references (see ResultMemoPolicy) are charged in the same way; softly referenced ones
+ * are not, as the garbage collector drops them when memory runs low.
+ * Cache can be shared by many threads; a structure requested by many threads at once is parsed once.
+ * @see io.github.WeronikaJargielo.protein_interaction_finder.ProteinInteractionFinder#ProteinInteractionFinder(String, StructureCache)
+ */
+public final class StructureCache {
+
+    // Estimated heap footprint of one atom of cached structure when it is parsed: BioJava objects, residue index
+    // and coordinate table. Indexes and results derived later report their footprint themselves (see estimateFootprint).
+    private static final long bytesPerAtom = 320;
+
+    private static final class Key {
+        private final String location;
+        private final ComputePrecision computePrecision;
+
+        private Key(String location, ComputePrecision computePrecision) {
+            this.location = location;
+            this.computePrecision = computePrecision;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return location.equals(key.location) && computePrecision == key.computePrecision;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(location, computePrecision);
+        }
+    }
+
+    private static final class Entry {
+        private final String version;
+        private final CompletableFuture<PdbStructureParser> parser = new CompletableFuture<>();
+        private long footprint;
+
+        private Entry(String version) {
+            this.version = version;
+        }
+    }
+
+    private final long maxFootprint;
+
+    // Guarded by this; iterated from the least recently used entry.
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long footprint;
+    private long hitsCount;
+    private long missesCount;
+    private long evictionsCount;
+
+    /**
+     * Instantiates new StructureCache.
+     *
+     * @param maxFootprint Maximal estimated heap footprint of cached structures in bytes.
+     */
+    public StructureCache(long maxFootprint) {
+        if (maxFootprint < 0) {
+            throw new IllegalArgumentException("Maximal footprint must not be negative: " + maxFootprint);
+        }
+        this.maxFootprint = maxFootprint;
+    }
+
+    /**
+     * Returns maximal estimated heap footprint of cached structures in bytes.
+     *
+     * @return Maximal estimated heap footprint of cached structures in bytes.
+     */
+    public long getMaxFootprint() {
+        return maxFootprint;
+    }
+
+    /**
+     * Returns estimated heap footprint of currently cached structures in bytes.
+     *
+     * @return Estimated heap footprint of cached structures in bytes.
+     */
+    public synchronized long getFootprint() {
+        return footprint;
+    }
+
+    /**
+     * Returns number of currently cached structures (including ones being parsed).
+     *
+     * @return Number of cached structures.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns number of requests served by already cached structures.
+     *
+     * @return Number of requests served by already cached structures.
+     */
+    public synchronized long getHitsCount() {
+        return hitsCount;
+    }
+
+    /**
+     * Returns number of requests which required parsing of the structure.
+     *
+     * @return Number of requests which required parsing of the structure.
+     */
+    public synchronized long getMissesCount() {
+        return missesCount;
+    }
+
+    /**
+     * Returns number of structures evicted to keep estimated footprint within the limit.
+     *
+     * @return Number of evicted structures.
+     */
+    public synchronized long getEvictionsCount() {
+        return evictionsCount;
+    }
+
+    /**
+     * Removes all cached structures. Structures being parsed at the moment are not cached when ready.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        footprint = 0;
+    }
+
+    // Parser of given file (or PDB ID, see StructureIO), parsed only when it is not cached yet or the file has changed.
+    PdbStructureParser getParser(String pdbFilename, ComputePrecision computePrecision) throws IOException, StructureException {
+        final Key key = new Key(getLocation(pdbFilename), Objects.requireNonNull(computePrecision));
+        final String version = getVersion(key.location);
+
+        final Entry entry;
+        final boolean isParsedHere;
+        synchronized (this) {
+            final Entry cachedEntry = entries.get(key);
+            if (cachedEntry != null && Objects.equals(cachedEntry.version, version)) {
+                ++hitsCount;
+                entry = cachedEntry;
+                isParsedHere = false;
+            } else {
+                if (cachedEntry != null) {
+                    this.remove(key, cachedEntry);
+                }
+                ++missesCount;
+                entry = new Entry(version);
+                entries.put(key, entry);
+                isParsedHere = true;
+            }
+        }
+
+        if (isParsedHere) {
+            try {
+                final PdbStructureParser parser = new PdbStructureParser(pdbFilename, computePrecision, new VerletLists(0.0));
+                this.updateFootprint(key, entry, parser);
+                parser.setFootprintListener(() -> this.updateFootprint(key, entry, parser));
+                entry.parser.complete(parser);
+            } catch (IOException | StructureException | RuntimeException | Error e) {
+                synchronized (this) {
+                    this.remove(key, entry);
+                }
+                entry.parser.completeExceptionally(e);
+                throw e;
+            }
+        }
+        return getParser(entry);
+    }
+
+    // Charges estimated footprint of given parser to its entry, unless the entry has been removed meanwhile.
+    private synchronized void updateFootprint(Key key, Entry entry, PdbStructureParser parser) {
+        if (entries.get(key) == entry) {
+            final long entryFootprint = estimateFootprint(parser);
+            footprint += entryFootprint - entry.footprint;
+            entry.footprint = entryFootprint;
+            this.evictLeastRecentlyUsed();
+        }
+    }
+
+    private static long estimateFootprint(PdbStructureParser parser) {
+        return parser.getCoordinateTable().size() * bytesPerAtom + parser.getDerivedFootprint();
+    }
+
+    private void remove(Key key, Entry entry) {
+        if (entries.get(key) == entry) {
+            entries.remove(key);
+            footprint -= entry.footprint;
+        }
+    }
+
+    private void evictLeastRecentlyUsed() {
+        final Iterator<Entry> entriesIterator = entries.values().iterator();
+        while (footprint > maxFootprint && entriesIterator.hasNext()) {
+            final Entry entry = entriesIterator.next();
+            // Entries being parsed have no footprint yet and are left to their threads.
+            if (entry.footprint > 0) {
+                entriesIterator.remove();
+                footprint -= entry.footprint;
+                ++evictionsCount;
+            }
+        }
+    }
+
+    // Waits for structure parsed by other thread, rethrowing its failure.
+    private static PdbStructureParser getParser(Entry entry) throws IOException, StructureException {
+        try {
+            return entry.parser.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for structure being parsed", e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof StructureException) {
+                throw (StructureException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw (Error) cause;
+        }
+    }
+
+    // Absolute path of existing file, otherwise given string (e.g. PDB ID, fetched by StructureIO).
+    private static String getLocation(String pdbFilename) {
+        try {
+            final Path path = Paths.get(pdbFilename);
+            return Files.exists(path) ? path.toAbsolutePath().normalize().toString() : pdbFilename;
+        } catch (InvalidPathException e) {
+            return pdbFilename;
+        }
+    }
+
+    // Modification time and size of existing file, null for other locations.
+    private static String getVersion(String location) throws IOException {
+        final Path path;
+        try {
+            path = Paths.get(location);
+        } catch (InvalidPathException e) {
+            return null;
+        }
+        if ( ! Files.exists(path)) {
+            return null;
+        }
+        final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        return attributes.lastModifiedTime() + "/" + attributes.size();
+    }
+}
@@ -0,0 +1,268 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+// Content of structure files read by coordinate readers: memory-mapped, or decompressed straight into memory when
+// the file is gzip-compressed (e.g. files of the PDB archive), with no temporary file. Files of many gzip members
+// are decompressed member by member, except BGZF files (bgzip), whose members (blocks) are independent and of known
+// sizes, so they are decompressed concurrently in the common ForkJoinPool, into their places in the output.
+final class StructureFiles {
+
+    private static final String gzipExtension = ".gz";
+    private static final int maxContentLen = Integer.MAX_VALUE - 8;
+    private static final int maxBgzfBlockContentLen = 65536;
+
+    // Flags of gzip member header.
+    private static final int fhcrc = 2, fextra = 4, fname = 8, fcomment = 16;
+
+    private StructureFiles() {
+    }
+
+    // Content of given file, from its beginning to its limit.
+    static ByteBuffer read(Path file) throws IOException {
+        final ByteBuffer content;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Structure file exceeds 2 GB: " + file);
+            }
+            content = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        return isGzip(content) ? decompress(content) : content;
+    }
+
+    // Name of given file without gzip extension, e.g. to tell its format.
+    static String getUncompressedName(Path file) {
+        final String fileName = file.getFileName().toString();
+        return fileName.toLowerCase(Locale.ROOT).endsWith(gzipExtension)
+               ? fileName.substring(0, fileName.length() - gzipExtension.length())
+               : fileName;
+    }
+
+    static boolean isGzip(ByteBuffer content) {
+        final int start = content.position();
+        return content.remaining() >= 2 && content.get(start) == (byte) 0x1f && content.get(start + 1) == (byte) 0x8b;
+    }
+
+    // Decompressed remaining bytes of given gzip data, which may consist of many members.
+    static ByteBuffer decompress(ByteBuffer gzip) throws IOException {
+        final ByteBuffer compressed = gzip.slice().order(ByteOrder.LITTLE_ENDIAN);
+        if (compressed.limit() < 18) {
+            throw new ZipException("Unexpected end of gzip data");
+        }
+        final List<Member> blocks = findBgzfBlocks(compressed);
+        return (blocks != null) ? decompressBlocks(compressed, blocks) : decompressMembers(compressed);
+    }
+
+    // Position of deflated data of a member, its size and size of its decompressed data, with position of the latter
+    // in decompressed content.
+    private static final class Member {
+        private final int dataStart;
+        private final int dataLen;
+        private final int contentLen;
+        private int contentStart;
+
+        private Member(int dataStart, int dataLen, int contentLen) {
+            this.dataStart = dataStart;
+            this.dataLen = dataLen;
+            this.contentLen = contentLen;
+        }
+    }
+
+    private static ByteBuffer decompressMembers(ByteBuffer compressed) throws IOException {
+        // Size of the last member (modulo 4 GB) is the size of content of single-member files. It is only a hint,
+        // bounded by compression ratio of text files, as the file may be truncated.
+        final long lastMemberLen = Integer.toUnsignedLong(compressed.getInt(compressed.limit() - 4));
+        final long initialLen = Math.min(Math.max(lastMemberLen, 4L * compressed.limit()), 64L * compressed.limit());
+        byte[] content = new byte[(int) Math.min(initialLen, maxContentLen)];
+        int contentLen = 0;
+
+        final Inflater inflater = new Inflater(true);
+        try {
+            int memberStart = 0;
+            do {
+                compressed.position(skipHeader(compressed, memberStart));
+                inflater.reset();
+                inflater.setInput(compressed);
+                final int memberContentStart = contentLen;
+                while ( ! inflater.finished()) {
+                    if (contentLen == content.length) {
+                        if (content.length == maxContentLen) {
+                            throw new IOException("Decompressed structure file exceeds 2 GB");
+                        }
+                        content = Arrays.copyOf(content, (int) Math.min(2L * content.length, maxContentLen));
+                    }
+                    final int inflatedLen = inflater.inflate(content, contentLen, content.length - contentLen);
+                    if (inflatedLen == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        throw new ZipException("Unexpected end of gzip data");
+                    }
+                    contentLen += inflatedLen;
+                }
+                memberStart = compressed.position();
+                checkTrailer(compressed, memberStart, content, memberContentStart, contentLen - memberContentStart);
+                memberStart += 8;
+            } while (isGzip(compressed.position(memberStart)));
+        } catch (DataFormatException e) {
+            throw new ZipException("Incorrect gzip data: " + e.getMessage());
+        } finally {
+            inflater.end();
+        }
+        return ByteBuffer.wrap(content, 0, contentLen);
+    }
+
+    private static ByteBuffer decompressBlocks(ByteBuffer compressed, List<Member> blocks) throws IOException {
+        long contentLen = 0;
+        for (Member block : blocks) {
+            block.contentStart = (int) contentLen;
+            contentLen += block.contentLen;
+            if (contentLen > maxContentLen) {
+                throw new IOException("Decompressed structure file exceeds 2 GB");
+            }
+        }
+        final byte[] content = new byte[(int) contentLen];
+
+        final AtomicReference<IOException> failure = new AtomicReference<>();
+        final List<ForkJoinTask<?>> tasks = new ArrayList<>(blocks.size());
+        for (Member block : blocks) {
+            tasks.add(ForkJoinTask.adapt(() -> {
+                try {
+                    inflateBlock(compressed, block, content);
+                } catch (IOException e) {
+                    failure.compareAndSet(null, e);
+                }
+            }));
+        }
+        ForkJoinPool.commonPool().invoke(ForkJoinTask.adapt(() -> { ForkJoinTask.invokeAll(tasks); }));
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        return ByteBuffer.wrap(content);
+    }
+
+    private static void inflateBlock(ByteBuffer compressed, Member block, byte[] content) throws IOException {
+        if (block.contentLen == 0) {
+            checkTrailer(compressed, block.dataStart + block.dataLen, content, block.contentStart, 0);
+            return;
+        }
+        final ByteBuffer data = compressed.duplicate();
+        data.limit(block.dataStart + block.dataLen).position(block.dataStart);
+        final Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(data);
+            int inflatedLen = 0;
+            while (inflatedLen < block.contentLen && ! inflater.finished()) {
+                final int len = inflater.inflate(content, block.contentStart + inflatedLen, block.contentLen - inflatedLen);
+                if (len == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                inflatedLen += len;
+            }
+            if (inflatedLen != block.contentLen || ! inflater.finished()) {
+                throw new ZipException("Incorrect size of BGZF block at byte " + block.dataStart);
+            }
+        } catch (DataFormatException e) {
+            throw new ZipException("Incorrect gzip data: " + e.getMessage());
+        } finally {
+            inflater.end();
+        }
+        checkTrailer(compressed, block.dataStart + block.dataLen, content, block.contentStart, block.contentLen);
+    }
+
+    // Blocks of BGZF file, i.e. gzip members with BC subfield of extra field holding their size,
+    // or null when the data is not BGZF.
+    private static List<Member> findBgzfBlocks(ByteBuffer compressed) throws IOException {
+        final List<Member> blocks = new ArrayList<>();
+        int blockStart = 0;
+        while (blockStart < compressed.limit()) {
+            if (compressed.limit() - blockStart < 18 || (compressed.get(blockStart + 3) & fextra) == 0
+                || ! isGzip(compressed.duplicate().position(blockStart))) {
+                return null;
+            }
+            final int extraStart = blockStart + 12;
+            final int extraEnd = extraStart + (compressed.getShort(blockStart + 10) & 0xffff);
+            int blockLen = -1;
+            for (int subfield = extraStart; subfield + 4 <= extraEnd && extraEnd <= compressed.limit(); ) {
+                final int subfieldLen = compressed.getShort(subfield + 2) & 0xffff;
+                if (compressed.get(subfield) == 'B' && compressed.get(subfield + 1) == 'C' && subfieldLen == 2) {
+                    blockLen = (compressed.getShort(subfield + 4) & 0xffff) + 1;
+                }
+                subfield += 4 + subfieldLen;
+            }
+            // Header flags other than extra field are not used by BGZF.
+            if (blockLen < 0 || (compressed.get(blockStart + 3) & (fname | fcomment | fhcrc)) != 0
+                || blockLen < extraEnd - blockStart + 8 || blockStart + blockLen > compressed.limit()) {
+                return null;
+            }
+            final int blockEnd = blockStart + blockLen;
+            final int blockContentLen = compressed.getInt(blockEnd - 4);
+            if (blockContentLen < 0 || blockContentLen > maxBgzfBlockContentLen) {
+                throw new ZipException("Incorrect size of BGZF block at byte " + blockStart);
+            }
+            blocks.add(new Member(extraEnd, blockEnd - 8 - extraEnd, blockContentLen));
+            blockStart = blockEnd;
+        }
+        return blocks.size() > 1 ? blocks : null;
+    }
+
+    // Position of deflated data of member starting at given position.
+    private static int skipHeader(ByteBuffer compressed, int memberStart) throws IOException {
+        if (compressed.limit() - memberStart < 10 || compressed.get(memberStart + 2) != 8) {
+            throw new ZipException("Incorrect gzip header at byte " + memberStart);
+        }
+        final int flags = compressed.get(memberStart + 3);
+        int position = memberStart + 10;
+        if ((flags & fextra) != 0) {
+            position += 2 + (compressed.getShort(position) & 0xffff);
+        }
+        if ((flags & fname) != 0) {
+            position = skipZeroTerminated(compressed, position);
+        }
+        if ((flags & fcomment) != 0) {
+            position = skipZeroTerminated(compressed, position);
+        }
+        if ((flags & fhcrc) != 0) {
+            position += 2;
+        }
+        if (position > compressed.limit()) {
+            throw new ZipException("Incorrect gzip header at byte " + memberStart);
+        }
+        return position;
+    }
+
+    private static int skipZeroTerminated(ByteBuffer compressed, int start) throws IOException {
+        for (int i = start; i < compressed.limit(); ++i) {
+            if (compressed.get(i) == 0) {
+                return i + 1;
+            }
+        }
+        throw new ZipException("Unexpected end of gzip header");
+    }
+
+    // Checks CRC-32 and size (modulo 4 GB) of member content, stored in 8 bytes of trailer at given position.
+    private static void checkTrailer(ByteBuffer compressed, int trailerStart, byte[] content, int contentStart, int contentLen) throws IOException {
+        if (compressed.limit() - trailerStart < 8) {
+            throw new ZipException("Unexpected end of gzip data");
+        }
+        final CRC32 crc = new CRC32();
+        crc.update(content, contentStart, contentLen);
+        if ((int) crc.getValue() != compressed.getInt(trailerStart) || contentLen != compressed.getInt(trailerStart + 4)) {
+            throw new ZipException("Corrupt gzip member ending at byte " + (trailerStart + 8));
+        }
+    }
+}
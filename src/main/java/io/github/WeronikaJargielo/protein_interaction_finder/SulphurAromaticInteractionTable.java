@@ -0,0 +1,108 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import java.util.Arrays;
+
+/**
+ * Class representing sulphur-aromatic interactions found in protein, stored column by column: amino acids of participants
+ * as indices of residues of the structure and measured quantities as columns of doubles, one row per interaction.
+ * Rows are read by index, from 0 to size() - 1, and reading them creates no objects; SulphurAromaticInteraction objects
+ * are created only on demand, by get(row) or by the list view (asList()).
+ */
+public final class SulphurAromaticInteractionTable extends InteractionTable<SulphurAromaticInteraction> {
+
+    private static final int[] noResidues = new int[0];
+    private static final double[] noValues = new double[0];
+
+    private final ResidueIndex residueIndex;
+
+    private int[] aromaticAminoAcidResidues = noResidues;
+    private int[] sulphurAminoAcidResidues = noResidues;
+    private double[] distancesBtwRingSulphur = noValues;
+    private double[] elevationAngles = noValues;
+    private double[] equatorialAngles = noValues;
+
+    SulphurAromaticInteractionTable(ResidueIndex residueIndex) {
+        this.residueIndex = residueIndex;
+    }
+
+    void add(int aromaticAminoAcidResidue, int sulphurAminoAcidResidue, double distanceBtwRingSulphur, double elevationAngle, double equatorialAngle) {
+        final int row = this.addRow();
+        aromaticAminoAcidResidues[row] = aromaticAminoAcidResidue;
+        sulphurAminoAcidResidues[row] = sulphurAminoAcidResidue;
+        distancesBtwRingSulphur[row] = distanceBtwRingSulphur;
+        elevationAngles[row] = elevationAngle;
+        equatorialAngles[row] = equatorialAngle;
+    }
+
+    /**
+     * Returns amino acid of aromatic interaction participant of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Amino acid of aromatic interaction participant.
+     */
+    public AminoAcid getAromaticAminoAcid(int row) {
+        return residueIndex.getAminoAcid(aromaticAminoAcidResidues[this.checkRow(row)]);
+    }
+
+    /**
+     * Returns amino acid with sulphur atom of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Amino acid with sulphur atom.
+     */
+    public AminoAcid getSulphurAminoAcid(int row) {
+        return residueIndex.getAminoAcid(sulphurAminoAcidResidues[this.checkRow(row)]);
+    }
+
+    /**
+     * Returns distance between aromatic ring centroid and sulphur atom of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Distance between aromatic ring centroid and sulphur atom.
+     */
+    public double getDistanceBtwRingSulphur(int row) {
+        return distancesBtwRingSulphur[this.checkRow(row)];
+    }
+
+    /**
+     * Returns elevation angle for aromatic ring and sulphur atom of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Elevation angle for aromatic ring and sulphur atom.
+     */
+    public double getElevationAngle(int row) {
+        return elevationAngles[this.checkRow(row)];
+    }
+
+    /**
+     * Returns equatorial angle for aromatic ring and sulphur atom of given row.
+     *
+     * @param row Index of row, from 0 to size() - 1.
+     * @return Equatorial angle for aromatic ring and sulphur atom.
+     */
+    public double getEquatorialAngle(int row) {
+        return equatorialAngles[this.checkRow(row)];
+    }
+
+    @Override
+    public SulphurAromaticInteraction get(int row) {
+        this.checkRow(row);
+        return new SulphurAromaticInteraction(residueIndex.getAminoAcid(aromaticAminoAcidResidues[row]),
+                                              residueIndex.getAminoAcid(sulphurAminoAcidResidues[row]),
+                                              distancesBtwRingSulphur[row], elevationAngles[row], equatorialAngles[row]);
+    }
+
+    @Override
+    void resizeColumns(int capacity) {
+        aromaticAminoAcidResidues = Arrays.copyOf(aromaticAminoAcidResidues, capacity);
+        sulphurAminoAcidResidues = Arrays.copyOf(sulphurAminoAcidResidues, capacity);
+        distancesBtwRingSulphur = Arrays.copyOf(distancesBtwRingSulphur, capacity);
+        elevationAngles = Arrays.copyOf(elevationAngles, capacity);
+        equatorialAngles = Arrays.copyOf(equatorialAngles, capacity);
+    }
+
+    @Override
+    int getRowBytes() {
+        return 2 * Integer.BYTES + 3 * Double.BYTES;
+    }
+}
@@ -1,13 +1,9 @@
 package io.github.WeronikaJargielo.protein_interaction_finder;
 
-import org.biojava.nbio.structure.Atom;
-import org.biojava.nbio.structure.Calc;
-
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.stream.IntStream;
 
 final class SulphurAromaticInteractionsFinder {
 
@@ -22,43 +18,67 @@ final class SulphurAromaticInteractionsFinder {
     }
 
     public List<SulphurAromaticInteraction> findSulphurAromaticInteractions(SulphurAromaticInteractionCriteria criteria) {
-        final ArrayList<Atom> atomsMethionine = pdbStructureParser.getAtoms(desiredAtomsMethionine, Arrays.asList(AminoAcidAbbreviations.MET));
-        final ArrayList<Atom> atomsCysteine = pdbStructureParser.getAtoms(desiredAtomsCysteine, Arrays.asList(AminoAcidAbbreviations.CYS));
+        return new ArrayList<>(this.tabulateSulphurAromaticInteractions(criteria).asList());
+    }
+
+    public SulphurAromaticInteractionTable tabulateSulphurAromaticInteractions(SulphurAromaticInteractionCriteria criteria) {
+        return pdbStructureParser.memoize(InteractionType.SULPHUR_AROMATIC_INTERACTIONS, criteria, () -> this.searchSulphurAromaticInteractions(criteria).toTable());
+    }
 
-        final List<Atom> sulphurAtoms = Stream.concat(atomsMethionine.stream(), atomsCysteine.stream()).collect(Collectors.toList());
-        final ArrayList<AromaticRing> aromaticRings = pdbStructureParser.getAromaticRings();
+    public TableSearch<SulphurAromaticInteraction, SulphurAromaticInteractionTable> searchSulphurAromaticInteractions(SulphurAromaticInteractionCriteria criteria) {
+        final CoordinateTable coordinates = pdbStructureParser.getCoordinateTable();
+        final int[] atomsMethionine = coordinates.getResidueIndex().getAtomIndices(desiredAtomsMethionine, Arrays.asList(AminoAcidAbbreviations.MET));
+        final int[] atomsCysteine = coordinates.getResidueIndex().getAtomIndices(desiredAtomsCysteine, Arrays.asList(AminoAcidAbbreviations.CYS));
+        final int[] sulphurAtoms = IntStream.concat(Arrays.stream(atomsMethionine), Arrays.stream(atomsCysteine)).toArray();
 
-        List<SulphurAromaticInteraction> foundSulphurAromaticInteractions = new ArrayList<>();
-        aromaticRings.forEach((aromaticRing) -> {
-            sulphurAtoms.forEach((sulphur -> {
-                final SulphurAromaticInteraction sulphurAromaticInteraction = this.obtainSulphurAromaticInteraction(sulphur, aromaticRing, criteria);
+        final AromaticRingTable aromaticRings = pdbStructureParser.getAromaticRingTable();
 
-                if (sulphurAromaticInteraction != null) {
-                    foundSulphurAromaticInteractions.add(sulphurAromaticInteraction);
+        final NeighborSearch sulphurSearch = pdbStructureParser.getNeighborSearch("SulphurAromaticInteractionsFinder.sulphurs",
+                                                                                  aromaticRings.getCentroids(),
+                                                                                  coordinates.getPoints(sulphurAtoms),
+                                                                                  criteria.getMaxDistanceBtwRingSulphur());
+
+        return new TableSearch<>() {
+            @Override
+            int getQueriesCount() {
+                return aromaticRings.size();
+            }
+
+            @Override
+            SulphurAromaticInteractionTable createTable() {
+                return new SulphurAromaticInteractionTable(coordinates.getResidueIndex());
+            }
+
+            @Override
+            void findRows(int ringInd, SulphurAromaticInteractionTable sulphurAromaticInteractions) {
+                for (int sulphurInd : sulphurSearch.findNeighbors(ringInd)) {
+                    obtainSulphurAromaticInteraction(coordinates, sulphurAtoms[sulphurInd], aromaticRings, ringInd, criteria, sulphurAromaticInteractions);
                 }
-            }));
-        });
-        return foundSulphurAromaticInteractions;
+            }
+        };
     }
 
-    private SulphurAromaticInteraction obtainSulphurAromaticInteraction(Atom sulphur, AromaticRing ring, SulphurAromaticInteractionCriteria criteria) {
-        final double distanceBtwSRing = Calc.getDistance(sulphur, ring.getRingCentroid());
+    private void obtainSulphurAromaticInteraction(CoordinateTable coordinates, int sulphur, AromaticRingTable aromaticRings, int ringInd,
+                                                  SulphurAromaticInteractionCriteria criteria, SulphurAromaticInteractionTable sulphurAromaticInteractions) {
+        final double x = coordinates.getX(sulphur), y = coordinates.getY(sulphur), z = coordinates.getZ(sulphur);
+
+        final double distanceBtwSRing = aromaticRings.distanceToCentroid(ringInd, x, y, z);
         if ( ! (distanceBtwSRing >= criteria.getMinDistanceBtwRingSulphur() && distanceBtwSRing <= criteria.getMaxDistanceBtwRingSulphur()) ) {
-            return null;
+            return;
         }
 
-        final double elevationAngle = ring.calculateElevationAngleOfAtom(sulphur);
+        final double elevationAngle = aromaticRings.elevationAngle(ringInd, x, y, z);
         if ( ! (elevationAngle >= criteria.getMinElevationAngle() && elevationAngle <= criteria.getMaxElevationAngle()) ) {
-            return null;
+            return;
         }
 
-        final double equatorialAngle =  ring.calculateEquatorialAngleOfAtom(sulphur);
+        final double equatorialAngle = aromaticRings.equatorialAngle(ringInd, x, y, z);
         if ( ! (equatorialAngle >= criteria.getMinEquatorialAngle() && equatorialAngle <= criteria.getMaxEquatorialAngle()) ) {
-            return null;
+            return;
         }
 
-        return new SulphurAromaticInteraction(ring.getAminoAcid(),
-                                              new AminoAcid(sulphur.getGroup()),
-                                              distanceBtwSRing, elevationAngle, equatorialAngle);
+        sulphurAromaticInteractions.add(aromaticRings.getResidue(ringInd),
+                                        coordinates.getResidue(sulphur),
+                                        distanceBtwSRing, elevationAngle, equatorialAngle);
     }
 }
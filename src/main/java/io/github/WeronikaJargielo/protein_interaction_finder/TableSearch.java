@@ -0,0 +1,64 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Search whose finder writes found interactions as rows of a table (see InteractionTable), so no interaction object
+// is created while searching. The whole search fills one table; interactions taken one by one (by consumer or stream)
+// are created from a table holding rows of a single query.
+abstract class TableSearch<T, R extends InteractionTable<T>> extends InteractionSearch<T> {
+
+    abstract R createTable();
+
+    abstract void findRows(int query, R rows);
+
+    @Override
+    final void findInteractions(int query, Consumer<? super T> consumer) {
+        final R rows = this.createTable();
+        this.findRows(query, rows);
+        for (int row = 0; row < rows.size(); ++row) {
+            consumer.accept(rows.get(row));
+        }
+    }
+
+    @Override
+    final List<T> toList() {
+        return new ArrayList<>(this.toTable().asList());
+    }
+
+    final R toTable() {
+        final R rows = this.createTable();
+        final int queriesCount = this.getQueriesCount();
+        for (int query = 0; query < queriesCount; ++query) {
+            this.findRows(query, rows);
+        }
+        rows.trimToSize();
+        return rows;
+    }
+
+    // Rows of the first search followed by rows of the second one.
+    static <T, R extends InteractionTable<T>> TableSearch<T, R> concat(TableSearch<T, R> first, TableSearch<T, R> second) {
+        return new TableSearch<T, R>() {
+            @Override
+            int getQueriesCount() {
+                return first.getQueriesCount() + second.getQueriesCount();
+            }
+
+            @Override
+            R createTable() {
+                return first.createTable();
+            }
+
+            @Override
+            void findRows(int query, R rows) {
+                final int firstQueriesCount = first.getQueriesCount();
+                if (query < firstQueriesCount) {
+                    first.findRows(query, rows);
+                } else {
+                    second.findRows(query - firstQueriesCount, rows);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,216 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import org.biojava.nbio.structure.Structure;
+import org.biojava.nbio.structure.StructureException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Class for identifying interactions in frames of molecular dynamics trajectory.
+ *
+ * Topology (amino acids and their atoms) is taken once from the first model of given structure, and participants
+ * of interactions (e.g. donors and acceptors of hydrogen bonds, charged groups) are classified only once for all frames,
+ * so every frame brings only coordinates of atoms.
+ * Frame stores x, y and z coordinates (in Angstroms) of consecutive atoms of the first model of topology, in the order
+ * of chains, groups and atoms (the same as BioJava's StructureTools.getAllAtomArray returns them), including atoms
+ * of groups other than amino acids (e.g. water), which are skipped.
+ *
+ * Optionally, neighbour searches use Verlet lists: candidates of every kind of interaction are collected within
+ * the cutoff of criteria plus a skin distance and reused by following frames, which only check exact criteria
+ * on them, as long as atoms moved by at most the skin since the lists were built; otherwise lists are rebuilt.
+ * Results are the same as without Verlet lists. As atoms usually move a fraction of Angstrom between frames,
+ * skin of 1-2 Angstroms lets lists be rebuilt only every few (or few dozen) frames.
+ */
+public final class TrajectoryInteractionFinder {
+
+    // Frames taken at once by each thread when occupancies are computed.
+    private static final int framesPerThread = 4;
+
+    private final PdbStructureParser topology;
+    private final AllInteractionsCriteria criteria;
+    private final Set<InteractionType> interactionTypes;
+    private final int[] framePositions;
+    private final int atomsCount;
+    private final double verletSkin;
+    private final VerletLists verletLists;
+
+    /**
+     * Instantiates new TrajectoryInteractionFinder identifying all interactions with default criteria
+     * in frames of topology stored in given PDB file.
+     *
+     * @param topologyFilename Path to PDB file of topology.
+     * @throws IOException        Probably given PDB file does not exist.
+     * @throws StructureException Probably given PDB file is incorrectly formatted.
+     */
+    public TrajectoryInteractionFinder(String topologyFilename) throws IOException, StructureException {
+        this(new PdbStructureParser(topologyFilename), new AllInteractionsCriteria(), EnumSet.allOf(InteractionType.class), 0.0);
+    }
+
+    /**
+     * Instantiates new TrajectoryInteractionFinder identifying all interactions with default criteria in frames of given topology.
+     *
+     * @param topology BioJava Structure object of topology.
+     */
+    public TrajectoryInteractionFinder(Structure topology) {
+        this(topology, new AllInteractionsCriteria(), EnumSet.allOf(InteractionType.class));
+    }
+
+    /**
+     * Instantiates new TrajectoryInteractionFinder.
+     *
+     * @param topology         BioJava Structure object of topology.
+     * @param criteria         Criteria that will be used for identification of every interaction.
+     * @param interactionTypes Types of interactions to identify.
+     */
+    public TrajectoryInteractionFinder(Structure topology, AllInteractionsCriteria criteria, Set<InteractionType> interactionTypes) {
+        this(new PdbStructureParser(topology), criteria, interactionTypes, 0.0);
+    }
+
+    /**
+     * Instantiates new TrajectoryInteractionFinder using Verlet lists with given skin distance.
+     *
+     * @param topology         BioJava Structure object of topology.
+     * @param criteria         Criteria that will be used for identification of every interaction.
+     * @param interactionTypes Types of interactions to identify.
+     * @param verletSkin       Skin distance of Verlet lists in Angstroms (0 disables Verlet lists).
+     */
+    public TrajectoryInteractionFinder(Structure topology, AllInteractionsCriteria criteria, Set<InteractionType> interactionTypes, double verletSkin) {
+        this(new PdbStructureParser(topology), criteria, interactionTypes, verletSkin);
+    }
+
+    /**
+     * Instantiates new TrajectoryInteractionFinder using Verlet lists with given skin distance and screening candidates
+     * for interactions in given precision.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.ComputePrecision
+     *
+     * @param topology         BioJava Structure object of topology.
+     * @param criteria         Criteria that will be used for identification of every interaction.
+     * @param interactionTypes Types of interactions to identify.
+     * @param verletSkin       Skin distance of Verlet lists in Angstroms (0 disables Verlet lists).
+     * @param computePrecision Precision of screening candidates for interactions.
+     */
+    public TrajectoryInteractionFinder(Structure topology, AllInteractionsCriteria criteria, Set<InteractionType> interactionTypes, double verletSkin,
+                                       ComputePrecision computePrecision) {
+        this(new PdbStructureParser(topology, Objects.requireNonNull(computePrecision)), criteria, interactionTypes, verletSkin);
+    }
+
+    private TrajectoryInteractionFinder(PdbStructureParser topology, AllInteractionsCriteria criteria, Set<InteractionType> interactionTypes,
+                                        double verletSkin) {
+        if ( ! (verletSkin >= 0 && verletSkin < Double.POSITIVE_INFINITY)) {
+            throw new IllegalArgumentException("Verlet skin must be non-negative and finite: " + verletSkin);
+        }
+        this.topology = topology;
+        this.criteria = Objects.requireNonNull(criteria);
+        this.interactionTypes = interactionTypes.isEmpty() ? Collections.emptySet()
+                                                           : Collections.unmodifiableSet(EnumSet.copyOf(interactionTypes));
+        this.framePositions = ResidueIndex.getFramePositions(topology.getProteinStructure().getModel(0));
+        this.atomsCount = ResidueIndex.getFrameAtomsCount(topology.getProteinStructure().getModel(0));
+        this.verletSkin = verletSkin;
+        this.verletLists = (verletSkin > 0) ? new VerletLists(verletSkin) : null;
+    }
+
+    /**
+     * Returns criteria used for identification of every interaction.
+     *
+     * @return Criteria used for identification of every interaction.
+     */
+    public AllInteractionsCriteria getCriteria() {
+        return criteria;
+    }
+
+    /**
+     * Returns types of identified interactions.
+     *
+     * @return Unmodifiable set of types of identified interactions.
+     */
+    public Set<InteractionType> getInteractionTypes() {
+        return interactionTypes;
+    }
+
+    /**
+     * Returns number of atoms of topology, i.e. number of atoms every frame has to contain.
+     *
+     * @return Number of atoms of topology.
+     */
+    public int getAtomsCount() {
+        return atomsCount;
+    }
+
+    /**
+     * Returns skin distance of Verlet lists.
+     *
+     * @return Skin distance of Verlet lists in Angstroms (0 when Verlet lists are not used).
+     */
+    public double getVerletSkin() {
+        return verletSkin;
+    }
+
+    /**
+     * Identify interactions in given frame.
+     * Atoms of found interactions are copies of topology atoms with coordinates of the frame.
+     *
+     * @param frame Coordinates x, y, z of consecutive atoms of topology (3 * getAtomsCount() values).
+     * @return Interactions identified in given frame (types which are not identified have empty lists).
+     */
+    public AllInteractions findInteractions(double[] frame) {
+        if (frame.length != 3 * atomsCount) {
+            throw new IllegalArgumentException("Frame has " + frame.length + " coordinates, " + 3 * atomsCount + " expected");
+        }
+        final AllInteractionsFinder allInteractionsFinder = new AllInteractionsFinder(topology.getFrame(frame, framePositions, verletLists));
+        return allInteractionsFinder.findAllInteractions(criteria, interactionTypes);
+    }
+
+    /**
+     * Identify interactions in all given frames and aggregate them into occupancies of interactions
+     * of every pair of amino acids, without keeping interactions of single frames.
+     * Frames are processed concurrently in the common ForkJoinPool.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.InteractionOccupancy
+     *
+     * @param frames Frames of trajectory (each of 3 * getAtomsCount() coordinates); they are taken lazily and copied,
+     *               so the iterator may reuse one array for consecutive frames.
+     * @return Occupancies of all interactions found in any frame, in order of their first occurrence.
+     */
+    public List<InteractionOccupancy> findOccupancies(Iterable<double[]> frames) {
+        return this.findOccupancies(frames, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Identify interactions in all given frames and aggregate them into occupancies of interactions
+     * of every pair of amino acids, without keeping interactions of single frames.
+     * Frames are processed concurrently in given ForkJoinPool.
+     * @see io.github.WeronikaJargielo.protein_interaction_finder.InteractionOccupancy
+     *
+     * @param frames Frames of trajectory (each of 3 * getAtomsCount() coordinates); they are taken lazily and copied,
+     *               so the iterator may reuse one array for consecutive frames.
+     * @param pool   Pool in which frames will be processed (e.g. new ForkJoinPool(1) for sequential run).
+     * @return Occupancies of all interactions found in any frame, in order of their first occurrence.
+     */
+    public List<InteractionOccupancy> findOccupancies(Iterable<double[]> frames, ForkJoinPool pool) {
+        final OccupancyCounter occupancyCounter = new OccupancyCounter();
+        final int chunkLen = framesPerThread * pool.getParallelism();
+        final Iterator<double[]> framesIterator = frames.iterator();
+
+        // Frames are processed in chunks, so only a few of them (and their interactions) are kept in memory at once.
+        // Interactions of a chunk are counted in order of frames, which makes the order of occupancies deterministic.
+        while (framesIterator.hasNext()) {
+            final List<ForkJoinTask<AllInteractions>> tasks = new ArrayList<>(chunkLen);
+            while (framesIterator.hasNext() && tasks.size() < chunkLen) {
+                final double[] frame = framesIterator.next().clone();
+                tasks.add(ForkJoinTask.adapt(() -> this.findInteractions(frame)));
+            }
+
+            pool.invoke(ForkJoinTask.adapt(() -> { ForkJoinTask.invokeAll(tasks); }));
+            tasks.forEach(task -> occupancyCounter.add(task.join()));
+        }
+        return occupancyCounter.getOccupancies();
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import java.util.Arrays;
+
+// Verlet neighbour list: for every query, targets lying within cutoff + skin from it at the time the list was built.
+// As long as queries and targets together moved by at most the skin since then, every target which is now within
+// the cutoff from a query is still on its list, so the list can be used instead of searching the cell list again.
+final class VerletList implements NeighborSearch {
+
+    private final double cutoff;
+    private final double skin;
+
+    // Positions of points at the time the list was built.
+    private final Points queries;
+    private final Points targets;
+
+    // Neighbours of query q are stored in neighbors[neighborsStart[q]], ..., neighbors[neighborsStart[q + 1] - 1].
+    private final int[] neighborsStart;
+    private final int[] neighbors;
+
+    VerletList(Points queries, Points targets, double cutoff, double skin) {
+        this.cutoff = cutoff;
+        this.skin = skin;
+        this.queries = queries;
+        this.targets = targets;
+
+        final double radius = cutoff + skin;
+        final CellList targetsCellList = new CellList(targets.x, targets.y, targets.z, radius);
+
+        final int queriesLen = queries.size();
+        neighborsStart = new int[queriesLen + 1];
+        int[] neighbors = new int[16];
+        for (int q = 0; q < queriesLen; ++q) {
+            final int[] queryNeighbors = targetsCellList.findNeighbors(queries.x[q], queries.y[q], queries.z[q], radius);
+            if (neighborsStart[q] + queryNeighbors.length > neighbors.length) {
+                neighbors = Arrays.copyOf(neighbors, Math.max(2 * neighbors.length, neighborsStart[q] + queryNeighbors.length));
+            }
+            System.arraycopy(queryNeighbors, 0, neighbors, neighborsStart[q], queryNeighbors.length);
+            neighborsStart[q + 1] = neighborsStart[q] + queryNeighbors.length;
+        }
+        this.neighbors = Arrays.copyOf(neighbors, neighborsStart[queriesLen]);
+    }
+
+    // Checks whether the list remains complete for given positions of the same queries and targets. Cutoff may be smaller
+    // than the one the list was built for (e.g. derived from lengths of bonds, which vibrate between frames).
+    boolean isValidFor(Points currentQueries, Points currentTargets, double currentCutoff) {
+        if ( ! (currentCutoff <= cutoff) || currentQueries.size() != queries.size() || currentTargets.size() != targets.size()) {
+            return false;
+        }
+        // Distance between a query and a target may have shrunk by at most the sum of their displacements.
+        return currentQueries.maxDisplacementFrom(queries) + currentTargets.maxDisplacementFrom(targets) <= skin + (cutoff - currentCutoff);
+    }
+
+    // Estimated heap footprint of the list in bytes, including positions of points it was built for.
+    long getFootprint() {
+        final long pointsLen = (targets == queries) ? queries.size() : (long) queries.size() + targets.size();
+        return Integer.BYTES * ((long) neighborsStart.length + neighbors.length) + 3L * Double.BYTES * pointsLen;
+    }
+
+    @Override
+    public int[] findNeighbors(int query) {
+        return Arrays.copyOfRange(neighbors, neighborsStart[query], neighborsStart[query + 1]);
+    }
+}
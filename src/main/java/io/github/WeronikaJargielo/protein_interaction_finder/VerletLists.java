@@ -0,0 +1,41 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Verlet lists of all neighbour searches of consecutive frames of a trajectory, stored by keys naming the searches.
+// A list is rebuilt only when it is no longer valid for the frame being evaluated, i.e. when points moved by more
+// than the skin since it was built. Validity does not depend on order of frames, so frames may be evaluated concurrently.
+final class VerletLists {
+
+    private final double skin;
+    private final Map<String, VerletList> verletLists = new ConcurrentHashMap<>();
+    private final AtomicLong rebuildsCount = new AtomicLong();
+
+    VerletLists(double skin) {
+        this.skin = skin;
+    }
+
+    NeighborSearch getNeighborSearch(String key, Points queries, Points targets, double cutoff) {
+        final VerletList verletList = verletLists.get(key);
+        if (verletList != null && verletList.isValidFor(queries, targets, cutoff)) {
+            return verletList;
+        }
+
+        final VerletList rebuiltVerletList = new VerletList(queries, targets, cutoff, skin);
+        verletLists.put(key, rebuiltVerletList);
+        rebuildsCount.incrementAndGet();
+        return rebuiltVerletList;
+    }
+
+    // Number of lists built so far, telling whether a search has built a new one.
+    long getRebuildsCount() {
+        return rebuildsCount.get();
+    }
+
+    // Estimated heap footprint of stored lists in bytes.
+    long getFootprint() {
+        return verletLists.values().stream().mapToLong(VerletList::getFootprint).sum();
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+// Kernel of neighbour searches (see ScalarNeighborKernel) for Java 17 and later. Vector API is an incubator module,
+// resolved only when JVM is run with --add-modules jdk.incubator.vector; without it scalar kernel is used,
+// and VectorNeighborKernel (the only class referring to the module) is never loaded.
+final class NeighborKernel {
+
+    private static final boolean vectorized = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private NeighborKernel() {
+    }
+
+    static int collectWithin(double[] xs, double[] ys, double[] zs, int from, int to, double x, double y, double z,
+                             double radiusSquared, int[] pointIndices, int[] found, int foundLen) {
+        return vectorized ? VectorNeighborKernel.collectWithin(xs, ys, zs, from, to, x, y, z, radiusSquared, pointIndices, found, foundLen)
+                          : ScalarNeighborKernel.collectWithin(xs, ys, zs, from, to, x, y, z, radiusSquared, pointIndices, found, foundLen);
+    }
+
+    static int collectWithin(float[] xs, float[] ys, float[] zs, int from, int to, float x, float y, float z,
+                             float radiusSquared, int[] pointIndices, int[] found, int foundLen) {
+        return vectorized ? VectorNeighborKernel.collectWithin(xs, ys, zs, from, to, x, y, z, radiusSquared, pointIndices, found, foundLen)
+                          : ScalarNeighborKernel.collectWithin(xs, ys, zs, from, to, x, y, z, radiusSquared, pointIndices, found, foundLen);
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// Vector API kernel of neighbour searches: a query is checked against a block of points at a time (as many as
+// the preferred vector holds). Blocks without any hit are skipped at once; squared distances of other blocks are
+// stored and their hits appended in ascending order, which is cheaper than extracting lanes of the mask.
+// Squared distances are computed by the same operations as in ScalarNeighborKernel (without fused multiply-add),
+// so both find exactly the same points. Tail of a run shorter than a block is left to the scalar kernel.
+final class VectorNeighborKernel {
+
+    private static final VectorSpecies<Double> doubleSpecies = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Float> floatSpecies = FloatVector.SPECIES_PREFERRED;
+
+    private VectorNeighborKernel() {
+    }
+
+    static int collectWithin(double[] xs, double[] ys, double[] zs, int from, int to, double x, double y, double z,
+                             double radiusSquared, int[] pointIndices, int[] found, int foundLen) {
+        final int blocksEnd = from + doubleSpecies.loopBound(to - from);
+        final double[] distancesSquared = new double[doubleSpecies.length()];
+        int p = from;
+        for (; p < blocksEnd; p += doubleSpecies.length()) {
+            final DoubleVector dx = DoubleVector.fromArray(doubleSpecies, xs, p).sub(x);
+            final DoubleVector dy = DoubleVector.fromArray(doubleSpecies, ys, p).sub(y);
+            final DoubleVector dz = DoubleVector.fromArray(doubleSpecies, zs, p).sub(z);
+            final DoubleVector blockDistancesSquared = dx.mul(dx).add(dy.mul(dy)).add(dz.mul(dz));
+
+            if (blockDistancesSquared.compare(VectorOperators.LE, radiusSquared).anyTrue()) {
+                blockDistancesSquared.intoArray(distancesSquared, 0);
+                for (int lane = 0; lane < distancesSquared.length; ++lane) {
+                    if (distancesSquared[lane] <= radiusSquared) {
+                        found[foundLen++] = pointIndices[p + lane];
+                    }
+                }
+            }
+        }
+        return ScalarNeighborKernel.collectWithin(xs, ys, zs, p, to, x, y, z, radiusSquared, pointIndices, found, foundLen);
+    }
+
+    static int collectWithin(float[] xs, float[] ys, float[] zs, int from, int to, float x, float y, float z,
+                             float radiusSquared, int[] pointIndices, int[] found, int foundLen) {
+        final int blocksEnd = from + floatSpecies.loopBound(to - from);
+        final float[] distancesSquared = new float[floatSpecies.length()];
+        int p = from;
+        for (; p < blocksEnd; p += floatSpecies.length()) {
+            final FloatVector dx = FloatVector.fromArray(floatSpecies, xs, p).sub(x);
+            final FloatVector dy = FloatVector.fromArray(floatSpecies, ys, p).sub(y);
+            final FloatVector dz = FloatVector.fromArray(floatSpecies, zs, p).sub(z);
+            final FloatVector blockDistancesSquared = dx.mul(dx).add(dy.mul(dy)).add(dz.mul(dz));
+
+            if (blockDistancesSquared.compare(VectorOperators.LE, radiusSquared).anyTrue()) {
+                blockDistancesSquared.intoArray(distancesSquared, 0);
+                for (int lane = 0; lane < distancesSquared.length; ++lane) {
+                    if (distancesSquared[lane] <= radiusSquared) {
+                        found[foundLen++] = pointIndices[p + lane];
+                    }
+                }
+            }
+        }
+        return ScalarNeighborKernel.collectWithin(xs, ys, zs, p, to, x, y, z, radiusSquared, pointIndices, found, foundLen);
+    }
+}
@@ -0,0 +1,258 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import org.biojava.nbio.structure.Atom;
+import org.biojava.nbio.structure.Group;
+import org.biojava.nbio.structure.Structure;
+import org.biojava.nbio.structure.StructureException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// The fixture BinaryCIF file is written by BioJava of the same structure as the fixture PDB file (with ByteArray,
+// FixedPoint, RunLength, Delta, IntegerPacking and StringArray encodings). Other files are built in the test, with
+// columns encoded in chosen ways, so that every decoder is checked with exactly known values.
+class BinaryCifCoordinateReaderTest {
+
+    // Types of ByteArray encoding.
+    private static final int int8 = 1, int32 = 3, uint8 = 4, uint16 = 5, float64 = 33;
+
+    @Test
+    void readsSameAtomsAsPdbReader() throws Exception {
+        StructureAssertions.assertSameStructure(PdbCoordinateReader.read(fixture("synthetic.pdb")),
+                                                BinaryCifCoordinateReader.read(fixture("synthetic.bcif")));
+    }
+
+    @Test
+    void findsSameInteractionsAsInPdbFile() throws Exception {
+        final ProteinInteractionFinder pdbFinder = new ProteinInteractionFinder(PdbCoordinateReader.read(fixture("synthetic.pdb")));
+        final ProteinInteractionFinder bcifFinder = new ProteinInteractionFinder(BinaryCifCoordinateReader.read(fixture("synthetic.bcif")));
+        StructureAssertions.assertSameInteractions(pdbFinder.findAllInteractions(), bcifFinder.findAllInteractions());
+    }
+
+    @Test
+    void decodesEveryEncoding() throws Exception {
+        final Structure structure = read(atomSiteColumns());
+
+        final List<Group> groups = structure.getModel(0).get(0).getAtomGroups();
+        assertEquals(2, groups.size());
+        assertEquals("ALA", groups.get(0).getPDBName());
+        assertEquals(10, groups.get(0).getResidueNumber().getSeqNum());
+        assertEquals("GLY", groups.get(1).getPDBName());
+        assertEquals(11, groups.get(1).getResidueNumber().getSeqNum());
+
+        final List<Atom> atoms = new ArrayList<>(groups.get(0).getAtoms());
+        atoms.addAll(groups.get(1).getAtoms());
+        assertEquals(Arrays.asList("N", "CA", "C", "N"), Arrays.asList(atoms.stream().map(Atom::getName).toArray()));
+        assertEquals(Arrays.asList(1, 2, 300, 301), Arrays.asList(atoms.stream().map(Atom::getPDBserial).toArray()));
+        assertEquals(Arrays.asList(1.234, 1.434, -0.566, 3.0), Arrays.asList(atoms.stream().map(Atom::getX).toArray()));
+        assertEquals(Arrays.asList(2.5, 2.5, 2.5, -7.25), Arrays.asList(atoms.stream().map(Atom::getY).toArray()));
+        assertEquals(Arrays.asList(0.0, 1.0, 5.0, 10.0), Arrays.asList(atoms.stream().map(Atom::getZ).toArray()));
+        assertEquals(Arrays.asList(1.0f, 1.0f, 0.5f, 1.0f), Arrays.asList(atoms.stream().map(Atom::getOccupancy).toArray()));
+    }
+
+    @Test
+    void rejectsAtomSiteWithoutCoordinateColumn() {
+        final List<Object> columns = atomSiteColumns();
+        columns.removeIf(column -> ((Map<?, ?>) column).get("name").equals("Cartn_z"));
+        final StructureException e = assertThrows(StructureException.class, () -> read(columns));
+        assertEquals("Missing atom_site column cartn_z", e.getMessage());
+    }
+
+    @Test
+    void rejectsIncorrectRunLength() {
+        final List<Object> columns = atomSiteColumns();
+        columns.set(0, column("auth_seq_id", ints(int32, 10, 3, 11, 2), runLength(4), byteArray(int32)));
+        final StructureException e = assertThrows(StructureException.class, () -> read(columns));
+        assertEquals("Incorrect BinaryCIF run length: 2", e.getMessage());
+    }
+
+    @Test
+    void rejectsTruncatedFile() throws Exception {
+        final byte[] bcif = bcif(atomSiteColumns());
+        assertThrows(StructureException.class,
+                     () -> BinaryCifCoordinateReader.read(ByteBuffer.wrap(Arrays.copyOf(bcif, bcif.length - 10)), "TEST"));
+    }
+
+    // Columns of four atoms: ALA 10 (N, CA, C) and GLY 11 (N).
+    private static List<Object> atomSiteColumns() {
+        return new ArrayList<>(Arrays.asList(
+                column("auth_seq_id", ints(int32, 10, 3, 11, 1), runLength(4), byteArray(int32)),
+                column("label_comp_id", ints(int32, 0, 0, 0, 1), stringArray("ALAGLY", 0, 3, 6)),
+                column("label_asym_id", ints(int32, 0, 0, 0, 0), stringArray("A", 0, 1)),
+                column("label_atom_id", ints(int32, 0, 1, 2, 0), stringArray("NCAC", 0, 1, 3, 4)),
+                column("type_symbol", ints(int32, 0, 1, 1, 0), stringArray("NC", 0, 1, 2)),
+                // 1, 2, 300, 301 packed into unsigned bytes: 300 = 255 + 45, 301 = 255 + 46.
+                column("id", ints(uint8, 1, 2, 255, 45, 255, 46), integerPacking(1, true, 4), byteArray(uint8)),
+                // Thousandths 1234, 1434, -566, 3000: deltas from 1000 of 234, 200, -2000, 3566 packed into signed bytes.
+                column("Cartn_x", packedDeltas(234, 200, -2000, 3566), fixedPoint(1000), delta(1000), integerPacking(1, false, 4), byteArray(int8)),
+                // Hundredths 250 (three times) and -725 in runs.
+                column("Cartn_y", ints(int32, 250, 3, -725, 1), fixedPoint(100), runLength(4), byteArray(int32)),
+                column("Cartn_z", ints(uint16, 0, 1, 5, 10), intervalQuantization(0, 10, 11), byteArray(uint16)),
+                column("occupancy", doubles(1.0, 1.0, 0.5, 1.0), byteArray(float64))));
+    }
+
+    private static Structure read(List<Object> columns) throws StructureException {
+        return BinaryCifCoordinateReader.read(ByteBuffer.wrap(bcif(columns)), "TEST");
+    }
+
+    private static byte[] bcif(List<Object> columns) {
+        final Map<String, Object> atomSite = map("name", "_atom_site", "rowCount", 4, "columns", columns);
+        final Map<String, Object> otherCategory = map("name", "_entry", "rowCount", 1,
+                                                      "columns", Arrays.asList(column("id", ints(int32, 0), stringArray("TEST", 0, 4))));
+        final Map<String, Object> dataBlock = map("header", "TEST", "categories", Arrays.asList(otherCategory, atomSite));
+        final MessagePackWriter writer = new MessagePackWriter();
+        writer.write(map("version", "0.3.0", "encoder", "test", "dataBlocks", Arrays.asList(dataBlock)));
+        return writer.toByteArray();
+    }
+
+    private static Map<String, Object> column(String name, byte[] data, Object... encodings) {
+        return map("name", name, "data", map("data", data, "encoding", Arrays.asList(encodings)), "mask", null);
+    }
+
+    private static Map<String, Object> byteArray(int type) {
+        return map("kind", "ByteArray", "type", type);
+    }
+
+    private static Map<String, Object> fixedPoint(int factor) {
+        return map("kind", "FixedPoint", "factor", factor, "srcType", float64);
+    }
+
+    private static Map<String, Object> intervalQuantization(double min, double max, int stepsCount) {
+        return map("kind", "IntervalQuantization", "min", min, "max", max, "numSteps", stepsCount, "srcType", float64);
+    }
+
+    private static Map<String, Object> runLength(int srcSize) {
+        return map("kind", "RunLength", "srcType", int32, "srcSize", srcSize);
+    }
+
+    private static Map<String, Object> delta(int origin) {
+        return map("kind", "Delta", "origin", origin, "srcType", int32);
+    }
+
+    private static Map<String, Object> integerPacking(int byteCount, boolean isUnsigned, int srcSize) {
+        return map("kind", "IntegerPacking", "byteCount", byteCount, "isUnsigned", isUnsigned, "srcSize", srcSize);
+    }
+
+    private static Map<String, Object> stringArray(String stringData, int... offsets) {
+        return map("kind", "StringArray", "dataEncoding", Arrays.asList(byteArray(int32)), "stringData", stringData,
+                   "offsetEncoding", Arrays.asList(byteArray(int32)), "offsets", ints(int32, offsets));
+    }
+
+    // Given deltas packed into signed bytes, as values on limits of byte (127, -128) are added to the following ones.
+    private static byte[] packedDeltas(int... deltas) {
+        final List<Integer> packed = new ArrayList<>();
+        for (int delta : deltas) {
+            int rest = delta;
+            while (rest >= Byte.MAX_VALUE || rest <= Byte.MIN_VALUE) {
+                final int limit = (rest > 0) ? Byte.MAX_VALUE : Byte.MIN_VALUE;
+                packed.add(limit);
+                rest -= limit;
+            }
+            packed.add(rest);
+        }
+        return ints(int8, packed.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    // Little-endian bytes of given values of given ByteArray type.
+    private static byte[] ints(int type, int... values) {
+        final int size = (type == int8 || type == uint8) ? 1 : (type == uint16) ? 2 : 4;
+        final ByteBuffer bytes = ByteBuffer.allocate(size * values.length).order(ByteOrder.LITTLE_ENDIAN);
+        for (int value : values) {
+            if (size == 1) {
+                bytes.put((byte) value);
+            } else if (size == 2) {
+                bytes.putShort((short) value);
+            } else {
+                bytes.putInt(value);
+            }
+        }
+        return bytes.array();
+    }
+
+    private static byte[] doubles(double... values) {
+        final ByteBuffer bytes = ByteBuffer.allocate(Double.BYTES * values.length).order(ByteOrder.LITTLE_ENDIAN);
+        for (double value : values) {
+            bytes.putDouble(value);
+        }
+        return bytes.array();
+    }
+
+    private static Path fixture(String name) throws URISyntaxException {
+        return Paths.get(BinaryCifCoordinateReaderTest.class.getResource("/" + name).toURI());
+    }
+
+    private static Map<String, Object> map(Object... keysAndValues) {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            map.put((String) keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return map;
+    }
+
+    // Writer of the MessagePack values used by BinaryCIF: maps, arrays, strings, integers, doubles, booleans, nil and binary data.
+    private static final class MessagePackWriter {
+        private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        void write(Object value) {
+            if (value == null) {
+                output.write(0xc0);
+            } else if (value instanceof Boolean) {
+                output.write((Boolean) value ? 0xc3 : 0xc2);
+            } else if (value instanceof Integer) {
+                output.write(0xd2);
+                this.writeInt((Integer) value);
+            } else if (value instanceof Double) {
+                output.write(0xcb);
+                this.writeLong(Double.doubleToLongBits((Double) value));
+            } else if (value instanceof String) {
+                final byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+                output.write(0xdb);
+                this.writeInt(bytes.length);
+                output.writeBytes(bytes);
+            } else if (value instanceof byte[]) {
+                output.write(0xc6);
+                this.writeInt(((byte[]) value).length);
+                output.writeBytes((byte[]) value);
+            } else if (value instanceof List) {
+                output.write(0xdd);
+                this.writeInt(((List<?>) value).size());
+                ((List<?>) value).forEach(this::write);
+            } else if (value instanceof Map) {
+                output.write(0xdf);
+                this.writeInt(((Map<?, ?>) value).size());
+                ((Map<?, ?>) value).forEach((key, entryValue) -> {
+                    this.write(key);
+                    this.write(entryValue);
+                });
+            } else {
+                throw new IllegalArgumentException("Unsupported value: " + value);
+            }
+        }
+
+        byte[] toByteArray() {
+            return output.toByteArray();
+        }
+
+        private void writeInt(int value) {
+            output.writeBytes(ByteBuffer.allocate(Integer.BYTES).putInt(value).array());
+        }
+
+        private void writeLong(long value) {
+            output.writeBytes(ByteBuffer.allocate(Long.BYTES).putLong(value).array());
+        }
+    }
+}
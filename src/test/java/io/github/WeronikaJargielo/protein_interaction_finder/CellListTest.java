@@ -0,0 +1,220 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Cell list has to find every point found by comparing the query with all points, in ascending order; points
+// it finds besides them may lie only within the tolerance of queries beyond the radius. Queries are every point
+// and random positions around the box, so some of them lie outside it. Points on lattice of a fifth of the cutoff
+// have exactly representable squared distances, many of them equal to the squared cutoff (e.g. (3, 4, 0) apart);
+// the lattice is dense enough for cells to be of the cutoff, so such points also lie on boundaries of cells.
+// No tolerance is then left for queries in double precision, which have to find exactly the same points.
+class CellListTest {
+
+    private static final int randomQueriesLen = 50;
+
+    @Test
+    void findsSamePointsAsAllPairsInRandomBoxes() {
+        final Random random = new Random(29);
+        for (int set = 0; set < 20; ++set) {
+            final int pointsLen = 1 + random.nextInt(400);
+            final double edge = 5 + 50 * random.nextDouble();
+            final double[] x = randomCoordinates(random, pointsLen, -edge, edge);
+            final double[] y = randomCoordinates(random, pointsLen, 0, edge);
+            final double[] z = randomCoordinates(random, pointsLen, 100, 100 + edge);
+            final double cutoff = 1 + 9 * random.nextDouble();
+
+            assertSameAsAllPairs(x, y, z, cutoff, cutoff, random);
+            assertSameAsAllPairs(x, y, z, cutoff, 0.5 * cutoff, random);
+            assertSameAsAllPairs(x, y, z, cutoff, 2.5 * cutoff, random);
+        }
+    }
+
+    @Test
+    void findsPointsExactlyAtCutoff() {
+        final Random random = new Random(31);
+        for (double cutoff : new double[] {0.625, 1.25, 2.5, 3.75, 5.0}) {
+            final int pointsLen = 1000;
+            final double[] x = randomLatticeCoordinates(random, pointsLen, cutoff / 5, 36);
+            final double[] y = randomLatticeCoordinates(random, pointsLen, cutoff / 5, 36);
+            final double[] z = randomLatticeCoordinates(random, pointsLen, cutoff / 5, 36);
+
+            for (boolean singlePrecision : new boolean[] {false, true}) {
+                final CellList cellList = new CellList(x, y, z, cutoff, singlePrecision);
+                int onCutoffLen = 0;
+                for (int q = 0; q < pointsLen; ++q) {
+                    final int[] found = cellList.findNeighbors(x[q], y[q], z[q], cutoff);
+                    assertFound(x, y, z, x[q], y[q], z[q], cutoff, singlePrecision, found);
+                    if ( ! singlePrecision) {
+                        assertArrayEquals(findAllPairs(x, y, z, x[q], y[q], z[q], cutoff), found, "query at point " + q);
+                    }
+                    for (int i : found) {
+                        onCutoffLen += (squaredDistance(x[i], y[i], z[i], x[q], y[q], z[q]) == cutoff * cutoff) ? 1 : 0;
+                    }
+                }
+                assertTrue(onCutoffLen > 0, "no points at cutoff " + cutoff);
+            }
+        }
+    }
+
+    @Test
+    void findsSamePointsAsAllPairsInFlatBoxes() {
+        final Random random = new Random(37);
+        final int pointsLen = 200;
+        final double[] flat = new double[pointsLen];
+        Arrays.fill(flat, 3.5);
+
+        // Plane perpendicular to each axis, then line along z axis: boxes of a single cell along flat axes.
+        final double[] x = randomCoordinates(random, pointsLen, 0, 40);
+        final double[] y = randomCoordinates(random, pointsLen, 0, 40);
+        final double[] z = randomCoordinates(random, pointsLen, 0, 40);
+        assertSameAsAllPairs(flat, y, z, 4.0, 4.0, random);
+        assertSameAsAllPairs(x, flat, z, 4.0, 4.0, random);
+        assertSameAsAllPairs(x, y, flat, 4.0, 4.0, random);
+        assertSameAsAllPairs(flat, flat, z, 4.0, 4.0, random);
+        assertSameAsAllPairs(flat, flat, z, 4.0, 12.0, random);
+    }
+
+    @Test
+    void findsSamePointsAsAllPairsInSingleCell() {
+        final Random random = new Random(41);
+        final int pointsLen = 100;
+
+        // Box smaller than the cutoff.
+        final double[] x = randomCoordinates(random, pointsLen, 10, 12);
+        final double[] y = randomCoordinates(random, pointsLen, -12, -10);
+        final double[] z = randomCoordinates(random, pointsLen, 0, 2);
+        assertSameAsAllPairs(x, y, z, 5.0, 5.0, random);
+        assertSameAsAllPairs(x, y, z, 5.0, 1.0, random);
+
+        // All points at the same position, found also by query of zero radius.
+        final double[] same = new double[pointsLen];
+        Arrays.fill(same, 7.25);
+        assertSameAsAllPairs(same, same, same, 5.0, 5.0, random);
+        assertSameAsAllPairs(same, same, same, 0.0, 0.0, random);
+        assertSameAsAllPairs(same, same, same, 5.0, 0.0, random);
+
+        // Single point.
+        assertSameAsAllPairs(new double[] {1.0}, new double[] {2.0}, new double[] {3.0}, 5.0, 5.0, random);
+    }
+
+    @Test
+    void findsSamePointsAsAllPairsInSparseBoxes() {
+        final Random random = new Random(43);
+        final int pointsLen = 100;
+
+        // Grid would have far more cells than points with cells of the cutoff, so its cells are larger.
+        final double[] x = randomCoordinates(random, pointsLen, -1e5, 1e5);
+        final double[] y = randomCoordinates(random, pointsLen, -1e5, 1e5);
+        final double[] z = randomCoordinates(random, pointsLen, -1e5, 1e5);
+        for (int i = 1; i < pointsLen; i += 2) {
+            x[i] = x[i - 1] + random.nextDouble();
+            y[i] = y[i - 1] - random.nextDouble();
+            z[i] = z[i - 1];
+        }
+        assertSameAsAllPairs(x, y, z, 1.0, 1.0, random);
+        assertSameAsAllPairs(x, y, z, 1e-6, 1.0, random);
+    }
+
+    @Test
+    void findsNothingForNegativeRadiusOrWithoutPoints() {
+        final double[] coordinates = {1.0, 2.0};
+        for (boolean singlePrecision : new boolean[] {false, true}) {
+            final CellList cellList = new CellList(coordinates, coordinates, coordinates, 2.0, singlePrecision);
+            assertEquals(0, cellList.findNeighbors(1.0, 1.0, 1.0, -1.0).length);
+            assertEquals(0, cellList.findNeighbors(1.0, 1.0, 1.0, Double.NaN).length);
+
+            final CellList empty = new CellList(new double[0], new double[0], new double[0], 2.0, singlePrecision);
+            assertEquals(0, empty.size());
+            assertEquals(0, empty.findNeighbors(0.0, 0.0, 0.0, 2.0).length);
+        }
+    }
+
+    // Queries at every point and at random positions around the box, in both precisions.
+    private static void assertSameAsAllPairs(double[] x, double[] y, double[] z, double cutoff, double radius, Random random) {
+        final double[][] bounds = {bounds(x, radius), bounds(y, radius), bounds(z, radius)};
+        for (boolean singlePrecision : new boolean[] {false, true}) {
+            final CellList cellList = new CellList(x, y, z, cutoff, singlePrecision);
+            assertEquals(x.length, cellList.size());
+            for (int q = 0; q < x.length; ++q) {
+                assertFound(x, y, z, x[q], y[q], z[q], radius, singlePrecision, cellList.findNeighbors(x[q], y[q], z[q], radius));
+            }
+            for (int q = 0; q < randomQueriesLen; ++q) {
+                final double qx = bounds[0][0] + (bounds[0][1] - bounds[0][0]) * random.nextDouble();
+                final double qy = bounds[1][0] + (bounds[1][1] - bounds[1][0]) * random.nextDouble();
+                final double qz = bounds[2][0] + (bounds[2][1] - bounds[2][0]) * random.nextDouble();
+                assertFound(x, y, z, qx, qy, qz, radius, singlePrecision, cellList.findNeighbors(qx, qy, qz, radius));
+            }
+        }
+    }
+
+    private static void assertFound(double[] x, double[] y, double[] z, double qx, double qy, double qz, double radius,
+                                    boolean singlePrecision, int[] found) {
+        final String query = "query at (" + qx + ", " + qy + ", " + qz + "), radius " + radius
+                             + (singlePrecision ? " in single precision" : "");
+        for (int i = 1; i < found.length; ++i) {
+            assertTrue(found[i - 1] < found[i], "not in ascending order: " + query);
+        }
+
+        final int[] expected = findAllPairs(x, y, z, qx, qy, qz, radius);
+        for (int i : expected) {
+            assertTrue(Arrays.binarySearch(found, i) >= 0, "point " + i + " not found: " + query);
+        }
+
+        double maxAbsCoordinate = Math.max(Math.abs(qx), Math.max(Math.abs(qy), Math.abs(qz)));
+        for (int i = 0; i < x.length; ++i) {
+            maxAbsCoordinate = Math.max(maxAbsCoordinate, Math.max(Math.abs(x[i]), Math.max(Math.abs(y[i]), Math.abs(z[i]))));
+        }
+        final double tolerance = singlePrecision
+                                 ? 16 * Math.ulp((float) maxAbsCoordinate) + 1e-5 * (1 + radius)
+                                 : 1e-4 * (1 + radius);
+        for (int i : found) {
+            assertTrue(Math.sqrt(squaredDistance(x[i], y[i], z[i], qx, qy, qz)) <= radius + tolerance,
+                       "point " + i + " too far: " + query);
+        }
+    }
+
+    private static int[] findAllPairs(double[] x, double[] y, double[] z, double qx, double qy, double qz, double radius) {
+        final int[] found = new int[x.length];
+        int foundLen = 0;
+        for (int i = 0; i < x.length; ++i) {
+            if (squaredDistance(x[i], y[i], z[i], qx, qy, qz) <= radius * radius) {
+                found[foundLen++] = i;
+            }
+        }
+        return Arrays.copyOf(found, foundLen);
+    }
+
+    private static double squaredDistance(double x1, double y1, double z1, double x2, double y2, double z2) {
+        final double dx = x1 - x2, dy = y1 - y2, dz = z1 - z2;
+        return dx*dx + dy*dy + dz*dz;
+    }
+
+    private static double[] bounds(double[] coordinates, double margin) {
+        final double min = Arrays.stream(coordinates).min().orElse(0.0);
+        final double max = Arrays.stream(coordinates).max().orElse(0.0);
+        return new double[] {min - margin - 1, max + margin + 1};
+    }
+
+    private static double[] randomCoordinates(Random random, int len, double min, double max) {
+        final double[] coordinates = new double[len];
+        for (int i = 0; i < len; ++i) {
+            coordinates[i] = min + (max - min) * random.nextDouble();
+        }
+        return coordinates;
+    }
+
+    private static double[] randomLatticeCoordinates(Random random, int len, double unit, int sitesLen) {
+        final double[] coordinates = new double[len];
+        for (int i = 0; i < len; ++i) {
+            coordinates[i] = unit * random.nextInt(sitesLen);
+        }
+        return coordinates;
+    }
+}
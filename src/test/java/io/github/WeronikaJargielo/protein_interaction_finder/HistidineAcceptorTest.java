@@ -0,0 +1,66 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Side chain nitrogen of histidine accepts hydrogen bond only when it has no hydrogen (HD1 on ND1, HE2 on NE2),
+// so charged histidine accepts none. In the fixture each of the nitrogens is approached by hydroxyl of serine.
+class HistidineAcceptorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void unprotonatedHistidineAcceptsOnBothNitrogens() throws Exception {
+        assertEquals(new TreeSet<>(Arrays.asList("ND1", "NE2")), findHistidineAcceptorAtoms());
+    }
+
+    @Test
+    void histidineWithHD1AcceptsOnNE2() throws Exception {
+        assertEquals(Collections.singleton("NE2"), findHistidineAcceptorAtoms("HD1"));
+    }
+
+    @Test
+    void histidineWithHE2AcceptsOnND1() throws Exception {
+        assertEquals(Collections.singleton("ND1"), findHistidineAcceptorAtoms("HE2"));
+    }
+
+    @Test
+    void chargedHistidineAcceptsNone() throws Exception {
+        assertEquals(Collections.emptySet(), findHistidineAcceptorAtoms("HD1", "HE2"));
+    }
+
+    // Names of histidine atoms accepting side chain - side chain hydrogen bonds in the fixture with given hydrogens of histidine.
+    private Set<String> findHistidineAcceptorAtoms(String... histidineHydrogens) throws Exception {
+        final List<String> keptHydrogens = Arrays.asList(histidineHydrogens);
+        final List<String> lines = Files.readAllLines(fixture()).stream()
+                                        .filter(line -> ! line.startsWith("ATOM") || ! line.substring(17, 20).equals("HIS")
+                                                        || ! line.substring(12, 16).trim().startsWith("H")
+                                                        || keptHydrogens.contains(line.substring(12, 16).trim()))
+                                        .collect(Collectors.toList());
+        final Path pdbFile = Files.write(tempDir.resolve("histidine-" + String.join("-", histidineHydrogens) + ".pdb"), lines);
+
+        final ProteinInteractionFinder finder = new ProteinInteractionFinder(PdbCoordinateReader.read(pdbFile));
+        return finder.findSideSideHydrogenBonds().stream()
+                     .filter(bond -> bond.getAcceptor().getAbbreviation() == AminoAcidAbbreviations.HIS)
+                     .map(bond -> bond.getAcceptorAtom().getName())
+                     .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private static Path fixture() throws URISyntaxException {
+        return Paths.get(HistidineAcceptorTest.class.getResource("/histidine-serines.pdb").toURI());
+    }
+}
@@ -0,0 +1,138 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import org.biojava.nbio.structure.Atom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Interactions of two fixture structures are written to one file and every stored row is compared with
+// the interaction it was written from, column by column. No interactions are found in the histidine fixture
+// with both ring hydrogens, so its block, written first, consists of empty sections only.
+class InteractionFileTest {
+
+    @TempDir
+    Path directory;
+
+    private AllInteractions syntheticInteractions;
+    private AllInteractions histidineInteractions;
+
+    @BeforeEach
+    void findInteractions() throws Exception {
+        syntheticInteractions = findAllInteractions("synthetic.pdb");
+        histidineInteractions = findAllInteractions("histidine-serines.pdb");
+    }
+
+    @Test
+    void readsWrittenInteractions() throws IOException {
+        final Path file = directory.resolve("interactions.bin");
+        try (InteractionFileWriter writer = new InteractionFileWriter(file)) {
+            writer.write("histidine-serines", histidineInteractions);
+            writer.write("synthetic", syntheticInteractions);
+            assertEquals(2, writer.getStructuresCount());
+        }
+
+        try (InteractionFileReader reader = new InteractionFileReader(file)) {
+            assertEquals(2, reader.getStructuresCount());
+            assertStored(histidineInteractions, "histidine-serines", reader.getStructure(0));
+            assertStored(syntheticInteractions, "synthetic", reader.getStructure(1));
+        }
+    }
+
+    @Test
+    void readsFileWithoutStructures() throws IOException {
+        final Path file = directory.resolve("empty.bin");
+        new InteractionFileWriter(file).close();
+
+        try (InteractionFileReader reader = new InteractionFileReader(file)) {
+            assertEquals(0, reader.getStructuresCount());
+        }
+    }
+
+    @Test
+    void rejectsFileOfUnclosedWriter() throws IOException {
+        final Path file = directory.resolve("unclosed.bin");
+        final InteractionFileWriter writer = new InteractionFileWriter(file);
+        try {
+            assertThrows(IOException.class, () -> new InteractionFileReader(file));
+            writer.write("synthetic", syntheticInteractions);
+            assertThrows(IOException.class, () -> new InteractionFileReader(file));
+        } finally {
+            writer.close();
+        }
+    }
+
+    private static void assertStored(AllInteractions interactions, String name, StoredInteractions stored) {
+        assertEquals(name, stored.getName());
+
+        final List<ToDoubleFunction<HydrogenBond>> hydrogenBondValues = Arrays.asList(HydrogenBond::getDistanceHA, HydrogenBond::getDistanceDA,
+                                                                                      HydrogenBond::getAngleDHA, HydrogenBond::getAngleHAAa,
+                                                                                      HydrogenBond::getAngleDAAa);
+        final List<Function<HydrogenBond, Atom>> hydrogenBondAtoms = Arrays.asList(HydrogenBond::getDonorAtom, HydrogenBond::getHydrogenAtom,
+                                                                                   HydrogenBond::getAcceptorAtom, HydrogenBond::getAcceptorAntecedentAtom);
+        assertRows(stored, InteractionType.MAIN_MAIN_HYDROGEN_BONDS, interactions.getMainMainHydrogenBonds(),
+                   HydrogenBond::getDonor, HydrogenBond::getAcceptor, hydrogenBondAtoms, hydrogenBondValues);
+        assertRows(stored, InteractionType.MAIN_SIDE_HYDROGEN_BONDS, interactions.getMainSideHydrogenBonds(),
+                   HydrogenBond::getDonor, HydrogenBond::getAcceptor, hydrogenBondAtoms, hydrogenBondValues);
+        assertRows(stored, InteractionType.SIDE_SIDE_HYDROGEN_BONDS, interactions.getSideSideHydrogenBonds(),
+                   HydrogenBond::getDonor, HydrogenBond::getAcceptor, hydrogenBondAtoms, hydrogenBondValues);
+        assertRows(stored, InteractionType.DISULPHIDE_BRIDGES, interactions.getDisulphideBridges(),
+                   DisulphideBridge::getFirstInteractee, DisulphideBridge::getSecondInteractee,
+                   List.of(), Arrays.asList(DisulphideBridge::getDistanceBtwCAs, DisulphideBridge::getDistanceBtwCBs,
+                                            DisulphideBridge::getDistanceBtwSS, DisulphideBridge::getAbsDihAngleSS,
+                                            DisulphideBridge::getAbsDihAngle1, DisulphideBridge::getAbsDihAngle2));
+        assertRows(stored, InteractionType.SULPHUR_AROMATIC_INTERACTIONS, interactions.getSulphurAromaticInteractions(),
+                   SulphurAromaticInteraction::getAromaticAminoAcid, SulphurAromaticInteraction::getSulphurAminoAcid,
+                   List.of(), Arrays.asList(SulphurAromaticInteraction::getDistanceBtwRingSulphur, SulphurAromaticInteraction::getElevationAngle,
+                                            SulphurAromaticInteraction::getEquatorialAngle));
+        assertRows(stored, InteractionType.AMINO_AROMATIC_INTERACTIONS, interactions.getAminoAromaticInteractions(),
+                   AminoAromaticInteraction::getAromaticAminoAcid, AminoAromaticInteraction::getAminoAminoAcid,
+                   List.of(), Arrays.asList(AminoAromaticInteraction::getDistanceBtwCationRing, AminoAromaticInteraction::getPolarAngle,
+                                            AminoAromaticInteraction::getAzimuthalAngle));
+        assertRows(stored, InteractionType.AROMATIC_AROMATIC_INTERACTIONS, interactions.getAromaticAromaticInteractions(),
+                   AromaticAromaticInteraction::getFirstAromaticRing, AromaticAromaticInteraction::getSecondAromaticRing,
+                   List.of(), Arrays.asList(AromaticAromaticInteraction::getDistanceBtwRings, AromaticAromaticInteraction::getAngleBtwRings));
+        assertRows(stored, InteractionType.IONIC_INTERACTIONS, interactions.getIonicInteractions(),
+                   IonicInteraction::getAnionicAminoAcid, IonicInteraction::getCationicAminoAcid,
+                   List.of(), List.of(IonicInteraction::getDistanceBtwCentroids));
+        assertRows(stored, InteractionType.HYDROPHOBIC_INTERACTIONS, interactions.getHydrophobicInteractions(),
+                   HydrophobicInteraction::getFirstInteractee, HydrophobicInteraction::getSecondInteractee,
+                   List.of(), List.of(HydrophobicInteraction::getDistanceBtwCAs));
+    }
+
+    private static <T> void assertRows(StoredInteractions stored, InteractionType interactionType, List<T> interactions,
+                                       Function<T, AminoAcid> first, Function<T, AminoAcid> second,
+                                       List<Function<T, Atom>> atoms, List<ToDoubleFunction<T>> values) {
+        assertEquals(interactions.size(), stored.getRowsCount(interactionType), interactionType.toString());
+        assertEquals(values.size(), stored.getValuesCount(interactionType), interactionType.toString());
+        for (int row = 0; row < interactions.size(); ++row) {
+            final T interaction = interactions.get(row);
+            assertEquals(first.apply(interaction), stored.getAminoAcid(stored.getFirstResidue(interactionType, row)));
+            assertEquals(second.apply(interaction), stored.getAminoAcid(stored.getSecondResidue(interactionType, row)));
+            for (int column = 0; column < atoms.size(); ++column) {
+                assertEquals(atoms.get(column).apply(interaction).getName(), stored.getAtomName(interactionType, row, column));
+            }
+            for (int column = 0; column < values.size(); ++column) {
+                assertEquals(values.get(column).applyAsDouble(interaction), stored.getValue(interactionType, row, column));
+            }
+        }
+        if (atoms.isEmpty()) {
+            assertThrows(IllegalArgumentException.class, () -> stored.getAtomName(interactionType, 0, 0));
+        }
+    }
+
+    private static AllInteractions findAllInteractions(String fixture) throws Exception {
+        final Path file = Paths.get(InteractionFileTest.class.getResource("/" + fixture).toURI());
+        return new ProteinInteractionFinder(PdbCoordinateReader.read(file)).findAllInteractions();
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import org.biojava.nbio.structure.Atom;
+import org.biojava.nbio.structure.Group;
+import org.biojava.nbio.structure.Structure;
+import org.biojava.nbio.structure.StructureException;
+import org.junit.jupiter.api.Test;
+
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// The fixture mmCIF file is written by BioJava of the same structure as the fixture PDB file, so both readers
+// have to read the same atoms, in which the same interactions are found.
+class MmcifCoordinateReaderTest {
+
+    @Test
+    void readsSameAtomsAsPdbReader() throws Exception {
+        StructureAssertions.assertSameStructure(PdbCoordinateReader.read(fixture("synthetic.pdb")),
+                                                MmcifCoordinateReader.read(fixture("synthetic.cif")));
+    }
+
+    @Test
+    void findsSameInteractionsAsInPdbFile() throws Exception {
+        final ProteinInteractionFinder pdbFinder = new ProteinInteractionFinder(PdbCoordinateReader.read(fixture("synthetic.pdb")));
+        final ProteinInteractionFinder mmcifFinder = new ProteinInteractionFinder(MmcifCoordinateReader.read(fixture("synthetic.cif")));
+        StructureAssertions.assertSameInteractions(pdbFinder.findAllInteractions(), mmcifFinder.findAllInteractions());
+    }
+
+    @Test
+    void readsQuotedValuesAndSkipsOtherCategories() throws Exception {
+        final String mmcif = "data_TEST\n"
+                             + "# comment before categories\n"
+                             + "_struct.title 'Title with \"quotes\" and spaces'\n"
+                             + "loop_\n"
+                             + "_citation.id\n"
+                             + "_citation.title\n"
+                             + "1\n"
+                             + ";Text field spanning\n"
+                             + "two lines, with _tags and loop_ in it\n"
+                             + ";\n"
+                             + "loop_\n"
+                             + "_atom_site.group_PDB\n"
+                             + "_atom_site.id\n"
+                             + "_atom_site.type_symbol\n"
+                             + "_atom_site.label_atom_id\n"
+                             + "_atom_site.label_alt_id\n"
+                             + "_atom_site.label_comp_id\n"
+                             + "_atom_site.label_asym_id\n"
+                             + "_atom_site.auth_seq_id\n"
+                             + "_atom_site.pdbx_PDB_ins_code\n"
+                             + "_atom_site.Cartn_x\n"
+                             + "_atom_site.Cartn_y\n"
+                             + "_atom_site.Cartn_z\n"
+                             + "_atom_site.occupancy\n"
+                             + "HETATM 1 C \"C1'\" . NAG A 5 ? 1.5 -2.25 3 0.5\n"
+                             + "HETATM 2 O 'O5''  . NAG A 5 ? +1 2. -.5 ?   # comment after row\n"
+                             + "ATOM 3 N N . ALA A 6 B 10.125 20.250 30.500 1.00\n"
+                             + "#\n"
+                             + "loop_\n"
+                             + "_atom_type.symbol\n"
+                             + "C N O\n";
+        final Structure structure = MmcifCoordinateReader.read(ByteBuffer.wrap(mmcif.getBytes(StandardCharsets.UTF_8)), "TEST");
+
+        final List<Group> groups = structure.getModel(0).get(0).getAtomGroups();
+        assertEquals(2, groups.size());
+        assertEquals("NAG", groups.get(0).getPDBName());
+        assertEquals("ALA", groups.get(1).getPDBName());
+        assertEquals(Character.valueOf('B'), groups.get(1).getResidueNumber().getInsCode());
+
+        final Atom c1 = groups.get(0).getAtom(0);
+        assertEquals("C1'", c1.getName());
+        assertEquals(1.5, c1.getX());
+        assertEquals(-2.25, c1.getY());
+        assertEquals(3.0, c1.getZ());
+        assertEquals(0.5f, c1.getOccupancy());
+
+        final Atom o5 = groups.get(0).getAtom(1);
+        assertEquals("O5'", o5.getName());
+        assertEquals(1.0, o5.getX());
+        assertEquals(2.0, o5.getY());
+        assertEquals(-0.5, o5.getZ());
+        assertEquals(1.0f, o5.getOccupancy());
+
+        final Atom n = groups.get(1).getAtom(0);
+        assertEquals(3, n.getPDBserial());
+        assertEquals(10.125, n.getX());
+        assertEquals(20.25, n.getY());
+        assertEquals(30.5, n.getZ());
+    }
+
+    @Test
+    void rejectsAtomSiteWithoutCoordinateColumn() throws Exception {
+        final String mmcif = new String(Files.readAllBytes(fixture("synthetic.cif")), StandardCharsets.UTF_8)
+                             .replace("_atom_site.Cartn_x", "_atom_site.Cartn_q");
+        final StructureException e = assertThrows(StructureException.class,
+                () -> MmcifCoordinateReader.read(ByteBuffer.wrap(mmcif.getBytes(StandardCharsets.UTF_8)), "synthetic.cif"));
+        assertEquals("Missing atom_site column cartn_x", e.getMessage());
+    }
+
+    @Test
+    void rejectsIncompleteRow() {
+        final String mmcif = "data_TEST\nloop_\n_atom_site.id\n_atom_site.Cartn_x\n_atom_site.Cartn_y\n_atom_site.Cartn_z\n"
+                             + "1 1.0 2.0 3.0\n2 1.0 2.0\n";
+        assertThrows(StructureException.class,
+                     () -> MmcifCoordinateReader.read(ByteBuffer.wrap(mmcif.getBytes(StandardCharsets.UTF_8)), "TEST"));
+    }
+
+    private static Path fixture(String name) throws URISyntaxException {
+        return Paths.get(MmcifCoordinateReaderTest.class.getResource("/" + name).toURI());
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Numbers parsed by NumberParser have to be bit for bit the same as parsed by Double.parseDouble and Float.parseFloat,
+// both on the fast path for fixed-point numbers (up to 15 digits of double, 7 digits of float) and on the fallback.
+class NumberParserTest {
+
+    private static final String[] texts = {
+            "0", "-0", "-0.0", "  -0.000 ", "0.", "-.0", ".5", "-.5", "5.",
+            "1.5", "-12.345", "  123.456  ", "-9999.999", "0.001", "100.000",
+            // The last numbers of 15 and 7 digits parsed on the fast path, and the first ones left to the fallback.
+            "999999999999999", "-12345678.9012345", "0.000000000000001", "9999999999999999", "-12345678.90123456",
+            "9999999", "-1234.567", "0.000001", "99999999", "-1234.5678", "0.0000001",
+            // Notations which are always left to the fallback.
+            "+1.5", " +12.345 ", "+0", "+.5", "1e3", "-1.5E-2", "1.0d", "0x1p3", "NaN", "-Infinity"
+    };
+
+    @Test
+    void parsesDoubleAsDoubleParseDouble() {
+        for (String text : texts) {
+            assertSameBits(Double.parseDouble(text.trim()), parseDouble(text), text);
+        }
+    }
+
+    @Test
+    void parsesFloatAsFloatParseFloat() {
+        for (String text : texts) {
+            assertSameBits(Float.parseFloat(text.trim()), parseFloat(text), text);
+        }
+    }
+
+    @Test
+    void parsesRandomFixedPointNumbersAsJdk() {
+        final Random random = new Random(23);
+        for (int n = 0; n < 200_000; ++n) {
+            final String text = randomFixedPoint(random, 1 + random.nextInt(17));
+            assertSameBits(Double.parseDouble(text.trim()), parseDouble(text), text);
+            assertSameBits(Float.parseFloat(text.trim()), parseFloat(text), text);
+        }
+    }
+
+    @Test
+    void rejectsNumbersRejectedByJdk() {
+        for (String text : new String[]{"", "   ", "-", "+", ".", "-.", "1.2.3", "1-2", "12 3", "1,5"}) {
+            assertThrows(NumberFormatException.class, () -> parseDouble(text), text);
+            assertThrows(NumberFormatException.class, () -> parseFloat(text), text);
+        }
+    }
+
+    // Fixed-point number of given number of digits, with random sign, position of decimal point and surrounding spaces.
+    private static String randomFixedPoint(Random random, int digitsLen) {
+        final StringBuilder text = new StringBuilder(" ".repeat(random.nextInt(3)));
+        if (random.nextInt(4) == 0) {
+            text.append(random.nextInt(8) == 0 ? '+' : '-');
+        }
+        final int pointPosition = random.nextInt(digitsLen + 2) - 1;
+        for (int i = 0; i < digitsLen; ++i) {
+            if (i == pointPosition) {
+                text.append('.');
+            }
+            text.append((char) ('0' + random.nextInt(10)));
+        }
+        if (pointPosition == digitsLen) {
+            text.append('.');
+        }
+        return text.append(" ".repeat(random.nextInt(3))).toString();
+    }
+
+    private static double parseDouble(String text) {
+        final byte[] bytes = ("|" + text + "|").getBytes(StandardCharsets.ISO_8859_1);
+        return NumberParser.parseDouble(bytes, 1, bytes.length - 1);
+    }
+
+    private static float parseFloat(String text) {
+        final byte[] bytes = ("|" + text + "|").getBytes(StandardCharsets.ISO_8859_1);
+        return NumberParser.parseFloat(bytes, 1, bytes.length - 1);
+    }
+
+    private static void assertSameBits(double expected, double actual, String text) {
+        assertEquals(Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(actual), "'" + text + "'");
+    }
+
+    private static void assertSameBits(float expected, float actual, String text) {
+        assertEquals(Float.floatToRawIntBits(expected), Float.floatToRawIntBits(actual), "'" + text + "'");
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import org.biojava.nbio.structure.Atom;
+import org.biojava.nbio.structure.Chain;
+import org.biojava.nbio.structure.Group;
+import org.biojava.nbio.structure.Structure;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Assertions comparing structures read by coordinate readers: the same models, chains, groups and atoms, with the same
+// names, numbers, coordinates and other fields read from files, and the same interactions found in them. Interactions
+// are compared by their text, as their atoms (BioJava atoms, equal only to themselves) belong to different structures.
+final class StructureAssertions {
+
+    private StructureAssertions() {
+    }
+
+    static void assertSameStructure(Structure expected, Structure actual) {
+        assertEquals(expected.nrModels(), actual.nrModels(), "models");
+        for (int model = 0; model < expected.nrModels(); ++model) {
+            final List<Chain> expectedChains = expected.getModel(model);
+            final List<Chain> actualChains = actual.getModel(model);
+            assertEquals(expectedChains.size(), actualChains.size(), "chains of model " + model);
+            for (int c = 0; c < expectedChains.size(); ++c) {
+                assertSameChain(expectedChains.get(c), actualChains.get(c));
+            }
+        }
+    }
+
+    static void assertSameInteractions(AllInteractions expected, AllInteractions actual) {
+        assertEquals(describe(expected), describe(actual));
+    }
+
+    private static List<String> describe(AllInteractions interactions) {
+        final List<String> lines = new ArrayList<>();
+        describe("main-main", interactions.getMainMainHydrogenBonds(), lines);
+        describe("main-side", interactions.getMainSideHydrogenBonds(), lines);
+        describe("side-side", interactions.getSideSideHydrogenBonds(), lines);
+        describe("disulphide", interactions.getDisulphideBridges(), lines);
+        describe("sulphur-aromatic", interactions.getSulphurAromaticInteractions(), lines);
+        describe("amino-aromatic", interactions.getAminoAromaticInteractions(), lines);
+        describe("aromatic-aromatic", interactions.getAromaticAromaticInteractions(), lines);
+        describe("ionic", interactions.getIonicInteractions(), lines);
+        describe("hydrophobic", interactions.getHydrophobicInteractions(), lines);
+        return lines;
+    }
+
+    private static void describe(String type, List<?> interactions, List<String> lines) {
+        for (Object interaction : interactions) {
+            lines.add(type + '\t' + interaction);
+        }
+    }
+
+    private static void assertSameChain(Chain expected, Chain actual) {
+        assertEquals(expected.getName(), actual.getName());
+        final List<Group> expectedGroups = expected.getAtomGroups();
+        final List<Group> actualGroups = actual.getAtomGroups();
+        assertEquals(expectedGroups.size(), actualGroups.size(), "groups of chain " + expected.getName());
+        for (int g = 0; g < expectedGroups.size(); ++g) {
+            final Group expectedGroup = expectedGroups.get(g);
+            final Group actualGroup = actualGroups.get(g);
+            assertEquals(expectedGroup.getPDBName(), actualGroup.getPDBName());
+            assertEquals(expectedGroup.getResidueNumber(), actualGroup.getResidueNumber());
+            assertEquals(expectedGroup.getAtoms().size(), actualGroup.getAtoms().size(), "atoms of " + expectedGroup.getResidueNumber());
+            for (int a = 0; a < expectedGroup.getAtoms().size(); ++a) {
+                assertSameAtom(expectedGroup.getAtom(a), actualGroup.getAtom(a));
+            }
+        }
+    }
+
+    private static void assertSameAtom(Atom expected, Atom actual) {
+        final String atom = expected.getGroup().getResidueNumber() + " " + expected.getName();
+        assertEquals(expected.getName(), actual.getName(), atom);
+        assertEquals(expected.getPDBserial(), actual.getPDBserial(), atom);
+        assertEquals(expected.getX(), actual.getX(), atom);
+        assertEquals(expected.getY(), actual.getY(), atom);
+        assertEquals(expected.getZ(), actual.getZ(), atom);
+        assertEquals(expected.getOccupancy(), actual.getOccupancy(), atom);
+        assertEquals(expected.getTempFactor(), actual.getTempFactor(), atom);
+        assertEquals(expected.getElement(), actual.getElement(), atom);
+        assertEquals(expected.getAltLoc(), actual.getAltLoc(), atom);
+    }
+}
@@ -0,0 +1,166 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import org.biojava.nbio.structure.Structure;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// The same PDB file read plain, compressed with gzip as one or many members, and compressed with bgzip (BGZF),
+// whose blocks are decompressed concurrently; corrupt or truncated compressed files are rejected with ZipException.
+class StructureFilesTest {
+
+    // Sizes of pieces of content compressed into separate members or BGZF blocks; small, so that there are many of them.
+    private static final int memberContentLen = 4096;
+
+    @TempDir
+    Path tempDir;
+
+    private byte[] content;
+    private Structure plainStructure;
+
+    @BeforeEach
+    void readPlainFile() throws Exception {
+        final Path plainFile = Paths.get(StructureFilesTest.class.getResource("/synthetic.pdb").toURI());
+        content = Files.readAllBytes(plainFile);
+        plainStructure = PdbCoordinateReader.read(plainFile);
+    }
+
+    @Test
+    void readsSingleMemberGzip() throws Exception {
+        assertReadAsPlain(gzip(content));
+    }
+
+    @Test
+    void readsMultiMemberGzip() throws Exception {
+        final ByteArrayOutputStream members = new ByteArrayOutputStream();
+        for (int start = 0; start < content.length; start += memberContentLen) {
+            members.write(gzip(Arrays.copyOfRange(content, start, Math.min(start + memberContentLen, content.length))));
+        }
+        assertReadAsPlain(members.toByteArray());
+    }
+
+    @Test
+    void readsBgzf() throws Exception {
+        assertReadAsPlain(bgzf(content));
+    }
+
+    @Test
+    void rejectsTruncatedGzip() throws Exception {
+        final byte[] gzip = gzip(content);
+        assertRejected(Arrays.copyOf(gzip, gzip.length / 2));
+        assertRejected(Arrays.copyOf(gzip, gzip.length - 4));
+    }
+
+    @Test
+    void rejectsGzipWithCorruptTrailer() throws Exception {
+        final byte[] corruptCrc = gzip(content);
+        corruptCrc[corruptCrc.length - 8] ^= 1;
+        assertRejected(corruptCrc);
+
+        final byte[] corruptSize = gzip(content);
+        corruptSize[corruptSize.length - 4] ^= 1;
+        assertRejected(corruptSize);
+    }
+
+    @Test
+    void rejectsTruncatedBgzf() throws Exception {
+        final byte[] bgzf = bgzf(content);
+        assertRejected(Arrays.copyOf(bgzf, bgzf.length - 3));
+    }
+
+    @Test
+    void rejectsBgzfWithCorruptTrailer() throws Exception {
+        // Trailers of the first block and of the last, empty one.
+        for (int trailerEnd : new int[]{bgzfBlockLen(bgzf(content), 0), bgzf(content).length}) {
+            final byte[] corruptCrc = bgzf(content);
+            corruptCrc[trailerEnd - 8] ^= 1;
+            assertRejected(corruptCrc);
+
+            final byte[] corruptSize = bgzf(content);
+            corruptSize[trailerEnd - 4] ^= 1;
+            assertRejected(corruptSize);
+
+            final byte[] negativeSize = bgzf(content);
+            negativeSize[trailerEnd - 1] = (byte) 0x80;
+            assertRejected(negativeSize);
+
+            final byte[] oversizedSize = bgzf(content);
+            oversizedSize[trailerEnd - 2] = 1;
+            assertRejected(oversizedSize);
+        }
+    }
+
+    private void assertReadAsPlain(byte[] compressed) throws Exception {
+        final Path file = Files.write(tempDir.resolve("synthetic.pdb.gz"), compressed);
+        assertArrayEquals(content, toArray(StructureFiles.read(file)));
+        StructureAssertions.assertSameStructure(plainStructure, PdbCoordinateReader.read(file));
+    }
+
+    private void assertRejected(byte[] compressed) throws IOException {
+        final Path file = Files.write(tempDir.resolve("corrupt.pdb.gz"), compressed);
+        assertThrows(ZipException.class, () -> PdbCoordinateReader.read(file));
+    }
+
+    private static byte[] toArray(ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(data);
+        }
+        return compressed.toByteArray();
+    }
+
+    // BGZF file as written by bgzip: gzip members with BC subfield holding their size, ended by an empty member.
+    private static byte[] bgzf(byte[] data) {
+        final ByteArrayOutputStream blocks = new ByteArrayOutputStream();
+        for (int start = 0; start < data.length; start += memberContentLen) {
+            blocks.writeBytes(bgzfBlock(Arrays.copyOfRange(data, start, Math.min(start + memberContentLen, data.length))));
+        }
+        blocks.writeBytes(bgzfBlock(new byte[0]));
+        return blocks.toByteArray();
+    }
+
+    // Size of BGZF block starting at given position, stored in its BC subfield.
+    private static int bgzfBlockLen(byte[] bgzf, int blockStart) {
+        return (ByteBuffer.wrap(bgzf).order(ByteOrder.LITTLE_ENDIAN).getShort(blockStart + 16) & 0xffff) + 1;
+    }
+
+    private static byte[] bgzfBlock(byte[] data) {
+        final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        deflater.setInput(data);
+        deflater.finish();
+        final byte[] deflated = new byte[data.length + 64];
+        final int deflatedLen = deflater.deflate(deflated);
+        deflater.end();
+
+        final CRC32 crc = new CRC32();
+        crc.update(data);
+        final ByteBuffer block = ByteBuffer.allocate(18 + deflatedLen + 8).order(ByteOrder.LITTLE_ENDIAN);
+        block.put(new byte[]{0x1f, (byte) 0x8b, 8, 4, 0, 0, 0, 0, 0, (byte) 0xff});
+        block.putShort((short) 6).put((byte) 'B').put((byte) 'C').putShort((short) 2).putShort((short) (block.capacity() - 1));
+        block.put(deflated, 0, deflatedLen);
+        block.putInt((int) crc.getValue()).putInt(data.length);
+        return block.array();
+    }
+}
@@ -0,0 +1,118 @@
+package io.github.WeronikaJargielo.protein_interaction_finder;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+// Vector kernel has to find exactly the same points, in the same order, as the scalar one. Runs are of every length
+// up to a few blocks (so most of them end with a tail shorter than a block), start at any offset, and each has points
+// lying exactly on the radius: radius is the squared distance of one of them, and another one is its copy.
+class VectorNeighborKernelTest {
+
+    private static final int runsPerLength = 200;
+
+    @Test
+    void findsSamePointsAsScalarKernelInDoubleCoordinates() {
+        final Random random = new Random(17);
+        final int blockLen = DoubleVector.SPECIES_PREFERRED.length();
+
+        for (int len = 0; len <= 3 * blockLen + 1; ++len) {
+            for (int run = 0; run < runsPerLength; ++run) {
+                final int from = random.nextInt(blockLen + 1);
+                final int to = from + len;
+                final double[] xs = randomCoordinates(random, to);
+                final double[] ys = randomCoordinates(random, to);
+                final double[] zs = randomCoordinates(random, to);
+                final double x = 10 * random.nextDouble(), y = 10 * random.nextDouble(), z = 10 * random.nextDouble();
+
+                double radiusSquared = 10 * random.nextDouble();
+                if (len > 1) {
+                    final int onRadius = from + random.nextInt(len);
+                    final int copy = from + random.nextInt(len);
+                    xs[copy] = xs[onRadius];
+                    ys[copy] = ys[onRadius];
+                    zs[copy] = zs[onRadius];
+                    final double dx = xs[onRadius] - x, dy = ys[onRadius] - y, dz = zs[onRadius] - z;
+                    radiusSquared = dx*dx + dy*dy + dz*dz;
+                }
+
+                final int[] pointIndices = pointIndices(random, to);
+                final int[] scalarFound = new int[to];
+                final int[] vectorFound = new int[to];
+                final int scalarLen = ScalarNeighborKernel.collectWithin(xs, ys, zs, from, to, x, y, z, radiusSquared,
+                                                                         pointIndices, scalarFound, 0);
+                final int vectorLen = VectorNeighborKernel.collectWithin(xs, ys, zs, from, to, x, y, z, radiusSquared,
+                                                                         pointIndices, vectorFound, 0);
+                assertArrayEquals(Arrays.copyOf(scalarFound, scalarLen), Arrays.copyOf(vectorFound, vectorLen),
+                                  "run of " + len + " points from " + from);
+            }
+        }
+    }
+
+    @Test
+    void findsSamePointsAsScalarKernelInFloatCoordinates() {
+        final Random random = new Random(17);
+        final int blockLen = FloatVector.SPECIES_PREFERRED.length();
+
+        for (int len = 0; len <= 3 * blockLen + 1; ++len) {
+            for (int run = 0; run < runsPerLength; ++run) {
+                final int from = random.nextInt(blockLen + 1);
+                final int to = from + len;
+                final float[] xs = randomFloatCoordinates(random, to);
+                final float[] ys = randomFloatCoordinates(random, to);
+                final float[] zs = randomFloatCoordinates(random, to);
+                final float x = 10 * random.nextFloat(), y = 10 * random.nextFloat(), z = 10 * random.nextFloat();
+
+                float radiusSquared = 10 * random.nextFloat();
+                if (len > 1) {
+                    final int onRadius = from + random.nextInt(len);
+                    final int copy = from + random.nextInt(len);
+                    xs[copy] = xs[onRadius];
+                    ys[copy] = ys[onRadius];
+                    zs[copy] = zs[onRadius];
+                    final float dx = xs[onRadius] - x, dy = ys[onRadius] - y, dz = zs[onRadius] - z;
+                    radiusSquared = dx*dx + dy*dy + dz*dz;
+                }
+
+                final int[] pointIndices = pointIndices(random, to);
+                final int[] scalarFound = new int[to];
+                final int[] vectorFound = new int[to];
+                final int scalarLen = ScalarNeighborKernel.collectWithin(xs, ys, zs, from, to, x, y, z, radiusSquared,
+                                                                         pointIndices, scalarFound, 0);
+                final int vectorLen = VectorNeighborKernel.collectWithin(xs, ys, zs, from, to, x, y, z, radiusSquared,
+                                                                         pointIndices, vectorFound, 0);
+                assertArrayEquals(Arrays.copyOf(scalarFound, scalarLen), Arrays.copyOf(vectorFound, vectorLen),
+                                  "run of " + len + " points from " + from);
+            }
+        }
+    }
+
+    private static double[] randomCoordinates(Random random, int len) {
+        final double[] coordinates = new double[len];
+        for (int i = 0; i < len; ++i) {
+            coordinates[i] = 10 * random.nextDouble();
+        }
+        return coordinates;
+    }
+
+    private static float[] randomFloatCoordinates(Random random, int len) {
+        final float[] coordinates = new float[len];
+        for (int i = 0; i < len; ++i) {
+            coordinates[i] = 10 * random.nextFloat();
+        }
+        return coordinates;
+    }
+
+    private static int[] pointIndices(Random random, int len) {
+        final int[] pointIndices = new int[len];
+        for (int i = 0; i < len; ++i) {
+            pointIndices[i] = random.nextInt(1_000_000);
+        }
+        return pointIndices;
+    }
+}